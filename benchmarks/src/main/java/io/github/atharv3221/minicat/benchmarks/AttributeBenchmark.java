@@ -0,0 +1,103 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.benchmarks;
+
+import io.github.atharv3221.minicat.core.StandardContext;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads shared context attributes from many threads, alone and while another thread
+ * keeps replacing one of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttributeBenchmark {
+
+    private static final int ATTRIBUTES = 64;
+
+    private StandardContext context;
+    private long counter;
+
+    /**
+     * Creates a context holding {@value #ATTRIBUTES} attributes.
+     *
+     * @throws IOException if the document base cannot be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        context = new StandardContext("", Files.createTempDirectory("minicat-bench"));
+        for (int i = 0; i < ATTRIBUTES; i++) {
+            context.setAttribute("app.attribute" + i, "value" + i);
+        }
+    }
+
+    /**
+     * Reads one attribute from four threads with no writer.
+     */
+    @Benchmark
+    @Threads(4)
+    public Object read() {
+        return context.getAttribute("app.attribute17");
+    }
+
+    /**
+     * Reads one attribute while {@link #mixedWrite()} replaces it.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Object mixedRead() {
+        return context.getAttribute("app.attribute17");
+    }
+
+    /**
+     * Replaces the attribute read by {@link #mixedRead()}.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public void mixedWrite() {
+        context.setAttribute("app.attribute17", counter++);
+    }
+}
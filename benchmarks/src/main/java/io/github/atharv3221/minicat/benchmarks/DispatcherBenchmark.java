@@ -0,0 +1,102 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.benchmarks;
+
+import io.github.atharv3221.minicat.core.MappingData;
+import io.github.atharv3221.minicat.core.StandardContext;
+import io.github.atharv3221.minicat.core.StandardWrapper;
+import io.github.atharv3221.minicat.servlet.RequestDispatcher;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves paths against a context with a few hundred servlet mappings, both through
+ * {@code ServletContext.getRequestDispatcher} and through the compiled mapper the
+ * container uses for every request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DispatcherBenchmark {
+
+    private static final int MAPPINGS = 300;
+
+    @Param({"/api/v7/orders/123", "/module42/page", "/static/app.js", "/unmapped/x/y"})
+    private String path;
+
+    private StandardContext context;
+    private final MappingData data = new MappingData();
+
+    /**
+     * Builds and starts a context with {@value #MAPPINGS} mappings of every kind.
+     *
+     * @throws IOException if the document base cannot be created
+     * @throws ServletException if the context fails to start
+     */
+    @Setup
+    public void setUp() throws IOException, ServletException {
+        context = new StandardContext("/shop", Files.createTempDirectory("minicat-bench"));
+        StandardWrapper wrapper = context.addServlet("noop", new NoopServlet());
+        for (int i = 0; i < MAPPINGS / 3; i++) {
+            context.addServletMapping("/api/v" + i + "/*", wrapper.getName());
+            context.addServletMapping("/module" + i + "/page", wrapper.getName());
+            context.addServletMapping("*.ext" + i, wrapper.getName());
+        }
+        context.addServletMapping("*.js", wrapper.getName());
+        context.start();
+    }
+
+    /**
+     * The public API: normalizes the path, maps it and creates a dispatcher.
+     */
+    @Benchmark
+    public RequestDispatcher getRequestDispatcher() {
+        return context.getRequestDispatcher(path);
+    }
+
+    /**
+     * The per-request lookup on its own, which should not allocate.
+     */
+    @Benchmark
+    public StandardWrapper mapperLookup() {
+        return context.getMapper().map(path, 0, data);
+    }
+}
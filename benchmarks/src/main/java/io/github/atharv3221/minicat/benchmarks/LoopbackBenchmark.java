@@ -0,0 +1,274 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.benchmarks;
+
+import io.github.atharv3221.minicat.connector.Connector;
+import io.github.atharv3221.minicat.core.StandardContext;
+import io.github.atharv3221.minicat.core.StandardHost;
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletConfig;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sends keep-alive GET requests over loopback to a connector serving a tiny response,
+ * covering the whole path from the poller through the host mapper to the servlet and
+ * back.
+ *
+ * <p>Each benchmark thread owns one connection and waits for every response before
+ * sending the next request, so the score is request round trips per second.</p>
+ *
+ * <p>The client allocates nothing per request, so {@code gc.alloc.rate.norm} from the
+ * runner's GC profiler is what the container allocates per request. Once warmed up it
+ * is a few dozen bytes, the nodes the worker pool's queue allocates when a worker parks;
+ * the connector and container themselves allocate nothing for this request.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoopbackBenchmark {
+
+    private static final byte[] BODY = "Hello, minicat!\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * The server, shared by all benchmark threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        private Connector connector;
+        private StandardHost host;
+
+        /**
+         * Starts a connector on an ephemeral loopback port.
+         *
+         * @throws IOException if the connector cannot bind
+         * @throws ServletException if the host fails to start
+         */
+        @Setup(Level.Trial)
+        public void start() throws IOException, ServletException {
+            StandardContext context = new StandardContext("",
+                    Files.createTempDirectory("minicat-bench"));
+            context.addServlet("hello", new HelloServlet());
+            context.addServletMapping("/hello", "hello");
+            host = new StandardHost();
+            host.addContext(context);
+            host.init(null);
+            connector = new Connector(host);
+            connector.setHost("127.0.0.1");
+            connector.setPort(0);
+            connector.start();
+        }
+
+        /**
+         * Stops the connector and the host.
+         */
+        @TearDown(Level.Trial)
+        public void stop() {
+            connector.stop();
+            host.destroy();
+        }
+    }
+
+    /**
+     * A keep-alive client connection owned by one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+
+        private static final byte[] REQUEST = ("GET /hello HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Accept: */*\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        private static final byte[] CONTENT_LENGTH =
+                "\r\ncontent-length:".getBytes(StandardCharsets.US_ASCII);
+
+        private final ByteBuffer request = ByteBuffer.wrap(REQUEST);
+        private final ByteBuffer response = ByteBuffer.allocate(8192);
+        private SocketChannel channel;
+
+        /**
+         * Opens the connection.
+         *
+         * @param server the running server
+         * @throws IOException if the connection fails
+         */
+        @Setup(Level.Trial)
+        public void connect(Server server) throws IOException {
+            channel = SocketChannel.open(new InetSocketAddress("127.0.0.1",
+                    server.connector.getLocalPort()));
+        }
+
+        /**
+         * Closes the connection.
+         *
+         * @throws IOException if closing fails
+         */
+        @TearDown(Level.Trial)
+        public void close() throws IOException {
+            channel.close();
+        }
+
+        int roundTrip() throws IOException {
+            request.clear();
+            while (request.hasRemaining()) {
+                channel.write(request);
+            }
+            response.clear();
+            int headEnd;
+            while ((headEnd = headEnd()) < 0) {
+                fill();
+            }
+            int total = headEnd + contentLength(headEnd);
+            while (response.position() < total) {
+                fill();
+            }
+            return total;
+        }
+
+        private void fill() throws IOException {
+            if (channel.read(response) < 0) {
+                throw new EOFException("Server closed the connection");
+            }
+        }
+
+        private int headEnd() {
+            byte[] bytes = response.array();
+            for (int i = 3; i < response.position(); i++) {
+                if (bytes[i] == '\n' && bytes[i - 1] == '\r' && bytes[i - 2] == '\n') {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        private int contentLength(int headEnd) throws IOException {
+            byte[] bytes = response.array();
+            int start = indexOfIgnoreCase(bytes, headEnd, CONTENT_LENGTH);
+            if (start < 0) {
+                throw new IOException("Response has no Content-Length");
+            }
+            int position = start + CONTENT_LENGTH.length;
+            while (bytes[position] == ' ') {
+                position++;
+            }
+            int length = 0;
+            while (bytes[position] >= '0' && bytes[position] <= '9') {
+                length = length * 10 + bytes[position++] - '0';
+            }
+            return length;
+        }
+
+        private static int indexOfIgnoreCase(byte[] bytes, int end, byte[] lowerCase) {
+            for (int i = 0; i + lowerCase.length <= end; i++) {
+                int j = 0;
+                while (j < lowerCase.length && toLowerCase(bytes[i + j]) == lowerCase[j]) {
+                    j++;
+                }
+                if (j == lowerCase.length) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int toLowerCase(byte b) {
+            return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b;
+        }
+    }
+
+    /**
+     * Sends one request and reads the whole response.
+     *
+     * @param client the connection of the calling thread
+     * @return the response size, so the work cannot be eliminated
+     * @throws IOException if the exchange fails
+     */
+    @Benchmark
+    public int keepAliveGet(Client client) throws IOException {
+        return client.roundTrip();
+    }
+
+    /**
+     * Writes a fixed body with an explicit length.
+     */
+    static final class HelloServlet implements Servlet {
+
+        private ServletConfig config;
+
+        @Override
+        public void init(ServletConfig config) {
+            this.config = config;
+        }
+
+        @Override
+        public ServletConfig getServletConfig() {
+            return config;
+        }
+
+        @Override
+        public void service(ServletRequest request, ServletResponse response)
+                throws IOException {
+            response.setContentType("text/plain");
+            response.setContentLength(BODY.length);
+            response.getOutputStream().write(BODY);
+        }
+
+        @Override
+        public String getServletInfo() {
+            return "hello";
+        }
+
+        @Override
+        public void destroy() {
+            config = null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses a typical browser request head into a recycled {@link Request}, the work the
+ * poller does for every request before it is dispatched.
+ *
+ * <p>This benchmark lives in the connector's package to reach the package-private
+ * parser; the benchmarks run from the class path, where that is allowed.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestParsingBenchmark {
+
+    private static final byte[] HEAD = ("GET /shop/catalog/item.html?id=42&lang=en HTTP/1.1\r\n"
+            + "Host: www.example.com\r\n"
+            + "User-Agent: Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 "
+            + "Firefox/128.0\r\n"
+            + "Accept: text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8\r\n"
+            + "Accept-Language: en-US,en;q=0.5\r\n"
+            + "Accept-Encoding: gzip, deflate, br\r\n"
+            + "Connection: keep-alive\r\n"
+            + "Cookie: JSESSIONID=0123456789ABCDEF0123456789ABCDEF; theme=dark\r\n"
+            + "Upgrade-Insecure-Requests: 1\r\n"
+            + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+
+    private Request request;
+
+    /**
+     * Creates the request reused by every invocation.
+     */
+    @Setup
+    public void setUp() {
+        request = new Request();
+    }
+
+    /**
+     * Parses the head only; header values stay undecoded byte slices.
+     */
+    @Benchmark
+    public boolean parseHead() {
+        request.recycle();
+        return HttpParser.parseRequestHead(HEAD, 0, HEAD.length, request);
+    }
+
+    /**
+     * Parses the head and reads what a typical servlet reads: method, URI, one header
+     * and one query parameter.
+     */
+    @Benchmark
+    public void parseAndRead(Blackhole blackhole) {
+        request.recycle();
+        HttpParser.parseRequestHead(HEAD, 0, HEAD.length, request);
+        blackhole.consume(request.getMethod());
+        blackhole.consume(request.getRequestURI());
+        blackhole.consume(request.getHeader("Accept"));
+        blackhole.consume(request.getParameter("id"));
+        blackhole.consume(request.isKeepAlive());
+    }
+}
@@ -0,0 +1,84 @@
+#!/bin/sh
+# Launches minicat, optionally from an AppCDS archive of its startup classes.
+#
+#   bin/minicat.sh run [options]        serve, mapping classes from the archive if present
+#   bin/minicat.sh train <n> [options]  serve the first <n> requests, then write the archive
+#
+# Options go to io.github.atharv3221.minicat.core.Bootstrap: --port <n>, --webapps <dir>.
+#
+# A training run records every class loaded while booting and serving its first requests,
+# from the JDK, the minicat modules and the JARs of the deployed applications, into a
+# dynamic CDS archive. Later runs map those classes instead of loading, parsing and
+# verifying them again. The archive is only valid for the same JDK and the same module and
+# application JARs; the JVM ignores a stale archive, so retrain after changing either.
+# Classes from WEB-INF/classes directories are not archived, only those from JARs.
+#
+# Environment:
+#   JAVA_HOME            JDK to run, default: java on the PATH
+#   MINICAT_HOME         installation directory, default: the parent of this script
+#   MINICAT_LIB          directory holding the servlet, connector and core module JARs,
+#                        default: $MINICAT_HOME/lib, or the JARs built by Maven
+#   MINICAT_ARCHIVE      archive file, default: $MINICAT_HOME/work/minicat.jsa
+#   MINICAT_WARMUP_URLS  space-separated URLs a training run requests until it exits
+#   JAVA_OPTS            further JVM options
+
+set -e
+
+MINICAT_HOME=${MINICAT_HOME:-$(cd "$(dirname "$0")/.." && pwd)}
+MINICAT_ARCHIVE=${MINICAT_ARCHIVE:-$MINICAT_HOME/work/minicat.jsa}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+
+if [ -n "$MINICAT_LIB" ]; then
+    MODULE_PATH=$MINICAT_LIB
+elif [ -d "$MINICAT_HOME/lib" ]; then
+    MODULE_PATH=$MINICAT_HOME/lib
+else
+    MODULE_PATH=
+    for module in servlet connector core; do
+        jar=$(ls "$MINICAT_HOME/$module/target/$module"-*.jar 2>/dev/null | head -n 1)
+        if [ -z "$jar" ]; then
+            echo "No $module module JAR found, run 'mvn package' or set MINICAT_LIB" >&2
+            exit 1
+        fi
+        MODULE_PATH=${MODULE_PATH:+$MODULE_PATH:}$jar
+    done
+fi
+
+MAIN=core/io.github.atharv3221.minicat.core.Bootstrap
+
+command=${1:-run}
+[ $# -gt 0 ] && shift
+
+case "$command" in
+    run)
+        CDS_OPTS=
+        if [ -f "$MINICAT_ARCHIVE" ]; then
+            CDS_OPTS="-XX:SharedArchiveFile=$MINICAT_ARCHIVE -Xshare:auto"
+        fi
+        # shellcheck disable=SC2086
+        exec "$JAVA" $JAVA_OPTS $CDS_OPTS -p "$MODULE_PATH" -m "$MAIN" "$@"
+        ;;
+    train)
+        requests=${1:?usage: minicat.sh train <requests> [options]}
+        shift
+        mkdir -p "$(dirname "$MINICAT_ARCHIVE")"
+        rm -f "$MINICAT_ARCHIVE"
+        # shellcheck disable=SC2086
+        "$JAVA" $JAVA_OPTS -XX:ArchiveClassesAtExit="$MINICAT_ARCHIVE" \
+            -p "$MODULE_PATH" -m "$MAIN" --exit-after "$requests" "$@" &
+        pid=$!
+        if [ -n "$MINICAT_WARMUP_URLS" ]; then
+            while kill -0 "$pid" 2>/dev/null; do
+                for url in $MINICAT_WARMUP_URLS; do
+                    curl -s -o /dev/null "$url" || sleep 0.2
+                done
+            done
+        fi
+        wait "$pid"
+        echo "Wrote $MINICAT_ARCHIVE"
+        ;;
+    *)
+        echo "usage: minicat.sh run|train <requests> [options]" >&2
+        exit 1
+        ;;
+esac
@@ -0,0 +1,167 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recycles fixed-size byte buffers between connections.
+ *
+ * <p>Idle keep-alive connections give their read buffer back to the pool, so memory
+ * is held only by connections that are actually transferring data. The free list is
+ * split into stripes selected by thread id to keep lock hold times short and mostly
+ * uncontended. Buffers are usually taken on one thread and given back on another, a
+ * poller and a worker, so a thread whose own stripe is empty or full moves on to the
+ * next ones; neither acquiring an idle buffer nor releasing one allocates.</p>
+ *
+ * <p>A pool may cap the total memory it allocates. {@link #tryAcquire()} returns
+ * {@code null} once the cap is reached so callers can flush and reuse the buffers they
+ * already hold instead of growing the process footprint.</p>
+ */
+final class BufferPool {
+
+    private static final int STRIPES = 8;
+
+    private final int bufferSize;
+    private final boolean direct;
+    private final long maxBytes;
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * Creates an uncapped pool.
+     *
+     * @param bufferSize the capacity of every buffer handed out
+     * @param direct whether to allocate off-heap buffers
+     * @param maxPooled the maximum number of idle buffers retained
+     */
+    BufferPool(int bufferSize, boolean direct, int maxPooled) {
+        this(bufferSize, direct, maxPooled, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a pool whose buffers, idle or in use, never exceed {@code maxBytes}.
+     *
+     * @param bufferSize the capacity of every buffer handed out
+     * @param direct whether to allocate off-heap buffers
+     * @param maxPooled the maximum number of idle buffers retained
+     * @param maxBytes the cap on memory allocated by this pool
+     */
+    BufferPool(int bufferSize, boolean direct, int maxPooled, long maxBytes) {
+        this.bufferSize = bufferSize;
+        this.direct = direct;
+        this.maxBytes = maxBytes;
+        int perStripe = Math.max(1, maxPooled / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    int getBufferSize() {
+        return bufferSize;
+    }
+
+    long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * Returns a cleared buffer, reusing an idle one when available. If the memory cap
+     * is reached, an unpooled heap buffer is returned instead so the caller can always
+     * make progress.
+     */
+    ByteBuffer acquire() {
+        ByteBuffer buffer = tryAcquire();
+        return buffer == null ? ByteBuffer.allocate(bufferSize) : buffer;
+    }
+
+    /**
+     * Returns a cleared buffer, or {@code null} if none is idle and allocating one would
+     * exceed the memory cap.
+     */
+    ByteBuffer tryAcquire() {
+        int first = stripeIndex();
+        for (int i = 0; i < STRIPES; i++) {
+            ByteBuffer buffer = stripes[(first + i) & (STRIPES - 1)].poll();
+            if (buffer != null) {
+                return buffer.clear();
+            }
+        }
+        if (allocatedBytes.addAndGet(bufferSize) > maxBytes) {
+            allocatedBytes.addAndGet(-bufferSize);
+            return null;
+        }
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Returns a buffer to the pool. The caller must not touch the buffer afterwards.
+     * Buffers that did not come from this pool are left to the garbage collector.
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer.isDirect() != direct || buffer.capacity() != bufferSize) {
+            return;
+        }
+        int first = stripeIndex();
+        for (int i = 0; i < STRIPES; i++) {
+            if (stripes[(first + i) & (STRIPES - 1)].offer(buffer)) {
+                return;
+            }
+        }
+        allocatedBytes.addAndGet(-bufferSize);
+    }
+
+    private static int stripeIndex() {
+        return (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+    }
+
+    private static final class Stripe {
+
+        private final ByteBuffer[] buffers;
+        private int size;
+
+        Stripe(int capacity) {
+            this.buffers = new ByteBuffer[capacity];
+        }
+
+        synchronized ByteBuffer poll() {
+            if (size == 0) {
+                return null;
+            }
+            ByteBuffer buffer = buffers[--size];
+            buffers[size] = null;
+            return buffer;
+        }
+
+        synchronized boolean offer(ByteBuffer buffer) {
+            if (size == buffers.length) {
+                return false;
+            }
+            buffers[size++] = buffer;
+            return true;
+        }
+    }
+}
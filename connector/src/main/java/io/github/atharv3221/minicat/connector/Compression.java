@@ -0,0 +1,228 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+
+/**
+ * Settings of on-the-fly response compression, together with the pool of
+ * {@link Deflater}s that carries them out.
+ *
+ * <p>A response compresses its body when it was given a {@code Compression} with
+ * {@link Response#setCompression} and, at the time the first body byte is written:
+ * the client accepts {@code gzip} or {@code deflate}; the response has no
+ * {@code Content-Encoding} and is not a partial response; its declared length, if
+ * any, reaches the minimum size; and its media type is compressible. A response without
+ * a content type is judged by the MIME type the lookup function gives for the request
+ * path.</p>
+ *
+ * <p>A {@code Deflater} allocates several hundred kilobytes of native memory and takes
+ * correspondingly long to create, so idle instances are kept in bounded pools, one for
+ * each of the two wire formats, and reset between responses.</p>
+ */
+public final class Compression {
+
+    /**
+     * Default minimum response size, in bytes, to compress.
+     */
+    public static final long DEFAULT_MIN_SIZE = 2048;
+
+    /**
+     * Default compressible media types.
+     */
+    public static final Set<String> DEFAULT_MIME_TYPES = Set.of("text/html", "text/xml",
+            "text/plain", "text/css", "text/javascript", "text/csv", "application/javascript",
+            "application/json", "application/xml", "image/svg+xml");
+
+    private static final int MAX_POOLED_DEFLATERS = 64;
+
+    private final long minSize;
+    private final Set<String> mimeTypes;
+    private final int level;
+    private final Function<String, String> mimeTypeLookup;
+    private final ArrayBlockingQueue<Deflater> gzipDeflaters =
+            new ArrayBlockingQueue<>(MAX_POOLED_DEFLATERS);
+    private final ArrayBlockingQueue<Deflater> zlibDeflaters =
+            new ArrayBlockingQueue<>(MAX_POOLED_DEFLATERS);
+
+    /**
+     * Creates compression settings.
+     *
+     * @param minSize the smallest declared content length to compress; responses of
+     *     unknown length are always candidates
+     * @param mimeTypes the compressible media types, each either exact, such as
+     *     {@code text/html}, or a whole type, such as {@code text/*}
+     * @param level the {@link Deflater} compression level
+     * @param mimeTypeLookup maps a request path to a MIME type, or to {@code null}, for
+     *     responses without a content type
+     */
+    public Compression(long minSize, Collection<String> mimeTypes, int level,
+            Function<String, String> mimeTypeLookup) {
+        if (level != Deflater.DEFAULT_COMPRESSION
+                && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.minSize = minSize;
+        this.mimeTypes = mimeTypes.stream()
+                .map(type -> type.trim().toLowerCase(Locale.ROOT))
+                .filter(type -> !type.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.level = level;
+        this.mimeTypeLookup = mimeTypeLookup;
+    }
+
+    public long getMinSize() {
+        return minSize;
+    }
+
+    public Set<String> getMimeTypes() {
+        return mimeTypes;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Tests whether content of the given type is worth compressing.
+     *
+     * @param contentType a content type, parameters such as {@code charset} are ignored
+     * @return {@code true} if the media type is compressible
+     */
+    public boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int end = contentType.indexOf(';');
+        String mediaType = (end < 0 ? contentType : contentType.substring(0, end))
+                .trim().toLowerCase(Locale.ROOT);
+        if (mimeTypes.contains(mediaType)) {
+            return true;
+        }
+        int slash = mediaType.indexOf('/');
+        return slash > 0 && mimeTypes.contains(mediaType.substring(0, slash + 1) + "*");
+    }
+
+    /**
+     * Picks the content coding for a request's {@code Accept-Encoding} header, preferring
+     * {@code gzip}.
+     *
+     * @param acceptEncoding the header value, or {@code null}
+     * @return {@code "gzip"}, {@code "deflate"}, or {@code null} if the client accepts
+     *     neither
+     */
+    public static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return null;
+        }
+        int gzip = -1;
+        int deflate = -1;
+        int any = -1;
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            int semicolon = acceptEncoding.indexOf(';', start);
+            int tokenEnd = semicolon >= 0 && semicolon < end ? semicolon : end;
+            String coding = acceptEncoding.substring(start, tokenEnd).trim();
+            int accepted = tokenEnd < end && zeroQuality(acceptEncoding, tokenEnd + 1, end)
+                    ? 0 : 1;
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzip = accepted;
+            } else if (coding.equalsIgnoreCase("deflate")) {
+                deflate = accepted;
+            } else if (coding.equals("*")) {
+                any = accepted;
+            }
+            start = end + 1;
+        }
+        if (gzip > 0 || gzip < 0 && any > 0) {
+            return "gzip";
+        }
+        if (deflate > 0 || deflate < 0 && any > 0) {
+            return "deflate";
+        }
+        return null;
+    }
+
+    /**
+     * Returns the MIME type the context maps a request path to.
+     */
+    String lookupMimeType(String path) {
+        return path == null || mimeTypeLookup == null ? null : mimeTypeLookup.apply(path);
+    }
+
+    /**
+     * Takes a reset deflater from the pool, creating one if the pool is empty.
+     *
+     * @param gzip {@code true} for raw deflate data to wrap in gzip framing,
+     *     {@code false} for the zlib format of the {@code deflate} coding
+     */
+    Deflater acquire(boolean gzip) {
+        Deflater deflater = (gzip ? gzipDeflaters : zlibDeflaters).poll();
+        return deflater != null ? deflater : new Deflater(level, gzip);
+    }
+
+    /**
+     * Resets a deflater and returns it to its pool, or frees its native memory if the
+     * pool is full.
+     */
+    void release(Deflater deflater, boolean gzip) {
+        deflater.reset();
+        if (!(gzip ? gzipDeflaters : zlibDeflaters).offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Tests whether the parameters of an {@code Accept-Encoding} element set
+     * {@code q=0}, which rules the coding out.
+     */
+    private static boolean zeroQuality(String header, int start, int end) {
+        int q = header.indexOf("q=", start);
+        if (q < 0 || q >= end) {
+            return false;
+        }
+        String value = header.substring(q + 2, end).trim();
+        int semicolon = value.indexOf(';');
+        if (semicolon >= 0) {
+            value = value.substring(0, semicolon).trim();
+        }
+        try {
+            return Double.parseDouble(value) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
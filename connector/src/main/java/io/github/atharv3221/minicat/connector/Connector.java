@@ -0,0 +1,699 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletConfig;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLContext;
+
+/**
+ * HTTP/1.1 and HTTP/2 connector that accepts connections and hands complete requests
+ * to a {@link Servlet}.
+ *
+ * <p>The connector is built on non-blocking {@link java.nio.channels.Selector} I/O.
+ * A single acceptor thread accepts new sockets and distributes them round-robin
+ * across a small, fixed number of poller threads. Each poller multiplexes all of
+ * its connections on one selector, so idle keep-alive connections cost a selection
+ * key and a read buffer rather than a thread.</p>
+ *
+ * <p>A request is dispatched to {@link Servlet#service} on the worker executor only
+ * once its complete request head has been read; until then the connection stays
+ * with its poller.</p>
+ *
+ * <p>Connections are kept alive between requests, and pipelined requests already
+ * buffered behind the current one are served back to back, with their responses
+ * written in order and coalesced into as few writes as possible. Each poller tracks
+ * the idle and head-read timeouts of its connections on a hashed timing wheel, so
+ * thousands of idle connections need no timer objects of their own.</p>
+ *
+ * <p>With {@link #setHttp2Enabled HTTP/2 enabled}, a connection can carry many
+ * concurrent requests as streams, each dispatched to the servlet on its own. Clients
+ * get there with prior knowledge or the {@code h2c} upgrade over plain TCP, and through
+ * ALPN when the connector is {@link #setSslContext secured with TLS}.</p>
+ *
+ * <p>Unless an executor is supplied, the worker executor is created according to the
+ * {@link ExecutionMode} named by the {@value #EXECUTOR_PARAM} init parameter. The
+ * servlet's {@link ServletConfig} is consulted first, then its {@link ServletContext},
+ * and finally the mode set on the connector. {@value #MAX_THREADS_PARAM} and
+ * {@value #MAX_QUEUE_SIZE_PARAM} size the platform pool the same way.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * Connector connector = new Connector(servlet);
+ * connector.setPort(8080);
+ * connector.start();
+ * }</pre>
+ */
+public class Connector {
+
+    /**
+     * Init parameter naming the {@link ExecutionMode}, {@code virtual} or {@code platform}.
+     */
+    public static final String EXECUTOR_PARAM = "minicat.executor";
+
+    /**
+     * Init parameter holding the thread count of the platform pool.
+     */
+    public static final String MAX_THREADS_PARAM = "minicat.executor.maxThreads";
+
+    /**
+     * Init parameter holding the queue capacity of the platform pool.
+     */
+    public static final String MAX_QUEUE_SIZE_PARAM = "minicat.executor.maxQueueSize";
+
+    private final Servlet servlet;
+
+    private String host;
+    private int port = 8080;
+    private int acceptCount = 1024;
+    private int pollerCount = Math.min(2, Runtime.getRuntime().availableProcessors());
+    private int maxConnections = 16384;
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+    private int maxThreads = 200;
+    private int maxQueueSize = 10_000;
+    private int readBufferSize = 8192;
+    private int outputBufferSize = 16384;
+    private int maxResponseBufferSize = 65536;
+    private long maxOutputMemory = 64L * 1024 * 1024;
+    private long maxPostSize = 2L * 1024 * 1024;
+    private int maxPartCount = 50;
+    private long writeTimeout = 30_000;
+    private long connectionTimeout = 20_000;
+    private long keepAliveTimeout = 20_000;
+    private SSLContext sslContext;
+    private boolean http2Enabled;
+    private int http2MaxConcurrentStreams = 1000;
+    private int http2InitialWindowSize = 65_535;
+    private int http2HeaderTableSize = 4096;
+    private boolean recycleFacades;
+
+    private ExecutorService executor;
+    private boolean internalExecutor;
+    private NioEndpoint endpoint;
+
+    /**
+     * Creates a connector that dispatches every request to the given servlet.
+     *
+     * @param servlet the servlet that services requests received by this connector
+     */
+    public Connector(Servlet servlet) {
+        this.servlet = servlet;
+    }
+
+    /**
+     * Returns the servlet that services requests received by this connector.
+     *
+     * @return the servlet this connector dispatches to
+     */
+    public Servlet getServlet() {
+        return servlet;
+    }
+
+    /**
+     * Returns the host name or address the connector binds to.
+     *
+     * @return the bind address, or {@code null} to bind to all interfaces
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Sets the host name or address the connector binds to.
+     *
+     * @param host the bind address, or {@code null} to bind to all interfaces
+     */
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Returns the configured TCP port.
+     *
+     * @return the configured port, {@code 0} meaning an ephemeral port
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Sets the TCP port to listen on. A value of {@code 0} binds an ephemeral port,
+     * which can be read back through {@link #getLocalPort()} once started.
+     *
+     * @param port the port to listen on
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Returns the port the connector is actually bound to.
+     *
+     * @return the bound port, or {@code -1} if the connector is not started
+     */
+    public int getLocalPort() {
+        return endpoint == null ? -1 : endpoint.getLocalPort();
+    }
+
+    /**
+     * Sets the listen backlog passed to the server socket.
+     *
+     * @param acceptCount the maximum queue length for incoming connections
+     */
+    public void setAcceptCount(int acceptCount) {
+        this.acceptCount = acceptCount;
+    }
+
+    /**
+     * Returns the number of poller threads.
+     *
+     * @return the number of selector threads
+     */
+    public int getPollerCount() {
+        return pollerCount;
+    }
+
+    /**
+     * Sets the number of poller threads. Each poller owns one selector.
+     *
+     * @param pollerCount the number of selector threads, at least {@code 1}
+     */
+    public void setPollerCount(int pollerCount) {
+        this.pollerCount = Math.max(1, pollerCount);
+    }
+
+    /**
+     * Returns the maximum number of connections held open at once.
+     *
+     * @return the connection limit
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of connections held open at once. Once reached, the
+     * acceptor stops accepting until a connection closes.
+     *
+     * @param maxConnections the connection limit
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Returns the execution mode used when neither the servlet nor its context names one.
+     *
+     * @return the default execution mode
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets the execution mode used when neither the servlet nor its context names one.
+     *
+     * @param executionMode the default execution mode
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Returns the size of the worker pool created when no executor is supplied.
+     *
+     * @return the maximum number of worker threads
+     */
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    /**
+     * Sets the size of the worker pool created when no executor is supplied.
+     *
+     * @param maxThreads the maximum number of worker threads
+     */
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    /**
+     * Returns the queue capacity of the platform pool.
+     *
+     * @return the maximum number of requests waiting for a worker thread
+     */
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    /**
+     * Sets the queue capacity of the platform pool. Requests arriving while the pool
+     * and its queue are full are rejected with {@code 503 Service Unavailable}.
+     *
+     * @param maxQueueSize the maximum number of requests waiting for a worker thread
+     */
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * Returns the per-connection read buffer size, which bounds the request head size.
+     *
+     * @return the read buffer size in bytes
+     */
+    public int getReadBufferSize() {
+        return readBufferSize;
+    }
+
+    /**
+     * Sets the per-connection read buffer size. A request head that does not fit is
+     * rejected with {@code 431 Request Header Fields Too Large}.
+     *
+     * @param readBufferSize the read buffer size in bytes
+     */
+    public void setReadBufferSize(int readBufferSize) {
+        this.readBufferSize = readBufferSize;
+    }
+
+    /**
+     * Returns the size of each pooled off-heap buffer holding response bodies.
+     *
+     * @return the output buffer size in bytes
+     */
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    /**
+     * Sets the size of each pooled off-heap buffer holding response bodies.
+     *
+     * @param outputBufferSize the output buffer size in bytes
+     */
+    public void setOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = outputBufferSize;
+    }
+
+    /**
+     * Returns the most response body a single connection buffers before flushing.
+     *
+     * @return the per-connection output cap in bytes
+     */
+    public int getMaxResponseBufferSize() {
+        return maxResponseBufferSize;
+    }
+
+    /**
+     * Sets the most response body a single connection buffers before flushing. This
+     * is also the upper bound for {@code ServletResponse.setBufferSize}.
+     *
+     * @param maxResponseBufferSize the per-connection output cap in bytes
+     */
+    public void setMaxResponseBufferSize(int maxResponseBufferSize) {
+        this.maxResponseBufferSize = maxResponseBufferSize;
+    }
+
+    /**
+     * Returns the cap on off-heap memory used for response buffers across all
+     * connections.
+     *
+     * @return the global output memory cap in bytes
+     */
+    public long getMaxOutputMemory() {
+        return maxOutputMemory;
+    }
+
+    /**
+     * Sets the cap on off-heap memory used for response buffers across all connections.
+     * Once reached, responses flush early and reuse the buffers they hold.
+     *
+     * @param maxOutputMemory the global output memory cap in bytes
+     */
+    public void setMaxOutputMemory(long maxOutputMemory) {
+        this.maxOutputMemory = maxOutputMemory;
+    }
+
+    /**
+     * Returns the largest form body decoded into request parameters.
+     *
+     * @return the limit in bytes, or {@code -1} for no limit
+     */
+    public long getMaxPostSize() {
+        return maxPostSize;
+    }
+
+    /**
+     * Sets the largest form body decoded into request parameters: an urlencoded body,
+     * or the fields of a multipart body that are not files. Parameters are held on the
+     * heap, so unlike multipart files they are always limited unless set to {@code -1}.
+     * Defaults to 2 MiB.
+     *
+     * @param maxPostSize the limit in bytes, or {@code -1} for no limit
+     */
+    public void setMaxPostSize(long maxPostSize) {
+        this.maxPostSize = maxPostSize;
+    }
+
+    /**
+     * Returns the largest number of parts of a multipart body.
+     *
+     * @return the limit, or {@code -1} for no limit
+     */
+    public int getMaxPartCount() {
+        return maxPartCount;
+    }
+
+    /**
+     * Sets the largest number of parts of a multipart body, files and fields alike. Each
+     * part costs its headers and a buffer however small its content, so a body with
+     * more parts is refused. Defaults to 50.
+     *
+     * @param maxPartCount the limit, or {@code -1} for no limit
+     */
+    public void setMaxPartCount(int maxPartCount) {
+        this.maxPartCount = maxPartCount;
+    }
+
+    /**
+     * Returns how long a worker waits for a socket to become writable.
+     *
+     * @return the write timeout in milliseconds
+     */
+    public long getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Sets how long a worker waits for a socket to become writable before the
+     * connection is closed.
+     *
+     * @param writeTimeout the write timeout in milliseconds
+     */
+    public void setWriteTimeout(long writeTimeout) {
+        this.writeTimeout = writeTimeout;
+    }
+
+    /**
+     * Returns how long the connector waits for a complete request head.
+     *
+     * @return the timeout in milliseconds, zero or negative for none
+     */
+    public long getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * Sets how long the connector waits for a complete request head, counted from the
+     * moment a connection is accepted or the first byte of a later request arrives.
+     * The connection is closed when the timeout elapses; trickling bytes in does not
+     * extend it.
+     *
+     * @param connectionTimeout the timeout in milliseconds, zero or negative for none
+     */
+    public void setConnectionTimeout(long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    /**
+     * Returns how long an idle keep-alive connection is kept open.
+     *
+     * @return the timeout in milliseconds, zero or negative for none
+     */
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Sets how long a connection is kept open after a response while no byte of the
+     * next request has arrived.
+     *
+     * @param keepAliveTimeout the timeout in milliseconds, zero or negative for none
+     */
+    public void setKeepAliveTimeout(long keepAliveTimeout) {
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    /**
+     * Returns the TLS context of the connector.
+     *
+     * @return the context, or {@code null} if connections are not encrypted
+     */
+    public SSLContext getSslContext() {
+        return sslContext;
+    }
+
+    /**
+     * Secures every connection with TLS. The handshake runs on a worker right after a
+     * connection is accepted.
+     *
+     * @param sslContext the initialized context holding the server's key and
+     *     certificate, or {@code null} for plain connections
+     */
+    public void setSslContext(SSLContext sslContext) {
+        this.sslContext = sslContext;
+    }
+
+    /**
+     * Tests whether clients may use HTTP/2.
+     *
+     * @return {@code true} if HTTP/2 is enabled
+     */
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * Enables HTTP/2, offered through ALPN on TLS connections, and accepted on plain
+     * connections from clients that start with the HTTP/2 preface or ask for the
+     * {@code h2c} upgrade. Disabled by default.
+     *
+     * @param http2Enabled {@code true} to enable HTTP/2
+     */
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    /**
+     * Returns how many streams an HTTP/2 client may have open at once.
+     *
+     * @return the stream limit per connection
+     */
+    public int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    /**
+     * Sets how many streams an HTTP/2 client may have open at once. Streams beyond
+     * the limit are refused, and the client retries them later.
+     *
+     * @param http2MaxConcurrentStreams the stream limit per connection
+     */
+    public void setHttp2MaxConcurrentStreams(int http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = Math.max(1, http2MaxConcurrentStreams);
+    }
+
+    /**
+     * Returns the HTTP/2 flow-control window granted for each request body.
+     *
+     * @return the window size in bytes
+     */
+    public int getHttp2InitialWindowSize() {
+        return http2InitialWindowSize;
+    }
+
+    /**
+     * Sets the HTTP/2 flow-control window granted for each request body, which is how
+     * far a client may send ahead of the servlet reading it. The connection window is
+     * a few times larger.
+     *
+     * @param http2InitialWindowSize the window size in bytes
+     */
+    public void setHttp2InitialWindowSize(int http2InitialWindowSize) {
+        this.http2InitialWindowSize = Math.max(1, http2InitialWindowSize);
+    }
+
+    /**
+     * Returns the size of the HPACK dynamic tables of an HTTP/2 connection.
+     *
+     * @return the table size in bytes
+     */
+    public int getHttp2HeaderTableSize() {
+        return http2HeaderTableSize;
+    }
+
+    /**
+     * Sets the size of the HPACK dynamic tables of an HTTP/2 connection, in each
+     * direction, which trades memory per connection for smaller header blocks.
+     *
+     * @param http2HeaderTableSize the table size in bytes
+     */
+    public void setHttp2HeaderTableSize(int http2HeaderTableSize) {
+        this.http2HeaderTableSize = Math.max(0, http2HeaderTableSize);
+    }
+
+    /**
+     * Tests whether the request and response objects handed to servlets are detached
+     * when their request ends.
+     *
+     * @return {@code true} if facades are recycled
+     */
+    public boolean isRecycleFacades() {
+        return recycleFacades;
+    }
+
+    /**
+     * Debug mode for servlets that keep references to their request or response. The
+     * connector reuses the request and response objects of a connection for every
+     * request on it; with this enabled, each request gets new objects to hand to the
+     * servlet, and using them after the request ended throws an
+     * {@link IllegalStateException} instead of touching the next request. Costs a few
+     * allocations per request, so it is disabled by default.
+     *
+     * @param recycleFacades {@code true} to detect use after recycling
+     */
+    public void setRecycleFacades(boolean recycleFacades) {
+        this.recycleFacades = recycleFacades;
+    }
+
+    /**
+     * Sets the executor that runs {@link Servlet#service}. The connector does not shut
+     * down an executor supplied this way.
+     *
+     * @param executor the worker executor
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Binds the server socket and starts the acceptor and poller threads.
+     *
+     * @throws IOException if the server socket cannot be opened or bound
+     * @throws IllegalStateException if the connector is already started
+     * @throws IllegalArgumentException if an executor init parameter is invalid, or the
+     *     platform pool would have no threads or no queue
+     */
+    public synchronized void start() throws IOException {
+        if (endpoint != null) {
+            throw new IllegalStateException("Connector already started");
+        }
+        if (executor == null) {
+            ExecutionMode mode = resolveExecutionMode();
+            executor = mode == ExecutionMode.VIRTUAL ? RequestExecutors.virtual()
+                    : RequestExecutors.platform(resolveSize(MAX_THREADS_PARAM, maxThreads),
+                            resolveSize(MAX_QUEUE_SIZE_PARAM, maxQueueSize));
+            internalExecutor = true;
+        }
+        InetSocketAddress address = host == null
+                ? new InetSocketAddress(port)
+                : new InetSocketAddress(host, port);
+        NioEndpoint started = new NioEndpoint(this, executor);
+        started.bind(address, acceptCount);
+        started.start();
+        endpoint = started;
+    }
+
+    /**
+     * Stops accepting connections, closes all open connections and releases the
+     * worker pool if the connector created it.
+     */
+    public synchronized void stop() {
+        if (endpoint == null) {
+            return;
+        }
+        endpoint.stop();
+        endpoint = null;
+        if (internalExecutor) {
+            executor.shutdown();
+            executor = null;
+            internalExecutor = false;
+        }
+    }
+
+    /**
+     * Returns the execution mode selected by the servlet's init parameters, falling
+     * back to the connector's own setting.
+     *
+     * @return the effective execution mode
+     * @throws IllegalArgumentException if the init parameter names no mode
+     */
+    public ExecutionMode resolveExecutionMode() {
+        String value = initParameter(EXECUTOR_PARAM);
+        try {
+            return value == null ? executionMode : ExecutionMode.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value [" + value
+                    + "] of init parameter " + EXECUTOR_PARAM, e);
+        }
+    }
+
+    /**
+     * Returns a size of the platform pool from the servlet's init parameters, falling
+     * back to the connector's own setting.
+     *
+     * @throws IllegalArgumentException if the size is not a number or is below 1
+     */
+    private int resolveSize(String name, int defaultValue) {
+        String value = initParameter(name);
+        int size;
+        try {
+            size = value == null ? defaultValue : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value [" + value
+                    + "] of init parameter " + name, e);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Value " + size + " of " + name
+                    + " must be at least 1");
+        }
+        return size;
+    }
+
+    private String initParameter(String name) {
+        ServletConfig config = servlet.getServletConfig();
+        if (config == null) {
+            return null;
+        }
+        String value = config.getInitParameter(name);
+        if (value == null && config.getServletContext() != null) {
+            value = config.getServletContext().getInitParameter(name);
+        }
+        return value;
+    }
+
+    static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,428 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.AsyncContext;
+import io.github.atharv3221.minicat.servlet.AsyncEvent;
+import io.github.atharv3221.minicat.servlet.AsyncListener;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link AsyncContext} of a request, on an HTTP/1.1 connection or an HTTP/2 stream.
+ *
+ * <p>The context is a small state machine guarded by a lock. {@link #complete()} and
+ * {@link #dispatch()} called while the starting {@code service} call is still running
+ * only record the request; the worker acts on it when {@code service} returns, in
+ * {@link #serviceReturned()}. Called later, from any thread, they hand the request's
+ * {@link Owner} to a worker, which finishes the response or invokes the servlet again
+ * and then carries on as after any other request.</p>
+ *
+ * <p>The context also runs the read and write listeners of the request's non-blocking
+ * streams, one callback at a time, and drops callbacks that arrive after the request
+ * completed.</p>
+ */
+final class ConnectorAsyncContext implements AsyncContext {
+
+    private static final System.Logger LOG =
+            System.getLogger(ConnectorAsyncContext.class.getName());
+
+    private static final long DEFAULT_TIMEOUT = 30_000;
+
+    /**
+     * What the worker does when the {@code service} call that started the context
+     * returns.
+     */
+    enum Action {
+
+        /**
+         * Release the thread; the response is completed later.
+         */
+        WAIT,
+
+        /**
+         * Finish the response now.
+         */
+        COMPLETE,
+
+        /**
+         * Invoke the servlet again.
+         */
+        DISPATCH
+    }
+
+    /**
+     * What drives the request through the servlet: the processor of an HTTP/1.1
+     * connection, or an HTTP/2 stream.
+     */
+    interface Owner {
+
+        NioEndpoint getEndpoint();
+
+        /**
+         * Tests whether the connection carrying the request is encrypted.
+         */
+        boolean isSecure();
+
+        /**
+         * Creates the context for a request that starts asynchronous processing.
+         */
+        ConnectorAsyncContext startAsync();
+
+        /**
+         * Carries on with a request whose asynchronous processing was completed or
+         * dispatched. Runs on a worker.
+         *
+         * @param dispatch {@code true} to invoke the servlet again, {@code false} to
+         *     finish the response
+         */
+        void asyncResume(boolean dispatch);
+
+        /**
+         * Gives up on the request because no worker is available to continue it,
+         * closing its connection or resetting its stream.
+         */
+        void abort();
+    }
+
+    private enum State {
+        STARTING, COMPLETE_PENDING, DISPATCH_PENDING, WAITING, COMPLETING, DISPATCHING
+    }
+
+    private final Owner owner;
+    private final Request request;
+    private final Response response;
+    private final ServletRequest requestFacade;
+    private final ServletResponse responseFacade;
+    private final List<AsyncListener> listeners = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock listenerLock = new ReentrantLock();
+    private State state = State.STARTING;
+    private long timeout = DEFAULT_TIMEOUT;
+    private ScheduledFuture<?> timer;
+    private boolean ended;
+
+    ConnectorAsyncContext(Owner owner, Request request, Response response) {
+        this.owner = owner;
+        this.request = request;
+        this.response = response;
+        this.requestFacade = request.getFacade();
+        this.responseFacade = response.getFacade();
+    }
+
+    @Override
+    public ServletRequest getRequest() {
+        return requestFacade;
+    }
+
+    @Override
+    public ServletResponse getResponse() {
+        return responseFacade;
+    }
+
+    /**
+     * Tests whether asynchronous processing is in progress, that is, neither completed
+     * nor dispatched.
+     */
+    boolean isStarted() {
+        lock.lock();
+        try {
+            return state == State.STARTING || state == State.WAITING;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts another asynchronous cycle on a request that was dispatched back to the
+     * servlet, notifying and then dropping the listeners of the previous cycle.
+     *
+     * @return {@code false} if the context is not in a dispatch, so a new cycle cannot
+     *     start
+     */
+    boolean restart() {
+        lock.lock();
+        try {
+            if (state != State.DISPATCHING) {
+                return false;
+            }
+            state = State.STARTING;
+            timeout = DEFAULT_TIMEOUT;
+        } finally {
+            lock.unlock();
+        }
+        List<AsyncListener> previous = List.copyOf(listeners);
+        listeners.clear();
+        AsyncEvent event = new AsyncEvent(this);
+        for (AsyncListener listener : previous) {
+            try {
+                listener.onStartAsync(event);
+            } catch (IOException | RuntimeException e) {
+                LOG.log(System.Logger.Level.WARNING, "AsyncListener.onStartAsync failed", e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void complete() {
+        lock.lock();
+        try {
+            switch (state) {
+                case STARTING -> state = State.COMPLETE_PENDING;
+                case WAITING -> {
+                    state = State.COMPLETING;
+                    cancelTimer();
+                    resume(false);
+                }
+                default -> {
+                    // Already completing or dispatched
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void dispatch() {
+        lock.lock();
+        try {
+            switch (state) {
+                case STARTING -> state = State.DISPATCH_PENDING;
+                case WAITING -> {
+                    state = State.DISPATCHING;
+                    cancelTimer();
+                    resume(true);
+                }
+                default -> throw new IllegalStateException(
+                        "Asynchronous processing was already completed or dispatched");
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void start(Runnable run) {
+        owner.getEndpoint().execute(run);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+        lock.lock();
+        try {
+            this.timeout = timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getTimeout() {
+        lock.lock();
+        try {
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called by the worker when the {@code service} call that started or dispatched
+     * this context returns.
+     *
+     * @return what the worker does next
+     */
+    Action serviceReturned() {
+        lock.lock();
+        try {
+            switch (state) {
+                case STARTING -> {
+                    state = State.WAITING;
+                    if (timeout > 0) {
+                        timer = owner.getEndpoint()
+                                .scheduleAsyncTimeout(this::timeoutElapsed, timeout);
+                    }
+                    return Action.WAIT;
+                }
+                case DISPATCH_PENDING -> {
+                    state = State.DISPATCHING;
+                    return Action.DISPATCH;
+                }
+                default -> {
+                    state = State.COMPLETING;
+                    return Action.COMPLETE;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ends asynchronous processing because the servlet threw, and notifies the
+     * listeners. The response is then completed by the container.
+     *
+     * @param cause what the servlet threw
+     */
+    void fireError(Throwable cause) {
+        lock.lock();
+        try {
+            state = State.COMPLETING;
+            cancelTimer();
+        } finally {
+            lock.unlock();
+        }
+        AsyncEvent event = new AsyncEvent(this, cause);
+        for (AsyncListener listener : listeners) {
+            try {
+                listener.onError(event);
+            } catch (IOException | RuntimeException e) {
+                LOG.log(System.Logger.Level.WARNING, "AsyncListener.onError failed", e);
+            }
+        }
+    }
+
+    /**
+     * Notifies the listeners that the response was finished. Called by the worker that
+     * completed the request, before the request is recycled.
+     */
+    void fireComplete() {
+        listenerLock.lock();
+        try {
+            ended = true;
+        } finally {
+            listenerLock.unlock();
+        }
+        AsyncEvent event = new AsyncEvent(this);
+        for (AsyncListener listener : listeners) {
+            try {
+                listener.onComplete(event);
+            } catch (IOException | RuntimeException e) {
+                LOG.log(System.Logger.Level.WARNING, "AsyncListener.onComplete failed", e);
+            }
+        }
+    }
+
+    /**
+     * Runs a callback of a read or write listener on a worker. Callbacks of the same
+     * request never run concurrently, and none runs once the request has completed.
+     *
+     * @param callback the callback
+     */
+    void runListener(Runnable callback) {
+        try {
+            owner.getEndpoint().execute(() -> {
+                listenerLock.lock();
+                try {
+                    if (!ended) {
+                        callback.run();
+                    }
+                } finally {
+                    listenerLock.unlock();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.WARNING, "Worker executor rejected I/O listener", e);
+            owner.abort();
+        }
+    }
+
+    private void timeoutElapsed() {
+        try {
+            owner.getEndpoint().execute(this::fireTimeout);
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.WARNING, "Worker executor rejected async timeout", e);
+            fireTimeout();
+        }
+    }
+
+    private void fireTimeout() {
+        lock.lock();
+        try {
+            if (state != State.WAITING) {
+                return;
+            }
+            timer = null;
+        } finally {
+            lock.unlock();
+        }
+        AsyncEvent event = new AsyncEvent(this);
+        for (AsyncListener listener : listeners) {
+            try {
+                listener.onTimeout(event);
+            } catch (IOException | RuntimeException e) {
+                LOG.log(System.Logger.Level.WARNING, "AsyncListener.onTimeout failed", e);
+            }
+        }
+        lock.lock();
+        try {
+            if (state != State.WAITING) {
+                return;
+            }
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+            state = State.COMPLETING;
+            resume(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancelTimer() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+
+    /**
+     * Hands the request to a worker to complete or dispatch it. Called with
+     * the lock held, after the state has changed, so no other thread resumes it too.
+     */
+    private void resume(boolean dispatch) {
+        try {
+            owner.getEndpoint().execute(() -> owner.asyncResume(dispatch));
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.WARNING, "Worker executor rejected async request", e);
+            owner.abort();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compression state of one response body: a pooled {@link Deflater} and, for
+ * {@code gzip}, the checksum and length that go into the trailer.
+ *
+ * <p>Each connection's output buffer owns one encoder and reuses it for every
+ * compressed response; only the deflater comes from, and goes back to, the
+ * {@link Compression}'s pool.</p>
+ */
+final class ContentEncoder {
+
+    private static final byte[] GZIP_HEADER = {
+        0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+    private static final byte[] NONE = new byte[0];
+
+    private final CRC32 crc = new CRC32();
+    private Compression compression;
+    private Deflater deflater;
+    private boolean gzip;
+    private long inputBytes;
+
+    /**
+     * Starts encoding a body with a deflater from the given settings' pool.
+     *
+     * @param compression the settings
+     * @param gzip {@code true} for {@code gzip}, {@code false} for {@code deflate}
+     */
+    void start(Compression compression, boolean gzip) {
+        this.compression = compression;
+        this.gzip = gzip;
+        this.deflater = compression.acquire(gzip);
+        this.inputBytes = 0;
+        crc.reset();
+    }
+
+    Deflater getDeflater() {
+        return deflater;
+    }
+
+    /**
+     * Returns the bytes that precede the compressed data.
+     */
+    byte[] header() {
+        return gzip ? GZIP_HEADER : NONE;
+    }
+
+    /**
+     * Records input handed to the deflater, for the trailer.
+     */
+    void update(byte[] src, int offset, int length) {
+        if (gzip) {
+            crc.update(src, offset, length);
+        }
+        inputBytes += length;
+    }
+
+    /**
+     * Records input handed to the deflater, for the trailer. The buffer's position is
+     * left unchanged.
+     */
+    void update(ByteBuffer src) {
+        if (gzip) {
+            crc.update(src.duplicate());
+        }
+        inputBytes += src.remaining();
+    }
+
+    /**
+     * Returns the bytes that follow the compressed data.
+     */
+    byte[] trailer() {
+        if (!gzip) {
+            return NONE;
+        }
+        long value = crc.getValue();
+        return new byte[] {
+            (byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24),
+            (byte) inputBytes, (byte) (inputBytes >>> 8), (byte) (inputBytes >>> 16),
+            (byte) (inputBytes >>> 24)
+        };
+    }
+
+    /**
+     * Hands the deflater back to its pool.
+     */
+    void release() {
+        if (deflater != null) {
+            compression.release(deflater, gzip);
+            deflater = null;
+            compression = null;
+        }
+    }
+}
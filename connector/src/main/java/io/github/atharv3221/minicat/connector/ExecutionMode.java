@@ -0,0 +1,62 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.util.Locale;
+
+/**
+ * Selects how the connector runs {@link io.github.atharv3221.minicat.servlet.Servlet#service}
+ * invocations.
+ *
+ * <p>The mode can be chosen per application with the {@value Connector#EXECUTOR_PARAM}
+ * init parameter on the servlet's {@code ServletConfig} or on its {@code ServletContext},
+ * so blocking and non-blocking workloads can be compared without code changes.</p>
+ */
+public enum ExecutionMode {
+
+    /**
+     * Every request runs on a new virtual thread. Suited to servlets that block on
+     * JDBC or downstream HTTP calls, since a blocked virtual thread releases its
+     * carrier thread.
+     */
+    VIRTUAL,
+
+    /**
+     * Requests run on a bounded pool of platform threads with a bounded queue. Once
+     * both are full, new requests are rejected instead of queued without limit.
+     */
+    PLATFORM;
+
+    /**
+     * Parses an init parameter value, ignoring case and surrounding whitespace.
+     *
+     * @param value the parameter value, such as {@code "virtual"} or {@code "platform"}
+     * @return the matching mode
+     * @throws IllegalArgumentException if the value names no mode
+     */
+    public static ExecutionMode parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,571 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Tables and primitives of HPACK, the header compression of HTTP/2 (RFC 7541), shared by
+ * {@link HpackDecoder} and {@link HpackEncoder}.
+ *
+ * <p>The static table and the Huffman code are constants shared by all connections.
+ * Each direction of a connection has its own {@link DynamicTable}, bounded by the size
+ * the decoding side allows. Names and values are kept as ISO-8859-1 bytes throughout,
+ * which is what goes on the wire.</p>
+ */
+final class Hpack {
+
+    /**
+     * Per-entry overhead counted against the size of a dynamic table.
+     */
+    static final int ENTRY_OVERHEAD = 32;
+
+    private static final String[][] STATIC_TABLE = {
+        {":authority", ""}, {":method", "GET"}, {":method", "POST"}, {":path", "/"},
+        {":path", "/index.html"}, {":scheme", "http"}, {":scheme", "https"},
+        {":status", "200"}, {":status", "204"}, {":status", "206"}, {":status", "304"},
+        {":status", "400"}, {":status", "404"}, {":status", "500"}, {"accept-charset", ""},
+        {"accept-encoding", "gzip, deflate"}, {"accept-language", ""}, {"accept-ranges", ""},
+        {"accept", ""}, {"access-control-allow-origin", ""}, {"age", ""}, {"allow", ""},
+        {"authorization", ""}, {"cache-control", ""}, {"content-disposition", ""},
+        {"content-encoding", ""}, {"content-language", ""}, {"content-length", ""},
+        {"content-location", ""}, {"content-range", ""}, {"content-type", ""},
+        {"cookie", ""}, {"date", ""}, {"etag", ""}, {"expect", ""}, {"expires", ""},
+        {"from", ""}, {"host", ""}, {"if-match", ""}, {"if-modified-since", ""},
+        {"if-none-match", ""}, {"if-range", ""}, {"if-unmodified-since", ""},
+        {"last-modified", ""}, {"link", ""}, {"location", ""}, {"max-forwards", ""},
+        {"proxy-authenticate", ""}, {"proxy-authorization", ""}, {"range", ""},
+        {"referer", ""}, {"refresh", ""}, {"retry-after", ""}, {"server", ""},
+        {"set-cookie", ""}, {"strict-transport-security", ""}, {"transfer-encoding", ""},
+        {"user-agent", ""}, {"vary", ""}, {"via", ""}, {"www-authenticate", ""},
+    };
+
+    static final int STATIC_TABLE_LENGTH = STATIC_TABLE.length;
+
+    private static final byte[][] STATIC_NAMES = new byte[STATIC_TABLE_LENGTH][];
+    private static final byte[][] STATIC_VALUES = new byte[STATIC_TABLE_LENGTH][];
+
+    /**
+     * Huffman codes of the 256 octets, right-aligned; see RFC 7541, Appendix B.
+     */
+    private static final int[] HUFFMAN_CODES = {
+        0x1ff8, 0x7fffd8, 0xfffffe2, 0xfffffe3, 0xfffffe4, 0xfffffe5, 0xfffffe6,
+        0xfffffe7, 0xfffffe8, 0xffffea, 0x3ffffffc, 0xfffffe9, 0xfffffea, 0x3ffffffd,
+        0xfffffeb, 0xfffffec, 0xfffffed, 0xfffffee, 0xfffffef, 0xffffff0, 0xffffff1,
+        0xffffff2, 0x3ffffffe, 0xffffff3, 0xffffff4, 0xffffff5, 0xffffff6, 0xffffff7,
+        0xffffff8, 0xffffff9, 0xffffffa, 0xffffffb, 0x14, 0x3f8, 0x3f9,
+        0xffa, 0x1ff9, 0x15, 0xf8, 0x7fa, 0x3fa, 0x3fb,
+        0xf9, 0x7fb, 0xfa, 0x16, 0x17, 0x18, 0x0,
+        0x1, 0x2, 0x19, 0x1a, 0x1b, 0x1c, 0x1d,
+        0x1e, 0x1f, 0x5c, 0xfb, 0x7ffc, 0x20, 0xffb,
+        0x3fc, 0x1ffa, 0x21, 0x5d, 0x5e, 0x5f, 0x60,
+        0x61, 0x62, 0x63, 0x64, 0x65, 0x66, 0x67,
+        0x68, 0x69, 0x6a, 0x6b, 0x6c, 0x6d, 0x6e,
+        0x6f, 0x70, 0x71, 0x72, 0xfc, 0x73, 0xfd,
+        0x1ffb, 0x7fff0, 0x1ffc, 0x3ffc, 0x22, 0x7ffd, 0x3,
+        0x23, 0x4, 0x24, 0x5, 0x25, 0x26, 0x27,
+        0x6, 0x74, 0x75, 0x28, 0x29, 0x2a, 0x7,
+        0x2b, 0x76, 0x2c, 0x8, 0x9, 0x2d, 0x77,
+        0x78, 0x79, 0x7a, 0x7b, 0x7ffe, 0x7fc, 0x3ffd,
+        0x1ffd, 0xffffffc, 0xfffe6, 0x3fffd2, 0xfffe7, 0xfffe8, 0x3fffd3,
+        0x3fffd4, 0x3fffd5, 0x7fffd9, 0x3fffd6, 0x7fffda, 0x7fffdb, 0x7fffdc,
+        0x7fffdd, 0x7fffde, 0xffffeb, 0x7fffdf, 0xffffec, 0xffffed, 0x3fffd7,
+        0x7fffe0, 0xffffee, 0x7fffe1, 0x7fffe2, 0x7fffe3, 0x7fffe4, 0x1fffdc,
+        0x3fffd8, 0x7fffe5, 0x3fffd9, 0x7fffe6, 0x7fffe7, 0xffffef, 0x3fffda,
+        0x1fffdd, 0xfffe9, 0x3fffdb, 0x3fffdc, 0x7fffe8, 0x7fffe9, 0x1fffde,
+        0x7fffea, 0x3fffdd, 0x3fffde, 0xfffff0, 0x1fffdf, 0x3fffdf, 0x7fffeb,
+        0x7fffec, 0x1fffe0, 0x1fffe1, 0x3fffe0, 0x1fffe2, 0x7fffed, 0x3fffe1,
+        0x7fffee, 0x7fffef, 0xfffea, 0x3fffe2, 0x3fffe3, 0x3fffe4, 0x7ffff0,
+        0x3fffe5, 0x3fffe6, 0x7ffff1, 0x3ffffe0, 0x3ffffe1, 0xfffeb, 0x7fff1,
+        0x3fffe7, 0x7ffff2, 0x3fffe8, 0x1ffffec, 0x3ffffe2, 0x3ffffe3, 0x3ffffe4,
+        0x7ffffde, 0x7ffffdf, 0x3ffffe5, 0xfffff1, 0x1ffffed, 0x7fff2, 0x1fffe3,
+        0x3ffffe6, 0x7ffffe0, 0x7ffffe1, 0x3ffffe7, 0x7ffffe2, 0xfffff2, 0x1fffe4,
+        0x1fffe5, 0x3ffffe8, 0x3ffffe9, 0xffffffd, 0x7ffffe3, 0x7ffffe4, 0x7ffffe5,
+        0xfffec, 0xfffff3, 0xfffed, 0x1fffe6, 0x3fffe9, 0x1fffe7, 0x1fffe8,
+        0x7ffff3, 0x3fffea, 0x3fffeb, 0x1ffffee, 0x1ffffef, 0xfffff4, 0xfffff5,
+        0x3ffffea, 0x7ffff4, 0x3ffffeb, 0x7ffffe6, 0x3ffffec, 0x3ffffed, 0x7ffffe7,
+        0x7ffffe8, 0x7ffffe9, 0x7ffffea, 0x7ffffeb, 0xffffffe, 0x7ffffec, 0x7ffffed,
+        0x7ffffee, 0x7ffffef, 0x7fffff0, 0x3ffffee,
+    };
+
+    private static final byte[] HUFFMAN_LENGTHS = {
+        13, 23, 28, 28, 28, 28, 28, 28, 28, 24, 30, 28, 28, 30, 28, 28,
+        28, 28, 28, 28, 28, 28, 30, 28, 28, 28, 28, 28, 28, 28, 28, 28,
+        6, 10, 10, 12, 13, 6, 8, 11, 10, 10, 8, 11, 8, 6, 6, 6,
+        5, 5, 5, 6, 6, 6, 6, 6, 6, 6, 7, 8, 15, 6, 12, 10,
+        13, 6, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7, 7,
+        7, 7, 7, 7, 7, 7, 7, 7, 8, 7, 8, 13, 19, 13, 14, 6,
+        15, 5, 6, 5, 6, 5, 6, 6, 6, 5, 7, 7, 6, 6, 6, 5,
+        6, 7, 6, 5, 5, 6, 7, 7, 7, 7, 7, 15, 11, 14, 13, 28,
+        20, 22, 20, 20, 22, 22, 22, 23, 22, 23, 23, 23, 23, 23, 24, 23,
+        24, 24, 22, 23, 24, 23, 23, 23, 23, 21, 22, 23, 22, 23, 23, 24,
+        22, 21, 20, 22, 22, 23, 23, 21, 23, 22, 22, 24, 21, 22, 23, 23,
+        21, 21, 22, 21, 23, 22, 23, 23, 20, 22, 22, 22, 23, 22, 22, 23,
+        26, 26, 20, 19, 22, 23, 22, 25, 26, 26, 26, 27, 27, 26, 24, 25,
+        19, 21, 26, 27, 27, 26, 27, 24, 21, 21, 26, 26, 28, 27, 27, 27,
+        20, 24, 20, 21, 22, 21, 21, 23, 22, 22, 25, 25, 24, 24, 26, 23,
+        26, 27, 26, 26, 27, 27, 27, 27, 27, 28, 27, 27, 27, 27, 27, 26,
+    };
+
+    private static final int EOS = 256;
+    private static final int EOS_CODE = 0x3fffffff;
+    private static final int EOS_LENGTH = 30;
+
+    /**
+     * Huffman decoding tree: node {@code n} has its children at {@code 2n} and
+     * {@code 2n + 1}. A non-negative child is another node, a negative one the leaf of
+     * symbol {@code ~child}.
+     */
+    private static final int[] HUFFMAN_TREE = new int[2 * EOS];
+
+    static {
+        for (int i = 0; i < STATIC_TABLE_LENGTH; i++) {
+            STATIC_NAMES[i] = bytes(STATIC_TABLE[i][0]);
+            STATIC_VALUES[i] = bytes(STATIC_TABLE[i][1]);
+        }
+        int nodes = 1;
+        for (int symbol = 0; symbol <= EOS; symbol++) {
+            int code = symbol == EOS ? EOS_CODE : HUFFMAN_CODES[symbol];
+            int length = symbol == EOS ? EOS_LENGTH : HUFFMAN_LENGTHS[symbol];
+            int node = 0;
+            for (int bit = length - 1; bit > 0; bit--) {
+                int slot = 2 * node + (code >>> bit & 1);
+                if (HUFFMAN_TREE[slot] == 0) {
+                    HUFFMAN_TREE[slot] = nodes++;
+                }
+                node = HUFFMAN_TREE[slot];
+            }
+            HUFFMAN_TREE[2 * node + (code & 1)] = ~symbol;
+        }
+    }
+
+    private Hpack() {
+    }
+
+    /**
+     * Returns the name of a static table entry.
+     *
+     * @param index the one-based index
+     */
+    static byte[] staticName(int index) {
+        return STATIC_NAMES[index - 1];
+    }
+
+    static byte[] staticValue(int index) {
+        return STATIC_VALUES[index - 1];
+    }
+
+    /**
+     * Finds a static table entry by name, and by value where the table has one.
+     *
+     * @return the one-based index of the entry with both name and value, or the
+     *     negated index of the first entry with the name only, or {@code 0} if the name
+     *     is not in the table
+     */
+    static int findStatic(byte[] name, byte[] value) {
+        int nameIndex = 0;
+        for (int i = 0; i < STATIC_TABLE_LENGTH; i++) {
+            if (Arrays.equals(STATIC_NAMES[i], name)) {
+                if (Arrays.equals(STATIC_VALUES[i], value)) {
+                    return i + 1;
+                }
+                if (nameIndex == 0) {
+                    nameIndex = -(i + 1);
+                }
+            } else if (nameIndex != 0) {
+                break;
+            }
+        }
+        return nameIndex;
+    }
+
+    /**
+     * Writes an integer with an {@code n}-bit prefix, see RFC 7541, section 5.1.
+     *
+     * @param dst the destination
+     * @param flags the bits of the first octet above the prefix
+     * @param prefixBits the size of the prefix
+     * @param value the non-negative integer
+     */
+    static void putInt(ByteArray dst, int flags, int prefixBits, int value) {
+        int max = (1 << prefixBits) - 1;
+        if (value < max) {
+            dst.put(flags | value);
+            return;
+        }
+        dst.put(flags | max);
+        value -= max;
+        while (value >= 0x80) {
+            dst.put(value & 0x7f | 0x80);
+            value >>>= 7;
+        }
+        dst.put(value);
+    }
+
+    /**
+     * Reads an integer with an {@code n}-bit prefix, starting at the octet holding the
+     * prefix.
+     *
+     * @return the integer, or {@code -1} if it is truncated or does not fit in an
+     *     {@code int}
+     */
+    static int getInt(ByteBuffer src, int prefixBits) {
+        int max = (1 << prefixBits) - 1;
+        int value = src.get() & max;
+        if (value < max) {
+            return value;
+        }
+        for (int shift = 0; shift <= 28; shift += 7) {
+            if (!src.hasRemaining()) {
+                return -1;
+            }
+            int b = src.get() & 0xff;
+            long sum = value + ((long) (b & 0x7f) << shift);
+            if (sum > Integer.MAX_VALUE) {
+                return -1;
+            }
+            value = (int) sum;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the length of a string after Huffman coding, in octets.
+     */
+    static int huffmanLength(byte[] src) {
+        long bits = 0;
+        for (byte b : src) {
+            bits += HUFFMAN_LENGTHS[b & 0xff];
+        }
+        return (int) ((bits + 7) >>> 3);
+    }
+
+    /**
+     * Appends the Huffman coding of a string, padded with the most significant bits of
+     * the end-of-string code.
+     */
+    static void huffmanEncode(ByteArray dst, byte[] src) {
+        long current = 0;
+        int bits = 0;
+        for (byte b : src) {
+            int symbol = b & 0xff;
+            current = current << HUFFMAN_LENGTHS[symbol] | HUFFMAN_CODES[symbol];
+            bits += HUFFMAN_LENGTHS[symbol];
+            while (bits >= 8) {
+                bits -= 8;
+                dst.put((int) (current >>> bits));
+            }
+        }
+        if (bits > 0) {
+            dst.put((int) (current << (8 - bits) | 0xff >>> bits));
+        }
+    }
+
+    /**
+     * Appends the decoding of a Huffman-coded string.
+     *
+     * @param src the coded octets, consumed up to the buffer's limit
+     * @return {@code false} if the coding is invalid: it contains the end-of-string
+     *     symbol, or its padding is longer than seven bits or not all ones
+     */
+    static boolean huffmanDecode(ByteBuffer src, ByteArray dst) {
+        int node = 0;
+        int padding = 0;
+        boolean ones = true;
+        while (src.hasRemaining()) {
+            int b = src.get() & 0xff;
+            for (int bit = 7; bit >= 0; bit--) {
+                int set = b >>> bit & 1;
+                int child = HUFFMAN_TREE[2 * node + set];
+                padding++;
+                ones &= set == 1;
+                if (child < 0) {
+                    if (~child == EOS) {
+                        return false;
+                    }
+                    dst.put(~child);
+                    node = 0;
+                    padding = 0;
+                    ones = true;
+                } else {
+                    node = child;
+                }
+            }
+        }
+        return padding < 8 && ones;
+    }
+
+    /**
+     * Returns the ISO-8859-1 bytes of a header name or value.
+     */
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Growable byte array the coders append octets to.
+     */
+    static final class ByteArray {
+
+        private byte[] bytes;
+        private int length;
+
+        ByteArray(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void put(int b) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, length * 2);
+            }
+            bytes[length++] = (byte) b;
+        }
+
+        void put(byte[] src) {
+            put(src, 0, src.length);
+        }
+
+        void put(byte[] src, int offset, int count) {
+            if (length + count > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(length * 2, length + count));
+            }
+            System.arraycopy(src, offset, bytes, length, count);
+            length += count;
+        }
+
+        byte[] array() {
+            return bytes;
+        }
+
+        int length() {
+            return length;
+        }
+
+        void setLength(int length) {
+            this.length = length;
+        }
+    }
+
+    /**
+     * Header fields of one block, appended to a single byte array, names and values back
+     * to back, with their offsets recorded alongside.
+     */
+    static final class FieldList {
+
+        private final int maxSize;
+        private final ByteArray bytes = new ByteArray(1024);
+        private int[] offsets = new int[48];
+        private int count;
+        private int size;
+        private boolean tooLarge;
+
+        /**
+         * Creates an empty list.
+         *
+         * @param maxSize the maximum header list size, counted as RFC 7541 counts
+         *     table entries; fields beyond it are dropped
+         */
+        FieldList(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        void clear() {
+            bytes.setLength(0);
+            count = 0;
+            size = 0;
+            tooLarge = false;
+        }
+
+        void add(byte[] name, byte[] value) {
+            size += name.length + value.length + ENTRY_OVERHEAD;
+            if (size > maxSize) {
+                tooLarge = true;
+                return;
+            }
+            if (3 * count + 3 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[3 * count] = bytes.length();
+            bytes.put(name);
+            offsets[3 * count + 1] = bytes.length();
+            bytes.put(value);
+            offsets[3 * count + 2] = bytes.length();
+            count++;
+        }
+
+        int size() {
+            return count;
+        }
+
+        /**
+         * Returns a copy of the bytes of all fields, which the offsets index into.
+         */
+        byte[] copyBytes() {
+            return Arrays.copyOf(bytes.array(), bytes.length());
+        }
+
+        int getNameStart(int index) {
+            return offsets[3 * index];
+        }
+
+        /**
+         * Returns the end of a field's name, which is also where its value starts.
+         */
+        int getNameEnd(int index) {
+            return offsets[3 * index + 1];
+        }
+
+        int getValueEnd(int index) {
+            return offsets[3 * index + 2];
+        }
+
+        /**
+         * Tests whether fields were dropped because the list exceeded its maximum size.
+         */
+        boolean isTooLarge() {
+            return tooLarge;
+        }
+    }
+
+    /**
+     * Dynamic table of one direction of a connection: a ring of the most recently
+     * indexed fields, newest first, evicted from the oldest end to stay within the
+     * maximum size.
+     */
+    static final class DynamicTable {
+
+        private byte[][] names = new byte[16][];
+        private byte[][] values = new byte[16][];
+        private int head;
+        private int count;
+        private int size;
+        private int maxSize;
+
+        DynamicTable(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        int length() {
+            return count;
+        }
+
+        int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Returns the name of an entry.
+         *
+         * @param index the zero-based position, {@code 0} for the newest entry
+         */
+        byte[] name(int index) {
+            return names[slot(index)];
+        }
+
+        byte[] value(int index) {
+            return values[slot(index)];
+        }
+
+        /**
+         * Finds an entry by name and value.
+         *
+         * @return the zero-based position of the entry with both name and value, or
+         *     {@code -2 - position} of the newest entry with the name only, or
+         *     {@code -1} if the name is not in the table
+         */
+        int find(byte[] name, byte[] value) {
+            int nameIndex = -1;
+            for (int i = 0; i < count; i++) {
+                int slot = slot(i);
+                if (Arrays.equals(names[slot], name)) {
+                    if (Arrays.equals(values[slot], value)) {
+                        return i;
+                    }
+                    if (nameIndex == -1) {
+                        nameIndex = -2 - i;
+                    }
+                }
+            }
+            return nameIndex;
+        }
+
+        /**
+         * Adds an entry, evicting the oldest ones to make room. An entry larger than
+         * the whole table empties it and is not added.
+         */
+        void add(byte[] name, byte[] value) {
+            int entrySize = name.length + value.length + ENTRY_OVERHEAD;
+            evict(maxSize - entrySize);
+            if (entrySize > maxSize) {
+                return;
+            }
+            if (count == names.length) {
+                grow();
+            }
+            names[head] = name;
+            values[head] = value;
+            head = (head + 1) & (names.length - 1);
+            count++;
+            size += entrySize;
+        }
+
+        void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            evict(maxSize);
+        }
+
+        private void evict(int limit) {
+            while (size > limit && count > 0) {
+                int slot = slot(count - 1);
+                size -= names[slot].length + values[slot].length + ENTRY_OVERHEAD;
+                names[slot] = null;
+                values[slot] = null;
+                count--;
+            }
+        }
+
+        private int slot(int index) {
+            return (head - 1 - index) & (names.length - 1);
+        }
+
+        private void grow() {
+            int capacity = names.length * 2;
+            byte[][] newNames = new byte[capacity][];
+            byte[][] newValues = new byte[capacity][];
+            for (int i = 0; i < count; i++) {
+                newNames[count - 1 - i] = names[slot(i)];
+                newValues[count - 1 - i] = values[slot(i)];
+            }
+            names = newNames;
+            values = newValues;
+            head = count;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Decodes the header blocks a client sends on one HTTP/2 connection.
+ *
+ * <p>The decoded fields of a block are collected in a {@link Hpack.FieldList}, so a
+ * request's headers become slices of a single copy of one array. Fields beyond the
+ * maximum header list size are decoded for the sake of the dynamic table but not kept,
+ * and the block is reported as too large.</p>
+ *
+ * <p>The decoder is only used by the poller thread reading the connection.</p>
+ */
+final class HpackDecoder {
+
+    private final Hpack.DynamicTable table;
+    private final int maxTableSize;
+    private final Hpack.FieldList fields;
+    private final Hpack.ByteArray scratch = new Hpack.ByteArray(256);
+
+    /**
+     * Creates a decoder.
+     *
+     * @param maxTableSize the dynamic table size advertised in
+     *     {@code SETTINGS_HEADER_TABLE_SIZE}
+     * @param maxHeaderListSize the maximum header list size, counted as RFC 7541 does
+     */
+    HpackDecoder(int maxTableSize, int maxHeaderListSize) {
+        this.table = new Hpack.DynamicTable(maxTableSize);
+        this.maxTableSize = maxTableSize;
+        this.fields = new Hpack.FieldList(maxHeaderListSize);
+    }
+
+    /**
+     * Decodes a complete header block, replacing the fields of the previous one.
+     *
+     * @param block the block, consumed up to its limit
+     * @throws Http2Exception a connection error if the block is malformed
+     */
+    void decode(ByteBuffer block) throws Http2Exception {
+        fields.clear();
+        boolean fieldSeen = false;
+        while (block.hasRemaining()) {
+            int b = block.get(block.position()) & 0xff;
+            if ((b & 0x80) != 0) {
+                indexed(checkInt(Hpack.getInt(block, 7)));
+                fieldSeen = true;
+            } else if ((b & 0x40) != 0) {
+                literal(block, 6, true);
+                fieldSeen = true;
+            } else if ((b & 0x20) != 0) {
+                int size = checkInt(Hpack.getInt(block, 5));
+                if (fieldSeen || size > maxTableSize) {
+                    throw compressionError("Invalid dynamic table size update");
+                }
+                table.setMaxSize(size);
+            } else {
+                literal(block, 4, false);
+                fieldSeen = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the fields of the last block, valid until the next one is decoded.
+     */
+    Hpack.FieldList getFields() {
+        return fields;
+    }
+
+    private void indexed(int index) throws Http2Exception {
+        if (index == 0) {
+            throw compressionError("Index zero");
+        }
+        fields.add(name(index), value(index));
+    }
+
+    /**
+     * Decodes a literal field, with an indexed or a literal name.
+     *
+     * @param prefixBits the size of the name index prefix
+     * @param indexing whether the field is added to the dynamic table
+     */
+    private void literal(ByteBuffer block, int prefixBits, boolean indexing)
+            throws Http2Exception {
+        int index = checkInt(Hpack.getInt(block, prefixBits));
+        byte[] name = index == 0 ? string(block) : name(index);
+        byte[] value = string(block);
+        if (indexing) {
+            table.add(name, value);
+        }
+        fields.add(name, value);
+    }
+
+    private byte[] name(int index) throws Http2Exception {
+        if (index <= Hpack.STATIC_TABLE_LENGTH) {
+            return Hpack.staticName(index);
+        }
+        return table.name(dynamicIndex(index));
+    }
+
+    private byte[] value(int index) throws Http2Exception {
+        if (index <= Hpack.STATIC_TABLE_LENGTH) {
+            return Hpack.staticValue(index);
+        }
+        return table.value(dynamicIndex(index));
+    }
+
+    private int dynamicIndex(int index) throws Http2Exception {
+        int position = index - Hpack.STATIC_TABLE_LENGTH - 1;
+        if (position >= table.length()) {
+            throw compressionError("Index " + index + " out of range");
+        }
+        return position;
+    }
+
+    /**
+     * Decodes a string literal, Huffman-coded or not.
+     */
+    private byte[] string(ByteBuffer block) throws Http2Exception {
+        if (!block.hasRemaining()) {
+            throw compressionError("Truncated string literal");
+        }
+        boolean huffman = (block.get(block.position()) & 0x80) != 0;
+        int length = checkInt(Hpack.getInt(block, 7));
+        if (length > block.remaining()) {
+            throw compressionError("Truncated string literal");
+        }
+        if (!huffman) {
+            byte[] value = new byte[length];
+            block.get(value);
+            return value;
+        }
+        int limit = block.limit();
+        block.limit(block.position() + length);
+        scratch.setLength(0);
+        boolean valid = Hpack.huffmanDecode(block, scratch);
+        block.limit(limit);
+        if (!valid) {
+            throw compressionError("Invalid Huffman coding");
+        }
+        return Arrays.copyOf(scratch.array(), scratch.length());
+    }
+
+    private static int checkInt(int value) throws Http2Exception {
+        if (value < 0) {
+            throw compressionError("Invalid integer");
+        }
+        return value;
+    }
+
+    private static Http2Exception compressionError(String message) {
+        return new Http2Exception(Http2Frame.COMPRESSION_ERROR, "HPACK: " + message);
+    }
+}
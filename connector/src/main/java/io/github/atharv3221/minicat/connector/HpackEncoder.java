@@ -0,0 +1,156 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * Encodes the response header blocks of one HTTP/2 connection.
+ *
+ * <p>Fields found in the static or dynamic table are sent as an index. Other fields
+ * are added to the dynamic table, so a header a servlet sets on every response costs
+ * one octet from the second response on, except for headers whose values rarely repeat,
+ * such as lengths and validators, which would only churn the table. Literal strings are
+ * Huffman-coded whenever that makes them shorter.</p>
+ *
+ * <p>Blocks must be encoded in the order they are written to the connection, so the
+ * encoder is only used while holding the connection's write lock.</p>
+ */
+final class HpackEncoder {
+
+    private static final Set<String> NOT_INDEXED = Set.of("content-length", "etag",
+            "last-modified", "location", "content-range", "age", "expires");
+    private static final Set<String> NEVER_INDEXED = Set.of("set-cookie", "authorization");
+
+    private final Hpack.DynamicTable table;
+    private final int maxTableSize;
+    private final Hpack.ByteArray block = new Hpack.ByteArray(512);
+    private int pendingTableSize = -1;
+
+    /**
+     * Creates an encoder.
+     *
+     * @param maxTableSize the largest dynamic table the encoder uses, whatever the
+     *     client allows
+     */
+    HpackEncoder(int maxTableSize) {
+        this.maxTableSize = maxTableSize;
+        this.table = new Hpack.DynamicTable(Math.min(maxTableSize,
+                Http2Frame.DEFAULT_HEADER_TABLE_SIZE));
+    }
+
+    /**
+     * Applies the table size the client advertised in its settings. The change is
+     * signalled at the start of the next block.
+     */
+    void setPeerTableSize(int size) {
+        int newSize = Math.min(size, maxTableSize);
+        if (newSize != table.getMaxSize() || pendingTableSize >= 0) {
+            pendingTableSize = pendingTableSize < 0 ? newSize
+                    : Math.min(pendingTableSize, newSize);
+            table.setMaxSize(newSize);
+        }
+    }
+
+    /**
+     * Starts a new block, discarding the previous one.
+     */
+    void begin() {
+        block.setLength(0);
+        if (pendingTableSize >= 0) {
+            if (pendingTableSize < table.getMaxSize()) {
+                Hpack.putInt(block, 0x20, 5, pendingTableSize);
+            }
+            Hpack.putInt(block, 0x20, 5, table.getMaxSize());
+            pendingTableSize = -1;
+        }
+    }
+
+    /**
+     * Appends a field.
+     *
+     * @param name the name, in lower case
+     * @param value the value; control characters are replaced with spaces, as on
+     *     HTTP/1.1
+     */
+    void encode(String name, String value) {
+        byte[] nameBytes = Hpack.bytes(name);
+        byte[] valueBytes = sanitize(value);
+        int staticIndex = Hpack.findStatic(nameBytes, valueBytes);
+        if (staticIndex > 0) {
+            Hpack.putInt(block, 0x80, 7, staticIndex);
+            return;
+        }
+        int dynamicIndex = table.find(nameBytes, valueBytes);
+        if (dynamicIndex >= 0) {
+            Hpack.putInt(block, 0x80, 7, Hpack.STATIC_TABLE_LENGTH + 1 + dynamicIndex);
+            return;
+        }
+        int nameIndex = staticIndex < 0 ? -staticIndex
+                : dynamicIndex < -1 ? Hpack.STATIC_TABLE_LENGTH - 1 - dynamicIndex : 0;
+        if (NEVER_INDEXED.contains(name)) {
+            Hpack.putInt(block, 0x10, 4, nameIndex);
+        } else if (NOT_INDEXED.contains(name)) {
+            Hpack.putInt(block, 0x00, 4, nameIndex);
+        } else {
+            Hpack.putInt(block, 0x40, 6, nameIndex);
+            table.add(nameBytes, valueBytes);
+        }
+        if (nameIndex == 0) {
+            string(nameBytes);
+        }
+        string(valueBytes);
+    }
+
+    /**
+     * Returns the encoded block, valid until the next {@link #begin()}.
+     */
+    ByteBuffer end() {
+        return ByteBuffer.wrap(block.array(), 0, block.length());
+    }
+
+    private void string(byte[] value) {
+        int huffmanLength = Hpack.huffmanLength(value);
+        if (huffmanLength < value.length) {
+            Hpack.putInt(block, 0x80, 7, huffmanLength);
+            Hpack.huffmanEncode(block, value);
+        } else {
+            Hpack.putInt(block, 0x00, 7, value.length);
+            block.put(value);
+        }
+    }
+
+    private static byte[] sanitize(String value) {
+        byte[] bytes = Hpack.bytes(value);
+        for (int i = 0; i < bytes.length; i++) {
+            int c = value.charAt(i);
+            if (c < 0x20 && c != '\t' || c == 0x7f || c > 0xff) {
+                bytes[i] = ' ';
+            }
+        }
+        return bytes;
+    }
+}
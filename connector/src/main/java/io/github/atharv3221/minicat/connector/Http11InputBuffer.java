@@ -0,0 +1,291 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the body of an HTTP/1.1 request from the connection's read buffer, decoding
+ * the chunked transfer coding.
+ *
+ * <p>The request head stays at the start of the read buffer while the request is
+ * serviced, because the request's fields are slices of it. Body bytes are read into the
+ * space after the head, which is reused as soon as everything buffered has been
+ * consumed. Bytes read past the end of a body belong to the next pipelined request and
+ * are left where they are.</p>
+ *
+ * <p>Reads either park the worker until the poller reports more bytes, or, for
+ * non-blocking streams, return without data so the caller can ask to be notified.</p>
+ */
+final class Http11InputBuffer implements InputBuffer {
+
+    private static final long MAX_CHUNK_SIZE = Long.MAX_VALUE >> 4;
+
+    /**
+     * Where the decoder is within the chunked framing.
+     */
+    private enum ChunkState {
+        SIZE, EXTENSION, DATA, DATA_END, TRAILER, DONE
+    }
+
+    private final SocketWrapper socket;
+    private final Response response;
+
+    private int base;
+    private int position;
+    private long remaining;
+    private boolean chunked;
+    private boolean finished = true;
+    private boolean expectContinue;
+    private ChunkState state;
+    private long chunkRemaining;
+    private boolean sizeDigits;
+    private int lineLength;
+
+    Http11InputBuffer(SocketWrapper socket, Response response) {
+        this.socket = socket;
+        this.response = response;
+    }
+
+    /**
+     * Prepares to read the body of a request whose head was just parsed.
+     *
+     * @param headEnd the offset of the first byte after the head in the read buffer
+     * @param contentLength the declared body length, ignored for a chunked body
+     * @param chunked whether the body uses the chunked transfer coding
+     * @param expectContinue whether the client waits for {@code 100 Continue} before
+     *     sending the body
+     */
+    void start(int headEnd, long contentLength, boolean chunked, boolean expectContinue) {
+        this.base = headEnd;
+        this.position = headEnd;
+        this.chunked = chunked;
+        this.remaining = chunked ? 0 : Math.max(0, contentLength);
+        this.finished = !chunked && remaining == 0;
+        this.expectContinue = expectContinue && !finished;
+        this.state = ChunkState.SIZE;
+        this.chunkRemaining = 0;
+        this.sizeDigits = false;
+        this.lineLength = 0;
+    }
+
+    /**
+     * Returns the offset in the read buffer up to which bytes have been consumed.
+     */
+    int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of bytes of a {@code Content-Length} body not consumed yet.
+     */
+    long getRemaining() {
+        return remaining;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public int available() {
+        if (finished || chunked && state != ChunkState.DATA) {
+            return 0;
+        }
+        long left = chunked ? chunkRemaining : remaining;
+        return (int) Math.min(left, socket.getReadBuffer().position() - position);
+    }
+
+    /**
+     * Reads whatever the socket has without blocking, and tests whether that is data or
+     * the end of the body.
+     */
+    @Override
+    public boolean isReady() throws IOException {
+        return prepare(false);
+    }
+
+    @Override
+    public int read(byte[] dst, int offset, int length, boolean block) throws IOException {
+        if (!prepare(block)) {
+            return 0;
+        }
+        if (finished) {
+            return -1;
+        }
+        if (length == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = socket.getReadBuffer();
+        long left = chunked ? chunkRemaining : remaining;
+        int count = (int) Math.min(Math.min(length, buffer.position() - position), left);
+        System.arraycopy(buffer.array(), position, dst, offset, count);
+        position += count;
+        if (chunked) {
+            chunkRemaining -= count;
+            if (chunkRemaining == 0) {
+                state = ChunkState.DATA_END;
+            }
+        } else {
+            remaining -= count;
+            finished = remaining == 0;
+        }
+        return count;
+    }
+
+    @Override
+    public void notifyWhenReadable(Runnable callback) {
+        socket.notifyWhenReadable(callback);
+    }
+
+    void recycle() {
+        finished = true;
+        expectContinue = false;
+        remaining = 0;
+    }
+
+    /**
+     * Advances until body data or the end of the body is buffered.
+     *
+     * @return {@code false} only if {@code block} is {@code false} and the socket has
+     *     nothing more to read
+     */
+    private boolean prepare(boolean block) throws IOException {
+        while (!finished) {
+            ByteBuffer buffer = socket.getReadBuffer();
+            if (position < buffer.position()) {
+                if (!chunked || state == ChunkState.DATA) {
+                    return true;
+                }
+                parseFraming(buffer.array(), buffer.position());
+            } else if (!fill(block)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Consumes chunk framing up to the next data byte, the end of the body, or the end
+     * of the buffered bytes.
+     */
+    private void parseFraming(byte[] bytes, int limit) throws IOException {
+        while (position < limit && state != ChunkState.DATA && !finished) {
+            byte b = bytes[position++];
+            switch (state) {
+                case SIZE -> {
+                    int digit = Character.digit(b, 16);
+                    if (digit >= 0) {
+                        if (chunkRemaining > MAX_CHUNK_SIZE) {
+                            throw new IOException("Chunk size too large");
+                        }
+                        chunkRemaining = chunkRemaining << 4 | digit;
+                        sizeDigits = true;
+                    } else if (b == ';' || b == ' ' || b == '\t') {
+                        state = ChunkState.EXTENSION;
+                    } else if (b == '\n') {
+                        endSizeLine();
+                    } else if (b != '\r') {
+                        throw new IOException("Invalid chunk size");
+                    }
+                }
+                case EXTENSION -> {
+                    if (b == '\n') {
+                        endSizeLine();
+                    }
+                }
+                case DATA_END -> {
+                    if (b == '\n') {
+                        state = ChunkState.SIZE;
+                        sizeDigits = false;
+                    } else if (b != '\r') {
+                        throw new IOException("Missing CRLF after chunk data");
+                    }
+                }
+                case TRAILER -> {
+                    if (b == '\n') {
+                        if (lineLength == 0) {
+                            state = ChunkState.DONE;
+                            finished = true;
+                        }
+                        lineLength = 0;
+                    } else if (b != '\r') {
+                        lineLength++;
+                    }
+                }
+                default -> throw new IllegalStateException(state.name());
+            }
+        }
+    }
+
+    private void endSizeLine() throws IOException {
+        if (!sizeDigits) {
+            throw new IOException("Invalid chunk size");
+        }
+        state = chunkRemaining == 0 ? ChunkState.TRAILER : ChunkState.DATA;
+    }
+
+    /**
+     * Reads more bytes from the socket into the space after the head, reclaiming the
+     * space taken by consumed body bytes first.
+     *
+     * @return {@code false} if {@code block} is {@code false} and nothing was read
+     */
+    private boolean fill(boolean block) throws IOException {
+        ByteBuffer buffer = socket.getReadBuffer();
+        int limit = buffer.position();
+        if (position == limit) {
+            buffer.position(base);
+            position = base;
+        } else if (!buffer.hasRemaining() && position > base) {
+            System.arraycopy(buffer.array(), position, buffer.array(), base, limit - position);
+            buffer.position(base + limit - position);
+            position = base;
+        }
+        if (!buffer.hasRemaining()) {
+            throw new IOException("Request head leaves no room in the read buffer for the body");
+        }
+        if (expectContinue) {
+            expectContinue = false;
+            response.sendContinue();
+        }
+        while (true) {
+            int count = socket.getChannel().read(buffer);
+            if (count > 0) {
+                return true;
+            }
+            if (count < 0) {
+                throw new EOFException("Connection closed before the end of the request body");
+            }
+            if (!block) {
+                return false;
+            }
+            socket.awaitReadable();
+        }
+    }
+}
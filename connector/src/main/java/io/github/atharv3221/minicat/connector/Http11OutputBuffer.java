@@ -0,0 +1,911 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.zip.Deflater;
+
+/**
+ * Buffers an HTTP/1.1 response in pooled direct buffers and writes it with gathering
+ * writes.
+ *
+ * <p>The status line and headers are serialized into one buffer and the body into a
+ * chain of fixed-size buffers taken from the connector's off-heap pool. A flush hands
+ * head, chunk framing and body to the socket as a single
+ * {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])} call, so a
+ * typical response costs one system call and no copy into a contiguous array.</p>
+ *
+ * <p>The body buffered for one connection is capped; reaching the cap, or finding the
+ * pool's global memory cap exhausted, forces a flush so buffers can be reused.</p>
+ *
+ * <p>When another pipelined request is already buffered behind the current one, the
+ * final flush of a keep-alive response with a known length is deferred: its buffers are
+ * kept as pending and go out in the same gathering write as the next response, so a
+ * burst of pipelined requests is answered with few system calls. The processor writes
+ * whatever is still pending before it hands the connection back to its poller.</p>
+ *
+ * <p>In non-blocking mode, set up for a servlet's write listener, a flush writes what
+ * the socket accepts and queues the rest instead of waiting: the unwritten buffers are
+ * moved to the queue, and framing bytes are copied, so the body chain can take more
+ * data straight away. The poller hands write readiness to a callback that drains the
+ * queue; {@link #isReady()} reports whether anything is still queued.</p>
+ *
+ * <p>Whether the body is compressed is decided when its first byte is written, see
+ * {@link Response#startEncoding()}. A compressed body is deflated straight into the
+ * pooled chain, so the chain and everything downstream of it only ever see encoded
+ * bytes; a flush before the last one also flushes the deflater so that the client can
+ * decode everything written so far.</p>
+ */
+final class Http11OutputBuffer implements OutputBuffer {
+
+    private static final byte[] HTTP_11 = ascii("HTTP/1.1 ");
+    private static final byte[] CRLF = ascii("\r\n");
+    private static final ByteBuffer CRLF_BUFFER = directOf("\r\n");
+    private static final ByteBuffer LAST_CHUNK_BUFFER = directOf("0\r\n\r\n");
+    private static final ByteBuffer CONTINUE_BUFFER = directOf("HTTP/1.1 100 Continue\r\n\r\n");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+    private static final int HEAD_BUFFER_SIZE = 4096;
+    private static final int MAX_PENDING_BUFFERS = 32;
+
+    private final SocketWrapper socket;
+    private final BufferPool pool;
+    private final Response response;
+    private final ByteBuffer[] body;
+    private final ByteBuffer[] gather;
+    private final ByteBuffer chunkHeader = ByteBuffer.allocateDirect(18);
+    private final ByteBuffer crlf = CRLF_BUFFER.duplicate();
+    private final ByteBuffer lastChunk = LAST_CHUNK_BUFFER.duplicate();
+    private final ByteBuffer[] pending = new ByteBuffer[MAX_PENDING_BUFFERS];
+    private final ArrayDeque<ByteBuffer> queued = new ArrayDeque<>();
+    private final ReentrantLock queueLock = new ReentrantLock();
+
+    private ByteBuffer head;
+    private int bodyCount;
+    private long buffered;
+    private long bodyBytes;
+    private int flushThreshold;
+    private boolean committed;
+    private boolean chunked;
+    private boolean noBody;
+    private boolean deferLast;
+    private int pendingCount;
+    private long pendingBytes;
+    private Runnable writableCallback;
+    private boolean notifyWritable;
+    private final ContentEncoder encoder = new ContentEncoder();
+    private final byte[] single = new byte[1];
+    private final BiConsumer<String, String> headerWriter = this::header;
+    private boolean encodingDecided;
+    private boolean encoding;
+
+    Http11OutputBuffer(SocketWrapper socket, BufferPool pool, Response response,
+            int maxBufferedBytes) {
+        this.socket = socket;
+        this.pool = pool;
+        this.response = response;
+        int maxBuffers = Math.max(1, maxBufferedBytes / pool.getBufferSize());
+        this.body = new ByteBuffer[maxBuffers];
+        this.gather = new ByteBuffer[maxBuffers + 5 + MAX_PENDING_BUFFERS];
+        this.flushThreshold = maxBuffers * pool.getBufferSize();
+    }
+
+    int getMaxBufferSize() {
+        return body.length * pool.getBufferSize();
+    }
+
+    @Override
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    @Override
+    public void setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = Math.min(Math.max(flushThreshold, 1), getMaxBufferSize());
+    }
+
+    /**
+     * Allows the final flush of this response to be deferred until the next response
+     * or {@link #flushPending()}. Reset when the response is recycled.
+     */
+    @Override
+    public void setDeferLast(boolean deferLast) {
+        this.deferLast = deferLast;
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    /**
+     * Switches to non-blocking mode, or back to blocking mode with {@code null}. Bytes
+     * still queued when switching back are written by the next flush, blocking.
+     *
+     * @param callback run on a worker when the socket becomes writable while bytes are
+     *     queued
+     */
+    @Override
+    public void setWritableCallback(Runnable callback) {
+        queueLock.lock();
+        try {
+            writableCallback = callback;
+            notifyWritable = false;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Tests whether nothing is queued, so a write will not have to wait for the client.
+     * A {@code false} result is remembered, and reported by the {@link #drain()} that
+     * empties the queue.
+     */
+    @Override
+    public boolean isReady() {
+        queueLock.lock();
+        try {
+            if (queued.isEmpty()) {
+                return true;
+            }
+            notifyWritable = true;
+            return false;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Writes queued bytes as far as the socket accepts them, asking to be called again
+     * once the socket is writable if some are left.
+     *
+     * @return {@code true} if the queue is now empty and {@link #isReady()} returned
+     *     {@code false} since the last time, so the write listener should be called
+     * @throws IOException if the write fails
+     */
+    @Override
+    public boolean drain() throws IOException {
+        queueLock.lock();
+        try {
+            if (writableCallback == null) {
+                return false;
+            }
+            ByteBuffer[] buffers = queued.toArray(new ByteBuffer[0]);
+            int first = 0;
+            while (first < buffers.length
+                    && socket.getChannel().write(buffers, first, buffers.length - first) > 0) {
+                while (first < buffers.length && !buffers[first].hasRemaining()) {
+                    pool.release(queued.poll());
+                    first++;
+                }
+            }
+            if (!queued.isEmpty() || !socket.getChannel().flush()) {
+                socket.notifyWhenWritable(writableCallback);
+                return false;
+            }
+            boolean notify = notifyWritable;
+            notifyWritable = false;
+            return notify;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the interim {@code 100 Continue} response, unless the final response has
+     * already been committed.
+     */
+    @Override
+    public void writeContinue() throws IOException {
+        if (!committed) {
+            flushPending();
+            socket.writeFully(CONTINUE_BUFFER.duplicate());
+        }
+    }
+
+    /**
+     * Returns the number of body bytes written or discarded so far.
+     */
+    @Override
+    public long getBodyBytes() {
+        return bodyBytes;
+    }
+
+    @Override
+    public void write(byte[] src, int offset, int length) throws IOException {
+        bodyBytes += length;
+        if (noBody()) {
+            return;
+        }
+        if (encoding()) {
+            encoder.update(src, offset, length);
+            encoder.getDeflater().setInput(src, offset, length);
+            deflate(Deflater.NO_FLUSH, false);
+        } else {
+            append(src, offset, length);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!noBody() && encoding()) {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+            return;
+        }
+        bodyBytes++;
+        if (noBody()) {
+            return;
+        }
+        ByteBuffer current = currentBuffer();
+        if (current == null) {
+            flush(false, null);
+            current = currentBuffer();
+        }
+        current.put((byte) b);
+        buffered++;
+        if (buffered >= flushThreshold) {
+            flush(false, null);
+        }
+    }
+
+    /**
+     * Writes a caller-owned buffer, such as a memory-mapped file region, as body
+     * content. Small buffers are copied into the pooled chain; large ones are handed to
+     * the socket in the same gathering write as the pending head and body, without
+     * copying.
+     */
+    @Override
+    public void write(ByteBuffer src) throws IOException {
+        int length = src.remaining();
+        if (noBody()) {
+            bodyBytes += length;
+            src.position(src.limit());
+            return;
+        }
+        if (encoding()) {
+            bodyBytes += length;
+            encoder.update(src);
+            encoder.getDeflater().setInput(src);
+            deflate(Deflater.NO_FLUSH, false);
+            return;
+        }
+        if (length < pool.getBufferSize() && buffered + length < flushThreshold
+                || writableCallback != null) {
+            while (src.hasRemaining()) {
+                ByteBuffer current = currentBuffer();
+                if (current == null) {
+                    flush(false, null);
+                    continue;
+                }
+                int count = Math.min(src.remaining(), current.remaining());
+                current.put(current.position(), src, src.position(), count);
+                current.position(current.position() + count);
+                src.position(src.position() + count);
+                buffered += count;
+            }
+            bodyBytes += length;
+            return;
+        }
+        bodyBytes += length;
+        flush(false, src);
+    }
+
+    private void append(byte[] src, int offset, int length) throws IOException {
+        while (length > 0) {
+            ByteBuffer current = currentBuffer();
+            if (current == null) {
+                flush(false, null);
+                continue;
+            }
+            int count = Math.min(length, current.remaining());
+            current.put(src, offset, count);
+            offset += count;
+            length -= count;
+            buffered += count;
+            if (buffered >= flushThreshold) {
+                flush(false, null);
+            }
+        }
+    }
+
+    /**
+     * Decides on the first body byte whether the body is compressed, and starts the
+     * encoding if so.
+     */
+    private boolean encoding() throws IOException {
+        if (!encodingDecided) {
+            encodingDecided = true;
+            String coding = response.startEncoding();
+            if (coding != null) {
+                encoder.start(response.getCompression(), coding.equals("gzip"));
+                encoding = true;
+                byte[] header = encoder.header();
+                append(header, 0, header.length);
+            }
+        }
+        return encoding;
+    }
+
+    /**
+     * Settles the content coding as the head is committed, since the head carries it. A
+     * response ending with no body so far is sent as it is.
+     */
+    private void decideEncoding(boolean last) throws IOException {
+        if (noBody() || last && bodyBytes == 0) {
+            encodingDecided = true;
+        } else {
+            encoding();
+        }
+    }
+
+    /**
+     * Runs the deflater over its input into the body chain.
+     *
+     * @param mode the {@link Deflater} flush mode
+     * @param finish {@code true} to run until the deflater has finished the stream
+     */
+    private void deflate(int mode, boolean finish) throws IOException {
+        Deflater deflater = encoder.getDeflater();
+        while (true) {
+            ByteBuffer current = currentBuffer();
+            if (current == null) {
+                flush(false, null);
+                continue;
+            }
+            int space = current.remaining();
+            int count = deflater.deflate(current, mode);
+            buffered += count;
+            if (buffered >= flushThreshold) {
+                flush(false, null);
+            }
+            boolean done;
+            if (finish) {
+                done = deflater.finished();
+            } else if (mode == Deflater.NO_FLUSH) {
+                done = deflater.needsInput();
+            } else {
+                done = count < space;
+            }
+            if (done) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ends the compressed stream and appends its trailer.
+     */
+    private void finishEncoding() throws IOException {
+        encoder.getDeflater().finish();
+        deflate(Deflater.NO_FLUSH, true);
+        byte[] trailer = encoder.trailer();
+        append(trailer, 0, trailer.length);
+        encoder.release();
+        encoding = false;
+    }
+
+    /**
+     * Discards body bytes that have not been written to the socket yet.
+     *
+     * @return {@code true} if a compressed stream was discarded with them, so the body
+     *     is no longer encoded
+     */
+    @Override
+    public boolean resetBuffer() {
+        for (int i = 0; i < bodyCount; i++) {
+            body[i].clear();
+        }
+        bodyBytes -= buffered;
+        buffered = 0;
+        encodingDecided = false;
+        if (encoding) {
+            encoder.release();
+            encoding = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the responses whose final flush was deferred.
+     */
+    @Override
+    public void flushPending() throws IOException {
+        if (pendingCount > 0) {
+            try {
+                socket.writeFully(pending, 0, pendingCount);
+            } finally {
+                releasePending();
+            }
+        }
+    }
+
+    /**
+     * Writes the head if not yet committed, followed by any buffered body bytes.
+     *
+     * @param last {@code true} if no more body bytes will follow
+     */
+    @Override
+    public void flush(boolean last) throws IOException {
+        if (!committed && !encodingDecided) {
+            decideEncoding(last);
+        }
+        if (encoding && last) {
+            finishEncoding();
+        } else if (encoding) {
+            deflate(Deflater.SYNC_FLUSH, false);
+        }
+        flush(last, null);
+    }
+
+    private void flush(boolean last, ByteBuffer extra) throws IOException {
+        if (!queued.isEmpty() && writableCallback == null) {
+            writeQueued();
+        }
+        long chunkLength = buffered + (extra == null ? 0 : extra.remaining());
+        int count = 0;
+        for (int i = 0; i < pendingCount; i++) {
+            gather[count++] = pending[i];
+        }
+        boolean headInGather = !committed;
+        if (!committed) {
+            prepareHead(last);
+            gather[count++] = head.flip();
+            committed = true;
+        }
+        if (last && deferLast && extra == null && !chunked && response.isKeepAlive()
+                && defer(count, headInGather, chunkLength > 0)) {
+            return;
+        }
+        int pendingWritten = pendingCount;
+        if (chunkLength > 0) {
+            if (chunked) {
+                gather[count++] = chunkHeader(chunkLength);
+            }
+            for (int i = 0; i < bodyCount; i++) {
+                gather[count++] = body[i].flip();
+            }
+            if (extra != null) {
+                gather[count++] = extra;
+            }
+            if (chunked) {
+                gather[count++] = crlf.clear();
+            }
+        }
+        if (last && chunked) {
+            gather[count++] = lastChunk.clear();
+        }
+        try {
+            if (count > 0 && writableCallback != null) {
+                writeOrQueue(count);
+            } else if (count > 0) {
+                socket.writeFully(gather, 0, count);
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                gather[i] = null;
+            }
+            if (pendingWritten > 0) {
+                releasePending();
+            }
+        }
+        ByteBuffer reuse = null;
+        for (int i = 0; i < bodyCount; i++) {
+            if (reuse == null) {
+                reuse = body[i];
+            } else if (body[i] != null) {
+                pool.release(body[i]);
+            }
+            body[i] = null;
+        }
+        bodyCount = 0;
+        if (reuse != null) {
+            body[bodyCount++] = reuse.clear();
+        }
+        buffered = 0;
+    }
+
+    /**
+     * Writes the gathered buffers without waiting and queues whatever the socket does
+     * not accept, taking the queued body buffers out of the body chain.
+     */
+    private void writeOrQueue(int count) throws IOException {
+        queueLock.lock();
+        try {
+            boolean wasEmpty = queued.isEmpty();
+            int first = 0;
+            while (wasEmpty && first < count
+                    && socket.getChannel().write(gather, first, count - first) > 0) {
+                while (first < count && !gather[first].hasRemaining()) {
+                    first++;
+                }
+            }
+            for (int i = first; i < count; i++) {
+                ByteBuffer buffer = gather[i];
+                if (buffer == head) {
+                    head = null;
+                } else if (buffer == chunkHeader || buffer == crlf || buffer == lastChunk) {
+                    buffer = ByteBuffer.allocate(buffer.remaining()).put(buffer).flip();
+                } else {
+                    detachBody(buffer);
+                }
+                queued.add(buffer);
+            }
+            if (wasEmpty && (!queued.isEmpty() || !socket.getChannel().flush())) {
+                socket.notifyWhenWritable(writableCallback);
+            }
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    private void detachBody(ByteBuffer buffer) {
+        for (int i = 0; i < bodyCount; i++) {
+            if (body[i] == buffer) {
+                body[i] = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes everything queued in non-blocking mode, waiting for the socket as needed.
+     */
+    private void writeQueued() throws IOException {
+        queueLock.lock();
+        try {
+            socket.writeFully(queued.toArray(new ByteBuffer[0]), 0, queued.size());
+        } finally {
+            releaseQueued();
+            queueLock.unlock();
+        }
+    }
+
+    private void releaseQueued() {
+        ByteBuffer buffer;
+        while ((buffer = queued.poll()) != null) {
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Moves the buffers gathered for the final flush to the pending list instead of
+     * writing them, handing their ownership from this response to the connection.
+     *
+     * @param count the number of gathered buffers, starting with the pending ones
+     * @param headInGather whether the head buffer is among them
+     * @param bodyInGather whether the body buffers are among them
+     * @return {@code false}, with nothing moved, if the pending list has no room
+     */
+    private boolean defer(int count, boolean headInGather, boolean bodyInGather) {
+        int total = count + (bodyInGather ? bodyCount : 0);
+        long bytes = pendingBytes + buffered + (headInGather ? head.remaining() : 0);
+        if (total > pending.length || bytes > getMaxBufferSize()) {
+            return false;
+        }
+        if (headInGather) {
+            pending[pendingCount++] = head;
+            head = null;
+        }
+        if (bodyInGather) {
+            for (int i = 0; i < bodyCount; i++) {
+                pending[pendingCount++] = body[i].flip();
+                body[i] = null;
+            }
+            bodyCount = 0;
+        }
+        for (int i = 0; i < count; i++) {
+            gather[i] = null;
+        }
+        pendingBytes = bytes;
+        buffered = 0;
+        return true;
+    }
+
+    private void releasePending() {
+        for (int i = 0; i < pendingCount; i++) {
+            pool.release(pending[i]);
+            pending[i] = null;
+        }
+        pendingCount = 0;
+        pendingBytes = 0;
+    }
+
+    /**
+     * Transfers a file region to the socket with {@link FileChannel#transferTo}, letting
+     * the kernel copy the bytes straight from the page cache.
+     *
+     * <p>Chunked responses cannot use the system call because the file bytes need
+     * framing; those, and channels that cannot transfer directly, fall back to reading
+     * the file through a pooled buffer.</p>
+     */
+    @Override
+    public void sendFile(FileChannel file, long position, long count) throws IOException {
+        if (writableCallback != null) {
+            throw new IllegalStateException("Files cannot be sent in non-blocking mode");
+        }
+        if (noBody()) {
+            bodyBytes += count;
+            return;
+        }
+        if (!committed && response.getContentLengthLong() < 0 && bodyBytes == 0) {
+            response.setContentLengthLong(count);
+        }
+        if (encoding()) {
+            compressFile(file, position, count);
+            return;
+        }
+        flush(false, null);
+        if (chunked || !socket.getChannel().supportsTransfer()) {
+            copyFile(file, position, count);
+            return;
+        }
+        long end = position + count;
+        while (position < end) {
+            long transferred = socket.getChannel().transferFrom(file, position, end - position);
+            if (transferred == 0) {
+                if (position >= file.size()) {
+                    throw new IOException("File truncated during transfer");
+                }
+                socket.awaitWritable();
+            }
+            position += transferred;
+        }
+        bodyBytes += count;
+    }
+
+    private void copyFile(FileChannel file, long position, long count) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            ByteBuffer current = currentBuffer();
+            if (current == null) {
+                flush(false, null);
+                continue;
+            }
+            int limit = (int) Math.min(current.remaining(), end - position);
+            int read = file.read(current.slice(current.position(), limit), position);
+            if (read < 0) {
+                throw new IOException("File truncated during transfer");
+            }
+            current.position(current.position() + read);
+            position += read;
+            buffered += read;
+            bodyBytes += read;
+            if (buffered >= flushThreshold) {
+                flush(false, null);
+            }
+        }
+    }
+
+    private void compressFile(FileChannel file, long position, long count) throws IOException {
+        ByteBuffer input = pool.acquire();
+        try {
+            long end = position + count;
+            while (position < end) {
+                input.clear().limit((int) Math.min(input.capacity(), end - position));
+                int read = file.read(input, position);
+                if (read < 0) {
+                    throw new IOException("File truncated during transfer");
+                }
+                position += read;
+                write(input.flip());
+            }
+        } finally {
+            pool.release(input);
+        }
+    }
+
+    @Override
+    public void recycle() {
+        queueLock.lock();
+        try {
+            releaseQueued();
+            writableCallback = null;
+            notifyWritable = false;
+        } finally {
+            queueLock.unlock();
+        }
+        for (int i = 0; i < bodyCount; i++) {
+            pool.release(body[i]);
+            body[i] = null;
+        }
+        if (head != null) {
+            pool.release(head);
+            head = null;
+        }
+        if (encoding) {
+            encoder.release();
+            encoding = false;
+        }
+        encodingDecided = false;
+        bodyCount = 0;
+        buffered = 0;
+        bodyBytes = 0;
+        flushThreshold = getMaxBufferSize();
+        committed = false;
+        chunked = false;
+        noBody = false;
+        deferLast = false;
+    }
+
+    private boolean noBody() {
+        if (committed) {
+            return noBody;
+        }
+        int status = response.getStatus();
+        return response.isHeadRequest() || status == 204 || status == 304 || status < 200;
+    }
+
+    private ByteBuffer currentBuffer() {
+        if (bodyCount > 0 && body[bodyCount - 1].hasRemaining()) {
+            return body[bodyCount - 1];
+        }
+        if (bodyCount == body.length) {
+            return null;
+        }
+        ByteBuffer buffer = pool.tryAcquire();
+        if (buffer == null) {
+            if (bodyCount > 0) {
+                return null;
+            }
+            buffer = pool.acquire();
+        }
+        body[bodyCount++] = buffer;
+        return buffer;
+    }
+
+    private ByteBuffer chunkHeader(long length) {
+        chunkHeader.clear();
+        int shift = 60;
+        while (shift > 0 && (length >>> shift) == 0) {
+            shift -= 4;
+        }
+        for (; shift >= 0; shift -= 4) {
+            chunkHeader.put(HEX[(int) (length >>> shift) & 0xf]);
+        }
+        chunkHeader.put(CRLF);
+        return chunkHeader.flip();
+    }
+
+    /**
+     * Decides the message framing and serializes the status line and headers.
+     */
+    private void prepareHead(boolean last) {
+        noBody = noBody();
+        long contentLength = response.getContentLengthLong();
+        if (noBody) {
+            if (response.isHeadRequest() && contentLength < 0 && last) {
+                response.setContentLengthLong(bodyBytes);
+            }
+        } else if (contentLength < 0) {
+            if (last) {
+                response.setContentLengthLong(buffered);
+            } else if (response.isHttp11()) {
+                chunked = true;
+            } else {
+                response.setKeepAlive(false);
+            }
+        }
+
+        head = pool.acquire();
+        put(HTTP_11);
+        int status = response.getStatus();
+        putDecimal(status);
+        putAscii(" ");
+        putAscii(HttpStatus.reasonPhrase(status));
+        put(CRLF);
+        header("Date", HttpDates.currentDate());
+        byte[] contentTypeHeader = response.getContentTypeHeader();
+        if (contentTypeHeader != null) {
+            put(contentTypeHeader);
+        } else if (response.getContentType() != null) {
+            header("Content-Type", response.getContentType());
+        }
+        if (chunked) {
+            header("Transfer-Encoding", "chunked");
+        } else if (response.getContentLengthLong() >= 0 && status != 204 && status != 304) {
+            putAscii("Content-Length: ");
+            putDecimal(response.getContentLengthLong());
+            put(CRLF);
+        }
+        if (!response.isKeepAlive()) {
+            header("Connection", "close");
+        }
+        response.forEachHeader(headerWriter);
+        put(CRLF);
+    }
+
+    private void header(String name, String value) {
+        putAscii(name);
+        putAscii(": ");
+        putAscii(value);
+        put(CRLF);
+    }
+
+    private void put(byte[] bytes) {
+        ensureHeadCapacity(bytes.length);
+        head.put(bytes);
+    }
+
+    /**
+     * Writes a string as ISO-8859-1, replacing control characters that could split the
+     * header with spaces.
+     */
+    private void putAscii(String value) {
+        int length = value.length();
+        ensureHeadCapacity(length);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 && c != '\t' || c == 0x7f || c > 0xff) {
+                c = ' ';
+            }
+            head.put((byte) c);
+        }
+    }
+
+    /**
+     * Writes a non-negative number in decimal, without formatting it into a string.
+     */
+    private void putDecimal(long value) {
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureHeadCapacity(digits);
+        int end = head.position() + digits;
+        long rest = value;
+        for (int i = end - 1; i >= head.position(); i--) {
+            head.put(i, (byte) ('0' + rest % 10));
+            rest /= 10;
+        }
+        head.position(end);
+    }
+
+    private void ensureHeadCapacity(int length) {
+        if (head.remaining() >= length) {
+            return;
+        }
+        int capacity = Math.max(head.capacity() * 2, head.position() + length + HEAD_BUFFER_SIZE);
+        ByteBuffer larger = ByteBuffer.allocateDirect(capacity);
+        larger.put(head.flip());
+        pool.release(head);
+        head = larger;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static ByteBuffer directOf(String value) {
+        byte[] bytes = ascii(value);
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    }
+}
@@ -0,0 +1,467 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Drives the HTTP/1.1 exchange on a single connection.
+ *
+ * <p>The poller calls {@link #read()} whenever the socket is readable. Bytes accumulate
+ * in the connection's read buffer until a complete request head, terminated by an
+ * empty line, is available. The processor is then run on a worker, which parses the
+ * head in place, services the request and keeps going as long as further complete
+ * heads are already buffered before handing the connection back to its poller.
+ * Responses to such pipelined requests are written in request order, and their final
+ * writes are coalesced.</p>
+ *
+ * <p>If the servlet starts asynchronous processing, the worker returns as soon as
+ * {@code service} does and leaves the connection parked, neither reading nor timed;
+ * {@link #asyncResume} picks it up again on a worker once the request is completed or
+ * dispatched.</p>
+ *
+ * <p>Requests the servlet cannot see, such as malformed heads, are answered from
+ * prebuilt responses without involving the servlet. Servlets read request bodies
+ * through the {@link Http11InputBuffer}; whatever part of a {@code Content-Length} body
+ * they leave unread is skipped so the connection can be reused, and a chunked body ends
+ * the connection after the response.</p>
+ *
+ * <p>With HTTP/2 enabled, a connection that starts with the HTTP/2 preface, or whose
+ * request asks for the {@code h2c} upgrade, is handed to an {@link Http2Connection}
+ * for the rest of its life.</p>
+ */
+final class Http11Processor implements Processor, Runnable, ConnectorAsyncContext.Owner {
+
+    private static final System.Logger LOG = System.getLogger(Http11Processor.class.getName());
+
+    private static final byte[] RESPONSE_BAD_REQUEST = ascii(
+            "HTTP/1.1 400 Bad Request\r\nConnection: close\r\nContent-Length: 0\r\n\r\n");
+    private static final byte[] RESPONSE_UNAVAILABLE = ascii(
+            "HTTP/1.1 503 Service Unavailable\r\n"
+            + "Connection: close\r\nContent-Length: 0\r\n\r\n");
+    private static final byte[] RESPONSE_SWITCHING_PROTOCOLS = ascii(
+            "HTTP/1.1 101 Switching Protocols\r\nConnection: Upgrade\r\nUpgrade: h2c\r\n\r\n");
+    private static final byte[] RESPONSE_HEAD_TOO_LARGE = ascii(
+            "HTTP/1.1 431 Request Header Fields Too Large\r\n"
+            + "Connection: close\r\nContent-Length: 0\r\n\r\n");
+
+    private final SocketWrapper socket;
+    private final Servlet servlet;
+    private final Request request = new Request();
+    private final Response response;
+    private final Http11InputBuffer inputBuffer;
+
+    private int scanPosition;
+    private int headEnd = -1;
+    private long swallowRemaining;
+
+    /**
+     * What happens to the connection after a request.
+     */
+    private enum Outcome {
+        KEEP_ALIVE, CLOSE, ASYNC, UPGRADED
+    }
+
+    Http11Processor(SocketWrapper socket, Servlet servlet) {
+        this.socket = socket;
+        this.servlet = servlet;
+        Connector connector = socket.getEndpoint().getConnector();
+        this.response = new Response(request, r -> new Http11OutputBuffer(socket,
+                socket.getEndpoint().getOutputBufferPool(), r,
+                connector.getMaxResponseBufferSize()));
+        this.inputBuffer = new Http11InputBuffer(socket, response);
+        request.setProcessor(this, inputBuffer);
+        request.setRecycleFacades(connector.isRecycleFacades());
+        response.setRecycleFacades(connector.isRecycleFacades());
+    }
+
+    @Override
+    public NioEndpoint getEndpoint() {
+        return socket.getEndpoint();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return socket.getChannel().isSecure();
+    }
+
+    @Override
+    public void abort() {
+        socket.close();
+    }
+
+    /**
+     * Reads whatever is available from the socket, until a complete request head is
+     * buffered.
+     *
+     * @return whether to keep reading, dispatch, or close the connection
+     */
+    @Override
+    public SocketState read() {
+        ByteBuffer buffer = socket.getReadBuffer();
+        try {
+            int count;
+            while ((count = socket.getChannel().read(buffer)) > 0) {
+                swallow();
+                int preface = matchPreface();
+                if (preface > 0) {
+                    return startHttp2();
+                }
+                if (preface == 0) {
+                    continue;
+                }
+                if (findHeadEnd()) {
+                    return SocketState.DISPATCH;
+                }
+            }
+            if (count < 0) {
+                return SocketState.CLOSED;
+            }
+            if (!buffer.hasRemaining()) {
+                socket.getChannel().write(ByteBuffer.wrap(RESPONSE_HEAD_TOO_LARGE));
+                return SocketState.CLOSED;
+            }
+            socket.releaseReadBufferIfEmpty();
+            return SocketState.OPEN;
+        } catch (IOException e) {
+            return SocketState.CLOSED;
+        }
+    }
+
+    /**
+     * Compares the start of a new request with the HTTP/2 connection preface, which
+     * clients with prior knowledge send instead of a request.
+     *
+     * @return {@code 1} if the whole preface is buffered, {@code 0} if what is buffered
+     *     is a part of it, {@code -1} if it is not the preface or HTTP/2 is disabled
+     */
+    private int matchPreface() {
+        ByteBuffer buffer = socket.getReadBuffer();
+        if (swallowRemaining > 0 || !socket.getEndpoint().getConnector().isHttp2Enabled()) {
+            return -1;
+        }
+        byte[] preface = Http2Frame.PREFACE;
+        int length = Math.min(buffer.position(), preface.length);
+        if (Arrays.mismatch(buffer.array(), 0, length, preface, 0, length) >= 0) {
+            return -1;
+        }
+        return length == preface.length ? 1 : 0;
+    }
+
+    /**
+     * Switches the connection to HTTP/2 after the client sent the preface, handing
+     * over everything buffered so far.
+     */
+    private SocketState startHttp2() {
+        Http2Connection http2 = new Http2Connection(socket, servlet);
+        socket.setProcessor(http2);
+        ByteBuffer buffer = socket.getReadBuffer();
+        http2.start(ByteBuffer.wrap(buffer.array(), 0, buffer.position()));
+        consume(buffer.position());
+        socket.releaseReadBufferIfEmpty();
+        return http2.read();
+    }
+
+    /**
+     * Answers the buffered request with {@code 503} and closes the connection. Used when
+     * the worker executor is saturated; the single write is best effort since no worker
+     * is available to wait for the socket.
+     */
+    void reject() {
+        try {
+            socket.getChannel().write(ByteBuffer.wrap(RESPONSE_UNAVAILABLE));
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to write 503 response", e);
+        }
+        socket.close();
+    }
+
+    /**
+     * Never busy while the poller watches the connection: a request in progress either
+     * owns a worker or is parked asynchronously with reading suspended.
+     */
+    @Override
+    public boolean isBusy() {
+        return false;
+    }
+
+    @Override
+    public void connectionClosed() {
+        // Waiting workers are woken by the socket itself
+    }
+
+    @Override
+    public void run() {
+        try {
+            proceed(service());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Creates the context for a request that starts asynchronous processing. Responses
+     * still pending from earlier pipelined requests are written first, since other
+     * threads may write to the response as soon as the context exists.
+     */
+    @Override
+    public ConnectorAsyncContext startAsync() {
+        try {
+            response.flushPending();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to write pipelined responses", e);
+        }
+        response.setDeferFlush(false);
+        return new ConnectorAsyncContext(this, request, response);
+    }
+
+    @Override
+    public void asyncResume(boolean dispatch) {
+        try {
+            proceed(dispatch ? invokeServlet() : endRequest());
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Serves further buffered requests while the connection stays open, then hands the
+     * connection back to its poller, closes it, or leaves it to asynchronous processing.
+     */
+    private void proceed(Outcome outcome) throws IOException {
+        Outcome next = outcome;
+        while (next == Outcome.KEEP_ALIVE && findHeadEnd()) {
+            next = service();
+        }
+        switch (next) {
+            case CLOSE -> socket.close();
+            case UPGRADED -> socket.requestRead();
+            case ASYNC -> {
+                // The async context resumes the connection
+            }
+            default -> {
+                response.flushPending();
+                socket.releaseReadBufferIfEmpty();
+                socket.requestRead();
+            }
+        }
+    }
+
+    private void fail(IOException e) {
+        LOG.log(System.Logger.Level.DEBUG, "Connection failed while writing", e);
+        socket.close();
+    }
+
+    /**
+     * Parses and services the buffered request.
+     */
+    private Outcome service() throws IOException {
+        ByteBuffer buffer = socket.getReadBuffer();
+        if (!HttpParser.parseRequestHead(buffer.array(), 0, headEnd, request)
+                || request.hasInvalidContentLength() || request.hasInvalidTransferEncoding()) {
+            request.recycle();
+            response.flushPending();
+            socket.writeFully(ByteBuffer.wrap(RESPONSE_BAD_REQUEST));
+            return Outcome.CLOSE;
+        }
+        boolean chunked = request.isChunked();
+        response.setKeepAlive(request.isKeepAlive() && !chunked);
+        final long contentLength = Math.max(0, request.getContentLengthLong());
+        if (contentLength == 0 && !chunked) {
+            ByteBuffer settings = upgradeSettings();
+            if (settings != null) {
+                return upgrade(settings);
+            }
+        }
+        inputBuffer.start(headEnd, contentLength, chunked, request.expectsContinue());
+        response.setDeferFlush(buffer.position() - headEnd > contentLength);
+        return invokeServlet();
+    }
+
+    /**
+     * Returns the HTTP/2 settings of a request that asks to upgrade a plain connection
+     * to {@code h2c}. Requests with a body are served over HTTP/1.1, since the body
+     * would have to be read before the switch.
+     *
+     * @return the decoded settings, or {@code null} if the request does not ask for the
+     *     upgrade, or HTTP/2 is not enabled
+     */
+    private ByteBuffer upgradeSettings() {
+        if (!socket.getEndpoint().getConnector().isHttp2Enabled()
+                || socket.getChannel().isSecure() || !request.protocol().equals(Request.HTTP_11)) {
+            return null;
+        }
+        HttpHeaders headers = request.getMimeHeaders();
+        MessageBytes upgrade = headers.find("Upgrade");
+        MessageBytes connection = headers.find("Connection");
+        MessageBytes settings = headers.find("HTTP2-Settings");
+        if (upgrade == null || !upgrade.containsTokenIgnoreCase("h2c") || connection == null
+                || !connection.containsTokenIgnoreCase("Upgrade") || settings == null) {
+            return null;
+        }
+        return Http2Connection.decodeSettings(settings.toString());
+    }
+
+    /**
+     * Answers an upgrade request with {@code 101 Switching Protocols} and continues the
+     * connection as HTTP/2, with the request as stream 1.
+     */
+    private Outcome upgrade(ByteBuffer settings) throws IOException {
+        response.flushPending();
+        socket.writeFully(ByteBuffer.wrap(RESPONSE_SWITCHING_PROTOCOLS));
+        Http2Connection http2 = new Http2Connection(socket, servlet);
+        socket.setProcessor(http2);
+        ByteBuffer buffer = socket.getReadBuffer();
+        http2.upgrade(request, settings,
+                ByteBuffer.wrap(buffer.array(), headEnd, buffer.position() - headEnd));
+        request.recycle();
+        consume(buffer.position());
+        socket.releaseReadBufferIfEmpty();
+        return Outcome.UPGRADED;
+    }
+
+    /**
+     * Invokes the servlet, again for as long as it dispatches its asynchronous context
+     * before returning, and finishes the request unless it continues asynchronously.
+     */
+    private Outcome invokeServlet() throws IOException {
+        while (true) {
+            try {
+                servlet.service(request.getFacade(), response.getFacade());
+            } catch (ServletException | RuntimeException e) {
+                LOG.log(System.Logger.Level.ERROR, "Servlet failed to service request", e);
+                ConnectorAsyncContext async = request.asyncContext();
+                if (async != null) {
+                    async.fireError(e);
+                }
+                if (response.isCommitted()) {
+                    response.setKeepAlive(false);
+                } else {
+                    response.reset();
+                    response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                }
+                return endRequest();
+            }
+            ConnectorAsyncContext async = request.asyncContext();
+            if (async == null) {
+                return endRequest();
+            }
+            switch (async.serviceReturned()) {
+                case WAIT -> {
+                    return Outcome.ASYNC;
+                }
+                case COMPLETE -> {
+                    return endRequest();
+                }
+                default -> {
+                    // Dispatched before service returned, invoke the servlet again
+                }
+            }
+        }
+    }
+
+    /**
+     * Finishes the response, recycles the request and response and discards the
+     * request's bytes from the read buffer.
+     */
+    private Outcome endRequest() throws IOException {
+        boolean keepAlive;
+        socket.cancelNotifications();
+        try {
+            response.finish();
+            keepAlive = response.isKeepAlive();
+            ConnectorAsyncContext async = request.asyncContext();
+            if (async != null) {
+                async.fireComplete();
+            }
+        } finally {
+            request.recycle();
+            response.recycle();
+        }
+
+        consume(inputBuffer.getPosition());
+        swallowRemaining = inputBuffer.getRemaining();
+        inputBuffer.recycle();
+        swallow();
+        return keepAlive ? Outcome.KEEP_ALIVE : Outcome.CLOSE;
+    }
+
+    /**
+     * Drops buffered bytes of a request body nobody read.
+     */
+    private void swallow() {
+        if (swallowRemaining > 0) {
+            int count = (int) Math.min(swallowRemaining, socket.getReadBuffer().position());
+            consume(count);
+            swallowRemaining -= count;
+        }
+    }
+
+    /**
+     * Scans newly buffered bytes for the blank line that ends the request head.
+     *
+     * @return {@code true} if a complete head is buffered
+     */
+    private boolean findHeadEnd() {
+        if (swallowRemaining > 0) {
+            return false;
+        }
+        ByteBuffer buffer = socket.getReadBuffer();
+        byte[] bytes = buffer.array();
+        int limit = buffer.position();
+        for (int i = Math.max(scanPosition, 3); i < limit; i++) {
+            if (bytes[i] == '\n' && bytes[i - 1] == '\r' && bytes[i - 2] == '\n'
+                    && bytes[i - 3] == '\r') {
+                headEnd = i + 1;
+                return true;
+            }
+        }
+        scanPosition = limit;
+        return false;
+    }
+
+    /**
+     * Discards the first {@code length} buffered bytes, keeping any bytes that belong
+     * to a following request.
+     */
+    private void consume(int length) {
+        ByteBuffer buffer = socket.getReadBuffer();
+        int remaining = buffer.position() - length;
+        System.arraycopy(buffer.array(), length, buffer.array(), 0, remaining);
+        buffer.position(remaining);
+        scanPosition = 0;
+        headEnd = -1;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
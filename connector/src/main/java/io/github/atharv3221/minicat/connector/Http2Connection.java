@@ -0,0 +1,934 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.Servlet;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Drives the HTTP/2 exchange on a single connection, multiplexing its streams onto the
+ * servlet.
+ *
+ * <p>The poller calls {@link #read()} whenever the socket is readable, and complete
+ * frames are processed right there: control frames are answered, header blocks are
+ * decoded, and each new stream is handed to a worker as an {@link Http2Stream} with
+ * its own request and response. DATA frames are copied into the input buffers of their
+ * streams. The connection itself is never dispatched, so a slow request does not hold
+ * up the others.</p>
+ *
+ * <p>Workers write their frames one at a time under the connection's write lock, which
+ * also keeps header blocks in the order the HPACK state requires. Frames the poller has
+ * to send, such as settings acknowledgements and window updates, are queued instead and
+ * written by a worker ahead of the next stream frame, since the poller must never wait
+ * for the socket.</p>
+ *
+ * <p>Flow control applies in both directions. Received DATA counts against the windows
+ * advertised for its stream and for the connection, which are opened again only as
+ * servlets consume the body, so a client cannot make the server buffer more than a
+ * bounded amount per connection. Sent DATA waits for credit in both of the client's
+ * windows. Priorities are ignored and nothing is pushed.</p>
+ */
+final class Http2Connection implements Processor {
+
+    private static final System.Logger LOG = System.getLogger(Http2Connection.class.getName());
+
+    /**
+     * How many stream windows the connection window holds, so that one stream whose
+     * servlet does not read its body does not stall the others.
+     */
+    private static final int CONNECTION_WINDOW_STREAMS = 4;
+
+    private final SocketWrapper socket;
+    private final Servlet servlet;
+    private final int maxConcurrentStreams;
+    private final int streamWindowSize;
+    private final int connectionWindowSize;
+    private final int headerTableSize;
+    private final int maxHeaderBlockSize;
+    private final ByteBuffer readBuffer;
+    private final HpackDecoder decoder;
+    private final HpackEncoder encoder;
+    private final Map<Integer, Http2Stream> streams = new ConcurrentHashMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ByteBuffer frameHeader = ByteBuffer.allocateDirect(Http2Frame.HEADER_LENGTH);
+    private final ByteBuffer[] frame = new ByteBuffer[2];
+    private final ByteBuffer[] controlFrames = new ByteBuffer[16];
+    private final Queue<ByteBuffer> control = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean controlScheduled = new AtomicBoolean();
+
+    private final ReentrantLock windowLock = new ReentrantLock();
+    private final Condition windowOpened = windowLock.newCondition();
+    private long sendWindow = Http2Frame.DEFAULT_WINDOW_SIZE;
+    private int peerInitialWindowSize = Http2Frame.DEFAULT_WINDOW_SIZE;
+
+    private final AtomicInteger receiveWindow;
+    private final AtomicInteger unacknowledged = new AtomicInteger();
+
+    private volatile int peerMaxFrameSize = Http2Frame.DEFAULT_MAX_FRAME_SIZE;
+    private volatile int peerTableSize = Http2Frame.DEFAULT_HEADER_TABLE_SIZE;
+    private volatile boolean closing;
+    private volatile boolean goAwayReceived;
+
+    private int prefaceRemaining = Http2Frame.PREFACE.length;
+    private boolean settingsReceived;
+    private int lastStreamId;
+    private int continuationStreamId;
+    private int continuationFlags;
+    private ByteBuffer headerBlock;
+
+    Http2Connection(SocketWrapper socket, Servlet servlet) {
+        this.socket = socket;
+        this.servlet = servlet;
+        Connector connector = socket.getEndpoint().getConnector();
+        this.maxConcurrentStreams = connector.getHttp2MaxConcurrentStreams();
+        this.streamWindowSize = connector.getHttp2InitialWindowSize();
+        this.connectionWindowSize = (int) Math.min(Http2Frame.MAX_WINDOW_SIZE,
+                Math.max(Http2Frame.DEFAULT_WINDOW_SIZE,
+                        (long) streamWindowSize * CONNECTION_WINDOW_STREAMS));
+        this.receiveWindow = new AtomicInteger(connectionWindowSize);
+        this.maxHeaderBlockSize = connector.getReadBufferSize();
+        // Holds a whole frame, as well as everything read before the switch to HTTP/2
+        this.readBuffer = ByteBuffer.allocate(Math.max(
+                Http2Frame.HEADER_LENGTH + Http2Frame.DEFAULT_MAX_FRAME_SIZE,
+                connector.getReadBufferSize()));
+        this.headerTableSize = connector.getHttp2HeaderTableSize();
+        this.decoder = new HpackDecoder(headerTableSize, maxHeaderBlockSize);
+        this.encoder = new HpackEncoder(headerTableSize);
+    }
+
+    SocketWrapper getSocket() {
+        return socket;
+    }
+
+    Servlet getServlet() {
+        return servlet;
+    }
+
+    /**
+     * Starts the connection: queues the server's settings, which must be its first
+     * frame, and processes bytes the client already sent.
+     *
+     * @param initial bytes read before the connection switched to HTTP/2, starting with
+     *     the client's preface or a part of it
+     */
+    void start(ByteBuffer initial) {
+        writeControl(Http2Frame.settings(
+                Http2Frame.SETTINGS_HEADER_TABLE_SIZE, headerTableSize,
+                Http2Frame.SETTINGS_ENABLE_PUSH, 0,
+                Http2Frame.SETTINGS_MAX_CONCURRENT_STREAMS, maxConcurrentStreams,
+                Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE, streamWindowSize,
+                Http2Frame.SETTINGS_MAX_HEADER_LIST_SIZE, maxHeaderBlockSize));
+        if (connectionWindowSize > Http2Frame.DEFAULT_WINDOW_SIZE) {
+            writeControl(Http2Frame.windowUpdate(0,
+                    connectionWindowSize - Http2Frame.DEFAULT_WINDOW_SIZE));
+        }
+        readBuffer.put(initial);
+        try {
+            parse();
+        } catch (Http2Exception e) {
+            connectionError(e);
+        }
+    }
+
+    /**
+     * Takes over a connection whose HTTP/1.1 request asked to upgrade to {@code h2c},
+     * once the {@code 101} response is written. The request becomes stream 1, which is
+     * half-closed since the request had no body.
+     *
+     * @param request the HTTP/1.1 request, copied before it is recycled
+     * @param settings the decoded {@code HTTP2-Settings} header
+     * @param initial bytes the client sent after the request
+     */
+    void upgrade(Request request, ByteBuffer settings, ByteBuffer initial) {
+        try {
+            applySettings(settings);
+        } catch (Http2Exception e) {
+            // Validated by decodeSettings, cannot happen
+            throw new IllegalStateException(e);
+        }
+        Hpack.FieldList fields = new Hpack.FieldList(maxHeaderBlockSize);
+        fields.add(Hpack.bytes(":method"), bytes(request.method()));
+        fields.add(Hpack.bytes(":scheme"), Hpack.bytes("http"));
+        String path = request.requestUri().toString();
+        if (!request.queryString().isNull()) {
+            path += "?" + request.queryString();
+        }
+        fields.add(Hpack.bytes(":path"), Hpack.bytes(path));
+        HttpHeaders headers = request.getMimeHeaders();
+        MessageBytes host = headers.find("Host");
+        if (host != null) {
+            fields.add(Hpack.bytes(":authority"), bytes(host));
+        }
+        for (int i = 0; i < headers.size(); i++) {
+            String name = headers.getName(i).toString().toLowerCase(Locale.ROOT);
+            if (!name.equals("host") && !name.equals("http2-settings")
+                    && !Http2Stream.isConnectionHeader(name)) {
+                fields.add(Hpack.bytes(name), bytes(headers.getValue(i)));
+            }
+        }
+        lastStreamId = 1;
+        start(initial);
+        Http2Stream stream = newStream(1);
+        try {
+            stream.setHeaders(fields, true);
+        } catch (Http2Exception e) {
+            resetStream(e);
+            return;
+        }
+        streams.put(1, stream);
+        dispatch(stream);
+    }
+
+    /**
+     * Decodes the {@code HTTP2-Settings} header of an upgrade request.
+     *
+     * @param value the header value, base64url-encoded settings
+     * @return the settings, or {@code null} if the header is not valid
+     */
+    static ByteBuffer decodeSettings(String value) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(value.trim());
+            return bytes.length % 6 == 0 ? ByteBuffer.wrap(bytes) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads whatever is available from the socket and processes every complete frame.
+     *
+     * @return {@link SocketState#OPEN} to keep reading, or {@link SocketState#CLOSED}
+     */
+    @Override
+    public SocketState read() {
+        try {
+            int count;
+            while ((count = socket.getChannel().read(readBuffer)) > 0) {
+                if (closing) {
+                    readBuffer.clear();
+                    continue;
+                }
+                try {
+                    parse();
+                } catch (Http2Exception e) {
+                    connectionError(e);
+                }
+            }
+            if (count < 0 || goAwayReceived && streams.isEmpty()) {
+                return SocketState.CLOSED;
+            }
+            return SocketState.OPEN;
+        } catch (IOException e) {
+            return SocketState.CLOSED;
+        }
+    }
+
+    /**
+     * Tests whether streams are open, which keeps an otherwise quiet connection from
+     * timing out while its requests are being served.
+     */
+    @Override
+    public boolean isBusy() {
+        return !streams.isEmpty();
+    }
+
+    @Override
+    public void connectionClosed() {
+        IOException cause = new IOException("Connection closed");
+        for (Http2Stream stream : streams.values()) {
+            stream.onReset(cause);
+        }
+        signalWindow();
+    }
+
+    private void parse() throws Http2Exception {
+        readBuffer.flip();
+        try {
+            if (prefaceRemaining > 0 && !readPreface()) {
+                return;
+            }
+            while (!closing && readBuffer.remaining() >= Http2Frame.HEADER_LENGTH) {
+                int position = readBuffer.position();
+                int length = (readBuffer.getShort(position) & 0xffff) << 8
+                        | readBuffer.get(position + 2) & 0xff;
+                if (length > Http2Frame.DEFAULT_MAX_FRAME_SIZE) {
+                    throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR,
+                            "Frame of " + length + " bytes exceeds the maximum frame size");
+                }
+                if (readBuffer.remaining() < Http2Frame.HEADER_LENGTH + length) {
+                    break;
+                }
+                int type = readBuffer.get(position + 3) & 0xff;
+                int flags = readBuffer.get(position + 4) & 0xff;
+                int streamId = readBuffer.getInt(position + 5) & Integer.MAX_VALUE;
+                int end = position + Http2Frame.HEADER_LENGTH + length;
+                int limit = readBuffer.limit();
+                readBuffer.limit(end).position(position + Http2Frame.HEADER_LENGTH);
+                try {
+                    frame(type, flags, streamId, readBuffer);
+                } catch (Http2Exception e) {
+                    if (!e.isStreamError()) {
+                        throw e;
+                    }
+                    resetStream(e);
+                } finally {
+                    readBuffer.limit(limit).position(end);
+                }
+            }
+        } finally {
+            readBuffer.compact();
+        }
+    }
+
+    private boolean readPreface() throws Http2Exception {
+        byte[] preface = Http2Frame.PREFACE;
+        while (prefaceRemaining > 0 && readBuffer.hasRemaining()) {
+            if (readBuffer.get() != preface[preface.length - prefaceRemaining]) {
+                throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "Invalid connection preface");
+            }
+            prefaceRemaining--;
+        }
+        return prefaceRemaining == 0;
+    }
+
+    private void frame(int type, int flags, int streamId, ByteBuffer payload)
+            throws Http2Exception {
+        if (continuationStreamId != 0 && type != Http2Frame.CONTINUATION) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR,
+                    "Header block interrupted by frame type " + type);
+        }
+        if (!settingsReceived && type != Http2Frame.SETTINGS) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR,
+                    "The client's first frame must be SETTINGS");
+        }
+        switch (type) {
+            case Http2Frame.DATA -> data(flags, streamId, payload);
+            case Http2Frame.HEADERS -> headers(flags, streamId, payload);
+            case Http2Frame.PRIORITY -> priority(streamId, payload);
+            case Http2Frame.RST_STREAM -> rstStream(streamId, payload);
+            case Http2Frame.SETTINGS -> settings(flags, streamId, payload);
+            case Http2Frame.PUSH_PROMISE -> throw new Http2Exception(Http2Frame.PROTOCOL_ERROR,
+                    "Clients must not send PUSH_PROMISE");
+            case Http2Frame.PING -> ping(flags, streamId, payload);
+            case Http2Frame.GOAWAY -> goAway(streamId, payload);
+            case Http2Frame.WINDOW_UPDATE -> windowUpdate(streamId, payload);
+            case Http2Frame.CONTINUATION -> continuation(flags, streamId, payload);
+            default -> {
+                // Unknown frame types are ignored
+            }
+        }
+    }
+
+    private void data(int flags, int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId == 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "DATA on stream 0");
+        }
+        int length = payload.remaining();
+        if (receiveWindow.addAndGet(-length) < 0) {
+            throw new Http2Exception(Http2Frame.FLOW_CONTROL_ERROR,
+                    "Connection flow-control window exceeded");
+        }
+        Http2Stream stream = streams.get(streamId);
+        if (stream == null) {
+            consumed(length);
+            if (streamId > lastStreamId) {
+                throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "DATA on idle stream");
+            }
+            return;
+        }
+        try {
+            int padding = padding(flags, payload);
+            payload.limit(payload.limit() - padding);
+            stream.receiveData(payload, length, (flags & Http2Frame.FLAG_END_STREAM) != 0);
+        } catch (Http2Exception e) {
+            consumed(length);
+            throw e;
+        }
+    }
+
+    private void headers(int flags, int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId == 0 || (streamId & 1) == 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "HEADERS on stream " + streamId);
+        }
+        int padding = padding(flags, payload);
+        if ((flags & Http2Frame.FLAG_PRIORITY) != 0) {
+            if (payload.remaining() - padding < 5) {
+                throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "HEADERS too short");
+            }
+            if ((payload.getInt(payload.position()) & Integer.MAX_VALUE) == streamId) {
+                throw new Http2Exception(streamId, Http2Frame.PROTOCOL_ERROR,
+                        "Stream depends on itself");
+            }
+            payload.position(payload.position() + 5);
+        }
+        payload.limit(payload.limit() - padding);
+        if ((flags & Http2Frame.FLAG_END_HEADERS) != 0) {
+            headerBlock(flags, streamId, payload);
+            return;
+        }
+        continuationStreamId = streamId;
+        continuationFlags = flags;
+        headerBlock = ByteBuffer.allocate(Math.min(maxHeaderBlockSize,
+                Math.max(1024, 2 * payload.remaining())));
+        appendHeaderBlock(payload);
+    }
+
+    private void continuation(int flags, int streamId, ByteBuffer payload)
+            throws Http2Exception {
+        if (continuationStreamId == 0 || streamId != continuationStreamId) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "Unexpected CONTINUATION");
+        }
+        appendHeaderBlock(payload);
+        if ((flags & Http2Frame.FLAG_END_HEADERS) != 0) {
+            ByteBuffer block = headerBlock.flip();
+            headerBlock = null;
+            continuationStreamId = 0;
+            headerBlock(continuationFlags, streamId, block);
+        }
+    }
+
+    private void appendHeaderBlock(ByteBuffer payload) throws Http2Exception {
+        if (headerBlock.remaining() < payload.remaining()) {
+            int required = headerBlock.position() + payload.remaining();
+            if (required > maxHeaderBlockSize) {
+                throw new Http2Exception(Http2Frame.ENHANCE_YOUR_CALM,
+                        "Header block exceeds " + maxHeaderBlockSize + " bytes");
+            }
+            ByteBuffer larger = ByteBuffer.allocate(Math.min(maxHeaderBlockSize,
+                    Math.max(required, 2 * headerBlock.capacity())));
+            headerBlock = larger.put(headerBlock.flip());
+        }
+        headerBlock.put(payload);
+    }
+
+    /**
+     * Decodes a complete header block, which opens a new stream or carries the
+     * trailers of an open one.
+     */
+    private void headerBlock(int flags, int streamId, ByteBuffer block) throws Http2Exception {
+        decoder.decode(block);
+        boolean endStream = (flags & Http2Frame.FLAG_END_STREAM) != 0;
+        if (streamId <= lastStreamId) {
+            Http2Stream stream = streams.get(streamId);
+            if (stream == null) {
+                return;
+            }
+            if (!endStream) {
+                throw new Http2Exception(streamId, Http2Frame.PROTOCOL_ERROR,
+                        "Trailers without END_STREAM");
+            }
+            stream.receiveTrailers();
+            return;
+        }
+        lastStreamId = streamId;
+        if (streams.size() >= maxConcurrentStreams) {
+            throw new Http2Exception(streamId, Http2Frame.REFUSED_STREAM,
+                    "Too many concurrent streams");
+        }
+        Http2Stream stream = newStream(streamId);
+        stream.setHeaders(decoder.getFields(), endStream);
+        streams.put(streamId, stream);
+        dispatch(stream);
+    }
+
+    private Http2Stream newStream(int streamId) {
+        windowLock.lock();
+        try {
+            return new Http2Stream(this, streamId, streamWindowSize, peerInitialWindowSize);
+        } finally {
+            windowLock.unlock();
+        }
+    }
+
+    private void dispatch(Http2Stream stream) {
+        try {
+            socket.getEndpoint().execute(stream);
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Worker executor rejected stream", e);
+            stream.onReset(new IOException("Stream refused"));
+            streams.remove(stream.getId());
+            writeControl(Http2Frame.rstStream(stream.getId(), Http2Frame.REFUSED_STREAM));
+        }
+    }
+
+    private void priority(int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId == 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "PRIORITY on stream 0");
+        }
+        if (payload.remaining() != 5) {
+            throw new Http2Exception(streamId, Http2Frame.FRAME_SIZE_ERROR,
+                    "PRIORITY must be 5 bytes");
+        }
+    }
+
+    private void rstStream(int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId == 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "RST_STREAM on stream 0");
+        }
+        if (payload.remaining() != 4) {
+            throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR, "RST_STREAM must be 4 bytes");
+        }
+        if (streamId > lastStreamId) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "RST_STREAM on idle stream");
+        }
+        Http2Stream stream = streams.get(streamId);
+        if (stream != null) {
+            stream.onReset(new IOException("Stream reset by client, error "
+                    + payload.getInt(payload.position())));
+            signalWindow();
+        }
+    }
+
+    private void settings(int flags, int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId != 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "SETTINGS on stream " + streamId);
+        }
+        if ((flags & Http2Frame.FLAG_ACK) != 0) {
+            if (payload.hasRemaining()) {
+                throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR, "SETTINGS ACK with payload");
+            }
+            return;
+        }
+        if (payload.remaining() % 6 != 0) {
+            throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR,
+                    "SETTINGS length not a multiple of 6");
+        }
+        applySettings(payload);
+        settingsReceived = true;
+        writeControl(Http2Frame.settings());
+    }
+
+    private void applySettings(ByteBuffer payload) throws Http2Exception {
+        while (payload.hasRemaining()) {
+            int id = payload.getShort() & 0xffff;
+            int value = payload.getInt();
+            switch (id) {
+                case Http2Frame.SETTINGS_HEADER_TABLE_SIZE ->
+                    peerTableSize = value < 0 ? Integer.MAX_VALUE : value;
+                case Http2Frame.SETTINGS_ENABLE_PUSH -> {
+                    if (value != 0 && value != 1) {
+                        throw new Http2Exception(Http2Frame.PROTOCOL_ERROR,
+                                "Invalid SETTINGS_ENABLE_PUSH " + value);
+                    }
+                }
+                case Http2Frame.SETTINGS_INITIAL_WINDOW_SIZE -> {
+                    if (value < 0) {
+                        throw new Http2Exception(Http2Frame.FLOW_CONTROL_ERROR,
+                                "Invalid SETTINGS_INITIAL_WINDOW_SIZE");
+                    }
+                    initialWindowSizeChanged(value);
+                }
+                case Http2Frame.SETTINGS_MAX_FRAME_SIZE -> {
+                    if (value < Http2Frame.DEFAULT_MAX_FRAME_SIZE
+                            || value > Http2Frame.MAX_MAX_FRAME_SIZE) {
+                        throw new Http2Exception(Http2Frame.PROTOCOL_ERROR,
+                                "Invalid SETTINGS_MAX_FRAME_SIZE " + value);
+                    }
+                    peerMaxFrameSize = value;
+                }
+                default -> {
+                    // Limits on what the server sends that it never exceeds, or unknown
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a new initial window size to the send windows of all open streams, as the
+     * difference to the previous one.
+     */
+    private void initialWindowSizeChanged(int value) throws Http2Exception {
+        windowLock.lock();
+        try {
+            int delta = value - peerInitialWindowSize;
+            peerInitialWindowSize = value;
+            for (Http2Stream stream : streams.values()) {
+                stream.sendWindow += delta;
+                if (stream.sendWindow > Http2Frame.MAX_WINDOW_SIZE) {
+                    throw new Http2Exception(Http2Frame.FLOW_CONTROL_ERROR,
+                            "Stream window overflow");
+                }
+            }
+            windowOpened.signalAll();
+        } finally {
+            windowLock.unlock();
+        }
+        if (value > 0) {
+            streams.values().forEach(Http2Stream::windowOpened);
+        }
+    }
+
+    private void ping(int flags, int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId != 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "PING on stream " + streamId);
+        }
+        if (payload.remaining() != 8) {
+            throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR, "PING must be 8 bytes");
+        }
+        if ((flags & Http2Frame.FLAG_ACK) == 0) {
+            writeControl(Http2Frame.pingAck(payload));
+        }
+    }
+
+    private void goAway(int streamId, ByteBuffer payload) throws Http2Exception {
+        if (streamId != 0) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "GOAWAY on stream " + streamId);
+        }
+        if (payload.remaining() < 8) {
+            throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR, "GOAWAY too short");
+        }
+        goAwayReceived = true;
+    }
+
+    private void windowUpdate(int streamId, ByteBuffer payload) throws Http2Exception {
+        if (payload.remaining() != 4) {
+            throw new Http2Exception(Http2Frame.FRAME_SIZE_ERROR, "WINDOW_UPDATE must be 4 bytes");
+        }
+        int increment = payload.getInt(payload.position()) & Integer.MAX_VALUE;
+        if (streamId == 0) {
+            if (increment == 0) {
+                throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "Zero window increment");
+            }
+            windowLock.lock();
+            try {
+                sendWindow += increment;
+                if (sendWindow > Http2Frame.MAX_WINDOW_SIZE) {
+                    throw new Http2Exception(Http2Frame.FLOW_CONTROL_ERROR,
+                            "Connection window overflow");
+                }
+                windowOpened.signalAll();
+            } finally {
+                windowLock.unlock();
+            }
+            streams.values().forEach(Http2Stream::windowOpened);
+            return;
+        }
+        Http2Stream stream = streams.get(streamId);
+        if (stream == null) {
+            if (streamId > lastStreamId) {
+                throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "WINDOW_UPDATE on idle stream");
+            }
+            return;
+        }
+        if (increment == 0) {
+            throw new Http2Exception(streamId, Http2Frame.PROTOCOL_ERROR, "Zero window increment");
+        }
+        windowLock.lock();
+        try {
+            stream.sendWindow += increment;
+            if (stream.sendWindow > Http2Frame.MAX_WINDOW_SIZE) {
+                throw new Http2Exception(streamId, Http2Frame.FLOW_CONTROL_ERROR,
+                        "Stream window overflow");
+            }
+            windowOpened.signalAll();
+        } finally {
+            windowLock.unlock();
+        }
+        stream.windowOpened();
+    }
+
+    private static int padding(int flags, ByteBuffer payload) throws Http2Exception {
+        if ((flags & Http2Frame.FLAG_PADDED) == 0) {
+            return 0;
+        }
+        if (!payload.hasRemaining()) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "Padded frame without padding");
+        }
+        int padding = payload.get() & 0xff;
+        if (padding > payload.remaining()) {
+            throw new Http2Exception(Http2Frame.PROTOCOL_ERROR, "Padding exceeds the payload");
+        }
+        return padding;
+    }
+
+    /**
+     * Answers a stream error with {@code RST_STREAM}, leaving the connection open.
+     */
+    private void resetStream(Http2Exception e) {
+        LOG.log(System.Logger.Level.DEBUG, "Resetting stream " + e.getStreamId() + ": "
+                + e.getMessage());
+        writeControl(Http2Frame.rstStream(e.getStreamId(), e.getError()));
+        Http2Stream stream = streams.get(e.getStreamId());
+        if (stream != null) {
+            stream.onReset(e);
+            signalWindow();
+        }
+    }
+
+    /**
+     * Answers a connection error with {@code GOAWAY} and closes the connection once the
+     * frame is written.
+     */
+    private void connectionError(Http2Exception e) {
+        LOG.log(System.Logger.Level.DEBUG, "Closing HTTP/2 connection: " + e.getMessage());
+        closing = true;
+        writeControl(Http2Frame.goAway(lastStreamId, e.getError()));
+    }
+
+    /**
+     * Returns bytes of received DATA to the connection window once a servlet has read
+     * them or they were discarded, announcing the credit to the client in batches.
+     *
+     * @param count the number of bytes
+     */
+    void consumed(int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (unacknowledged.addAndGet(count) >= connectionWindowSize / 2) {
+            int increment = unacknowledged.getAndSet(0);
+            if (increment > 0) {
+                receiveWindow.addAndGet(increment);
+                writeControl(Http2Frame.windowUpdate(0, increment));
+            }
+        }
+    }
+
+    /**
+     * Forgets a stream whose exchange is over. When the last open stream closes, the
+     * connection goes back to the keep-alive timeout, or closes if the client is going
+     * away.
+     */
+    void streamClosed(Http2Stream stream) {
+        streams.remove(stream.getId());
+        if (streams.isEmpty()) {
+            if (goAwayReceived) {
+                socket.close();
+            } else {
+                socket.requestRead();
+            }
+        }
+    }
+
+    /**
+     * Queues a frame built on the poller and makes sure a worker writes it.
+     *
+     * @param frame the complete frame
+     */
+    void writeControl(ByteBuffer frame) {
+        control.add(frame);
+        if (controlScheduled.compareAndSet(false, true)) {
+            try {
+                socket.getEndpoint().execute(this::flushControl);
+            } catch (RejectedExecutionException e) {
+                LOG.log(System.Logger.Level.DEBUG, "Worker executor rejected control frames", e);
+                socket.close();
+            }
+        }
+    }
+
+    private void flushControl() {
+        controlScheduled.set(false);
+        writeLock.lock();
+        try {
+            writeControlFrames();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to write control frames", e);
+            socket.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the queued control frames, and closes the connection afterwards if a
+     * {@code GOAWAY} for an error was among them. Called holding the write lock.
+     */
+    private void writeControlFrames() throws IOException {
+        while (!control.isEmpty()) {
+            int count = 0;
+            ByteBuffer next;
+            while (count < controlFrames.length && (next = control.poll()) != null) {
+                controlFrames[count++] = next;
+            }
+            try {
+                socket.writeFully(controlFrames, 0, count);
+            } finally {
+                Arrays.fill(controlFrames, 0, count, null);
+            }
+        }
+        if (closing) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Writes a response header block as a HEADERS frame, followed by CONTINUATION
+     * frames if the block is larger than the client's maximum frame size.
+     *
+     * @param stream the stream
+     * @param fields appends the fields to the encoder
+     * @param endStream {@code true} if no DATA follows
+     * @throws IOException if the stream was reset or the write fails
+     */
+    void writeHeaders(Http2Stream stream, Consumer<HpackEncoder> fields, boolean endStream)
+            throws IOException {
+        writeLock.lock();
+        try {
+            writeControlFrames();
+            stream.checkOpen();
+            encoder.setPeerTableSize(peerTableSize);
+            encoder.begin();
+            fields.accept(encoder);
+            ByteBuffer block = encoder.end();
+            int maxFrameSize = peerMaxFrameSize;
+            int type = Http2Frame.HEADERS;
+            do {
+                int length = Math.min(maxFrameSize, block.remaining());
+                int flags = length == block.remaining() ? Http2Frame.FLAG_END_HEADERS : 0;
+                if (type == Http2Frame.HEADERS && endStream) {
+                    flags |= Http2Frame.FLAG_END_STREAM;
+                }
+                int limit = block.limit();
+                block.limit(block.position() + length);
+                writeFrame(type, flags, stream.getId(), block);
+                block.limit(limit);
+                type = Http2Frame.CONTINUATION;
+            } while (block.hasRemaining());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a DATA frame. The caller has reserved the flow-control credit for it.
+     *
+     * @param stream the stream
+     * @param data the payload, at most the client's maximum frame size
+     * @param endStream {@code true} if this is the end of the response
+     * @throws IOException if the stream was reset or the write fails
+     */
+    void writeData(Http2Stream stream, ByteBuffer data, boolean endStream) throws IOException {
+        writeLock.lock();
+        try {
+            writeControlFrames();
+            stream.checkOpen();
+            writeFrame(Http2Frame.DATA, endStream ? Http2Frame.FLAG_END_STREAM : 0,
+                    stream.getId(), data);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void writeFrame(int type, int flags, int streamId, ByteBuffer payload)
+            throws IOException {
+        frameHeader.clear();
+        Http2Frame.putHeader(frameHeader, payload.remaining(), type, flags, streamId);
+        frame[0] = frameHeader.flip();
+        frame[1] = payload;
+        try {
+            socket.writeFully(frame, 0, 2);
+        } finally {
+            frame[1] = null;
+        }
+    }
+
+    /**
+     * Takes send credit from the windows of the stream and the connection, waiting for
+     * the client to open them if both are not positive.
+     *
+     * @param stream the stream
+     * @param wanted the number of bytes the caller wants to send
+     * @return the number of bytes the caller may send now, at least one and at most the
+     *     client's maximum frame size
+     * @throws IOException if the stream is reset, the connection closes, or the write
+     *     timeout elapses first
+     */
+    int reserve(Http2Stream stream, int wanted) throws IOException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(
+                socket.getEndpoint().getConnector().getWriteTimeout());
+        windowLock.lock();
+        try {
+            while (true) {
+                stream.checkOpen();
+                if (socket.isClosed()) {
+                    throw new IOException("Connection closed");
+                }
+                long credit = Math.min(Math.min(stream.sendWindow, sendWindow), peerMaxFrameSize);
+                if (credit > 0) {
+                    int count = (int) Math.min(wanted, credit);
+                    stream.sendWindow -= count;
+                    sendWindow -= count;
+                    return count;
+                }
+                if (remaining <= 0) {
+                    throw new SocketTimeoutException(
+                            "Timed out waiting for the client's flow-control window");
+                }
+                remaining = windowOpened.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the flow-control window", e);
+        } finally {
+            windowLock.unlock();
+        }
+    }
+
+    /**
+     * Tests whether a stream could send at least one byte of DATA now.
+     */
+    boolean hasSendCredit(Http2Stream stream) {
+        windowLock.lock();
+        try {
+            return stream.sendWindow > 0 && sendWindow > 0;
+        } finally {
+            windowLock.unlock();
+        }
+    }
+
+    /**
+     * Wakes threads waiting for window credit, so they notice a reset or closed stream.
+     */
+    void signalWindow() {
+        windowLock.lock();
+        try {
+            windowOpened.signalAll();
+        } finally {
+            windowLock.unlock();
+        }
+    }
+
+    private static byte[] bytes(MessageBytes value) {
+        return Hpack.bytes(value.toString());
+    }
+}
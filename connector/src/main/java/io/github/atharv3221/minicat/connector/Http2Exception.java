@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+
+/**
+ * Violation of the HTTP/2 protocol by the peer.
+ *
+ * <p>A stream error ends just the stream it names, with a {@code RST_STREAM} frame; a
+ * connection error, with stream id zero, ends the whole connection with
+ * {@code GOAWAY}. Either way the exception carries the error code sent to the peer.</p>
+ */
+final class Http2Exception extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int error;
+    private final int streamId;
+
+    /**
+     * Creates a connection error.
+     *
+     * @param error the error code, one of the {@code Http2Frame} error constants
+     * @param message the detail message
+     */
+    Http2Exception(int error, String message) {
+        this(0, error, message);
+    }
+
+    /**
+     * Creates an error of a single stream, or of the connection if {@code streamId} is
+     * zero.
+     */
+    Http2Exception(int streamId, int error, String message) {
+        super(message);
+        this.streamId = streamId;
+        this.error = error;
+    }
+
+    int getError() {
+        return error;
+    }
+
+    int getStreamId() {
+        return streamId;
+    }
+
+    boolean isStreamError() {
+        return streamId != 0;
+    }
+}
@@ -0,0 +1,149 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants of the HTTP/2 framing layer (RFC 9113) and builders for the small frames the
+ * server sends on its own account.
+ *
+ * <p>Every frame starts with a nine-byte header: a 24-bit payload length, the frame
+ * type, its flags and a 31-bit stream identifier. Control frames are built into heap
+ * buffers of their own, since they are queued and written later by whichever worker
+ * holds the connection's write lock.</p>
+ */
+final class Http2Frame {
+
+    static final int HEADER_LENGTH = 9;
+
+    /**
+     * What a client sends before anything else on an HTTP/2 connection.
+     */
+    static final byte[] PREFACE = "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    // Frame types
+    static final int DATA = 0x0;
+    static final int HEADERS = 0x1;
+    static final int PRIORITY = 0x2;
+    static final int RST_STREAM = 0x3;
+    static final int SETTINGS = 0x4;
+    static final int PUSH_PROMISE = 0x5;
+    static final int PING = 0x6;
+    static final int GOAWAY = 0x7;
+    static final int WINDOW_UPDATE = 0x8;
+    static final int CONTINUATION = 0x9;
+
+    // Flags
+    static final int FLAG_END_STREAM = 0x1;
+    static final int FLAG_ACK = 0x1;
+    static final int FLAG_END_HEADERS = 0x4;
+    static final int FLAG_PADDED = 0x8;
+    static final int FLAG_PRIORITY = 0x20;
+
+    // Settings
+    static final int SETTINGS_HEADER_TABLE_SIZE = 0x1;
+    static final int SETTINGS_ENABLE_PUSH = 0x2;
+    static final int SETTINGS_MAX_CONCURRENT_STREAMS = 0x3;
+    static final int SETTINGS_INITIAL_WINDOW_SIZE = 0x4;
+    static final int SETTINGS_MAX_FRAME_SIZE = 0x5;
+    static final int SETTINGS_MAX_HEADER_LIST_SIZE = 0x6;
+
+    // Error codes
+    static final int NO_ERROR = 0x0;
+    static final int PROTOCOL_ERROR = 0x1;
+    static final int INTERNAL_ERROR = 0x2;
+    static final int FLOW_CONTROL_ERROR = 0x3;
+    static final int STREAM_CLOSED = 0x5;
+    static final int FRAME_SIZE_ERROR = 0x6;
+    static final int REFUSED_STREAM = 0x7;
+    static final int CANCEL = 0x8;
+    static final int COMPRESSION_ERROR = 0x9;
+    static final int ENHANCE_YOUR_CALM = 0xb;
+
+    static final int DEFAULT_WINDOW_SIZE = 65_535;
+    static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    static final int DEFAULT_MAX_FRAME_SIZE = 16_384;
+    static final int MAX_MAX_FRAME_SIZE = 16_777_215;
+    static final int DEFAULT_HEADER_TABLE_SIZE = 4096;
+
+    private Http2Frame() {
+    }
+
+    /**
+     * Puts a frame header at the buffer's position.
+     */
+    static void putHeader(ByteBuffer dst, int length, int type, int flags, int streamId) {
+        dst.put((byte) (length >>> 16))
+                .put((byte) (length >>> 8))
+                .put((byte) length)
+                .put((byte) type)
+                .put((byte) flags)
+                .putInt(streamId & Integer.MAX_VALUE);
+    }
+
+    /**
+     * Builds a {@code SETTINGS} frame from identifier/value pairs, or an acknowledgement
+     * when there are none.
+     */
+    static ByteBuffer settings(int... pairs) {
+        int length = pairs.length / 2 * 6;
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + length);
+        putHeader(frame, length, SETTINGS, pairs.length == 0 ? FLAG_ACK : 0, 0);
+        for (int i = 0; i < pairs.length; i += 2) {
+            frame.putShort((short) pairs[i]).putInt(pairs[i + 1]);
+        }
+        return frame.flip();
+    }
+
+    static ByteBuffer windowUpdate(int streamId, int increment) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + 4);
+        putHeader(frame, 4, WINDOW_UPDATE, 0, streamId);
+        return frame.putInt(increment).flip();
+    }
+
+    static ByteBuffer rstStream(int streamId, int error) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + 4);
+        putHeader(frame, 4, RST_STREAM, 0, streamId);
+        return frame.putInt(error).flip();
+    }
+
+    /**
+     * Builds the acknowledgement of a {@code PING}, echoing its eight-byte payload.
+     */
+    static ByteBuffer pingAck(ByteBuffer payload) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + 8);
+        putHeader(frame, 8, PING, FLAG_ACK, 0);
+        return frame.put(payload).flip();
+    }
+
+    static ByteBuffer goAway(int lastStreamId, int error) {
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_LENGTH + 8);
+        putHeader(frame, 8, GOAWAY, 0, 0);
+        return frame.putInt(lastStreamId).putInt(error).flip();
+    }
+}
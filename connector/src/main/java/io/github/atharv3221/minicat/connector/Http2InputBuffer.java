@@ -0,0 +1,287 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Request body of an HTTP/2 stream, fed from DATA frames by the poller.
+ *
+ * <p>The poller copies each payload into a chunk of its own and queues it; the servlet's
+ * reads take bytes off the queue and give them back to the flow-control windows as
+ * they go, so the client can send at most one stream window ahead of the servlet. A
+ * blocking read waits for the next chunk at most the connector's connection timeout,
+ * like a read of an HTTP/1.1 body does.</p>
+ */
+final class Http2InputBuffer implements InputBuffer {
+
+    private final Http2Stream stream;
+    private final Response response;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition arrived = lock.newCondition();
+    private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+    private int chunkPosition;
+    private int buffered;
+    private long contentLength;
+    private long received;
+    private boolean ended;
+    private boolean discarded;
+    private IOException failure;
+    private Runnable readCallback;
+    private volatile boolean expectContinue;
+
+    Http2InputBuffer(Http2Stream stream, Response response) {
+        this.stream = stream;
+        this.response = response;
+    }
+
+    /**
+     * Sets up the body of a new stream. Called on the poller before the stream is
+     * dispatched.
+     *
+     * @param contentLength the declared length, or {@code -1} if none
+     * @param ended {@code true} if the request has no body
+     * @param expectContinue {@code true} to send {@code 100 Continue} on the first read
+     */
+    void start(long contentLength, boolean ended, boolean expectContinue) throws Http2Exception {
+        if (ended && contentLength > 0) {
+            throw new Http2Exception(stream.getId(), Http2Frame.PROTOCOL_ERROR,
+                    "Body length does not match content-length");
+        }
+        this.contentLength = contentLength;
+        this.ended = ended;
+        this.expectContinue = expectContinue;
+    }
+
+    /**
+     * Queues a DATA payload. Called on the poller.
+     *
+     * @param data the payload without padding
+     * @param endStream {@code true} if the body ends here
+     * @return {@code false} if the stream is already closed and the bytes were dropped,
+     *     so the caller returns them to the connection window
+     * @throws Http2Exception if the body already ended or does not match its declared
+     *     length
+     */
+    boolean receive(ByteBuffer data, boolean endStream) throws Http2Exception {
+        Runnable callback;
+        lock.lock();
+        try {
+            if (ended) {
+                throw new Http2Exception(stream.getId(), Http2Frame.STREAM_CLOSED,
+                        "DATA after the end of the stream");
+            }
+            received += data.remaining();
+            if (contentLength >= 0
+                    && (received > contentLength || endStream && received != contentLength)) {
+                throw new Http2Exception(stream.getId(), Http2Frame.PROTOCOL_ERROR,
+                        "Body length does not match content-length");
+            }
+            ended = endStream;
+            if (discarded) {
+                return false;
+            }
+            if (data.hasRemaining()) {
+                byte[] chunk = new byte[data.remaining()];
+                data.get(chunk);
+                chunks.add(chunk);
+                buffered += chunk.length;
+            }
+            arrived.signalAll();
+            callback = readCallback;
+            readCallback = null;
+        } finally {
+            lock.unlock();
+        }
+        stream.execute(callback);
+        return true;
+    }
+
+    /**
+     * Fails pending and further reads, after the stream was reset or the connection
+     * closed.
+     *
+     * @param cause the reason
+     */
+    void fail(IOException cause) {
+        Runnable callback;
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = cause;
+            }
+            arrived.signalAll();
+            callback = readCallback;
+            readCallback = null;
+        } finally {
+            lock.unlock();
+        }
+        stream.execute(callback);
+    }
+
+    /**
+     * Tests whether the client has sent the whole body, whether or not it was read.
+     */
+    boolean isEnded() {
+        lock.lock();
+        try {
+            return ended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the unread body as the stream closes; later DATA is dropped on arrival.
+     *
+     * @return the number of bytes dropped
+     */
+    int discard() {
+        lock.lock();
+        try {
+            final int unread = buffered;
+            discarded = true;
+            chunks.clear();
+            chunkPosition = 0;
+            buffered = 0;
+            readCallback = null;
+            return unread;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        lock.lock();
+        try {
+            return ended && chunks.isEmpty() && failure == null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int available() {
+        lock.lock();
+        try {
+            return buffered;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() throws IOException {
+        sendContinue();
+        lock.lock();
+        try {
+            return !chunks.isEmpty() || ended || failure != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int read(byte[] dst, int offset, int length, boolean block) throws IOException {
+        sendContinue();
+        int count = 0;
+        lock.lock();
+        try {
+            long timeout = stream.getEndpoint().getConnector().getConnectionTimeout();
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+            while (chunks.isEmpty()) {
+                if (failure != null) {
+                    throw new IOException(failure.getMessage(), failure);
+                }
+                if (ended) {
+                    return -1;
+                }
+                if (!block) {
+                    return 0;
+                }
+                if (timeout <= 0) {
+                    arrived.await();
+                } else if (remaining <= 0) {
+                    throw new SocketTimeoutException("Read timed out");
+                } else {
+                    remaining = arrived.awaitNanos(remaining);
+                }
+            }
+            while (count < length && !chunks.isEmpty()) {
+                byte[] chunk = chunks.peek();
+                int n = Math.min(length - count, chunk.length - chunkPosition);
+                System.arraycopy(chunk, chunkPosition, dst, offset + count, n);
+                count += n;
+                chunkPosition += n;
+                if (chunkPosition == chunk.length) {
+                    chunks.poll();
+                    chunkPosition = 0;
+                }
+            }
+            buffered -= count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to read", e);
+        } finally {
+            lock.unlock();
+        }
+        stream.consumed(count);
+        return count;
+    }
+
+    @Override
+    public void notifyWhenReadable(Runnable callback) {
+        lock.lock();
+        try {
+            if (chunks.isEmpty() && !ended && failure == null) {
+                readCallback = callback;
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        stream.execute(callback);
+    }
+
+    /**
+     * Tells a client waiting for {@code 100 Continue} to send the body, once, when the
+     * servlet first asks for it.
+     */
+    private void sendContinue() throws IOException {
+        if (expectContinue) {
+            expectContinue = false;
+            if (!isEnded()) {
+                response.sendContinue();
+            }
+        }
+    }
+}
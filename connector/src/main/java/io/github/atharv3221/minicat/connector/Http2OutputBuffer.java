@@ -0,0 +1,490 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+
+/**
+ * Buffers the response of an HTTP/2 stream in a pooled direct buffer and writes it as
+ * HEADERS and DATA frames.
+ *
+ * <p>The status and headers are HPACK-encoded when the response commits; there is no
+ * chunked framing, a response without a known length simply ends with the
+ * {@code END_STREAM} flag. Each DATA frame takes credit from the client's windows for
+ * the stream and the connection first, so a stream the client does not read only
+ * blocks its own worker, never the connection.</p>
+ *
+ * <p>Non-blocking servlet streams are ready while the windows have credit. Writes in
+ * non-blocking mode still wait for the socket like blocking ones do; the socket is
+ * shared by all streams, and it is the windows that pace a single stream.</p>
+ *
+ * <p>Compression works as for {@link Http11OutputBuffer}: the body is deflated into
+ * the buffer as it is written, see {@link Response#startEncoding()}.</p>
+ */
+final class Http2OutputBuffer implements OutputBuffer {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final Http2Stream stream;
+    private final Http2Connection connection;
+    private final BufferPool pool;
+    private final Response response;
+    private final ContentEncoder encoder = new ContentEncoder();
+    private final byte[] single = new byte[1];
+    private final ReentrantLock callbackLock = new ReentrantLock();
+    private ByteBuffer buffer;
+    private long bodyBytes;
+    private int flushThreshold;
+    private boolean committed;
+    private boolean noBody;
+    private boolean ended;
+    private boolean encodingDecided;
+    private boolean encoding;
+    private Runnable writableCallback;
+    private boolean notifyWritable;
+
+    Http2OutputBuffer(Http2Stream stream, BufferPool pool, Response response) {
+        this.stream = stream;
+        this.connection = stream.getConnection();
+        this.pool = pool;
+        this.response = response;
+        this.flushThreshold = pool.getBufferSize();
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    @Override
+    public long getBodyBytes() {
+        return bodyBytes;
+    }
+
+    @Override
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    @Override
+    public void setFlushThreshold(int flushThreshold) {
+        this.flushThreshold = Math.min(Math.max(flushThreshold, 1), pool.getBufferSize());
+        if (buffer != null && buffer.position() == 0) {
+            buffer.limit(this.flushThreshold);
+        }
+    }
+
+    @Override
+    public void write(byte[] src, int offset, int length) throws IOException {
+        bodyBytes += length;
+        if (noBody()) {
+            return;
+        }
+        if (encoding()) {
+            encoder.update(src, offset, length);
+            encoder.getDeflater().setInput(src, offset, length);
+            deflate(Deflater.NO_FLUSH, false);
+        } else {
+            append(src, offset, length);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!noBody() && encoding()) {
+            single[0] = (byte) b;
+            write(single, 0, 1);
+            return;
+        }
+        bodyBytes++;
+        if (noBody()) {
+            return;
+        }
+        buffer().put((byte) b);
+        if (!buffer.hasRemaining()) {
+            send(false);
+        }
+    }
+
+    @Override
+    public void write(ByteBuffer src) throws IOException {
+        int length = src.remaining();
+        bodyBytes += length;
+        if (noBody()) {
+            src.position(src.limit());
+            return;
+        }
+        if (encoding()) {
+            encoder.update(src);
+            encoder.getDeflater().setInput(src);
+            deflate(Deflater.NO_FLUSH, false);
+            return;
+        }
+        while (src.hasRemaining()) {
+            ByteBuffer current = buffer();
+            int count = Math.min(src.remaining(), current.remaining());
+            current.put(current.position(), src, src.position(), count);
+            current.position(current.position() + count);
+            src.position(src.position() + count);
+            if (!current.hasRemaining()) {
+                send(false);
+            }
+        }
+    }
+
+    /**
+     * Copies a file region through the buffer; DATA frames need the bytes in user
+     * space anyway once the connection is encrypted, and are sized by the client's
+     * windows rather than by the file.
+     */
+    @Override
+    public void sendFile(FileChannel file, long position, long count) throws IOException {
+        if (writableCallback != null) {
+            throw new IllegalStateException("Files cannot be sent in non-blocking mode");
+        }
+        if (!committed && response.getContentLengthLong() < 0 && bodyBytes == 0) {
+            response.setContentLengthLong(count);
+        }
+        if (noBody()) {
+            bodyBytes += count;
+            return;
+        }
+        ByteBuffer input = pool.acquire();
+        try {
+            long end = position + count;
+            while (position < end) {
+                input.clear().limit((int) Math.min(input.capacity(), end - position));
+                int read = file.read(input, position);
+                if (read < 0) {
+                    throw new IOException("File truncated during transfer");
+                }
+                position += read;
+                write(input.flip());
+            }
+        } finally {
+            pool.release(input);
+        }
+    }
+
+    @Override
+    public void flush(boolean last) throws IOException {
+        if (!committed && !encodingDecided) {
+            decideEncoding(last);
+        }
+        if (encoding && last) {
+            finishEncoding();
+        } else if (encoding) {
+            deflate(Deflater.SYNC_FLUSH, false);
+        }
+        send(last);
+    }
+
+    @Override
+    public boolean resetBuffer() {
+        if (buffer != null) {
+            bodyBytes -= buffer.position();
+            buffer.clear().limit(flushThreshold);
+        }
+        encodingDecided = false;
+        if (encoding) {
+            encoder.release();
+            encoding = false;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sends an interim HEADERS frame with status {@code 100}, unless the final response
+     * has already been committed.
+     */
+    @Override
+    public void writeContinue() throws IOException {
+        if (!committed) {
+            connection.writeHeaders(stream, fields -> fields.encode(":status", "100"), false);
+        }
+    }
+
+    /**
+     * Does nothing, streams are not pipelined.
+     */
+    @Override
+    public void setDeferLast(boolean deferLast) {
+    }
+
+    /**
+     * Does nothing, streams are not pipelined.
+     */
+    @Override
+    public void flushPending() {
+    }
+
+    @Override
+    public void setWritableCallback(Runnable callback) {
+        callbackLock.lock();
+        try {
+            writableCallback = callback;
+            notifyWritable = false;
+        } finally {
+            callbackLock.unlock();
+        }
+    }
+
+    /**
+     * Tests whether the client's windows have credit for this stream. A {@code false}
+     * result is remembered, and the writable callback runs once the client opens the
+     * windows again.
+     */
+    @Override
+    public boolean isReady() {
+        callbackLock.lock();
+        try {
+            if (connection.hasSendCredit(stream)) {
+                return true;
+            }
+            notifyWritable = true;
+            return false;
+        } finally {
+            callbackLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean drain() {
+        callbackLock.lock();
+        try {
+            if (writableCallback == null || !notifyWritable
+                    || !connection.hasSendCredit(stream)) {
+                return false;
+            }
+            notifyWritable = false;
+            return true;
+        } finally {
+            callbackLock.unlock();
+        }
+    }
+
+    /**
+     * Runs the writable callback if {@link #isReady()} reported the windows closed.
+     * Called on the poller when the client grants more credit.
+     */
+    void windowOpened() {
+        Runnable callback;
+        callbackLock.lock();
+        try {
+            callback = notifyWritable ? writableCallback : null;
+        } finally {
+            callbackLock.unlock();
+        }
+        stream.execute(callback);
+    }
+
+    @Override
+    public void recycle() {
+        setWritableCallback(null);
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+        if (encoding) {
+            encoder.release();
+            encoding = false;
+        }
+        encodingDecided = false;
+        bodyBytes = 0;
+        flushThreshold = pool.getBufferSize();
+        committed = false;
+        noBody = false;
+        ended = false;
+    }
+
+    private void append(byte[] src, int offset, int length) throws IOException {
+        while (length > 0) {
+            ByteBuffer current = buffer();
+            int count = Math.min(length, current.remaining());
+            current.put(src, offset, count);
+            offset += count;
+            length -= count;
+            if (!current.hasRemaining()) {
+                send(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the body buffer, taking one from the pool if needed. Its limit is the
+     * flush threshold, so a full buffer is due to be sent.
+     */
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            buffer = pool.acquire();
+            buffer.limit(flushThreshold);
+        }
+        return buffer;
+    }
+
+    private boolean encoding() throws IOException {
+        if (!encodingDecided) {
+            encodingDecided = true;
+            String coding = response.startEncoding();
+            if (coding != null) {
+                encoder.start(response.getCompression(), coding.equals("gzip"));
+                encoding = true;
+                byte[] header = encoder.header();
+                append(header, 0, header.length);
+            }
+        }
+        return encoding;
+    }
+
+    /**
+     * Settles the content coding as the head is committed, since the head carries it. A
+     * response ending with no body so far is sent as it is.
+     */
+    private void decideEncoding(boolean last) throws IOException {
+        if (noBody() || last && bodyBytes == 0) {
+            encodingDecided = true;
+        } else {
+            encoding();
+        }
+    }
+
+    private void deflate(int mode, boolean finish) throws IOException {
+        Deflater deflater = encoder.getDeflater();
+        while (true) {
+            ByteBuffer current = buffer();
+            int space = current.remaining();
+            int count = deflater.deflate(current, mode);
+            if (!current.hasRemaining()) {
+                send(false);
+            }
+            boolean done;
+            if (finish) {
+                done = deflater.finished();
+            } else if (mode == Deflater.NO_FLUSH) {
+                done = deflater.needsInput();
+            } else {
+                done = count < space;
+            }
+            if (done) {
+                return;
+            }
+        }
+    }
+
+    private void finishEncoding() throws IOException {
+        encoder.getDeflater().finish();
+        deflate(Deflater.NO_FLUSH, true);
+        byte[] trailer = encoder.trailer();
+        append(trailer, 0, trailer.length);
+        encoder.release();
+        encoding = false;
+    }
+
+    /**
+     * Commits if necessary and sends the buffered body as DATA frames, each as large as
+     * the client's windows and maximum frame size allow.
+     *
+     * @param last {@code true} to end the stream with the last frame
+     */
+    private void send(boolean last) throws IOException {
+        if (ended) {
+            return;
+        }
+        int length = buffer == null ? 0 : buffer.position();
+        if (!committed) {
+            commit(last, length);
+        }
+        if (ended || length == 0 && !last) {
+            if (buffer != null) {
+                buffer.clear().limit(flushThreshold);
+            }
+            return;
+        }
+        ByteBuffer data = length == 0 ? EMPTY : buffer.flip();
+        do {
+            int count = data.hasRemaining() ? connection.reserve(stream, data.remaining()) : 0;
+            int limit = data.limit();
+            data.limit(data.position() + count);
+            connection.writeData(stream, data, last && data.limit() == limit);
+            data.limit(limit);
+        } while (data.hasRemaining());
+        if (buffer != null) {
+            buffer.clear().limit(flushThreshold);
+        }
+        ended = last;
+    }
+
+    /**
+     * Decides the content length where possible and sends the header block.
+     */
+    private void commit(boolean last, int length) throws IOException {
+        noBody = noBody();
+        long contentLength = response.getContentLengthLong();
+        if (noBody) {
+            if (response.isHeadRequest() && contentLength < 0 && last) {
+                response.setContentLengthLong(bodyBytes);
+            }
+        } else if (contentLength < 0 && last) {
+            response.setContentLengthLong(length);
+        }
+        boolean endStream = last && (noBody || length == 0);
+        connection.writeHeaders(stream, this::headers, endStream);
+        committed = true;
+        ended = endStream;
+    }
+
+    private void headers(HpackEncoder fields) {
+        int status = response.getStatus();
+        fields.encode(":status", Integer.toString(status));
+        fields.encode("date", HttpDates.currentDate());
+        if (response.getContentType() != null) {
+            fields.encode("content-type", response.getContentType());
+        }
+        long contentLength = response.getContentLengthLong();
+        if (contentLength >= 0 && status != 204 && status != 304) {
+            fields.encode("content-length", Long.toString(contentLength));
+        }
+        response.forEachHeader((name, value) -> {
+            String lowerName = name.toLowerCase(Locale.ROOT);
+            if (!Http2Stream.isConnectionHeader(lowerName)) {
+                fields.encode(lowerName, value);
+            }
+        });
+    }
+
+    private boolean noBody() {
+        if (committed) {
+            return noBody;
+        }
+        int status = response.getStatus();
+        return response.isHeadRequest() || status == 204 || status == 304 || status < 200;
+    }
+}
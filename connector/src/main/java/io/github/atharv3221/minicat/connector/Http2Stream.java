@@ -0,0 +1,465 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One request and response exchanged on an {@link Http2Connection}.
+ *
+ * <p>The poller creates the stream once the client's header block is complete, with a
+ * {@link Request} whose fields are slices of a single copy of the decoded block, and
+ * runs it on a worker, which invokes the servlet as {@link Http11Processor} does for a
+ * connection, including asynchronous processing. The body arrives in the stream's
+ * {@link Http2InputBuffer}, and the response leaves through its
+ * {@link Http2OutputBuffer} as HEADERS and DATA frames.</p>
+ *
+ * <p>The stream closes once its response is complete or either side resets it. If the
+ * client is still sending the body at that point, the stream is reset with
+ * {@code NO_ERROR}, and the bytes nobody read are handed back to the connection's
+ * flow-control window.</p>
+ */
+final class Http2Stream implements Runnable, ConnectorAsyncContext.Owner {
+
+    private static final System.Logger LOG = System.getLogger(Http2Stream.class.getName());
+
+    private static final Set<String> CONNECTION_HEADERS = Set.of("connection", "keep-alive",
+            "proxy-connection", "transfer-encoding", "upgrade");
+    private static final int SC_REQUEST_HEADER_FIELDS_TOO_LARGE = 431;
+
+    private final Http2Connection connection;
+    private final int id;
+    private final int windowSize;
+    private final Request request = new Request();
+    private final Response response;
+    private final Http2InputBuffer inputBuffer;
+    private final AtomicInteger receiveWindow;
+    private final AtomicInteger unacknowledged = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private Http2OutputBuffer outputBuffer;
+    private volatile IOException resetCause;
+    private int rejectStatus;
+
+    /**
+     * The client's window for this stream, guarded by the connection's window lock.
+     */
+    long sendWindow;
+
+    Http2Stream(Http2Connection connection, int id, int windowSize, int sendWindow) {
+        this.connection = connection;
+        this.id = id;
+        this.windowSize = windowSize;
+        this.receiveWindow = new AtomicInteger(windowSize);
+        this.sendWindow = sendWindow;
+        this.response = new Response(request, this::createOutputBuffer);
+        this.inputBuffer = new Http2InputBuffer(this, response);
+        request.setProcessor(this, inputBuffer);
+        boolean recycleFacades = getEndpoint().getConnector().isRecycleFacades();
+        request.setRecycleFacades(recycleFacades);
+        response.setRecycleFacades(recycleFacades);
+    }
+
+    private OutputBuffer createOutputBuffer(Response response) {
+        outputBuffer = new Http2OutputBuffer(this, getEndpoint().getOutputBufferPool(), response);
+        return outputBuffer;
+    }
+
+    int getId() {
+        return id;
+    }
+
+    Http2Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public NioEndpoint getEndpoint() {
+        return connection.getSocket().getEndpoint();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return connection.getSocket().getChannel().isSecure();
+    }
+
+    /**
+     * Tests whether a lower-case header name is specific to an HTTP/1.1 connection,
+     * which HTTP/2 does not allow.
+     */
+    static boolean isConnectionHeader(String name) {
+        return CONNECTION_HEADERS.contains(name);
+    }
+
+    /**
+     * Builds the request from a decoded header block. Called on the poller before the
+     * stream is dispatched.
+     *
+     * @param fields the decoded fields
+     * @param endStream {@code true} if the request has no body
+     * @throws Http2Exception if the request is malformed
+     */
+    void setHeaders(Hpack.FieldList fields, boolean endStream) throws Http2Exception {
+        if (fields.isTooLarge()) {
+            rejectStatus = SC_REQUEST_HEADER_FIELDS_TOO_LARGE;
+            inputBuffer.start(-1, endStream, false);
+            return;
+        }
+        byte[] bytes = fields.copyBytes();
+        HttpHeaders headers = request.getMimeHeaders();
+        MessageBytes name = new MessageBytes();
+        MessageBytes path = new MessageBytes();
+        MessageBytes authority = new MessageBytes();
+        boolean scheme = false;
+        boolean regular = false;
+        for (int i = 0; i < fields.size(); i++) {
+            int nameStart = fields.getNameStart(i);
+            int nameEnd = fields.getNameEnd(i);
+            int valueEnd = fields.getValueEnd(i);
+            name.setBytes(bytes, nameStart, nameEnd);
+            if (nameStart < nameEnd && bytes[nameStart] == ':') {
+                if (regular) {
+                    throw malformed("pseudo-header after regular header");
+                }
+                MessageBytes target;
+                if (name.equals(":method")) {
+                    target = request.method();
+                } else if (name.equals(":path")) {
+                    target = path;
+                } else if (name.equals(":authority")) {
+                    target = authority;
+                } else if (name.equals(":scheme") && !scheme) {
+                    scheme = true;
+                    continue;
+                } else {
+                    throw malformed("unexpected pseudo-header " + name);
+                }
+                if (!target.isNull()) {
+                    throw malformed("duplicate pseudo-header " + name);
+                }
+                target.setBytes(bytes, nameEnd, valueEnd);
+                continue;
+            }
+            regular = true;
+            checkName(bytes, nameStart, nameEnd);
+            String lowerName = name.toString();
+            if (isConnectionHeader(lowerName)) {
+                throw malformed("connection-specific header " + lowerName);
+            }
+            if (lowerName.equals("te")) {
+                name.setBytes(bytes, nameEnd, valueEnd);
+                if (!name.equals("trailers")) {
+                    throw malformed("te other than trailers");
+                }
+            }
+            int index = headers.add();
+            headers.getName(index).setBytes(bytes, nameStart, nameEnd);
+            headers.getValue(index).setBytes(bytes, nameEnd, valueEnd);
+        }
+        if (request.method().isNull() || path.isNull() || !scheme) {
+            throw malformed("missing :method, :scheme or :path");
+        }
+        setPath(path);
+        if (!authority.isNull() && headers.find("Host") == null) {
+            int index = headers.add();
+            headers.getName(index).setString("host");
+            headers.getValue(index).setBytes(bytes, authority.getStart(), authority.getEnd());
+        }
+        request.protocol().setString(Request.HTTP_20);
+        if (request.hasInvalidContentLength()) {
+            throw malformed("invalid content-length");
+        }
+        inputBuffer.start(request.getContentLengthLong(), endStream,
+                !endStream && request.expectsContinue());
+    }
+
+    private void setPath(MessageBytes path) throws Http2Exception {
+        byte[] bytes = path.getBytes();
+        int start = path.getStart();
+        int end = path.getEnd();
+        if (start == end || bytes[start] != '/' && !path.equals("*")) {
+            throw malformed("invalid :path");
+        }
+        int query = path.indexOf((byte) '?', 0);
+        if (query < 0) {
+            request.requestUri().setBytes(bytes, start, end);
+        } else {
+            request.requestUri().setBytes(bytes, start, start + query);
+            request.queryString().setBytes(bytes, start + query + 1, end);
+        }
+    }
+
+    private void checkName(byte[] bytes, int start, int end) throws Http2Exception {
+        if (start == end) {
+            throw malformed("empty header name");
+        }
+        for (int i = start; i < end; i++) {
+            if (bytes[i] >= 'A' && bytes[i] <= 'Z') {
+                throw malformed("upper-case header name");
+            }
+        }
+    }
+
+    private Http2Exception malformed(String reason) {
+        return new Http2Exception(id, Http2Frame.PROTOCOL_ERROR, "Malformed request: " + reason);
+    }
+
+    /**
+     * Takes a DATA payload. Called on the poller.
+     *
+     * @param data the payload without padding
+     * @param frameLength the whole payload length, which counts against the windows
+     * @param endStream {@code true} if the body ends here
+     * @throws Http2Exception if the client exceeded the stream's window or the body
+     *     does not match its declared length
+     */
+    void receiveData(ByteBuffer data, int frameLength, boolean endStream) throws Http2Exception {
+        if (receiveWindow.addAndGet(-frameLength) < 0) {
+            throw new Http2Exception(id, Http2Frame.FLOW_CONTROL_ERROR,
+                    "Stream flow-control window exceeded");
+        }
+        int dataLength = data.remaining();
+        if (inputBuffer.receive(data, endStream)) {
+            connection.consumed(frameLength - dataLength);
+        } else {
+            connection.consumed(frameLength);
+        }
+    }
+
+    /**
+     * Takes the trailers, which end the body. Their fields are not exposed.
+     */
+    void receiveTrailers() throws Http2Exception {
+        inputBuffer.receive(ByteBuffer.allocate(0), true);
+    }
+
+    /**
+     * Returns body bytes the servlet has read to the stream and connection windows,
+     * announcing the credit to the client in batches.
+     *
+     * @param count the number of bytes
+     */
+    void consumed(int count) {
+        connection.consumed(count);
+        if (inputBuffer.isEnded()) {
+            return;
+        }
+        if (unacknowledged.addAndGet(count) >= windowSize / 2) {
+            int increment = unacknowledged.getAndSet(0);
+            if (increment > 0) {
+                receiveWindow.addAndGet(increment);
+                connection.writeControl(Http2Frame.windowUpdate(id, increment));
+            }
+        }
+    }
+
+    /**
+     * Records that the stream was reset, by the client or by the poller for a stream
+     * error, and wakes threads waiting for its body.
+     *
+     * @param cause reported to the servlet by further reads and writes
+     */
+    void onReset(IOException cause) {
+        if (resetCause == null) {
+            resetCause = cause;
+        }
+        inputBuffer.fail(cause);
+    }
+
+    /**
+     * Throws if the stream was reset, so nothing more is sent on it.
+     */
+    void checkOpen() throws IOException {
+        IOException cause = resetCause;
+        if (cause != null) {
+            throw new IOException("Stream " + id + " reset", cause);
+        }
+    }
+
+    /**
+     * Called on the poller when the client grants more window, which may make a
+     * non-blocking response writable again.
+     */
+    void windowOpened() {
+        Http2OutputBuffer buffer = outputBuffer;
+        if (buffer != null) {
+            buffer.windowOpened();
+        }
+    }
+
+    /**
+     * Runs a callback of the stream on a worker, resetting the stream if the executor
+     * refuses it.
+     */
+    void execute(Runnable task) {
+        if (task == null) {
+            return;
+        }
+        try {
+            getEndpoint().execute(task);
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Worker executor rejected stream callback", e);
+            abort();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (rejectStatus != 0) {
+                response.setStatus(rejectStatus);
+                endRequest();
+            } else {
+                invokeServlet();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public ConnectorAsyncContext startAsync() {
+        return new ConnectorAsyncContext(this, request, response);
+    }
+
+    @Override
+    public void asyncResume(boolean dispatch) {
+        try {
+            if (dispatch) {
+                invokeServlet();
+            } else {
+                endRequest();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Resets the stream with {@code INTERNAL_ERROR} and closes it, leaving the
+     * connection and its other streams alone.
+     */
+    @Override
+    public void abort() {
+        if (closed.get()) {
+            return;
+        }
+        reset(Http2Frame.INTERNAL_ERROR);
+        close();
+    }
+
+    /**
+     * Invokes the servlet, again for as long as it dispatches its asynchronous context
+     * before returning, and finishes the request unless it continues asynchronously.
+     */
+    private void invokeServlet() throws IOException {
+        while (true) {
+            try {
+                connection.getServlet().service(request.getFacade(), response.getFacade());
+            } catch (ServletException | RuntimeException e) {
+                LOG.log(System.Logger.Level.ERROR, "Servlet failed to service request", e);
+                ConnectorAsyncContext async = request.asyncContext();
+                if (async != null) {
+                    async.fireError(e);
+                }
+                if (response.isCommitted()) {
+                    abort();
+                    return;
+                }
+                response.reset();
+                response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                endRequest();
+                return;
+            }
+            ConnectorAsyncContext async = request.asyncContext();
+            if (async == null) {
+                endRequest();
+                return;
+            }
+            switch (async.serviceReturned()) {
+                case WAIT -> {
+                    return;
+                }
+                case COMPLETE -> {
+                    endRequest();
+                    return;
+                }
+                default -> {
+                    // Dispatched before service returned, invoke the servlet again
+                }
+            }
+        }
+    }
+
+    private void endRequest() throws IOException {
+        try {
+            response.finish();
+            ConnectorAsyncContext async = request.asyncContext();
+            if (async != null) {
+                async.fireComplete();
+            }
+        } finally {
+            close();
+        }
+    }
+
+    private void fail(IOException e) {
+        LOG.log(System.Logger.Level.DEBUG, "Stream " + id + " failed", e);
+        reset(Http2Frame.INTERNAL_ERROR);
+        close();
+    }
+
+    private void reset(int error) {
+        if (resetCause == null) {
+            resetCause = new IOException("Stream reset by server");
+            connection.writeControl(Http2Frame.rstStream(id, error));
+        }
+        inputBuffer.fail(resetCause);
+        connection.signalWindow();
+    }
+
+    /**
+     * Ends the stream: resets it if the client is still sending, hands unread body
+     * bytes back to the connection window and releases the buffers.
+     */
+    private void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (resetCause == null && !inputBuffer.isEnded()) {
+            reset(Http2Frame.NO_ERROR);
+        }
+        connection.consumed(inputBuffer.discard());
+        request.recycle();
+        response.recycle();
+        connection.streamClosed(this);
+    }
+}
@@ -0,0 +1,98 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * Formats and parses HTTP dates in the IMF-fixdate format of RFC 9110.
+ *
+ * <p>The current date used for the {@code Date} response header is formatted at most
+ * once per second and shared by all threads.</p>
+ */
+public final class HttpDates {
+
+    private static final DateTimeFormatter IMF_FIXDATE = DateTimeFormatter
+            .ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US)
+            .withZone(ZoneOffset.UTC);
+
+    private static volatile CachedDate current = new CachedDate(0, "");
+
+    private HttpDates() {
+    }
+
+    /**
+     * Formats a time as an HTTP date.
+     *
+     * @param epochMillis milliseconds since the epoch
+     * @return the IMF-fixdate representation, such as
+     *     {@code Sun, 06 Nov 1994 08:49:37 GMT}
+     */
+    public static String format(long epochMillis) {
+        return IMF_FIXDATE.format(Instant.ofEpochMilli(epochMillis));
+    }
+
+    /**
+     * Parses an HTTP date. IMF-fixdate and the RFC 1123 variant with a one digit day
+     * are accepted.
+     *
+     * @param value the header value
+     * @return milliseconds since the epoch, or {@code -1} if the value is not a date
+     */
+    public static long parse(String value) {
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the current time as an HTTP date, refreshed once per second.
+     *
+     * @return the current date
+     */
+    public static String currentDate() {
+        long second = System.currentTimeMillis() / 1000;
+        CachedDate cached = current;
+        if (cached.second != second) {
+            cached = new CachedDate(second, format(second * 1000));
+            current = cached;
+        }
+        return cached.value;
+    }
+
+    private record CachedDate(long second, String value) {
+    }
+}
@@ -0,0 +1,154 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Request headers held as name/value slices in arrival order.
+ *
+ * <p>The slices are allocated once per connection and reused for every request on
+ * it; the arrays only grow when a request carries more headers than any before it.
+ * Lookups compare the requested name against the raw bytes, so no header string is
+ * created unless its value is actually read.</p>
+ */
+final class HttpHeaders {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private MessageBytes[] names = new MessageBytes[INITIAL_CAPACITY];
+    private MessageBytes[] values = new MessageBytes[INITIAL_CAPACITY];
+    private int count;
+
+    HttpHeaders() {
+        for (int i = 0; i < INITIAL_CAPACITY; i++) {
+            names[i] = new MessageBytes();
+            values[i] = new MessageBytes();
+        }
+    }
+
+    int size() {
+        return count;
+    }
+
+    MessageBytes getName(int index) {
+        return names[index];
+    }
+
+    MessageBytes getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Appends a header and returns the index of its slices, to be filled by the caller.
+     */
+    int add() {
+        if (count == names.length) {
+            int capacity = count * 2;
+            MessageBytes[] newNames = new MessageBytes[capacity];
+            MessageBytes[] newValues = new MessageBytes[capacity];
+            System.arraycopy(names, 0, newNames, 0, count);
+            System.arraycopy(values, 0, newValues, 0, count);
+            for (int i = count; i < capacity; i++) {
+                newNames[i] = new MessageBytes();
+                newValues[i] = new MessageBytes();
+            }
+            names = newNames;
+            values = newValues;
+        }
+        return count++;
+    }
+
+    /**
+     * Returns the value of the first header with the given name, ignoring case.
+     *
+     * @return the value slice, or {@code null} if the header is absent
+     */
+    MessageBytes find(String name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value of the last header with the given name, ignoring case.
+     *
+     * @return the value slice, or {@code null} if the header is absent
+     */
+    MessageBytes findLast(String name) {
+        for (int i = count - 1; i >= 0; i--) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    String getHeader(String name) {
+        MessageBytes value = find(name);
+        return value == null ? null : value.toString();
+    }
+
+    Enumeration<String> getHeaders(String name) {
+        List<String> result = null;
+        for (int i = 0; i < count; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                if (result == null) {
+                    result = new ArrayList<>(2);
+                }
+                result.add(values[i].toString());
+            }
+        }
+        return result == null ? Collections.emptyEnumeration() : Collections.enumeration(result);
+    }
+
+    Enumeration<String> getHeaderNames() {
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean duplicate = false;
+            for (int j = 0; j < i && !duplicate; j++) {
+                duplicate = names[j].equalsIgnoreCase(names[i].toString());
+            }
+            if (!duplicate) {
+                result.add(names[i].toString());
+            }
+        }
+        return Collections.enumeration(result);
+    }
+
+    void recycle() {
+        for (int i = 0; i < count; i++) {
+            names[i].recycle();
+            values[i].recycle();
+        }
+        count = 0;
+    }
+}
@@ -0,0 +1,150 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+/**
+ * Single-pass parser for an HTTP/1.1 request head.
+ *
+ * <p>The parser runs once the connection has buffered the complete head, so it never
+ * has to suspend mid-token. It records offset/length slices into the read buffer and
+ * does not copy or decode any bytes; validation follows RFC 9112 closely enough to
+ * reject request smuggling vectors such as whitespace before the header colon and
+ * obsolete line folding.</p>
+ */
+final class HttpParser {
+
+    private HttpParser() {
+    }
+
+    /**
+     * Parses the request line and header fields in {@code [start, end)}, which must end
+     * with the empty line terminating the head.
+     *
+     * @param buf the read buffer
+     * @param start offset of the first byte of the head
+     * @param end offset just past the terminating empty line
+     * @param request the request whose slices are filled in
+     * @return {@code true} if the head is well formed
+     */
+    static boolean parseRequestHead(byte[] buf, int start, int end, Request request) {
+        int pos = start;
+        while (pos + 1 < end && buf[pos] == '\r' && buf[pos + 1] == '\n') {
+            pos += 2;
+        }
+
+        int methodStart = pos;
+        while (pos < end && Ascii.isToken(buf[pos])) {
+            pos++;
+        }
+        if (pos == methodStart || pos >= end || buf[pos] != ' ') {
+            return false;
+        }
+        request.method().setBytes(buf, methodStart, pos);
+        pos++;
+
+        int targetStart = pos;
+        int queryStart = -1;
+        while (pos < end && buf[pos] != ' ') {
+            int b = buf[pos] & 0xff;
+            if (b <= 0x20 || b == 0x7f) {
+                return false;
+            }
+            if (b == '?' && queryStart < 0) {
+                queryStart = pos;
+            }
+            pos++;
+        }
+        if (pos == targetStart || pos >= end) {
+            return false;
+        }
+        if (queryStart < 0) {
+            request.requestUri().setBytes(buf, targetStart, pos);
+        } else {
+            request.requestUri().setBytes(buf, targetStart, queryStart);
+            request.queryString().setBytes(buf, queryStart + 1, pos);
+        }
+        pos++;
+
+        int protocolStart = pos;
+        while (pos < end && buf[pos] != '\r') {
+            pos++;
+        }
+        if (pos + 1 >= end || buf[pos + 1] != '\n') {
+            return false;
+        }
+        MessageBytes protocol = request.protocol();
+        protocol.setBytes(buf, protocolStart, pos);
+        if (!protocol.equals(Request.HTTP_11) && !protocol.equals(Request.HTTP_10)) {
+            return false;
+        }
+        pos += 2;
+
+        return parseHeaders(buf, pos, end, request.getMimeHeaders());
+    }
+
+    private static boolean parseHeaders(byte[] buf, int pos, int end, HttpHeaders headers) {
+        while (pos + 1 < end) {
+            if (buf[pos] == '\r') {
+                return buf[pos + 1] == '\n';
+            }
+            int nameStart = pos;
+            while (pos < end && Ascii.isToken(buf[pos])) {
+                pos++;
+            }
+            if (pos == nameStart || pos >= end || buf[pos] != ':') {
+                return false;
+            }
+            final int nameEnd = pos;
+            pos++;
+            while (pos < end && (buf[pos] == ' ' || buf[pos] == '\t')) {
+                pos++;
+            }
+            int valueStart = pos;
+            while (pos < end && buf[pos] != '\r') {
+                int b = buf[pos] & 0xff;
+                if (b < 0x20 && b != '\t' || b == 0x7f) {
+                    return false;
+                }
+                pos++;
+            }
+            if (pos + 1 >= end || buf[pos + 1] != '\n') {
+                return false;
+            }
+            int valueEnd = pos;
+            while (valueEnd > valueStart
+                    && (buf[valueEnd - 1] == ' ' || buf[valueEnd - 1] == '\t')) {
+                valueEnd--;
+            }
+            int index = headers.add();
+            headers.getName(index).setBytes(buf, nameStart, nameEnd);
+            headers.getValue(index).setBytes(buf, valueStart, valueEnd);
+            pos += 2;
+            if (pos < end && (buf[pos] == ' ' || buf[pos] == '\t')) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
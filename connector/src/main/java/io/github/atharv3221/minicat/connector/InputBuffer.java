@@ -0,0 +1,73 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+
+/**
+ * Source of a request body for the {@link Request}'s input stream.
+ *
+ * <p>HTTP/1.1 reads the body from the connection, HTTP/2 from the DATA frames of the
+ * request's stream. Either way, reads block the worker or, for non-blocking streams,
+ * return without data and leave a callback for when more arrives.</p>
+ */
+interface InputBuffer {
+
+    boolean isFinished();
+
+    /**
+     * Returns the number of body bytes that can be read without waiting.
+     */
+    int available();
+
+    /**
+     * Tests whether data, or the end of the body, can be read without waiting.
+     *
+     * @return {@code true} if a read will not block
+     * @throws IOException if the connection fails or the body is malformed
+     */
+    boolean isReady() throws IOException;
+
+    /**
+     * Reads body bytes.
+     *
+     * @param dst the destination array
+     * @param offset the offset in {@code dst}
+     * @param length the maximum number of bytes to read
+     * @param block whether to wait for the client
+     * @return the number of bytes read, {@code -1} at the end of the body, or {@code 0}
+     *     if {@code block} is {@code false} and no data is available
+     * @throws IOException if the connection fails, times out, or the body is malformed
+     */
+    int read(byte[] dst, int offset, int length, boolean block) throws IOException;
+
+    /**
+     * Runs a callback on a worker once more body bytes arrive, or the request is
+     * aborted.
+     *
+     * @param callback the callback
+     */
+    void notifyWhenReadable(Runnable callback);
+}
@@ -0,0 +1,243 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A slice of a byte array that is only turned into a {@code String} when read.
+ *
+ * <p>The parser records where each element of the request head starts and ends in
+ * the connection's read buffer. Comparisons against known tokens work on the raw
+ * bytes, so most requests never materialize the header values they do not look at.
+ * The decoded string is cached until the slice is recycled.</p>
+ */
+final class MessageBytes {
+
+    private byte[] bytes;
+    private int start;
+    private int end;
+    private String string;
+    private boolean set;
+
+    void setBytes(byte[] bytes, int start, int end) {
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+        this.string = null;
+        this.set = true;
+    }
+
+    /**
+     * Points this slice at a value that did not come from the read buffer.
+     *
+     * @param value the value, or {@code null} to mark the slice unset
+     */
+    void setString(String value) {
+        this.bytes = null;
+        this.string = value;
+        this.set = value != null;
+    }
+
+    boolean isNull() {
+        return !set;
+    }
+
+    byte[] getBytes() {
+        return bytes;
+    }
+
+    int getStart() {
+        return start;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    int getLength() {
+        return bytes == null ? (string == null ? 0 : string.length()) : end - start;
+    }
+
+    /**
+     * Returns the value decoded as ISO-8859-1, which maps every header byte to
+     * exactly one char as HTTP/1.1 requires.
+     */
+    @Override
+    public String toString() {
+        if (!set) {
+            return null;
+        }
+        if (string == null) {
+            string = new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        return string;
+    }
+
+    /**
+     * Decodes the value with the given charset without caching the result.
+     */
+    String toString(Charset charset) {
+        if (bytes == null) {
+            return toString();
+        }
+        return new String(bytes, start, end - start, charset);
+    }
+
+    boolean equals(String value) {
+        if (bytes == null) {
+            return set && string.equals(value);
+        }
+        int length = end - start;
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((bytes[start + i] & 0xff) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean equalsIgnoreCase(String value) {
+        if (bytes == null) {
+            return set && string.equalsIgnoreCase(value);
+        }
+        int length = end - start;
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Ascii.toLower(bytes[start + i]) != Ascii.toLower(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tests whether the value contains the given token, ignoring case, as one element
+     * of a comma separated list such as {@code Connection: keep-alive, Upgrade}.
+     */
+    boolean containsTokenIgnoreCase(String token) {
+        if (bytes == null) {
+            return set && Ascii.containsToken(string, token);
+        }
+        int i = start;
+        while (i < end) {
+            while (i < end && (bytes[i] == ',' || bytes[i] == ' ' || bytes[i] == '\t')) {
+                i++;
+            }
+            int tokenStart = i;
+            while (i < end && bytes[i] != ',') {
+                i++;
+            }
+            int tokenEnd = i;
+            while (tokenEnd > tokenStart
+                    && (bytes[tokenEnd - 1] == ' ' || bytes[tokenEnd - 1] == '\t')) {
+                tokenEnd--;
+            }
+            if (tokenEnd - tokenStart == token.length()
+                    && regionMatchesIgnoreCase(tokenStart, token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether the last element of the comma-separated list in this value equals
+     * the token, ignoring case.
+     */
+    boolean endsWithTokenIgnoreCase(String token) {
+        if (bytes == null) {
+            return set && Ascii.endsWithToken(string, token);
+        }
+        int tokenEnd = end;
+        while (tokenEnd > start && (bytes[tokenEnd - 1] == ' ' || bytes[tokenEnd - 1] == '\t')) {
+            tokenEnd--;
+        }
+        int tokenStart = tokenEnd;
+        while (tokenStart > start && bytes[tokenStart - 1] != ',') {
+            tokenStart--;
+        }
+        while (tokenStart < tokenEnd && (bytes[tokenStart] == ' ' || bytes[tokenStart] == '\t')) {
+            tokenStart++;
+        }
+        return tokenEnd - tokenStart == token.length()
+                && regionMatchesIgnoreCase(tokenStart, token);
+    }
+
+    /**
+     * Parses the value as a non-negative decimal number.
+     *
+     * @return the value, or {@code -1} if it is not a valid non-negative number
+     */
+    long toLong() {
+        if (bytes == null) {
+            return set ? Ascii.parseLong(string) : -1;
+        }
+        if (start == end || end - start > 18) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    int indexOf(byte b, int from) {
+        for (int i = start + from; i < end; i++) {
+            if (bytes[i] == b) {
+                return i - start;
+            }
+        }
+        return -1;
+    }
+
+    void recycle() {
+        bytes = null;
+        start = 0;
+        end = 0;
+        string = null;
+        set = false;
+    }
+
+    private boolean regionMatchesIgnoreCase(int offset, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Ascii.toLower(bytes[offset + i]) != Ascii.toLower(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
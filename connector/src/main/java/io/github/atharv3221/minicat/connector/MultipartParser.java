@@ -0,0 +1,394 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.MultipartConfigElement;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Incremental parser of {@code multipart/form-data} request bodies.
+ *
+ * <p>The body is read through one buffer, borrowed by the caller from a pool, and
+ * never held in full. Part boundaries are found with a Boyer-Moore-Horspool search for
+ * {@code CRLF--boundary}: a mismatch skips ahead by up to the length of the delimiter,
+ * so most body bytes are never compared. Bytes that cannot belong to a delimiter are
+ * handed to the current {@link RequestPart} straight from the buffer; only the last
+ * bytes, which may be the start of a delimiter split across two reads, are kept for the
+ * next search.</p>
+ *
+ * <p>The body is treated as if it began with {@code CRLF}, so the first boundary, which
+ * is not preceded by a line break, is found by the same search as all others.</p>
+ *
+ * <p>Besides the limits of the {@link MultipartConfigElement}, the parser counts the
+ * parts and the bytes of the fields that are not files as they arrive, so neither many
+ * small parts nor large fields are buffered before a limit is hit.</p>
+ */
+final class MultipartParser {
+
+    private static final int MAX_BOUNDARY_LENGTH = 70;
+
+    private final InputBuffer input;
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private final byte[] delimiter;
+    private final int[] skip = new int[256];
+    private final MultipartConfigElement config;
+    private final long maxFormSize;
+    private final int maxPartCount;
+    private final Path location;
+    private final Charset charset;
+    private int start;
+    private int end;
+    private long total;
+    private long formSize;
+
+    /**
+     * Creates a parser.
+     *
+     * @param input the request body
+     * @param buffer an array-backed buffer, at least twice as long as the delimiter
+     * @param boundary the boundary from the request's content type
+     * @param config the size limits
+     * @param maxFormSize the limit in bytes of all fields that are not files together, or
+     *     {@code -1} for no limit
+     * @param maxPartCount the largest number of parts, or {@code -1} for no limit
+     * @param location the directory for parts larger than the file size threshold
+     * @param charset the charset of part headers
+     */
+    MultipartParser(InputBuffer input, ByteBuffer buffer, String boundary,
+            MultipartConfigElement config, long maxFormSize, int maxPartCount, Path location,
+            Charset charset) {
+        this.input = input;
+        this.buffer = buffer;
+        this.bytes = buffer.array();
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.config = config;
+        this.maxFormSize = maxFormSize;
+        this.maxPartCount = maxPartCount;
+        this.location = location;
+        this.charset = charset;
+        int last = delimiter.length - 1;
+        Arrays.fill(skip, delimiter.length);
+        for (int i = 0; i < last; i++) {
+            skip[delimiter[i] & 0xff] = last - i;
+        }
+    }
+
+    /**
+     * Returns the {@code boundary} parameter of a {@code multipart/form-data} content
+     * type.
+     *
+     * @param contentType the content type of the request
+     * @return the boundary, or {@code null} if the type is not {@code multipart/form-data}
+     *     or has no valid boundary
+     */
+    static String boundary(String contentType) {
+        if (contentType == null
+                || !contentType.regionMatches(true, 0, "multipart/form-data", 0, 19)) {
+            return null;
+        }
+        String boundary = parameter(contentType, "boundary");
+        return boundary == null || boundary.isEmpty() || boundary.length() > MAX_BOUNDARY_LENGTH
+                ? null : boundary;
+    }
+
+    /**
+     * Returns a parameter of a header value such as {@code form-data; name="file"}. A
+     * backslash in a quoted value only escapes a quote, since browsers send Windows
+     * paths in file names unescaped.
+     *
+     * @param value the header value
+     * @param name the parameter name, matched without regard to case
+     * @return the parameter value, or {@code null} if there is no such parameter
+     */
+    static String parameter(String value, String name) {
+        int length = value.length();
+        int pos = value.indexOf(';');
+        while (pos >= 0 && pos < length) {
+            pos++;
+            while (pos < length && value.charAt(pos) == ' ') {
+                pos++;
+            }
+            int keyStart = pos;
+            while (pos < length && value.charAt(pos) != '=' && value.charAt(pos) != ';') {
+                pos++;
+            }
+            final String key = value.substring(keyStart, pos).trim();
+            if (pos == length || value.charAt(pos) == ';') {
+                continue;
+            }
+            pos++;
+            String parameter;
+            if (pos < length && value.charAt(pos) == '"') {
+                StringBuilder quoted = new StringBuilder();
+                pos++;
+                while (pos < length && value.charAt(pos) != '"') {
+                    char c = value.charAt(pos++);
+                    if (c == '\\' && pos < length && value.charAt(pos) == '"') {
+                        c = value.charAt(pos++);
+                    }
+                    quoted.append(c);
+                }
+                parameter = quoted.toString();
+                pos = value.indexOf(';', pos);
+            } else {
+                int valueEnd = value.indexOf(';', pos);
+                parameter = value.substring(pos, valueEnd < 0 ? length : valueEnd).trim();
+                pos = valueEnd;
+            }
+            if (key.equalsIgnoreCase(name)) {
+                return parameter;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the whole body, filling a part for every body part with a name. The
+     * temporary files of all parts are deleted if parsing fails.
+     *
+     * @return the parts, in the order they were sent
+     * @throws IOException if the body cannot be read, is malformed or a temporary file
+     *     cannot be written
+     * @throws IllegalStateException if the body, a part or the fields are larger than
+     *     allowed, or there are too many parts
+     */
+    List<RequestPart> parse() throws IOException {
+        List<RequestPart> parts = new ArrayList<>();
+        try {
+            bytes[0] = '\r';
+            bytes[1] = '\n';
+            end = 2;
+            readBody(null);
+            int count = 0;
+            while (!readDelimiterEnd()) {
+                if (maxPartCount >= 0 && ++count > maxPartCount) {
+                    throw new IllegalStateException("Multipart body has more than "
+                            + maxPartCount + " parts");
+                }
+                RequestPart part = readHead();
+                if (part != null) {
+                    parts.add(part);
+                }
+                readBody(part);
+                if (part != null) {
+                    part.finish();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            for (RequestPart part : parts) {
+                try {
+                    part.delete();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+        return parts;
+    }
+
+    /**
+     * Hands body bytes to the part up to the next delimiter and consumes the delimiter.
+     */
+    private void readBody(RequestPart part) throws IOException {
+        while (true) {
+            int match = indexOfDelimiter(start, end);
+            if (match >= 0) {
+                emit(part, match);
+                start = match + delimiter.length;
+                return;
+            }
+            emit(part, Math.max(start, end - delimiter.length + 1));
+            if (!fill()) {
+                throw new EOFException("Multipart body ended before its closing boundary");
+            }
+        }
+    }
+
+    private int indexOfDelimiter(int from, int to) {
+        int last = delimiter.length - 1;
+        int pos = from;
+        while (pos + last < to) {
+            int i = last;
+            while (bytes[pos + i] == delimiter[i]) {
+                if (i == 0) {
+                    return pos;
+                }
+                i--;
+            }
+            pos += skip[bytes[pos + last] & 0xff];
+        }
+        return -1;
+    }
+
+    private void emit(RequestPart part, int to) throws IOException {
+        if (part != null && to > start) {
+            if (part.getSubmittedFileName() == null) {
+                formSize += to - start;
+                if (maxFormSize >= 0 && formSize > maxFormSize) {
+                    throw new IllegalStateException("Multipart form fields are larger than"
+                            + " the limit of " + maxFormSize + " bytes");
+                }
+            }
+            buffer.limit(to).position(start);
+            part.append(buffer);
+        }
+        start = to;
+    }
+
+    /**
+     * Reads what follows a delimiter: {@code --} after the last one, or optional
+     * whitespace and a line break before the headers of the next part.
+     *
+     * @return {@code true} if the delimiter closed the body
+     */
+    private boolean readDelimiterEnd() throws IOException {
+        require(2);
+        if (bytes[start] == '-' && bytes[start + 1] == '-') {
+            start += 2;
+            return true;
+        }
+        while (true) {
+            require(2);
+            byte b = bytes[start];
+            if (b == ' ' || b == '\t') {
+                start++;
+            } else if (b == '\r' && bytes[start + 1] == '\n') {
+                start += 2;
+                return false;
+            } else {
+                throw new IOException("Malformed multipart boundary");
+            }
+        }
+    }
+
+    /**
+     * Reads the headers of a part, which must fit the buffer.
+     *
+     * @return the part, or {@code null} if its content disposition has no name
+     */
+    private RequestPart readHead() throws IOException {
+        List<String> headers = new ArrayList<>(4);
+        int headSize = 0;
+        int lineEnd;
+        while ((lineEnd = indexOfLineEnd()) != start) {
+            if (lineEnd < 0) {
+                if (start == 0 && end == bytes.length) {
+                    throw new IOException("Multipart part header is longer than "
+                            + bytes.length + " bytes");
+                }
+                if (!fill()) {
+                    throw new EOFException("Multipart body ended in the headers of a part");
+                }
+                continue;
+            }
+            headSize += lineEnd + 2 - start;
+            if (headSize > bytes.length) {
+                throw new IOException("Multipart part headers are larger than "
+                        + bytes.length + " bytes");
+            }
+            int colon = start;
+            while (colon < lineEnd && bytes[colon] != ':') {
+                colon++;
+            }
+            if (colon < lineEnd) {
+                headers.add(new String(bytes, start, colon - start, charset).trim());
+                headers.add(new String(bytes, colon + 1, lineEnd - colon - 1, charset).trim());
+            }
+            start = lineEnd + 2;
+        }
+        start += 2;
+        String name = null;
+        String fileName = null;
+        for (int i = 0; i < headers.size(); i += 2) {
+            if (headers.get(i).equalsIgnoreCase("Content-Disposition")) {
+                String disposition = headers.get(i + 1);
+                name = parameter(disposition, "name");
+                fileName = parameter(disposition, "filename");
+                break;
+            }
+        }
+        if (name == null) {
+            return null;
+        }
+        return new RequestPart(headers, name, fileName, location, config.getMaxFileSize(),
+                config.getFileSizeThreshold());
+    }
+
+    /**
+     * Returns the index of the next {@code CRLF} from the start, or {@code -1} if the
+     * buffer holds none.
+     */
+    private int indexOfLineEnd() {
+        for (int i = start; i + 1 < end; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void require(int count) throws IOException {
+        while (end - start < count) {
+            if (!fill()) {
+                throw new EOFException("Multipart body ended before its closing boundary");
+            }
+        }
+    }
+
+    /**
+     * Moves the unconsumed bytes to the front of the buffer and reads more after them.
+     *
+     * @return {@code false} at the end of the body
+     */
+    private boolean fill() throws IOException {
+        if (start > 0) {
+            System.arraycopy(bytes, start, bytes, 0, end - start);
+            end -= start;
+            start = 0;
+        }
+        int count = input.read(bytes, end, bytes.length - end, true);
+        if (count < 0) {
+            return false;
+        }
+        total += count;
+        long max = config.getMaxRequestSize();
+        if (max >= 0 && total > max) {
+            throw new IllegalStateException("Multipart body is larger than the limit of "
+                    + max + " bytes");
+        }
+        end += count;
+        return true;
+    }
+}
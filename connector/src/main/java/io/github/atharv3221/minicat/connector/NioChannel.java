@@ -0,0 +1,100 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Byte channel used by the connector for all socket I/O.
+ *
+ * <p>The plain implementation delegates straight to the {@link SocketChannel};
+ * transport layers such as TLS wrap the same operations.</p>
+ */
+class NioChannel {
+
+    protected final SocketChannel channel;
+
+    NioChannel(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    int read(ByteBuffer dst) throws IOException {
+        return channel.read(dst);
+    }
+
+    int write(ByteBuffer src) throws IOException {
+        return channel.write(src);
+    }
+
+    long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        return channel.write(srcs, offset, length);
+    }
+
+    /**
+     * Writes bytes the channel holds on its own, such as TLS records wrapped from
+     * bytes an earlier write accepted.
+     *
+     * @return {@code true} if nothing is left, {@code false} if the socket is full
+     * @throws IOException if the write fails
+     */
+    boolean flush() throws IOException {
+        return true;
+    }
+
+    /**
+     * Tests whether bytes are already buffered in the channel, such as decrypted TLS
+     * data, so a read returns data without the socket being readable.
+     */
+    boolean hasBufferedInput() {
+        return false;
+    }
+
+    boolean isSecure() {
+        return false;
+    }
+
+    /**
+     * Tests whether {@link #transferFrom} can move file bytes without passing them
+     * through user space.
+     */
+    boolean supportsTransfer() {
+        return true;
+    }
+
+    long transferFrom(FileChannel file, long position, long count) throws IOException {
+        return file.transferTo(position, count, channel);
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,268 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+
+/**
+ * Owns the server socket, the acceptor thread and the pollers of a {@link Connector}.
+ *
+ * <p>The acceptor blocks in {@link ServerSocketChannel#accept()}, switches each new
+ * socket to non-blocking mode and registers it with the next poller. All further
+ * I/O readiness for that socket is handled by the poller's selector. A TLS connection
+ * first goes to a worker for its handshake, which picks the protocol through ALPN.</p>
+ *
+ * <p>The endpoint also owns one timer thread for the timeouts of asynchronous requests.
+ * Those belong to requests rather than idle connections, are comparatively few, and are
+ * started from arbitrary threads, so they do not go on the pollers' timing wheels.</p>
+ */
+final class NioEndpoint {
+
+    private static final System.Logger LOG = System.getLogger(NioEndpoint.class.getName());
+
+    private static final int MAX_POOLED_READ_BUFFERS = 1024;
+
+    private final Connector connector;
+    private final Executor executor;
+    private final Semaphore connectionLimit;
+    private final Poller[] pollers;
+    private final BufferPool readBufferPool;
+    private final BufferPool outputBufferPool;
+    private final ScheduledThreadPoolExecutor asyncTimer;
+
+    private ServerSocketChannel serverChannel;
+    private Thread acceptorThread;
+    private volatile boolean running;
+    private int nextPoller;
+
+    NioEndpoint(Connector connector, Executor executor) {
+        this.connector = connector;
+        this.executor = executor;
+        this.connectionLimit = new Semaphore(connector.getMaxConnections());
+        this.pollers = new Poller[connector.getPollerCount()];
+        this.readBufferPool = new BufferPool(connector.getReadBufferSize(), false,
+                MAX_POOLED_READ_BUFFERS);
+        long maxOutputMemory = connector.getMaxOutputMemory();
+        int outputBufferSize = connector.getOutputBufferSize();
+        this.outputBufferPool = new BufferPool(outputBufferSize, true,
+                (int) Math.min(Integer.MAX_VALUE, maxOutputMemory / outputBufferSize),
+                maxOutputMemory);
+        this.asyncTimer = new ScheduledThreadPoolExecutor(1,
+                Connector.threadFactory("minicat-async-timer-"));
+        asyncTimer.setRemoveOnCancelPolicy(true);
+    }
+
+    void bind(InetSocketAddress address, int backlog) throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+        serverChannel.bind(address, backlog);
+        serverChannel.configureBlocking(true);
+    }
+
+    void start() throws IOException {
+        running = true;
+        for (int i = 0; i < pollers.length; i++) {
+            pollers[i] = new Poller(this);
+            Thread thread = new Thread(pollers[i], "minicat-poller-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        acceptorThread = new Thread(this::acceptLoop, "minicat-acceptor");
+        acceptorThread.setDaemon(true);
+        acceptorThread.start();
+    }
+
+    void stop() {
+        running = false;
+        try {
+            serverChannel.close();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to close server socket", e);
+        }
+        for (Poller poller : pollers) {
+            if (poller != null) {
+                poller.destroy();
+            }
+        }
+        asyncTimer.shutdownNow();
+    }
+
+    int getLocalPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    Connector getConnector() {
+        return connector;
+    }
+
+    BufferPool getReadBufferPool() {
+        return readBufferPool;
+    }
+
+    BufferPool getOutputBufferPool() {
+        return outputBufferPool;
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Hands a connection whose request head is complete to the worker executor.
+     *
+     * @param processor the processor of the connection
+     */
+    void dispatch(Http11Processor processor) {
+        try {
+            executor.execute(processor);
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Worker executor rejected request", e);
+            processor.reject();
+        }
+    }
+
+    /**
+     * Runs a task of an asynchronous request on the worker executor.
+     *
+     * @param task the task
+     * @throws RejectedExecutionException if the executor is saturated or shut down
+     */
+    void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Schedules the timeout of an asynchronous request.
+     *
+     * @param task runs on the timer thread when the timeout elapses
+     * @param delayMillis the timeout in milliseconds
+     * @return the handle to cancel the timeout with
+     */
+    ScheduledFuture<?> scheduleAsyncTimeout(Runnable task, long delayMillis) {
+        return asyncTimer.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void connectionClosed() {
+        connectionLimit.release();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            SocketChannel channel = null;
+            try {
+                connectionLimit.acquire();
+                channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                Poller poller = pollers[nextPoller];
+                nextPoller = (nextPoller + 1) % pollers.length;
+                if (connector.getSslContext() == null) {
+                    poller.register(new SocketWrapper(new NioChannel(channel), poller, this));
+                } else {
+                    handshake(new SocketWrapper(secureChannel(channel), poller, this));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedChannelException e) {
+                connectionLimit.release();
+                return;
+            } catch (IOException e) {
+                connectionLimit.release();
+                closeQuietly(channel);
+                if (running) {
+                    LOG.log(System.Logger.Level.WARNING, "Failed to accept connection", e);
+                }
+            }
+        }
+    }
+
+    private SecureNioChannel secureChannel(SocketChannel channel) {
+        SSLEngine engine = connector.getSslContext().createSSLEngine();
+        engine.setUseClientMode(false);
+        SSLParameters parameters = engine.getSSLParameters();
+        parameters.setApplicationProtocols(connector.isHttp2Enabled()
+                ? new String[] {"h2", "http/1.1"} : new String[] {"http/1.1"});
+        engine.setSSLParameters(parameters);
+        return new SecureNioChannel(channel, engine);
+    }
+
+    /**
+     * Runs the TLS handshake of a new connection on a worker, then hands the
+     * connection to its poller with the processor for the negotiated protocol.
+     */
+    private void handshake(SocketWrapper socket) {
+        try {
+            executor.execute(() -> {
+                SecureNioChannel channel = (SecureNioChannel) socket.getChannel();
+                try {
+                    channel.handshake(socket);
+                } catch (IOException e) {
+                    LOG.log(System.Logger.Level.DEBUG, "TLS handshake failed", e);
+                    socket.close();
+                    return;
+                }
+                if ("h2".equals(channel.getApplicationProtocol())) {
+                    Http2Connection http2 = new Http2Connection(socket, connector.getServlet());
+                    socket.setProcessor(http2);
+                    http2.start(ByteBuffer.allocate(0));
+                }
+                socket.requestRead();
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Worker executor rejected TLS handshake", e);
+            socket.close();
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to close socket", e);
+        }
+    }
+}
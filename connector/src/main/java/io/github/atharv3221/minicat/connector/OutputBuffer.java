@@ -0,0 +1,126 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sink of a {@link Response}: buffers the body and writes it, together with the status
+ * and headers, in the framing of the protocol the request arrived on.
+ *
+ * <p>The response commits on the first write that reaches the client. Until then the
+ * buffered body can be discarded, and the status and headers changed.</p>
+ */
+interface OutputBuffer {
+
+    boolean isCommitted();
+
+    /**
+     * Returns the number of body bytes written or discarded so far.
+     */
+    long getBodyBytes();
+
+    int getFlushThreshold();
+
+    void setFlushThreshold(int flushThreshold);
+
+    void write(byte[] src, int offset, int length) throws IOException;
+
+    void write(int b) throws IOException;
+
+    /**
+     * Writes a caller-owned buffer, such as a memory-mapped file region, as body
+     * content. The buffer's position is advanced to its limit.
+     */
+    void write(ByteBuffer src) throws IOException;
+
+    /**
+     * Writes a region of a file as body content, without copying it through the heap
+     * where the protocol allows.
+     */
+    void sendFile(FileChannel file, long position, long count) throws IOException;
+
+    /**
+     * Writes the status and headers if not yet committed, followed by any buffered body
+     * bytes.
+     *
+     * @param last {@code true} if no more body bytes will follow
+     */
+    void flush(boolean last) throws IOException;
+
+    /**
+     * Discards body bytes that have not been written yet.
+     *
+     * @return {@code true} if a compressed stream was discarded with them, so the body
+     *     is no longer encoded
+     */
+    boolean resetBuffer();
+
+    /**
+     * Writes the interim {@code 100 Continue} response, unless the final response has
+     * already been committed.
+     */
+    void writeContinue() throws IOException;
+
+    /**
+     * Allows the final flush of this response to be deferred until the next response
+     * or {@link #flushPending()}. Only pipelined HTTP/1.1 responses are ever deferred.
+     */
+    void setDeferLast(boolean deferLast);
+
+    /**
+     * Writes the responses whose final flush was deferred.
+     */
+    void flushPending() throws IOException;
+
+    /**
+     * Switches to non-blocking mode, or back to blocking mode with {@code null}.
+     *
+     * @param callback run on a worker when writing can continue after
+     *     {@link #isReady()} returned {@code false}
+     */
+    void setWritableCallback(Runnable callback);
+
+    /**
+     * Tests whether a write can proceed without waiting for the client. A
+     * {@code false} result is remembered, and reported by the {@link #drain()} that
+     * makes writing possible again.
+     */
+    boolean isReady();
+
+    /**
+     * Continues writing what is queued, asking to be called again if the client is
+     * still not ready.
+     *
+     * @return {@code true} if writing can proceed and {@link #isReady()} returned
+     *     {@code false} since the last time, so the write listener should be called
+     * @throws IOException if the write fails
+     */
+    boolean drain() throws IOException;
+
+    void recycle();
+}
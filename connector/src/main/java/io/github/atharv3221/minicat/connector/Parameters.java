@@ -0,0 +1,177 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request parameters, decoded from the query string the first time one is read.
+ */
+final class Parameters {
+
+    private static final String[] NO_VALUES = new String[0];
+
+    private final Map<String, List<String>> values = new LinkedHashMap<>();
+    private boolean parsed;
+
+    boolean isParsed() {
+        return parsed;
+    }
+
+    void setParsed() {
+        parsed = true;
+    }
+
+    /**
+     * Decodes {@code application/x-www-form-urlencoded} pairs from the given bytes.
+     */
+    void addEncoded(byte[] bytes, int start, int end, Charset charset) {
+        int pos = start;
+        while (pos < end) {
+            int pairEnd = pos;
+            int equals = -1;
+            while (pairEnd < end && bytes[pairEnd] != '&') {
+                if (bytes[pairEnd] == '=' && equals < 0) {
+                    equals = pairEnd;
+                }
+                pairEnd++;
+            }
+            if (pairEnd > pos) {
+                String name;
+                String value;
+                if (equals < 0) {
+                    name = decode(bytes, pos, pairEnd, charset);
+                    value = "";
+                } else {
+                    name = decode(bytes, pos, equals, charset);
+                    value = decode(bytes, equals + 1, pairEnd, charset);
+                }
+                add(name, value);
+            }
+            pos = pairEnd + 1;
+        }
+    }
+
+    void add(String name, String value) {
+        values.computeIfAbsent(name, key -> new ArrayList<>(1)).add(value);
+    }
+
+    String getParameter(String name) {
+        List<String> list = values.get(name);
+        return list == null ? null : list.get(0);
+    }
+
+    String[] getParameterValues(String name) {
+        List<String> list = values.get(name);
+        return list == null ? null : list.toArray(NO_VALUES);
+    }
+
+    Enumeration<String> getParameterNames() {
+        return Collections.enumeration(values.keySet());
+    }
+
+    void recycle() {
+        values.clear();
+        parsed = false;
+    }
+
+    /**
+     * Percent-decodes a slice, treating {@code +} as a space. Malformed escapes are
+     * kept literally rather than failing the whole request.
+     */
+    static String decode(byte[] bytes, int start, int end, Charset charset) {
+        int escape = start;
+        while (escape < end && bytes[escape] != '%' && bytes[escape] != '+') {
+            escape++;
+        }
+        if (escape == end) {
+            return new String(bytes, start, end - start, charset);
+        }
+        byte[] decoded = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '+') {
+                decoded[length++] = ' ';
+            } else if (b == '%' && i + 2 < end && hex(bytes[i + 1]) >= 0
+                    && hex(bytes[i + 2]) >= 0) {
+                decoded[length++] = (byte) (hex(bytes[i + 1]) << 4 | hex(bytes[i + 2]));
+                i += 2;
+            } else {
+                decoded[length++] = b;
+            }
+        }
+        return new String(decoded, 0, length, charset);
+    }
+
+    /**
+     * Percent-decodes a request path. Unlike {@link #decode}, {@code +} is literal, and
+     * escapes that would change how the path splits into segments or ends it early
+     * ({@code %2F}, {@code %5C}, {@code %00}) or that are malformed make the path
+     * invalid.
+     *
+     * @return the decoded path, or {@code null} if the path is invalid
+     */
+    static String decodePath(byte[] bytes, int start, int end, Charset charset) {
+        int escape = start;
+        while (escape < end && bytes[escape] != '%') {
+            escape++;
+        }
+        if (escape == end) {
+            return new String(bytes, start, end - start, charset);
+        }
+        byte[] decoded = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '%') {
+                if (i + 2 >= end || hex(bytes[i + 1]) < 0 || hex(bytes[i + 2]) < 0) {
+                    return null;
+                }
+                b = (byte) (hex(bytes[i + 1]) << 4 | hex(bytes[i + 2]));
+                if (b == '/' || b == '\\' || b == 0) {
+                    return null;
+                }
+                i += 2;
+            }
+            decoded[length++] = b;
+        }
+        return new String(decoded, 0, length, charset);
+    }
+
+    private static int hex(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        int lower = Ascii.toLower(b);
+        return lower >= 'a' && lower <= 'f' ? lower - 'a' + 10 : -1;
+    }
+}
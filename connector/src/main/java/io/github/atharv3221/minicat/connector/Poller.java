@@ -0,0 +1,266 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Selector loop that watches a subset of the connector's connections for I/O readiness.
+ *
+ * <p>Interest changes requested by other threads are queued on the poller and applied
+ * by the poller thread itself before each select, so the selector is only ever mutated
+ * from one thread. The queue is a stack linked through the connections themselves and
+ * ready keys are handed to a callback instead of collected in the selector's key set,
+ * so a busy poller allocates nothing per event. Reads of the request head happen on the
+ * poller; a connection is handed to a worker only when its processor reports a complete
+ * head.</p>
+ *
+ * <p>While a connection waits for a request it has a deadline on the poller's
+ * {@link TimingWheel}: the keep-alive timeout until the first byte of a request
+ * arrives, then the connection timeout for the rest of the head. The deadline is
+ * cancelled when the connection is dispatched and set again when the worker hands it
+ * back. A worker waiting for more of a request body gets the connection timeout
+ * too.</p>
+ *
+ * <p>HTTP/2 connections are never dispatched: the poller reads all their frames and
+ * the streams are dispatched instead. Such a connection keeps its keep-alive deadline
+ * while streams are open, but the deadline is extended rather than closing it.</p>
+ */
+final class Poller implements Runnable {
+
+    private static final System.Logger LOG = System.getLogger(Poller.class.getName());
+
+    private static final int WHEEL_SLOTS = 512;
+    private static final long WHEEL_TICK = 250;
+
+    private final NioEndpoint endpoint;
+    private final Selector selector;
+    private final TimingWheel wheel = new TimingWheel(WHEEL_SLOTS, WHEEL_TICK, System.nanoTime());
+    private final AtomicReference<SocketWrapper> events = new AtomicReference<>();
+    private final AtomicBoolean wakeupPending = new AtomicBoolean();
+    private final Consumer<SelectionKey> selected =
+            key -> processKey(key, (SocketWrapper) key.attachment());
+    private final Consumer<TimingWheel.Timeout> expired = this::expire;
+    private volatile boolean closed;
+
+    Poller(NioEndpoint endpoint) throws IOException {
+        this.endpoint = endpoint;
+        this.selector = Selector.open();
+    }
+
+    /**
+     * Registers a newly accepted connection for read readiness.
+     *
+     * @param socket the accepted connection
+     */
+    void register(SocketWrapper socket) {
+        add(socket, SelectionKey.OP_READ);
+    }
+
+    /**
+     * Requests that the given interest ops be added to the connection's key.
+     *
+     * @param socket the connection
+     * @param ops the {@link SelectionKey} interest ops to add
+     */
+    void add(SocketWrapper socket, int ops) {
+        if (socket.addPendingInterest(ops)) {
+            SocketWrapper head;
+            do {
+                head = events.get();
+                socket.setNextEvent(head);
+            } while (!events.compareAndSet(head, socket));
+            if (wakeupPending.compareAndSet(false, true)) {
+                selector.wakeup();
+            }
+        }
+    }
+
+    void destroy() {
+        closed = true;
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        while (!closed) {
+            try {
+                wakeupPending.set(false);
+                events();
+                selector.select(selected, wheel.getTickMillis());
+                wakeupPending.set(true);
+            } catch (IOException e) {
+                LOG.log(System.Logger.Level.ERROR, "Selector failure", e);
+                continue;
+            }
+            if (closed) {
+                break;
+            }
+            wheel.advance(System.nanoTime(), expired);
+        }
+        for (SelectionKey key : selector.keys()) {
+            ((SocketWrapper) key.attachment()).close();
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to close selector", e);
+        }
+    }
+
+    private void events() {
+        SocketWrapper next = events.getAndSet(null);
+        while (next != null) {
+            SocketWrapper socket = next;
+            next = socket.getNextEvent();
+            socket.setNextEvent(null);
+            int ops = socket.takePendingInterest();
+            if (ops == 0 || socket.isClosed()) {
+                continue;
+            }
+            SelectionKey key = socket.getSelectionKey();
+            try {
+                if (key == null) {
+                    socket.setSelectionKey(
+                            socket.getChannel().getChannel().register(selector, ops, socket));
+                } else {
+                    key.interestOps(key.interestOps() | ops);
+                }
+            } catch (IOException | CancelledKeyException e) {
+                close(socket);
+                continue;
+            }
+            if ((ops & SelectionKey.OP_READ) != 0) {
+                startTimeout(socket, key == null || socket.hasBufferedData());
+                if (socket.getChannel().hasBufferedInput()) {
+                    readable(socket.getSelectionKey(), socket);
+                }
+            }
+        }
+    }
+
+    private void processKey(SelectionKey key, SocketWrapper socket) {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!key.isValid()) {
+                close(socket);
+                return;
+            }
+            int ready = key.readyOps();
+            if ((ready & SelectionKey.OP_WRITE) != 0) {
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+                socket.signalWritable();
+            }
+            if ((ready & SelectionKey.OP_READ) != 0) {
+                readable(key, socket);
+            }
+        } catch (CancelledKeyException e) {
+            close(socket);
+        }
+    }
+
+    /**
+     * Handles read readiness, reported by the selector or, for bytes a TLS channel has
+     * already decrypted, found when the connection is handed back. The processor parses
+     * on the poller thread, so a failure it did not expect closes only its connection.
+     */
+    private void readable(SelectionKey key, SocketWrapper socket) {
+        try {
+            if (socket.isReadingBody()) {
+                wheel.cancel(socket.getTimeout());
+                key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                socket.signalReadable();
+                return;
+            }
+            Processor processor = socket.getProcessor();
+            switch (processor.read()) {
+                case DISPATCH -> {
+                    wheel.cancel(socket.getTimeout());
+                    key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+                    // Only HTTP/1.1 hands a whole connection to a worker
+                    endpoint.dispatch((Http11Processor) processor);
+                }
+                case CLOSED -> close(socket);
+                default -> {
+                    if (socket.getTimeout().isIdle() && socket.hasBufferedData()) {
+                        startTimeout(socket, true);
+                    }
+                }
+            }
+        } catch (CancelledKeyException e) {
+            close(socket);
+        } catch (RuntimeException e) {
+            LOG.log(System.Logger.Level.ERROR, "Failed to process input of a connection", e);
+            close(socket);
+        }
+    }
+
+    /**
+     * Starts the timeout of a connection waiting for a request.
+     *
+     * @param socket the connection
+     * @param head {@code true} to apply the connection timeout for reading a head,
+     *     {@code false} for the keep-alive timeout
+     */
+    private void startTimeout(SocketWrapper socket, boolean head) {
+        Connector connector = endpoint.getConnector();
+        long delay = head ? connector.getConnectionTimeout() : connector.getKeepAliveTimeout();
+        TimingWheel.Timeout timeout = socket.getTimeout();
+        if (delay <= 0) {
+            wheel.cancel(timeout);
+            return;
+        }
+        timeout.setIdle(!head);
+        wheel.schedule(timeout, delay, System.nanoTime());
+    }
+
+    private void expire(TimingWheel.Timeout timeout) {
+        SocketWrapper socket = timeout.getSocket();
+        if (socket.isClosed()) {
+            return;
+        }
+        if (socket.getProcessor().isBusy()) {
+            startTimeout(socket, false);
+        } else {
+            LOG.log(System.Logger.Level.DEBUG, timeout.isIdle()
+                    ? "Closing idle keep-alive connection"
+                    : "Closing connection that timed out reading a request");
+            socket.close();
+        }
+    }
+
+    private void close(SocketWrapper socket) {
+        wheel.cancel(socket.getTimeout());
+        socket.close();
+    }
+}
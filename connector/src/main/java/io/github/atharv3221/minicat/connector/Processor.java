@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+/**
+ * Speaks the application protocol of one connection, HTTP/1.1 or HTTP/2.
+ *
+ * <p>The poller calls {@link #read()} whenever the socket is readable. Only the
+ * {@link Http11Processor} reports {@link SocketState#DISPATCH}, which hands it to a
+ * worker; an {@link Http2Connection} stays on the poller and dispatches its streams
+ * itself. A connection starts with a processor for HTTP/1.1 and may switch to HTTP/2
+ * for the rest of its life, see {@link SocketWrapper#setProcessor}.</p>
+ */
+interface Processor {
+
+    /**
+     * Reads whatever is available from the socket. Called on the poller thread.
+     *
+     * @return what the poller does with the connection next
+     */
+    SocketState read();
+
+    /**
+     * Tests whether requests are in progress although the connection is waiting to
+     * read, which keeps its poller from expiring it as idle.
+     */
+    boolean isBusy();
+
+    /**
+     * Lets the processor fail whatever still waits on the connection. Called once,
+     * after the socket was closed.
+     */
+    void connectionClosed();
+}
@@ -0,0 +1,995 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.AsyncContext;
+import io.github.atharv3221.minicat.servlet.MultipartConfigElement;
+import io.github.atharv3221.minicat.servlet.ReadListener;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletInputStream;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpSession;
+import io.github.atharv3221.minicat.servlet.http.Part;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Connector-side {@link HttpServletRequest} backed by slices of the connection's read
+ * buffer, or on HTTP/2 of the stream's decoded header block.
+ *
+ * <p>On HTTP/1.1 one instance lives as long as its connection and is recycled between
+ * requests; on HTTP/2 each stream has its own. Every accessor materializes its
+ * {@code String} on first use only, so a request whose servlet reads two headers
+ * creates two strings. The method, protocol, decoded URI and servlet path are taken
+ * from constants or from the previous request on the connection when they are equal,
+ * so serving the same GET over and over allocates nothing.</p>
+ *
+ * <p>Sessions come from the {@link SessionManager} the container sets once it has
+ * mapped the request onto a context. The session a request looked up or created stays
+ * in use until the request is recycled, when its access ends.</p>
+ *
+ * <p>Parameters of a POST with a {@code application/x-www-form-urlencoded} or
+ * {@code multipart/form-data} body are parsed from the body the first time a parameter
+ * or part is read, unless the servlet asked for the input stream before. The body is
+ * read in slices through a buffer borrowed from the connector's read buffer pool:
+ * complete form pairs are decoded as soon as they arrive, and multipart bodies go
+ * through a {@link MultipartParser} whose parts above the file size threshold of the
+ * {@link MultipartConfigElement} are written to {@link ServletContext#TEMPDIR}. The
+ * temporary files are deleted when the request is recycled.</p>
+ *
+ * <p>The class is public so the container can record the outcome of mapping the
+ * request onto a context and servlet; applications only ever see it through a
+ * {@link RequestFacade}.</p>
+ */
+public final class Request implements HttpServletRequest {
+
+    /**
+     * Name of the cookie that carries the session identifier.
+     */
+    public static final String SESSION_COOKIE = "JSESSIONID";
+
+    private static final System.Logger LOG = System.getLogger(Request.class.getName());
+
+    private static final int MIN_BODY_BUFFER_SIZE = 1024;
+
+    static final String HTTP_11 = "HTTP/1.1";
+    static final String HTTP_10 = "HTTP/1.0";
+    static final String HTTP_20 = "HTTP/2.0";
+
+    private static final String[] METHODS = {
+        "GET", "HEAD", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"
+    };
+    private static final String[] PROTOCOLS = {HTTP_11, HTTP_20, HTTP_10};
+
+    private final MessageBytes method = new MessageBytes();
+    private final MessageBytes requestUri = new MessageBytes();
+    private final MessageBytes queryString = new MessageBytes();
+    private final MessageBytes protocol = new MessageBytes();
+    private final HttpHeaders headers = new HttpHeaders();
+    private final Parameters parameters = new Parameters();
+    private final RequestInputStream inputStream = new RequestInputStream();
+
+    private long contentLength = -2;
+    private String contentType;
+    private String characterEncoding;
+    private ServletContext servletContext;
+    private String contextPath = "";
+    private String servletPath = "";
+    private String pathInfo;
+    private boolean mapped;
+    private String decodedUri;
+    private boolean decoded;
+    private ConnectorAsyncContext.Owner processor;
+    private InputBuffer inputBuffer;
+    private ConnectorAsyncContext asyncContext;
+    private RequestFacade facade;
+    private boolean recycleFacades;
+    private String lastRequestUri;
+    private String lastDecodedUri;
+    private String lastServletPath;
+    private String lastPathInfo;
+    private Object note;
+    private Response response;
+    private SessionManager sessionManager;
+    private HttpSession session;
+    private boolean sessionLookedUp;
+    private String requestedSessionId;
+    private boolean requestedSessionIdParsed;
+    private MultipartConfigElement multipartConfig;
+    private List<RequestPart> parts;
+    private Exception partsFailure;
+    private boolean usingInputStream;
+
+    Request() {
+    }
+
+    /**
+     * Returns the request unwrapped from what a servlet was handed.
+     *
+     * @param request a request passed to {@code Servlet.service}
+     * @return the connector request, or {@code null} if {@code request} is neither a
+     *     connector request nor the facade of one that is still in use
+     */
+    public static Request unwrap(ServletRequest request) {
+        if (request instanceof RequestFacade facade) {
+            return facade.getRequest();
+        }
+        return request instanceof Request connectorRequest ? connectorRequest : null;
+    }
+
+    /**
+     * Returns the facade to hand to servlets, creating it if the request has none.
+     */
+    HttpServletRequest getFacade() {
+        if (facade == null) {
+            facade = new RequestFacade(this);
+        }
+        return facade;
+    }
+
+    /**
+     * Makes {@link #recycle()} detach the facade, see
+     * {@link Connector#setRecycleFacades}.
+     */
+    void setRecycleFacades(boolean recycleFacades) {
+        this.recycleFacades = recycleFacades;
+    }
+
+    /**
+     * Returns the object the container attached with {@link #setNote}.
+     *
+     * @return the note, or {@code null} if none was set
+     */
+    public Object getNote() {
+        return note;
+    }
+
+    /**
+     * Attaches an object of the container to this request. Unlike everything else the
+     * note survives recycling, so the container can keep scratch state for the requests
+     * of a connection, such as the result of mapping, in it.
+     *
+     * @param note the object, or {@code null}
+     */
+    public void setNote(Object note) {
+        this.note = note;
+    }
+
+    /**
+     * Pairs this request with its response, which receives the session cookie.
+     */
+    void setResponse(Response response) {
+        this.response = response;
+    }
+
+    /**
+     * Sets the manager of the sessions of the context the request was mapped to.
+     *
+     * @param sessionManager the manager, or {@code null} if the context has no sessions
+     */
+    public void setSessionManager(SessionManager sessionManager) {
+        if (sessionManager != this.sessionManager) {
+            endSessionAccess();
+            this.sessionManager = sessionManager;
+            sessionLookedUp = false;
+        }
+    }
+
+    /**
+     * Sets the limits for parsing a {@code multipart/form-data} body, from the context
+     * the request was mapped to.
+     *
+     * @param multipartConfig the limits, or {@code null} to not parse multipart bodies
+     */
+    public void setMultipartConfig(MultipartConfigElement multipartConfig) {
+        this.multipartConfig = multipartConfig;
+    }
+
+    /**
+     * Attaches the processor of the connection or stream, which enables asynchronous
+     * processing and reading the request body.
+     */
+    void setProcessor(ConnectorAsyncContext.Owner processor, InputBuffer inputBuffer) {
+        this.processor = processor;
+        this.inputBuffer = inputBuffer;
+    }
+
+    /**
+     * Returns the context of the asynchronous processing started on this request.
+     *
+     * @return the context, or {@code null} if {@link #startAsync()} was not called
+     */
+    ConnectorAsyncContext asyncContext() {
+        return asyncContext;
+    }
+
+    MessageBytes method() {
+        return method;
+    }
+
+    MessageBytes requestUri() {
+        return requestUri;
+    }
+
+    MessageBytes queryString() {
+        return queryString;
+    }
+
+    MessageBytes protocol() {
+        return protocol;
+    }
+
+    HttpHeaders getMimeHeaders() {
+        return headers;
+    }
+
+    /**
+     * Records how the container mapped this request onto a context and servlet.
+     *
+     * @param servletContext the context
+     * @param servletPath the part of the path that matched the servlet mapping
+     * @param pathInfo the rest of the path, or {@code null} if there is none
+     */
+    public void setMapping(ServletContext servletContext, String servletPath,
+            String pathInfo) {
+        this.servletContext = servletContext;
+        this.contextPath = servletContext.getContextPath();
+        this.servletPath = servletPath;
+        this.pathInfo = pathInfo;
+        this.mapped = true;
+    }
+
+    /**
+     * Records how the container mapped this request, with the servlet path and path info
+     * given as regions of the normalized path. The strings of the previous request on
+     * the connection are reused when they are equal.
+     *
+     * @param servletContext the context
+     * @param path the normalized path
+     * @param servletStart the offset in {@code path} where the servlet path starts
+     * @param servletEnd the offset in {@code path} where the servlet path ends and the
+     *     path info, if any, starts
+     */
+    public void setMapping(ServletContext servletContext, String path, int servletStart,
+            int servletEnd) {
+        lastServletPath = reuse(lastServletPath, path, servletStart, servletEnd);
+        if (servletEnd < path.length()) {
+            lastPathInfo = reuse(lastPathInfo, path, servletEnd, path.length());
+            setMapping(servletContext, lastServletPath, lastPathInfo);
+        } else {
+            setMapping(servletContext, lastServletPath, null);
+        }
+    }
+
+    /**
+     * Returns the request URI without the query string, percent-decoded as UTF-8. The
+     * result is computed once per request.
+     *
+     * @return the decoded path, or {@code null} if the URI contains malformed escapes or
+     *     encoded characters that are not allowed in a path, such as {@code %2F}
+     */
+    @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+    public String getDecodedURI() {
+        if (!decoded) {
+            if (lastDecodedUri != null && requestUri.equals(lastDecodedUri)) {
+                decodedUri = lastDecodedUri;
+            } else {
+                decodedUri = Parameters.decodePath(requestUri.getBytes(),
+                        requestUri.getStart(), requestUri.getEnd(), StandardCharsets.UTF_8);
+                if (decodedUri != null && requestUri.equals(decodedUri)) {
+                    // Plain ASCII, so equal bytes decode to this string again
+                    lastDecodedUri = decodedUri;
+                }
+            }
+            decoded = true;
+        }
+        return decodedUri;
+    }
+
+    /**
+     * Tests whether the connection may be reused after this request, following the
+     * HTTP/1.0 and HTTP/1.1 defaults for the {@code Connection} header.
+     */
+    boolean isKeepAlive() {
+        MessageBytes connection = headers.find("Connection");
+        if (protocol.equals(HTTP_11)) {
+            return connection == null || !connection.containsTokenIgnoreCase("close");
+        }
+        return connection != null && connection.containsTokenIgnoreCase("keep-alive");
+    }
+
+    /**
+     * Tests whether the client waits for {@code 100 Continue} before sending the body.
+     */
+    boolean expectsContinue() {
+        MessageBytes expect = headers.find("Expect");
+        return expect != null && (protocol.equals(HTTP_11) || protocol.equals(HTTP_20))
+                && expect.containsTokenIgnoreCase("100-continue");
+    }
+
+    /**
+     * Tests whether the body is chunked, which the last transfer coding decides.
+     */
+    boolean isChunked() {
+        MessageBytes encoding = headers.findLast("Transfer-Encoding");
+        return encoding != null && encoding.endsWithTokenIgnoreCase("chunked");
+    }
+
+    /**
+     * Tests whether a {@code Transfer-Encoding} header is present but does not end with
+     * {@code chunked}, which leaves the end of the body unknown.
+     */
+    boolean hasInvalidTransferEncoding() {
+        return headers.find("Transfer-Encoding") != null && !isChunked();
+    }
+
+    /**
+     * Tests whether a {@code Content-Length} header is present but not a valid length,
+     * or repeated with different values.
+     */
+    boolean hasInvalidContentLength() {
+        long length = -1;
+        for (int i = 0; i < headers.size(); i++) {
+            if (headers.getName(i).equalsIgnoreCase("Content-Length")) {
+                long value = headers.getValue(i).toLong();
+                if (value < 0 || length >= 0 && value != length) {
+                    return true;
+                }
+                length = value;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String getMethod() {
+        return known(method, METHODS);
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+    public String getRequestURI() {
+        if (lastRequestUri == null || !requestUri.equals(lastRequestUri)) {
+            lastRequestUri = requestUri.toString();
+        }
+        return lastRequestUri;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString.toString();
+    }
+
+    @Override
+    public String getProtocol() {
+        return known(protocol, PROTOCOLS);
+    }
+
+    @Override
+    public boolean isSecure() {
+        return processor != null && processor.isSecure();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return servletContext;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getServletPath() {
+        return servletPath;
+    }
+
+    @Override
+    public String getPathInfo() {
+        if (!mapped) {
+            return getDecodedURI();
+        }
+        return pathInfo;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return headers.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return headers.getHeaderNames();
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        MessageBytes value = headers.find(name);
+        return value == null ? -1 : Integer.parseInt(value.toString().trim());
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        if (characterEncoding == null) {
+            String type = getContentType();
+            if (type != null) {
+                characterEncoding = charsetParameter(type);
+            }
+        }
+        return characterEncoding;
+    }
+
+    @Override
+    public int getContentLength() {
+        long length = getContentLengthLong();
+        return length > Integer.MAX_VALUE ? -1 : (int) length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        if (contentLength == -2) {
+            MessageBytes value = headers.find("Content-Length");
+            contentLength = value == null ? -1 : value.toLong();
+        }
+        return contentLength;
+    }
+
+    @Override
+    public String getContentType() {
+        if (contentType == null) {
+            contentType = headers.getHeader("Content-Type");
+        }
+        return contentType;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        usingInputStream = true;
+        return inputStream;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        return parameters().getParameter(name);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return parameters().getParameterNames();
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters().getParameterValues(name);
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        if (MultipartParser.boundary(getContentType()) == null) {
+            throw new ServletException("Content type [" + getContentType()
+                    + "] is not multipart/form-data with a boundary");
+        }
+        if (multipartConfig == null) {
+            throw new IllegalStateException("No multipart configuration is set");
+        }
+        parameters();
+        if (parts == null && partsFailure == null) {
+            parseParts();
+        }
+        if (partsFailure instanceof IOException e) {
+            throw e;
+        } else if (partsFailure != null) {
+            throw (RuntimeException) partsFailure;
+        }
+        return Collections.unmodifiableList(parts);
+    }
+
+    @Override
+    public Part getPart(String name) throws IOException, ServletException {
+        for (Part part : getParts()) {
+            if (part.getName().equals(name)) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        if (!requestedSessionIdParsed) {
+            requestedSessionIdParsed = true;
+            Enumeration<String> cookies = headers.getHeaders("Cookie");
+            while (requestedSessionId == null && cookies.hasMoreElements()) {
+                requestedSessionId = cookieValue(cookies.nextElement(), SESSION_COOKIE);
+            }
+        }
+        return requestedSessionId;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        if (session != null) {
+            if (sessionManager.isValid(session)) {
+                return session;
+            }
+            endSessionAccess();
+        }
+        if (sessionManager == null) {
+            if (create) {
+                throw new IllegalStateException("The request is not mapped to a context");
+            }
+            return null;
+        }
+        if (!sessionLookedUp) {
+            sessionLookedUp = true;
+            String id = getRequestedSessionId();
+            session = id == null ? null : sessionManager.findSession(id);
+            if (session != null) {
+                return session;
+            }
+        }
+        if (!create) {
+            return null;
+        }
+        if (response.isCommitted()) {
+            throw new IllegalStateException(
+                    "Cannot create a session after the response has been committed");
+        }
+        session = sessionManager.createSession();
+        response.addHeader("Set-Cookie", SESSION_COOKIE + '=' + session.getId() + "; Path="
+                + (contextPath.isEmpty() ? "/" : contextPath) + "; HttpOnly"
+                + (isSecure() ? "; Secure" : ""));
+        return session;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return getSession(true);
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        String id = getRequestedSessionId();
+        HttpSession current = getSession(false);
+        return id != null && current != null && id.equals(current.getId());
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        if (processor == null) {
+            throw new IllegalStateException("Asynchronous processing is not supported");
+        }
+        if (asyncContext == null) {
+            asyncContext = processor.startAsync();
+        } else if (!asyncContext.restart()) {
+            throw new IllegalStateException("Asynchronous processing was already started");
+        }
+        return asyncContext;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return asyncContext != null && asyncContext.isStarted();
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        if (asyncContext == null) {
+            throw new IllegalStateException("Asynchronous processing was not started");
+        }
+        return asyncContext;
+    }
+
+    void recycle() {
+        if (recycleFacades && facade != null) {
+            facade.clear();
+            facade = null;
+        }
+        endSessionAccess();
+        deleteParts();
+        multipartConfig = null;
+        usingInputStream = false;
+        sessionManager = null;
+        sessionLookedUp = false;
+        requestedSessionId = null;
+        requestedSessionIdParsed = false;
+        method.recycle();
+        requestUri.recycle();
+        queryString.recycle();
+        protocol.recycle();
+        headers.recycle();
+        parameters.recycle();
+        contentLength = -2;
+        contentType = null;
+        characterEncoding = null;
+        servletContext = null;
+        contextPath = "";
+        servletPath = "";
+        pathInfo = null;
+        mapped = false;
+        decodedUri = null;
+        decoded = false;
+        asyncContext = null;
+        inputStream.listener = null;
+        inputStream.allDataRead = false;
+    }
+
+    private void deleteParts() {
+        if (parts != null) {
+            for (RequestPart part : parts) {
+                try {
+                    part.delete();
+                } catch (IOException e) {
+                    LOG.log(System.Logger.Level.WARNING, "Failed to delete the temporary file"
+                            + " of part [" + part.getName() + "]", e);
+                }
+            }
+            parts = null;
+        }
+        partsFailure = null;
+    }
+
+    private void endSessionAccess() {
+        if (session != null) {
+            HttpSession ended = session;
+            session = null;
+            sessionManager.endAccess(ended);
+        }
+    }
+
+    /**
+     * Returns the value of a cookie in a {@code Cookie} header, without quotes.
+     *
+     * @return the value, or {@code null} if the header has no non-empty cookie of that
+     *     name
+     */
+    private static String cookieValue(String header, String name) {
+        int length = header.length();
+        int start = 0;
+        while (start < length) {
+            int end = header.indexOf(';', start);
+            if (end < 0) {
+                end = length;
+            }
+            while (start < end && (header.charAt(start) == ' ' || header.charAt(start) == '\t')) {
+                start++;
+            }
+            int valueStart = start + name.length() + 1;
+            if (valueStart <= end && header.startsWith(name, start)
+                    && header.charAt(valueStart - 1) == '=') {
+                String value = header.substring(valueStart, end).trim();
+                if (value.length() >= 2 && value.charAt(0) == '"'
+                        && value.charAt(value.length() - 1) == '"') {
+                    value = value.substring(1, value.length() - 1);
+                }
+                if (!value.isEmpty()) {
+                    return value;
+                }
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static String known(MessageBytes value, String[] constants) {
+        if (!value.isNull()) {
+            for (String constant : constants) {
+                if (value.equals(constant)) {
+                    return constant;
+                }
+            }
+        }
+        return value.toString();
+    }
+
+    private static String reuse(String previous, String path, int start, int end) {
+        if (previous != null && previous.length() == end - start
+                && path.startsWith(previous, start)) {
+            return previous;
+        }
+        return path.substring(start, end);
+    }
+
+    private Parameters parameters() {
+        if (!parameters.isParsed()) {
+            parameters.setParsed();
+            if (!queryString.isNull()) {
+                parameters.addEncoded(queryString.getBytes(), queryString.getStart(),
+                        queryString.getEnd(), queryCharset());
+            }
+            if (inputBuffer != null && !usingInputStream && "POST".equals(getMethod())) {
+                parseBody();
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Adds the parameters of a form body. A body that cannot be read or is too large
+     * leaves the parameters already decoded, as servlets cannot be told of the failure
+     * through the parameter methods.
+     */
+    private void parseBody() {
+        String type = getContentType();
+        try {
+            if (type == null) {
+                return;
+            } else if (type.regionMatches(true, 0, "application/x-www-form-urlencoded", 0, 33)) {
+                parseForm();
+            } else if (multipartConfig != null && MultipartParser.boundary(type) != null) {
+                parseParts();
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to parse the parameters of the body", e);
+        }
+    }
+
+    /**
+     * Decodes an urlencoded body slice by slice: the pairs up to the last {@code &} of
+     * what was read are added at once and only the incomplete pair after it is kept.
+     * Only a single pair longer than the buffer makes it grow.
+     */
+    private void parseForm() throws IOException {
+        long max = processor.getEndpoint().getConnector().getMaxPostSize();
+        long length = getContentLengthLong();
+        if (max >= 0 && length > max) {
+            throw new IllegalStateException("Form body of " + length
+                    + " bytes is larger than the limit of " + max + " bytes");
+        }
+        BufferPool pool = processor.getEndpoint().getReadBufferPool();
+        ByteBuffer pooled = pool.acquire();
+        try {
+            byte[] bytes = pooled.array();
+            Charset charset = queryCharset();
+            int end = 0;
+            long total = 0;
+            while (true) {
+                if (end == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+                int count = inputBuffer.read(bytes, end, bytes.length - end, true);
+                if (count < 0) {
+                    parameters.addEncoded(bytes, 0, end, charset);
+                    return;
+                }
+                total += count;
+                if (max >= 0 && total > max) {
+                    throw new IllegalStateException("Form body is larger than the limit of "
+                            + max + " bytes");
+                }
+                int separator = -1;
+                for (int i = end + count - 1; i >= end; i--) {
+                    if (bytes[i] == '&') {
+                        separator = i;
+                        break;
+                    }
+                }
+                end += count;
+                if (separator >= 0) {
+                    parameters.addEncoded(bytes, 0, separator, charset);
+                    System.arraycopy(bytes, separator + 1, bytes, 0, end - separator - 1);
+                    end -= separator + 1;
+                }
+            }
+        } finally {
+            pool.release(pooled);
+        }
+    }
+
+    /**
+     * Parses a multipart body into parts and adds the parts that are not files as
+     * parameters. Their text counts against the connector's limit on form bodies, and
+     * the parts against its limit on their number. The
+     * outcome, parts or failure, is kept for {@link #getParts()}.
+     */
+    private void parseParts() throws IOException {
+        MultipartConfigElement config = multipartConfig;
+        String boundary = MultipartParser.boundary(getContentType());
+        parts = List.of();
+        try {
+            if (usingInputStream || inputBuffer == null) {
+                throw new IllegalStateException("The body was read through getInputStream()");
+            }
+            long length = getContentLengthLong();
+            if (config.getMaxRequestSize() >= 0 && length > config.getMaxRequestSize()) {
+                throw new IllegalStateException("Multipart body of " + length
+                        + " bytes is larger than the limit of " + config.getMaxRequestSize()
+                        + " bytes");
+            }
+            Charset charset = queryCharset();
+            BufferPool pool = processor.getEndpoint().getReadBufferPool();
+            ByteBuffer pooled = pool.getBufferSize() < MIN_BODY_BUFFER_SIZE
+                    ? ByteBuffer.allocate(MIN_BODY_BUFFER_SIZE) : pool.acquire();
+            Connector connector = processor.getEndpoint().getConnector();
+            try {
+                parts = new MultipartParser(inputBuffer, pooled, boundary, config,
+                        connector.getMaxPostSize(), connector.getMaxPartCount(),
+                        partsLocation(config), charset).parse();
+            } finally {
+                pool.release(pooled);
+            }
+            for (RequestPart part : parts) {
+                if (part.getSubmittedFileName() == null) {
+                    String type = part.getContentType();
+                    String encoding = type == null ? null : charsetParameter(type);
+                    parameters.add(part.getName(), part.getString(
+                            encoding != null && Charset.isSupported(encoding)
+                                    ? Charset.forName(encoding) : charset));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            partsFailure = e;
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves the directory for temporary part files: the configured location, taken
+     * relative to the context's temporary directory, or that directory itself.
+     */
+    private Path partsLocation(MultipartConfigElement config) {
+        Path tempDir = servletContext != null
+                && servletContext.getAttribute(ServletContext.TEMPDIR) instanceof File dir
+                ? dir.toPath() : Path.of(System.getProperty("java.io.tmpdir"));
+        return tempDir.resolve(config.getLocation());
+    }
+
+    private Charset queryCharset() {
+        String encoding = getCharacterEncoding();
+        if (encoding != null && Charset.isSupported(encoding)) {
+            return Charset.forName(encoding);
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Input stream handed to servlets, reading the body through the request's
+     * {@link InputBuffer}.
+     */
+    private final class RequestInputStream extends ServletInputStream {
+
+        private final byte[] single = new byte[1];
+        private ReadListener listener;
+        private boolean allDataRead;
+
+        @Override
+        public int read() throws IOException {
+            int count;
+            do {
+                count = read(single, 0, 1);
+            } while (count == 0);
+            return count < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (inputBuffer == null) {
+                return -1;
+            }
+            int count = inputBuffer.read(b, off, len, listener == null);
+            if (count == 0 && len > 0) {
+                throw new IllegalStateException("No data available, isReady() returned false");
+            }
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return inputBuffer == null ? 0 : inputBuffer.available();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return inputBuffer == null || inputBuffer.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            if (inputBuffer == null || listener == null) {
+                return isFinished() || available() > 0;
+            }
+            ConnectorAsyncContext async = asyncContext;
+            try {
+                if (inputBuffer.isReady()) {
+                    return true;
+                }
+                inputBuffer.notifyWhenReadable(() -> async.runListener(this::onReadable));
+            } catch (IOException e) {
+                async.runListener(() -> listener.onError(e));
+            }
+            return false;
+        }
+
+        @Override
+        public void setReadListener(ReadListener listener) {
+            Objects.requireNonNull(listener, "listener");
+            if (this.listener != null) {
+                throw new IllegalStateException("A read listener is already set");
+            }
+            if (!isAsyncStarted()) {
+                throw new IllegalStateException("Asynchronous processing was not started");
+            }
+            this.listener = listener;
+            asyncContext.runListener(this::onReadable);
+        }
+
+        /**
+         * Calls the listener for data that arrived, and once for the end of the body.
+         */
+        private void onReadable() {
+            try {
+                if (!isFinished()) {
+                    if (!isReady()) {
+                        return;
+                    }
+                    if (!isFinished()) {
+                        listener.onDataAvailable();
+                    }
+                }
+                if (isFinished() && !allDataRead) {
+                    allDataRead = true;
+                    listener.onAllDataRead();
+                }
+            } catch (IOException | RuntimeException e) {
+                listener.onError(e);
+            }
+        }
+    }
+
+    private static String charsetParameter(String contentType) {
+        int index = contentType.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        int start = index + "charset=".length();
+        int end = contentType.indexOf(';', start);
+        String value = (end < 0 ? contentType.substring(start) : contentType.substring(start, end))
+                .trim();
+        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,226 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.AsyncContext;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletInputStream;
+import io.github.atharv3221.minicat.servlet.http.HttpServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpSession;
+import io.github.atharv3221.minicat.servlet.http.Part;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Enumeration;
+
+/**
+ * The view of a {@link Request} that servlets get, so the connector can recycle the
+ * request behind it.
+ *
+ * <p>A request normally keeps one facade for as long as it is reused. With
+ * {@link Connector#setRecycleFacades} enabled, recycling the request detaches the facade
+ * and the next request gets a new one, so a servlet that keeps a reference past the end
+ * of its request fails with an {@link IllegalStateException} instead of reading someone
+ * else's request.</p>
+ */
+final class RequestFacade implements HttpServletRequest {
+
+    private volatile Request request;
+
+    RequestFacade(Request request) {
+        this.request = request;
+    }
+
+    /**
+     * Returns the request behind this facade, or {@code null} once it was detached.
+     */
+    Request getRequest() {
+        return request;
+    }
+
+    void clear() {
+        request = null;
+    }
+
+    @Override
+    public String getMethod() {
+        return request().getMethod();
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+    public String getRequestURI() {
+        return request().getRequestURI();
+    }
+
+    @Override
+    public String getQueryString() {
+        return request().getQueryString();
+    }
+
+    @Override
+    public String getProtocol() {
+        return request().getProtocol();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return request().isSecure();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return request().getServletContext();
+    }
+
+    @Override
+    public String getContextPath() {
+        return request().getContextPath();
+    }
+
+    @Override
+    public String getServletPath() {
+        return request().getServletPath();
+    }
+
+    @Override
+    public String getPathInfo() {
+        return request().getPathInfo();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return request().getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return request().getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return request().getHeaderNames();
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        return request().getIntHeader(name);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return request().getCharacterEncoding();
+    }
+
+    @Override
+    public int getContentLength() {
+        return request().getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return request().getContentLengthLong();
+    }
+
+    @Override
+    public String getContentType() {
+        return request().getContentType();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return request().getInputStream();
+    }
+
+    @Override
+    public String getParameter(String name) {
+        return request().getParameter(name);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return request().getParameterNames();
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return request().getParameterValues(name);
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        return request().startAsync();
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return request().isAsyncStarted();
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        return request().getAsyncContext();
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return request().getRequestedSessionId();
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        return request().getSession(create);
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return request().getSession();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return request().isRequestedSessionIdValid();
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        return request().getParts();
+    }
+
+    @Override
+    public Part getPart(String name) throws IOException, ServletException {
+        return request().getPart(name);
+    }
+
+    private Request request() {
+        Request current = request;
+        if (current == null) {
+            throw new IllegalStateException(
+                    "The request was recycled, this object must not be used after its request");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,255 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.http.Part;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A part of a {@code multipart/form-data} body, filled by the {@link MultipartParser} as
+ * the body is read.
+ *
+ * <p>Content up to the file size threshold is kept in a heap array. The first byte past
+ * it moves what was buffered to a temporary file, and all further content goes straight
+ * from the parser's buffer to that file's channel, so a large upload never occupies
+ * more heap than the threshold.</p>
+ */
+final class RequestPart implements Part {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final List<String> headers;
+    private final String name;
+    private final String submittedFileName;
+    private final Path location;
+    private final long maxSize;
+    private final int threshold;
+    private byte[] data = EMPTY;
+    private long size;
+    private Path file;
+    private FileChannel channel;
+    private boolean temporary;
+
+    /**
+     * Creates an empty part.
+     *
+     * @param headers the part's header names and values, alternating
+     * @param name the {@code name} of the part's content disposition
+     * @param submittedFileName the {@code filename} of the content disposition, or
+     *     {@code null}
+     * @param location the directory for the temporary file
+     * @param maxSize the largest allowed size, or {@code -1} for no limit
+     * @param threshold the size above which the content moves to a temporary file
+     */
+    RequestPart(List<String> headers, String name, String submittedFileName, Path location,
+            long maxSize, int threshold) {
+        this.headers = headers;
+        this.name = name;
+        this.submittedFileName = submittedFileName;
+        this.location = location;
+        this.maxSize = maxSize;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Appends the remaining bytes of the buffer to the content.
+     *
+     * @param src the bytes, consumed by this call
+     * @throws IOException if the temporary file cannot be written
+     * @throws IllegalStateException if the part grows larger than its limit
+     */
+    void append(ByteBuffer src) throws IOException {
+        int length = src.remaining();
+        long total = size + length;
+        if (maxSize >= 0 && total > maxSize) {
+            throw new IllegalStateException("Part [" + name + "] is larger than the limit of "
+                    + maxSize + " bytes");
+        }
+        if (channel == null && total <= threshold) {
+            if (total > data.length) {
+                int capacity = (int) Math.max(total, Math.min(threshold,
+                        Math.max(INITIAL_CAPACITY, data.length * 2L)));
+                data = Arrays.copyOf(data, capacity);
+            }
+            src.get(data, (int) size, length);
+        } else {
+            if (channel == null) {
+                spill();
+            }
+            while (src.hasRemaining()) {
+                channel.write(src);
+            }
+        }
+        size = total;
+    }
+
+    private void spill() throws IOException {
+        file = Files.createTempFile(location, "upload-", ".tmp");
+        temporary = true;
+        channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        ByteBuffer buffered = ByteBuffer.wrap(data, 0, (int) size);
+        while (buffered.hasRemaining()) {
+            channel.write(buffered);
+        }
+        data = EMPTY;
+    }
+
+    /**
+     * Closes the temporary file once the parser has seen the end of the part.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    void finish() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    /**
+     * Decodes the content as text, for a form field that becomes a request parameter.
+     *
+     * @param charset the charset of the content
+     * @return the content
+     * @throws IOException if the temporary file cannot be read
+     */
+    String getString(Charset charset) throws IOException {
+        if (file == null) {
+            return new String(data, 0, (int) size, charset);
+        }
+        return new String(Files.readAllBytes(file), charset);
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        if (file == null) {
+            return new ByteArrayInputStream(data, 0, (int) size);
+        }
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public String getContentType() {
+        return getHeader("Content-Type");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getSubmittedFileName() {
+        return submittedFileName;
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public void write(String fileName) throws IOException {
+        Path target = location.resolve(fileName);
+        if (file == null) {
+            try (OutputStream out = Files.newOutputStream(target)) {
+                out.write(data, 0, (int) size);
+            }
+            return;
+        }
+        finish();
+        if (temporary) {
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+            file = target;
+            temporary = false;
+        } else {
+            Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void delete() throws IOException {
+        data = EMPTY;
+        if (channel != null) {
+            try {
+                channel.close();
+            } finally {
+                channel = null;
+            }
+        }
+        if (temporary) {
+            temporary = false;
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public String getHeader(String name) {
+        for (int i = 0; i < headers.size(); i += 2) {
+            if (headers.get(i).equalsIgnoreCase(name)) {
+                return headers.get(i + 1);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<String> getHeaders(String name) {
+        List<String> values = new ArrayList<>(1);
+        for (int i = 0; i < headers.size(); i += 2) {
+            if (headers.get(i).equalsIgnoreCase(name)) {
+                values.add(headers.get(i + 1));
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public Collection<String> getHeaderNames() {
+        List<String> names = new ArrayList<>(headers.size() / 2);
+        for (int i = 0; i < headers.size(); i += 2) {
+            String header = headers.get(i);
+            if (names.stream().noneMatch(header::equalsIgnoreCase)) {
+                names.add(header);
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,729 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.ServletOutputStream;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.WriteListener;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Connector-side {@link HttpServletResponse}.
+ *
+ * <p>On HTTP/1.1 one instance lives as long as its connection and is recycled between
+ * requests; on HTTP/2 each stream has its own. Body bytes go straight into the
+ * {@link OutputBuffer} of the protocol, an {@link Http11OutputBuffer} or an
+ * {@link Http2OutputBuffer}; the status line and headers are serialized only when the
+ * response is committed. The {@link ResponseWriter} is kept for the next request on the
+ * connection as long as that uses the same charset.</p>
+ *
+ * <p>Besides the servlet API, the response offers zero-copy body methods for container
+ * components such as the static resource servlet, and can compress its body on the fly
+ * as configured by a {@link Compression}.</p>
+ */
+public final class Response implements HttpServletResponse {
+
+    private static final String DEFAULT_CHARSET = "ISO-8859-1";
+
+    private final Request request;
+    private final OutputBuffer outputBuffer;
+    private final ResponseOutputStream outputStream = new ResponseOutputStream();
+    private final List<String> headerNames = new ArrayList<>();
+    private final List<String> headerValues = new ArrayList<>();
+
+    private int status = SC_OK;
+    private String contentType;
+    private byte[] contentTypeHeader;
+    private String contentTypeHeaderValue;
+    private String characterEncoding;
+    private long contentLength = -1;
+    private boolean keepAlive;
+    private boolean usingOutputStream;
+    private PrintWriter writer;
+    private ResponseWriter cachedWriter;
+    private String parsedType;
+    private String parsedCharset;
+    private ResponseFacade facade;
+    private boolean recycleFacades;
+    private boolean finishing;
+    private boolean finished;
+    private boolean closed;
+    private Compression compression;
+
+    Response(Request request, Function<Response, OutputBuffer> outputBuffer) {
+        this.request = request;
+        this.outputBuffer = outputBuffer.apply(this);
+        request.setResponse(this);
+    }
+
+    /**
+     * Returns the response unwrapped from what a servlet was handed, for container
+     * components that use the zero-copy body methods.
+     *
+     * @param response a response passed to {@code Servlet.service}
+     * @return the connector response, or {@code null} if {@code response} is neither a
+     *     connector response nor the facade of one that is still in use
+     */
+    public static Response unwrap(ServletResponse response) {
+        if (response instanceof ResponseFacade facade) {
+            return facade.getResponse();
+        }
+        return response instanceof Response connectorResponse ? connectorResponse : null;
+    }
+
+    /**
+     * Returns the facade to hand to servlets, creating it if the response has none.
+     */
+    HttpServletResponse getFacade() {
+        if (facade == null) {
+            facade = new ResponseFacade(this);
+        }
+        return facade;
+    }
+
+    /**
+     * Makes {@link #recycle()} detach the facade, see
+     * {@link Connector#setRecycleFacades}. Also stops reusing the writer, so every
+     * request gets its own.
+     */
+    void setRecycleFacades(boolean recycleFacades) {
+        this.recycleFacades = recycleFacades;
+    }
+
+    boolean isHeadRequest() {
+        return request.method().equals("HEAD");
+    }
+
+    boolean isHttp11() {
+        return request.protocol().equals(Request.HTTP_11);
+    }
+
+    boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    void setKeepAlive(boolean keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    void forEachHeader(BiConsumer<String, String> consumer) {
+        for (int i = 0; i < headerNames.size(); i++) {
+            consumer.accept(headerNames.get(i), headerValues.get(i));
+        }
+    }
+
+    /**
+     * Completes the response: flushes the writer, commits if necessary and writes the
+     * remaining body and framing.
+     */
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finishing = true;
+        if (writer != null) {
+            writer.flush();
+        }
+        finished = true;
+        outputBuffer.setWritableCallback(null);
+        outputBuffer.flush(true);
+    }
+
+    /**
+     * Sends the rest of the response, as the container does when a forward returns.
+     * Body content written afterwards is discarded rather than rejected, since the
+     * servlet that forwarded may not know the response is gone.
+     *
+     * @throws IOException if the write fails
+     */
+    public void closeOutput() throws IOException {
+        finish();
+        closed = true;
+    }
+
+    /**
+     * Enables on-the-fly compression of this response's body, or disables it with
+     * {@code null}. Only takes effect before the first body byte is written. Reset when
+     * the response is recycled.
+     *
+     * @param compression the compression settings, or {@code null}
+     */
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
+
+    Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Decides, as the first body byte is written or the head is committed, whether the
+     * body is compressed, and sets the headers for it if so. Once the head has been
+     * sent, the body goes out as it is.
+     *
+     * @return the content coding to apply, or {@code null} to send the body as it is
+     */
+    String startEncoding() {
+        Compression settings = compression;
+        if (settings == null || isCommitted() || status == SC_PARTIAL_CONTENT
+                || indexOfHeader("Content-Encoding") >= 0 || indexOfHeader("Content-Range") >= 0
+                || contentLength >= 0 && contentLength < settings.getMinSize()) {
+            return null;
+        }
+        String type = contentType != null ? contentType
+                : settings.lookupMimeType(request.getDecodedURI());
+        if (!settings.isCompressible(type)) {
+            return null;
+        }
+        int vary = indexOfHeader("Vary");
+        if (vary < 0) {
+            addHeader("Vary", "Accept-Encoding");
+        } else if (!headerValues.get(vary).toLowerCase(Locale.ROOT).contains("accept-encoding")) {
+            headerValues.set(vary, headerValues.get(vary) + ", Accept-Encoding");
+        }
+        String coding = Compression.negotiate(request.getHeader("Accept-Encoding"));
+        if (coding != null) {
+            setHeader("Content-Encoding", coding);
+            contentLength = -1;
+        }
+        return coding;
+    }
+
+    /**
+     * Tells a client waiting for {@code 100 Continue} to send the request body.
+     */
+    void sendContinue() throws IOException {
+        outputBuffer.writeContinue();
+    }
+
+    /**
+     * Lets the final flush of this response wait for the next pipelined response, so
+     * both go out in one write.
+     */
+    void setDeferFlush(boolean deferFlush) {
+        outputBuffer.setDeferLast(deferFlush);
+    }
+
+    /**
+     * Writes responses whose final flush was deferred.
+     */
+    void flushPending() throws IOException {
+        outputBuffer.flushPending();
+    }
+
+    /**
+     * Writes a buffer the caller owns, for example a memory-mapped file, as body
+     * content. Large buffers are passed to the socket as they are, without being copied
+     * into the response buffers. The buffer's position is advanced to its limit.
+     *
+     * @param src the bytes to write
+     * @throws IOException if the write fails
+     */
+    public void write(ByteBuffer src) throws IOException {
+        if (!writable()) {
+            src.position(src.limit());
+            return;
+        }
+        if (writer != null) {
+            cachedWriter.writeBuffered();
+        }
+        outputBuffer.write(src);
+    }
+
+    /**
+     * Sends a region of a file as body content with {@link FileChannel#transferTo}.
+     * Status and headers are committed first; when no content length was set and no
+     * body was written yet, {@code count} becomes the content length.
+     *
+     * @param file an open channel to the file
+     * @param position the file offset of the first byte to send
+     * @param count the number of bytes to send
+     * @throws IOException if the transfer fails
+     */
+    public void sendFile(FileChannel file, long position, long count) throws IOException {
+        if (!writable()) {
+            return;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        outputBuffer.sendFile(file, position, count);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return characterEncoding == null ? DEFAULT_CHARSET : characterEncoding;
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        if (isCommitted() || writer != null) {
+            return;
+        }
+        characterEncoding = charset;
+        if (contentType != null) {
+            contentType = withCharset(mediaType(contentType), charset);
+        }
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        if (isCommitted()) {
+            return;
+        }
+        if (type == null) {
+            contentType = null;
+            return;
+        }
+        if (type != parsedType) {
+            // Servlets mostly pass the same constant, parse it once per connection
+            parsedCharset = charsetOf(type);
+            parsedType = type;
+        }
+        String charset = parsedCharset;
+        if (charset != null && writer == null) {
+            characterEncoding = charset;
+            contentType = type;
+        } else if (characterEncoding != null && type.startsWith("text/")) {
+            contentType = withCharset(mediaType(type), characterEncoding);
+        } else {
+            contentType = charset == null ? type : mediaType(type);
+        }
+    }
+
+    /**
+     * Sets the content type together with its pre-encoded header line, which is copied
+     * into the response head as is, without re-encoding the string.
+     *
+     * <p>The pre-encoded line is only used while the content type stays exactly
+     * {@code type}; if a charset is added to it, now or later, the header is encoded
+     * from the string as usual.</p>
+     *
+     * @param type the content type
+     * @param header the header line returned by {@link #encodeContentType} for
+     *     {@code type}
+     */
+    public void setContentType(String type, byte[] header) {
+        setContentType(type);
+        if (contentType == type) {
+            contentTypeHeader = header;
+            contentTypeHeaderValue = type;
+        }
+    }
+
+    /**
+     * Encodes a complete {@code Content-Type} header line, for callers that serve the
+     * same few types over and over and want to cache the bytes.
+     *
+     * @param type the content type; control characters are replaced with spaces, as for
+     *     any other header value
+     * @return the header line, ending with CRLF
+     */
+    public static byte[] encodeContentType(String type) {
+        byte[] line = ("Content-Type: " + type + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i < line.length - 2; i++) {
+            int c = line[i] & 0xff;
+            if (c < 0x20 && c != '\t' || c == 0x7f) {
+                line[i] = ' ';
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Returns the pre-encoded header line of the current content type, or {@code null}
+     * if the header has to be encoded from {@link #getContentType()}.
+     */
+    byte[] getContentTypeHeader() {
+        return contentType != null && contentType == contentTypeHeaderValue
+                ? contentTypeHeader : null;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (!isCommitted()) {
+            contentLength = len;
+        }
+    }
+
+    long getContentLengthLong() {
+        return contentLength;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        usingOutputStream = true;
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (usingOutputStream) {
+            throw new IllegalStateException("getOutputStream() has already been called");
+        }
+        if (writer == null) {
+            if (characterEncoding == null && contentType != null) {
+                setCharacterEncoding(DEFAULT_CHARSET);
+            }
+            Charset charset = Charset.isSupported(getCharacterEncoding())
+                    ? Charset.forName(getCharacterEncoding())
+                    : StandardCharsets.ISO_8859_1;
+            if (cachedWriter == null || recycleFacades || !cachedWriter.isReusable(charset)) {
+                cachedWriter = new ResponseWriter(outputStream, charset);
+            }
+            writer = cachedWriter;
+        }
+        return writer;
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+        if (outputBuffer.getBodyBytes() > 0 || isCommitted()) {
+            throw new IllegalStateException("Content has already been written");
+        }
+        outputBuffer.setFlushThreshold(size);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return outputBuffer.getFlushThreshold();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        outputBuffer.flush(false);
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (isCommitted()) {
+            throw new IllegalStateException("Response has already been committed");
+        }
+        if (writer != null) {
+            cachedWriter.recycle();
+        }
+        if (outputBuffer.resetBuffer()) {
+            removeHeader("Content-Encoding");
+        }
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return outputBuffer.isCommitted();
+    }
+
+    @Override
+    public void reset() {
+        resetBuffer();
+        status = SC_OK;
+        contentType = null;
+        characterEncoding = null;
+        contentLength = -1;
+        headerNames.clear();
+        headerValues.clear();
+        usingOutputStream = false;
+        writer = null;
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        if (!isCommitted()) {
+            status = sc;
+        }
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (isCommitted() || specialHeader(name, value)) {
+            return;
+        }
+        removeHeader(name);
+        if (value != null) {
+            headerNames.add(name);
+            headerValues.add(value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (isCommitted() || value == null || specialHeader(name, value)) {
+            return;
+        }
+        headerNames.add(name);
+        headerValues.add(value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        setHeader(name, Integer.toString(value));
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        setHeader(name, HttpDates.format(date));
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            return contentType != null;
+        }
+        if (name.equalsIgnoreCase("Content-Length")) {
+            return contentLength >= 0;
+        }
+        return indexOfHeader(name) >= 0;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            return contentType;
+        }
+        if (name.equalsIgnoreCase("Content-Length")) {
+            return contentLength < 0 ? null : Long.toString(contentLength);
+        }
+        int index = indexOfHeader(name);
+        return index < 0 ? null : headerValues.get(index);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        sendError(sc, null);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        if (isCommitted()) {
+            throw new IllegalStateException("Response has already been committed");
+        }
+        reset();
+        setStatus(sc);
+        if (msg != null) {
+            setContentType("text/plain;charset=UTF-8");
+            byte[] bytes = msg.getBytes(StandardCharsets.UTF_8);
+            setContentLength(bytes.length);
+            outputBuffer.write(bytes, 0, bytes.length);
+        }
+        finish();
+    }
+
+    void recycle() {
+        if (recycleFacades && facade != null) {
+            facade.clear();
+            facade = null;
+        }
+        outputBuffer.recycle();
+        status = SC_OK;
+        contentType = null;
+        contentTypeHeader = null;
+        contentTypeHeaderValue = null;
+        characterEncoding = null;
+        contentLength = -1;
+        keepAlive = false;
+        headerNames.clear();
+        headerValues.clear();
+        usingOutputStream = false;
+        if (writer != null) {
+            cachedWriter.recycle();
+            writer = null;
+        }
+        finishing = false;
+        finished = false;
+        closed = false;
+        compression = null;
+        outputStream.listener = null;
+    }
+
+    /**
+     * Tests whether body content may still be written.
+     *
+     * @return {@code false} if the output was closed and content is to be discarded
+     * @throws IOException if the response was completed
+     */
+    private boolean writable() throws IOException {
+        if (finished) {
+            if (closed) {
+                return false;
+            }
+            throw new IOException("Response has already been completed");
+        }
+        return true;
+    }
+
+    /**
+     * Routes headers with a dedicated setter to that setter.
+     *
+     * @return {@code true} if the header was handled
+     */
+    private boolean specialHeader(String name, String value) {
+        if (name.equalsIgnoreCase("Content-Type")) {
+            setContentType(value);
+            return true;
+        }
+        if (name.equalsIgnoreCase("Content-Length")) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value.trim()));
+            return true;
+        }
+        return false;
+    }
+
+    private int indexOfHeader(String name) {
+        for (int i = 0; i < headerNames.size(); i++) {
+            if (headerNames.get(i).equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void removeHeader(String name) {
+        for (int i = headerNames.size() - 1; i >= 0; i--) {
+            if (headerNames.get(i).equalsIgnoreCase(name)) {
+                headerNames.remove(i);
+                headerValues.remove(i);
+            }
+        }
+    }
+
+    private static String mediaType(String type) {
+        int semicolon = type.indexOf(';');
+        return semicolon < 0 ? type.trim() : type.substring(0, semicolon).trim();
+    }
+
+    private static String withCharset(String mediaType, String charset) {
+        return charset == null ? mediaType : mediaType + ";charset=" + charset;
+    }
+
+    private static String charsetOf(String type) {
+        int index = type.toLowerCase(Locale.ROOT).indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        int start = index + "charset=".length();
+        int end = type.indexOf(';', start);
+        String charset = (end < 0 ? type.substring(start) : type.substring(start, end)).trim();
+        return charset.isEmpty() ? null : charset;
+    }
+
+    /**
+     * Output stream handed to servlets, writing into the connection's output buffer.
+     */
+    private final class ResponseOutputStream extends ServletOutputStream {
+
+        private WriteListener listener;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (writable()) {
+                outputBuffer.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (writable()) {
+                outputBuffer.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!finishing) {
+                outputBuffer.flush(false);
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return listener == null || outputBuffer.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            Objects.requireNonNull(listener, "listener");
+            if (this.listener != null) {
+                throw new IllegalStateException("A write listener is already set");
+            }
+            if (!request.isAsyncStarted()) {
+                throw new IllegalStateException("Asynchronous processing was not started");
+            }
+            ConnectorAsyncContext async = request.asyncContext();
+            this.listener = listener;
+            outputBuffer.setWritableCallback(() -> async.runListener(this::onWritable));
+            async.runListener(this::onWritePossible);
+        }
+
+        private void onWritable() {
+            try {
+                if (outputBuffer.drain()) {
+                    listener.onWritePossible();
+                }
+            } catch (IOException | RuntimeException e) {
+                listener.onError(e);
+            }
+        }
+
+        private void onWritePossible() {
+            try {
+                listener.onWritePossible();
+            } catch (IOException | RuntimeException e) {
+                listener.onError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.ServletOutputStream;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * The view of a {@link Response} that servlets get. Detached on recycling like a
+ * {@link RequestFacade}, when {@link Connector#setRecycleFacades} is enabled.
+ */
+final class ResponseFacade implements HttpServletResponse {
+
+    private volatile Response response;
+
+    ResponseFacade(Response response) {
+        this.response = response;
+    }
+
+    /**
+     * Returns the response behind this facade, or {@code null} once it was detached.
+     */
+    Response getResponse() {
+        return response;
+    }
+
+    void clear() {
+        response = null;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return response().getCharacterEncoding();
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        response().setCharacterEncoding(charset);
+    }
+
+    @Override
+    public String getContentType() {
+        return response().getContentType();
+    }
+
+    @Override
+    public void setContentType(String type) {
+        response().setContentType(type);
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        response().setContentLength(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        response().setContentLengthLong(len);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return response().getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        return response().getWriter();
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+        response().setBufferSize(size);
+    }
+
+    @Override
+    public int getBufferSize() {
+        return response().getBufferSize();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        response().flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        response().resetBuffer();
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return response().isCommitted();
+    }
+
+    @Override
+    public void reset() {
+        response().reset();
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        response().setStatus(sc);
+    }
+
+    @Override
+    public int getStatus() {
+        return response().getStatus();
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        response().setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        response().addHeader(name, value);
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        response().setIntHeader(name, value);
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        response().setDateHeader(name, date);
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return response().containsHeader(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return response().getHeader(name);
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        response().sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        response().sendError(sc, msg);
+    }
+
+    private Response response() {
+        Response current = response;
+        if (current == null) {
+            throw new IllegalStateException(
+                    "The response was recycled, this object must not be used after its request");
+        }
+        return current;
+    }
+}
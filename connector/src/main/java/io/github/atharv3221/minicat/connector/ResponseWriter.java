@@ -0,0 +1,189 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Writer that {@link Response#getWriter()} hands to servlets.
+ *
+ * <p>Characters are encoded through buffers owned by the writer rather than an
+ * {@link java.io.OutputStreamWriter}, which allocates for every string it writes. A
+ * response flushes its writer when it finishes, so the writer, buffers and encoder serve
+ * the following responses on the connection too, unless the servlet closed it or asked
+ * for another charset.</p>
+ */
+final class ResponseWriter extends PrintWriter {
+
+    private final Charset charset;
+    private final EncodingWriter encoding;
+    private boolean closed;
+
+    ResponseWriter(OutputStream stream, Charset charset) {
+        this(new EncodingWriter(stream, charset), charset);
+    }
+
+    private ResponseWriter(EncodingWriter encoding, Charset charset) {
+        super(encoding, false);
+        this.encoding = encoding;
+        this.charset = charset;
+    }
+
+    boolean isReusable(Charset charset) {
+        return !closed && this.charset.equals(charset);
+    }
+
+    /**
+     * Discards characters that were written but not flushed, and the error state, before
+     * the writer is used for another response.
+     */
+    void recycle() {
+        encoding.recycle();
+        clearError();
+    }
+
+    /**
+     * Encodes the buffered characters into the response without flushing it, so that
+     * bytes written to the response directly come after them.
+     *
+     * @throws IOException if the write fails
+     */
+    void writeBuffered() throws IOException {
+        encoding.encode();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        super.close();
+    }
+
+    /**
+     * Encodes into a fixed byte buffer and writes it to the response's output stream
+     * whenever it fills up.
+     */
+    private static final class EncodingWriter extends Writer {
+
+        private static final int CHAR_BUFFER_SIZE = 1024;
+
+        private final OutputStream stream;
+        private final CharsetEncoder encoder;
+        private final CharBuffer chars = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+        private final ByteBuffer bytes;
+
+        EncodingWriter(OutputStream stream, Charset charset) {
+            this.stream = stream;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.bytes = ByteBuffer.allocate(
+                    (int) Math.ceil(encoder.maxBytesPerChar() * CHAR_BUFFER_SIZE));
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (!chars.hasRemaining()) {
+                encode();
+            }
+            chars.put((char) c);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            int offset = off;
+            int end = off + len;
+            while (offset < end) {
+                if (!chars.hasRemaining()) {
+                    encode();
+                }
+                int count = Math.min(end - offset, chars.remaining());
+                chars.put(cbuf, offset, count);
+                offset += count;
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            int offset = off;
+            int end = off + len;
+            while (offset < end) {
+                if (!chars.hasRemaining()) {
+                    encode();
+                }
+                int count = Math.min(end - offset, chars.remaining());
+                str.getChars(offset, offset + count, chars.array(),
+                        chars.arrayOffset() + chars.position());
+                chars.position(chars.position() + count);
+                offset += count;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            encode();
+            stream.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            encode();
+            stream.close();
+        }
+
+        /**
+         * Encodes the buffered characters and writes the bytes. A high surrogate at the
+         * end stays buffered until its low surrogate arrives.
+         */
+        private void encode() throws IOException {
+            chars.flip();
+            while (encoder.encode(chars, bytes, false).isOverflow()) {
+                drain();
+            }
+            drain();
+            chars.compact();
+        }
+
+        private void drain() throws IOException {
+            if (bytes.position() > 0) {
+                stream.write(bytes.array(), bytes.arrayOffset(), bytes.position());
+                bytes.clear();
+            }
+        }
+
+        void recycle() {
+            encoder.reset();
+            chars.clear();
+            bytes.clear();
+        }
+    }
+}
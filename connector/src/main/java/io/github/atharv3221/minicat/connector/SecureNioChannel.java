@@ -0,0 +1,339 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+
+/**
+ * TLS channel on top of a non-blocking socket, driven by an {@link SSLEngine}.
+ *
+ * <p>Reads decrypt whole records into an internal buffer and return as much as the
+ * caller asks for; what is left is reported by {@link #hasBufferedInput()}, since the
+ * socket will not become readable for it again. Writes encrypt into an internal buffer
+ * and write it straight away; a record the socket does not fully accept stays there
+ * until {@link #flush()} or the next write, and the write reports the plaintext bytes
+ * as consumed already.</p>
+ *
+ * <p>The handshake runs on a worker right after the connection is accepted, parking in
+ * the socket wrapper whenever the socket is not ready, and negotiates the application
+ * protocol through ALPN. Reads and writes may run concurrently, as the engine allows;
+ * the encrypted output buffer is guarded by a lock.</p>
+ */
+final class SecureNioChannel extends NioChannel {
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+    private final SSLEngine engine;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ByteBuffer netIn;
+    private final ByteBuffer netOut;
+    private ByteBuffer appIn;
+
+    SecureNioChannel(SocketChannel channel, SSLEngine engine) {
+        super(channel);
+        this.engine = engine;
+        int packetSize = engine.getSession().getPacketBufferSize();
+        this.netIn = ByteBuffer.allocateDirect(packetSize);
+        this.netOut = ByteBuffer.allocateDirect(packetSize).flip();
+        this.appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+    }
+
+    /**
+     * Performs the TLS handshake.
+     *
+     * @param socket the connection, used to wait for the socket
+     * @throws IOException if the handshake fails, times out or the client goes away
+     */
+    void handshake(SocketWrapper socket) throws IOException {
+        engine.beginHandshake();
+        while (true) {
+            switch (engine.getHandshakeStatus()) {
+                case NEED_WRAP -> {
+                    writeLock.lock();
+                    try {
+                        wrap(EMPTY);
+                    } finally {
+                        writeLock.unlock();
+                    }
+                    while (!flush()) {
+                        socket.awaitWritable();
+                    }
+                }
+                case NEED_UNWRAP, NEED_UNWRAP_AGAIN -> {
+                    if (unwrap() == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                        int count = fill();
+                        if (count < 0) {
+                            throw new EOFException("Client closed the connection during the "
+                                    + "TLS handshake");
+                        }
+                        if (count == 0) {
+                            socket.awaitReadable();
+                        }
+                    }
+                }
+                case NEED_TASK -> runTasks();
+                default -> {
+                    while (!flush()) {
+                        socket.awaitWritable();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the protocol negotiated through ALPN.
+     *
+     * @return the protocol, or an empty string or {@code null} if none was negotiated
+     */
+    String getApplicationProtocol() {
+        return engine.getApplicationProtocol();
+    }
+
+    @Override
+    boolean isSecure() {
+        return true;
+    }
+
+    @Override
+    int read(ByteBuffer dst) throws IOException {
+        int total = drainAppIn(dst);
+        while (dst.hasRemaining()) {
+            SSLEngineResult.Status status = unwrap();
+            if (engine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_WRAP) {
+                respond();
+            }
+            total += drainAppIn(dst);
+            if (status == SSLEngineResult.Status.CLOSED) {
+                return total > 0 ? total : -1;
+            }
+            if (status == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                int count = fill();
+                if (count < 0) {
+                    return total > 0 ? total : -1;
+                }
+                if (count == 0) {
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+
+    @Override
+    int write(ByteBuffer src) throws IOException {
+        return (int) write(new ByteBuffer[] {src}, 0, 1);
+    }
+
+    @Override
+    long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        writeLock.lock();
+        try {
+            long consumed = 0;
+            while (flushNet() && hasRemaining(srcs, offset, length)) {
+                consumed += wrap(srcs, offset, length);
+            }
+            return consumed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    boolean flush() throws IOException {
+        writeLock.lock();
+        try {
+            return flushNet();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    boolean hasBufferedInput() {
+        if (appIn.position() > 0) {
+            return true;
+        }
+        int position = netIn.position();
+        return position >= 5
+                && position >= 5 + ((netIn.get(3) & 0xff) << 8 | netIn.get(4) & 0xff);
+    }
+
+    /**
+     * Returns {@code false}: file bytes have to be encrypted in user space.
+     */
+    @Override
+    boolean supportsTransfer() {
+        return false;
+    }
+
+    /**
+     * Sends {@code close_notify} if the socket takes it right away, then closes.
+     */
+    @Override
+    void close() throws IOException {
+        try {
+            engine.closeOutbound();
+            if (writeLock.tryLock()) {
+                try {
+                    if (flushNet()) {
+                        wrap(EMPTY);
+                        flushNet();
+                    }
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        } catch (IOException e) {
+            // The connection is going away regardless
+        } finally {
+            super.close();
+        }
+    }
+
+    private int fill() throws IOException {
+        return channel.read(netIn);
+    }
+
+    /**
+     * Decrypts one record from {@code netIn}, running whatever the engine needs for
+     * post-handshake messages.
+     */
+    private SSLEngineResult.Status unwrap() throws IOException {
+        while (true) {
+            netIn.flip();
+            SSLEngineResult result;
+            try {
+                result = engine.unwrap(netIn, appIn);
+            } finally {
+                netIn.compact();
+            }
+            if (result.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW) {
+                if (appIn.position() > 0) {
+                    return SSLEngineResult.Status.OK;
+                }
+                appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+                continue;
+            }
+            if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                runTasks();
+            }
+            return result.getStatus();
+        }
+    }
+
+    /**
+     * Answers a post-handshake message, such as a key update, if the socket takes the
+     * answer; otherwise the engine prepends it to the next record written.
+     */
+    private void respond() throws IOException {
+        writeLock.lock();
+        try {
+            if (flushNet()) {
+                wrap(EMPTY);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private int drainAppIn(ByteBuffer dst) {
+        if (appIn.position() == 0) {
+            return 0;
+        }
+        appIn.flip();
+        int count = Math.min(appIn.remaining(), dst.remaining());
+        dst.put(dst.position(), appIn, appIn.position(), count);
+        dst.position(dst.position() + count);
+        appIn.position(appIn.position() + count);
+        appIn.compact();
+        return count;
+    }
+
+    private long wrap(ByteBuffer... srcs) throws IOException {
+        return wrap(srcs, 0, srcs.length);
+    }
+
+    /**
+     * Encrypts one record into {@code netOut}, which must have been written completely,
+     * and starts writing it. Called holding the write lock.
+     */
+    private long wrap(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        netOut.clear();
+        SSLEngineResult result;
+        try {
+            result = engine.wrap(srcs, offset, length, netOut);
+        } finally {
+            netOut.flip();
+        }
+        if (result.getStatus() == SSLEngineResult.Status.CLOSED && result.bytesConsumed() == 0
+                && hasRemaining(srcs, offset, length)) {
+            throw new SSLException("TLS session closed");
+        }
+        if (result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NEED_TASK) {
+            runTasks();
+        }
+        flushNet();
+        return result.bytesConsumed();
+    }
+
+    /**
+     * Writes what is left in {@code netOut}. Called holding the write lock.
+     *
+     * @return {@code true} if nothing is left
+     */
+    private boolean flushNet() throws IOException {
+        while (netOut.hasRemaining()) {
+            if (channel.write(netOut) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = engine.getDelegatedTask()) != null) {
+            task.run();
+        }
+    }
+
+    private static boolean hasRemaining(ByteBuffer[] srcs, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (srcs[i].hasRemaining()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
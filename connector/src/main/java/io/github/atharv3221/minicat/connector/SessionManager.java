@@ -0,0 +1,76 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import io.github.atharv3221.minicat.servlet.http.HttpSession;
+
+/**
+ * Store of the sessions of one web application, which the container gives a
+ * {@link Request} with {@link Request#setSessionManager}.
+ *
+ * <p>The request looks its session up at most once, by the identifier in the client's
+ * {@value Request#SESSION_COOKIE} cookie, and creates one when a servlet asks for it.
+ * Every session a manager hands out is in use by the request until the request ends
+ * and calls {@link #endAccess}, so a manager can keep the state of sessions that no
+ * request uses in a form that is cheaper to hold than live objects.</p>
+ */
+public interface SessionManager {
+
+    /**
+     * Returns the valid session with the given identifier and starts an access to it
+     * by the calling request.
+     *
+     * @param id the session identifier sent by the client
+     * @return the session, or {@code null} if there is none or it has expired
+     */
+    HttpSession findSession(String id);
+
+    /**
+     * Creates a session with a new identifier and starts an access to it by the calling
+     * request.
+     *
+     * @return the session
+     * @throws IllegalStateException if the manager no longer creates sessions
+     */
+    HttpSession createSession();
+
+    /**
+     * Tests whether a session this manager handed out was neither invalidated nor
+     * expired.
+     *
+     * @param session the session
+     * @return {@code true} if the session is still valid
+     */
+    boolean isValid(HttpSession session);
+
+    /**
+     * Ends an access started by {@link #findSession} or {@link #createSession}, once
+     * the request that started it ends. The session counts as accessed at the time the
+     * access started.
+     *
+     * @param session the session
+     */
+    void endAccess(HttpSession session);
+}
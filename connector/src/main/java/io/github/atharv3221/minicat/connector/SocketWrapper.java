@@ -0,0 +1,417 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-connection state shared between a poller and the workers serving the connection.
+ *
+ * <p>The socket stays in non-blocking mode for its whole life. Workers that need to
+ * write more than the socket accepts park in {@link #awaitWritable()} until the poller
+ * reports write readiness, and workers waiting for more of a request body park in
+ * {@link #awaitReadable()}, so no thread ever blocks inside a socket call. Non-blocking
+ * servlet streams instead leave a callback with {@link #notifyWhenReadable} or
+ * {@link #notifyWhenWritable}, which the poller's readiness event hands to a worker.</p>
+ */
+final class SocketWrapper {
+
+    private final NioChannel channel;
+    private final Poller poller;
+    private final NioEndpoint endpoint;
+    private volatile Processor processor;
+    private final TimingWheel.Timeout timeout = new TimingWheel.Timeout(this);
+    private ByteBuffer readBuffer;
+
+    private final AtomicInteger pendingInterest = new AtomicInteger();
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private SocketWrapper nextEvent;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Condition writable = writeLock.newCondition();
+    private boolean writeReady;
+    private Runnable writeCallback;
+    private final ReentrantLock readLock = new ReentrantLock();
+    private final Condition readable = readLock.newCondition();
+    private boolean readReady;
+    private Runnable readCallback;
+    private volatile boolean readingBody;
+    private volatile SelectionKey key;
+
+    SocketWrapper(NioChannel channel, Poller poller, NioEndpoint endpoint) {
+        this.channel = channel;
+        this.poller = poller;
+        this.endpoint = endpoint;
+        this.processor = new Http11Processor(this, endpoint.getConnector().getServlet());
+    }
+
+    NioChannel getChannel() {
+        return channel;
+    }
+
+    NioEndpoint getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the read buffer, taking one from the pool if the connection has none.
+     * Only the thread currently owning the connection, the poller or a single worker,
+     * may call this.
+     */
+    ByteBuffer getReadBuffer() {
+        if (readBuffer == null) {
+            readBuffer = endpoint.getReadBufferPool().acquire();
+        }
+        return readBuffer;
+    }
+
+    /**
+     * Gives the read buffer back to the pool if it holds no unprocessed bytes, so
+     * idle keep-alive connections do not pin buffer memory.
+     */
+    void releaseReadBufferIfEmpty() {
+        if (readBuffer != null && readBuffer.position() == 0) {
+            endpoint.getReadBufferPool().release(readBuffer);
+            readBuffer = null;
+        }
+    }
+
+    /**
+     * Tests whether unprocessed request bytes are buffered.
+     */
+    boolean hasBufferedData() {
+        return readBuffer != null && readBuffer.position() > 0;
+    }
+
+    /**
+     * Returns the read timeout of this connection, which only its poller may schedule.
+     */
+    TimingWheel.Timeout getTimeout() {
+        return timeout;
+    }
+
+    Processor getProcessor() {
+        return processor;
+    }
+
+    /**
+     * Hands the connection to the processor of another protocol, after the client
+     * asked to switch to HTTP/2 or negotiated it during the TLS handshake.
+     */
+    void setProcessor(Processor processor) {
+        this.processor = processor;
+    }
+
+    SelectionKey getSelectionKey() {
+        return key;
+    }
+
+    void setSelectionKey(SelectionKey key) {
+        this.key = key;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * Tests whether read readiness is awaited for a request body rather than a new
+     * request head.
+     */
+    boolean isReadingBody() {
+        return readingBody;
+    }
+
+    /**
+     * Asks the poller to resume watching this connection for a new request.
+     */
+    void requestRead() {
+        poller.add(this, SelectionKey.OP_READ);
+    }
+
+    /**
+     * Records interest ops to be applied by the poller.
+     *
+     * @param ops the interest ops to add
+     * @return {@code true} if the caller must enqueue this wrapper on the poller
+     */
+    boolean addPendingInterest(int ops) {
+        pendingInterest.getAndUpdate(current -> current | ops);
+        return queued.compareAndSet(false, true);
+    }
+
+    /**
+     * Returns the next connection in the poller's queue of interest changes. Only the
+     * thread that queued this wrapper, before publishing it, and the poller, after
+     * taking the queue, touch the link.
+     */
+    SocketWrapper getNextEvent() {
+        return nextEvent;
+    }
+
+    void setNextEvent(SocketWrapper nextEvent) {
+        this.nextEvent = nextEvent;
+    }
+
+    int takePendingInterest() {
+        queued.set(false);
+        return pendingInterest.getAndSet(0);
+    }
+
+    /**
+     * Writes the whole buffer, waiting for write readiness whenever the socket's send
+     * buffer is full.
+     *
+     * @param src the bytes to write
+     * @throws IOException if the write fails or times out
+     */
+    void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            if (channel.write(src) == 0) {
+                awaitWritable();
+            }
+        }
+        flushChannel();
+    }
+
+    /**
+     * Writes all remaining bytes of the given buffers with gathering writes.
+     *
+     * @param srcs the buffers to write in order
+     * @param offset the index of the first buffer to write
+     * @param length the number of buffers to write
+     * @throws IOException if the write fails or times out
+     */
+    void writeFully(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        int end = offset + length;
+        int first = offset;
+        while (first < end) {
+            if (channel.write(srcs, first, end - first) == 0) {
+                awaitWritable();
+            }
+            while (first < end && !srcs[first].hasRemaining()) {
+                first++;
+            }
+        }
+        flushChannel();
+    }
+
+    /**
+     * Waits until the channel has written bytes it holds on its own, such as TLS
+     * records wrapped from what was already accepted.
+     */
+    private void flushChannel() throws IOException {
+        while (!channel.flush()) {
+            awaitWritable();
+        }
+    }
+
+    /**
+     * Parks the calling thread until the poller reports the socket writable.
+     *
+     * @throws IOException if the connection closes or the write timeout elapses
+     */
+    void awaitWritable() throws IOException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(endpoint.getConnector().getWriteTimeout());
+        writeLock.lock();
+        try {
+            writeReady = false;
+            poller.add(this, SelectionKey.OP_WRITE);
+            while (!writeReady) {
+                if (closed.get()) {
+                    throw new IOException("Connection closed");
+                }
+                if (remaining <= 0) {
+                    throw new SocketTimeoutException("Write timed out");
+                }
+                remaining = writable.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to write", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Asks the poller to run a callback on a worker once the socket is writable, or the
+     * connection closes.
+     *
+     * @param callback the callback
+     */
+    void notifyWhenWritable(Runnable callback) {
+        writeLock.lock();
+        try {
+            writeCallback = callback;
+        } finally {
+            writeLock.unlock();
+        }
+        if (closed.get()) {
+            signalWritable();
+        } else {
+            poller.add(this, SelectionKey.OP_WRITE);
+        }
+    }
+
+    void signalWritable() {
+        Runnable callback;
+        writeLock.lock();
+        try {
+            writeReady = true;
+            writable.signalAll();
+            callback = writeCallback;
+            writeCallback = null;
+        } finally {
+            writeLock.unlock();
+        }
+        execute(callback);
+    }
+
+    /**
+     * Parks the calling thread until the poller reports more request body bytes. The
+     * poller's connection timeout applies while waiting; it closes the connection,
+     * which wakes the thread.
+     *
+     * @throws IOException if the connection closes
+     */
+    void awaitReadable() throws IOException {
+        readLock.lock();
+        try {
+            readReady = false;
+            readingBody = true;
+            poller.add(this, SelectionKey.OP_READ);
+            while (!readReady) {
+                if (closed.get()) {
+                    throw new IOException("Connection closed");
+                }
+                readable.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to read", e);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Asks the poller to run a callback on a worker once more request body bytes
+     * arrive, or the connection closes.
+     *
+     * @param callback the callback
+     */
+    void notifyWhenReadable(Runnable callback) {
+        readLock.lock();
+        try {
+            readCallback = callback;
+            readingBody = true;
+        } finally {
+            readLock.unlock();
+        }
+        if (closed.get()) {
+            signalReadable();
+        } else {
+            poller.add(this, SelectionKey.OP_READ);
+        }
+    }
+
+    void signalReadable() {
+        Runnable callback;
+        readLock.lock();
+        try {
+            readingBody = false;
+            readReady = true;
+            readable.signalAll();
+            callback = readCallback;
+            readCallback = null;
+        } finally {
+            readLock.unlock();
+        }
+        execute(callback);
+    }
+
+    /**
+     * Drops the callbacks of a request that is ending, so readiness events go back to
+     * serving request heads and blocking writes.
+     */
+    void cancelNotifications() {
+        readLock.lock();
+        try {
+            readCallback = null;
+            readingBody = false;
+        } finally {
+            readLock.unlock();
+        }
+        writeLock.lock();
+        try {
+            writeCallback = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void execute(Runnable callback) {
+        if (callback == null) {
+            return;
+        }
+        try {
+            endpoint.execute(callback);
+        } catch (RejectedExecutionException e) {
+            close();
+        }
+    }
+
+    /**
+     * Closes the connection. Safe to call from any thread and more than once.
+     */
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        SelectionKey current = key;
+        if (current != null) {
+            current.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing useful to do, the connection is going away regardless
+        }
+        signalWritable();
+        signalReadable();
+        processor.connectionClosed();
+        endpoint.connectionClosed();
+    }
+}
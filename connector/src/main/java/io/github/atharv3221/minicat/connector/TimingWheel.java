@@ -0,0 +1,175 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.connector;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel that tracks the read timeouts of a poller's connections.
+ *
+ * <p>Time is divided into ticks, and each tick maps to one of a fixed number of slots.
+ * A connection's {@link Timeout} is linked into the slot of its deadline tick, so
+ * scheduling and cancelling are constant time and allocate nothing. Advancing the
+ * wheel visits only the slots of the ticks that passed; a slot may also hold timeouts
+ * of later rotations, which are recognized by their deadline and left in place.
+ * Deadlines are rounded up to the next tick, so a timeout fires up to one tick
+ * late, never early.</p>
+ *
+ * <p>The wheel is not thread-safe; only its poller thread uses it.</p>
+ */
+final class TimingWheel {
+
+    private final Timeout[] slots;
+    private final int mask;
+    private final long tickNanos;
+    private final long origin;
+    private long currentTick;
+
+    /**
+     * Creates a wheel.
+     *
+     * @param slotCount the number of slots, rounded up to a power of two
+     * @param tickMillis the length of a tick in milliseconds
+     * @param now the current {@link System#nanoTime()}
+     */
+    TimingWheel(int slotCount, long tickMillis, long now) {
+        int size = Integer.highestOneBit(Math.max(2, slotCount) - 1) << 1;
+        this.slots = new Timeout[size];
+        this.mask = size - 1;
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.origin = now;
+    }
+
+    /**
+     * Returns the length of a tick in milliseconds.
+     */
+    long getTickMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(tickNanos);
+    }
+
+    /**
+     * Schedules a timeout, replacing any deadline it had.
+     *
+     * @param timeout the timeout
+     * @param delayMillis the delay in milliseconds
+     * @param now the current {@link System#nanoTime()}
+     */
+    void schedule(Timeout timeout, long delayMillis, long now) {
+        cancel(timeout);
+        long deadline = now - origin + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        long tick = Math.max(currentTick + 1, (deadline + tickNanos - 1) / tickNanos);
+        int slot = (int) tick & mask;
+        timeout.tick = tick;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = slots[slot];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        slots[slot] = timeout;
+    }
+
+    /**
+     * Removes a timeout from the wheel. Does nothing if it is not scheduled.
+     */
+    void cancel(Timeout timeout) {
+        if (timeout.slot < 0) {
+            return;
+        }
+        if (timeout.prev == null) {
+            slots[timeout.slot] = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.slot = -1;
+    }
+
+    /**
+     * Moves the wheel to the given time, removing every timeout whose deadline passed
+     * and passing it to {@code expired}.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @param expired receives the expired timeouts
+     */
+    void advance(long now, Consumer<Timeout> expired) {
+        long target = (now - origin) / tickNanos;
+        long steps = Math.min(target - currentTick, slots.length);
+        for (long i = 1; i <= steps; i++) {
+            Timeout timeout = slots[(int) (currentTick + i) & mask];
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.tick <= target) {
+                    cancel(timeout);
+                    expired.accept(timeout);
+                }
+                timeout = next;
+            }
+        }
+        currentTick = Math.max(currentTick, target);
+    }
+
+    /**
+     * Timeout of one connection, allocated once and rescheduled for its whole life.
+     */
+    static final class Timeout {
+
+        private final SocketWrapper socket;
+        private Timeout prev;
+        private Timeout next;
+        private long tick;
+        private int slot = -1;
+        private boolean idle;
+
+        Timeout(SocketWrapper socket) {
+            this.socket = socket;
+        }
+
+        SocketWrapper getSocket() {
+            return socket;
+        }
+
+        boolean isScheduled() {
+            return slot >= 0;
+        }
+
+        /**
+         * Tests whether the timeout is the keep-alive timeout, started while no byte of
+         * the next request had arrived, as opposed to the timeout for reading a head.
+         */
+        boolean isIdle() {
+            return idle;
+        }
+
+        void setIdle(boolean idle) {
+            this.idle = idle;
+        }
+    }
+}
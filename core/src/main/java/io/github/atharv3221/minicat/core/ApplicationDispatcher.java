@@ -0,0 +1,214 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.Response;
+import io.github.atharv3221.minicat.servlet.RequestDispatcher;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.http.HttpServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link RequestDispatcher} for a servlet of a context, obtained either by path, with
+ * the mapping of the path already resolved, or by servlet name.
+ *
+ * <p>The target servlet runs on the calling thread through its {@link StandardWrapper},
+ * with the request counted against the dispatcher's context for the whole dispatch, so
+ * a context reached through {@code getContext} is not destroyed under it. It gets the
+ * original request behind a {@link DispatchedRequest}, which only replaces the context
+ * and paths and adds the parameters of the dispatcher's query string, and for an
+ * include the original response behind an {@link IncludedResponse}, which writes into
+ * the response's own buffers. A forward with a named dispatcher passes the request on
+ * as it is.</p>
+ *
+ * <p>A dispatcher is immutable, with its query string parsed once, so a context can
+ * hand out the same dispatcher for a path as long as its servlet mappings stay the
+ * same.</p>
+ */
+final class ApplicationDispatcher implements RequestDispatcher {
+
+    private final StandardContext context;
+    private final StandardWrapper wrapper;
+    private final String requestUri;
+    private final String servletPath;
+    private final String pathInfo;
+    private final String queryString;
+    private final Map<String, String[]> parameters;
+
+    /**
+     * Creates a dispatcher for a path.
+     *
+     * @param context the context of the servlet
+     * @param wrapper the servlet the path maps to
+     * @param requestUri the context path followed by the path
+     * @param servletPath the servlet path of the mapping
+     * @param pathInfo the path info of the mapping, or {@code null}
+     * @param queryString the query string of the path, or {@code null}
+     */
+    ApplicationDispatcher(StandardContext context, StandardWrapper wrapper, String requestUri,
+            String servletPath, String pathInfo, String queryString) {
+        this.context = context;
+        this.wrapper = wrapper;
+        this.requestUri = requestUri;
+        this.servletPath = servletPath;
+        this.pathInfo = pathInfo;
+        this.queryString = queryString;
+        this.parameters = parseQuery(queryString);
+    }
+
+    /**
+     * Creates a dispatcher for a named servlet, which keeps the paths of the request it
+     * is used with.
+     *
+     * @param context the context of the servlet
+     * @param wrapper the servlet
+     */
+    ApplicationDispatcher(StandardContext context, StandardWrapper wrapper) {
+        this(context, wrapper, null, null, null, null);
+    }
+
+    @Override
+    public void forward(ServletRequest request, ServletResponse response)
+            throws ServletException, IOException {
+        if (response.isCommitted()) {
+            throw new IllegalStateException(
+                    "Cannot forward after the response has been committed");
+        }
+        response.resetBuffer();
+        ServletRequest target = isNamed() ? request
+                : new DispatchedRequest((HttpServletRequest) request, this, false);
+        enterContext();
+        try {
+            wrapper.service(target, response);
+            if (request.isAsyncStarted()) {
+                return;
+            }
+            Response direct = Response.unwrap(response);
+            if (direct != null) {
+                direct.closeOutput();
+            } else {
+                response.flushBuffer();
+            }
+        } finally {
+            context.exitRequest();
+        }
+    }
+
+    @Override
+    public void include(ServletRequest request, ServletResponse response)
+            throws ServletException, IOException {
+        ServletRequest target = isNamed() ? request
+                : new DispatchedRequest((HttpServletRequest) request, this, true);
+        enterContext();
+        try {
+            wrapper.service(target, new IncludedResponse((HttpServletResponse) response));
+        } finally {
+            context.exitRequest();
+        }
+    }
+
+    private void enterContext() throws ServletException {
+        if (!context.enterDispatch()) {
+            throw new ServletException("Context [" + context.getContextPath()
+                    + "] has been destroyed");
+        }
+    }
+
+    StandardContext getContext() {
+        return context;
+    }
+
+    StandardWrapper getWrapper() {
+        return wrapper;
+    }
+
+    boolean isNamed() {
+        return requestUri == null;
+    }
+
+    String getRequestUri() {
+        return requestUri;
+    }
+
+    String getServletPath() {
+        return servletPath;
+    }
+
+    String getPathInfo() {
+        return pathInfo;
+    }
+
+    String getQueryString() {
+        return queryString;
+    }
+
+    /**
+     * Returns the parameters of the query string, in order, with the values of each
+     * name in order.
+     */
+    Map<String, String[]> getParameters() {
+        return parameters;
+    }
+
+    private static Map<String, String[]> parseQuery(String queryString) {
+        if (queryString == null || queryString.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int equals = pair.indexOf('=');
+            String name = decode(equals < 0 ? pair : pair.substring(0, equals));
+            String value = equals < 0 ? "" : decode(pair.substring(equals + 1));
+            parameters.merge(name, new String[] {value}, ApplicationDispatcher::concat);
+        }
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return value;
+        }
+    }
+
+    static String[] concat(String[] first, String[] second) {
+        String[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,315 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends log messages to a file from a background thread, so threads that log never
+ * wait for the disk.
+ *
+ * <p>{@link #log} puts the message into a bounded ring buffer, claiming a slot with a
+ * single compare-and-set. One writer thread drains the buffer, formats the messages and
+ * writes them through a {@link FileChannel} in batches of up to
+ * {@value #BATCH_SIZE} bytes. The file is forced to disk only when the writer is
+ * closed.</p>
+ *
+ * <p>What happens when the buffer is full depends on the {@link OverflowPolicy}.
+ * Messages that are not written are counted; the writer reports the count in the file
+ * the next time it catches up.</p>
+ */
+public final class AsyncLogWriter implements Closeable {
+
+    /**
+     * What {@link #log} does when the ring buffer cannot take another message.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Wait until the writer makes room. Nothing is lost, but a disk that cannot keep
+         * up slows down every thread that logs.
+         */
+        BLOCK,
+
+        /**
+         * Discard the message.
+         */
+        DROP,
+
+        /**
+         * Once the buffer is three quarters full, keep only a random sample of the
+         * messages, so a storm of errors leaves room for what comes after it. Messages
+         * that find the buffer full are discarded.
+         */
+        SAMPLE
+    }
+
+    private static final System.Logger LOG = System.getLogger(AsyncLogWriter.class.getName());
+
+    private static final int BATCH_SIZE = 64 * 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final FileChannel channel;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final OverflowPolicy policy;
+    private final int sampleRate;
+    private final LongAdder dropped = new LongAdder();
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_SIZE);
+    private final StringBuilder line = new StringBuilder(256);
+    private final Thread writer;
+    private volatile boolean idle;
+    private volatile boolean closed;
+    private long reportedDrops;
+
+    /**
+     * Opens the file for appending and starts the writer thread.
+     *
+     * @param file the log file, created if it does not exist
+     * @param capacity the number of messages the buffer holds, rounded up to a power
+     *     of two
+     * @param policy what to do when the buffer is full
+     * @param sampleRate under {@link OverflowPolicy#SAMPLE}, one in this many messages
+     *     is kept while the buffer is nearly full
+     * @throws IOException if the file cannot be opened
+     */
+    public AsyncLogWriter(Path file, int capacity, OverflowPolicy policy, int sampleRate)
+            throws IOException {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Invalid sample rate: " + sampleRate);
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = new Thread(this::run, "minicat-log-writer-" + file.getFileName());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Queues a message for writing.
+     *
+     * @param message the message
+     * @param throwable an exception whose stack trace follows the message, or
+     *     {@code null}
+     * @return {@code true} if the message was queued, {@code false} if it was dropped
+     */
+    public boolean log(String message, Throwable throwable) {
+        Entry entry = new Entry(System.currentTimeMillis(), Thread.currentThread().getName(),
+                message, throwable);
+        boolean queued = switch (policy) {
+            case BLOCK -> offerBlocking(entry);
+            case DROP -> offer(entry);
+            case SAMPLE -> sample() && offer(entry);
+        };
+        if (!queued) {
+            dropped.increment();
+        }
+        return queued;
+    }
+
+    /**
+     * Returns the number of messages dropped since the writer was opened.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting messages, writes everything still queued, forces the file to disk
+     * and closes it.
+     *
+     * @throws IOException if the final write fails
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private boolean sample() {
+        long used = tail.get() - head.get();
+        return used < slots.length() - (slots.length() >> 2)
+                || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    private boolean offer(Entry entry) {
+        if (closed) {
+            return false;
+        }
+        while (true) {
+            long position = tail.get();
+            if (position - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.lazySet((int) position & mask, entry);
+                if (idle) {
+                    LockSupport.unpark(writer);
+                }
+                return true;
+            }
+        }
+    }
+
+    private boolean offerBlocking(Entry entry) {
+        while (!offer(entry)) {
+            if (closed) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        return true;
+    }
+
+    private void run() {
+        while (true) {
+            boolean wrote;
+            try {
+                wrote = drain();
+            } catch (IOException e) {
+                LOG.log(System.Logger.Level.ERROR, "Failed to write log file", e);
+                batch.clear();
+                wrote = true;
+            }
+            if (wrote) {
+                continue;
+            }
+            if (closed && head.get() == tail.get()) {
+                return;
+            }
+            idle = true;
+            if (head.get() == tail.get() && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            idle = false;
+        }
+    }
+
+    /**
+     * Writes every message published so far.
+     *
+     * @return {@code true} if there was anything to write
+     */
+    private boolean drain() throws IOException {
+        long position = head.get();
+        long count = 0;
+        Entry entry;
+        while ((entry = slots.get((int) position & mask)) != null) {
+            slots.lazySet((int) position & mask, null);
+            position++;
+            head.lazySet(position);
+            append(format(entry));
+            count++;
+        }
+        long drops = dropped.sum();
+        if (drops > reportedDrops) {
+            append(format(new Entry(System.currentTimeMillis(), writer.getName(),
+                    (drops - reportedDrops) + " log messages dropped", null)));
+            reportedDrops = drops;
+            count++;
+        }
+        flush();
+        return count > 0;
+    }
+
+    private byte[] format(Entry entry) {
+        line.setLength(0);
+        line.append(Instant.ofEpochMilli(entry.millis())).append(" [")
+                .append(entry.thread()).append("] ").append(entry.message())
+                .append(System.lineSeparator());
+        if (entry.throwable() != null) {
+            StringWriter trace = new StringWriter();
+            entry.throwable().printStackTrace(new PrintWriter(trace));
+            line.append(trace);
+        }
+        return line.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void append(byte[] bytes) throws IOException {
+        if (bytes.length > batch.remaining()) {
+            flush();
+        }
+        if (bytes.length > batch.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            batch.put(bytes);
+        }
+    }
+
+    private void flush() throws IOException {
+        batch.flip();
+        try {
+            writeFully(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    private record Entry(long millis, String thread, String message, Throwable throwable) {
+    }
+}
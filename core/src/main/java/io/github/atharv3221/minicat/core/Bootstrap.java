@@ -0,0 +1,219 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.Connector;
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletConfig;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Command line entry point that deploys every web application of a directory and serves
+ * them on one connector.
+ *
+ * <p>Each subdirectory of the webapps directory becomes a context named after it,
+ * {@code ROOT} being the root context, configured by its {@link ContextConfig}
+ * descriptor. Options:</p>
+ * <ul>
+ *   <li>{@code --port <n>}: the TCP port, default 8080</li>
+ *   <li>{@code --webapps <dir>}: the directory holding the applications, default
+ *   {@code webapps}</li>
+ *   <li>{@code --exit-after <n>}: shut down after serving {@code n} requests</li>
+ * </ul>
+ *
+ * <p>The launcher reports how long after JVM start the connector was listening and the
+ * first request was served. {@code --exit-after} exists for training runs of
+ * {@code bin/minicat.sh}: the JVM archives the classes loaded by boot and the first
+ * requests into an AppCDS archive when it exits, and later launches map them from the
+ * archive instead of loading and verifying them again.</p>
+ */
+public final class Bootstrap {
+
+    private static final System.Logger LOG = System.getLogger(Bootstrap.class.getName());
+
+    private static final int DEFAULT_PORT = 8080;
+    private static final String DEFAULT_WEBAPPS = "webapps";
+    private static final String ROOT = "ROOT";
+
+    private Bootstrap() {
+    }
+
+    /**
+     * Starts the container and blocks until it shuts down.
+     *
+     * @param args the command line options
+     * @throws Exception if the container fails to start
+     */
+    public static void main(String[] args) throws Exception {
+        int port = DEFAULT_PORT;
+        Path webapps = Path.of(DEFAULT_WEBAPPS);
+        long exitAfter = 0;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--port" -> port = Integer.parseInt(required(args[i], value));
+                case "--webapps" -> webapps = Path.of(required(args[i], value));
+                case "--exit-after" -> exitAfter = Long.parseLong(required(args[i], value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]
+                        + "; usage: [--port <n>] [--webapps <dir>] [--exit-after <n>]");
+            }
+            i++;
+        }
+
+        StandardHost host = new StandardHost();
+        for (StandardContext context : contexts(webapps)) {
+            host.addContext(context);
+        }
+        host.init(null);
+        StartupProbe probe = new StartupProbe(host, exitAfter);
+        Connector connector = new Connector(probe);
+        connector.setPort(port);
+        connector.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            connector.stop();
+            host.destroy();
+        }, "minicat-shutdown"));
+        LOG.log(System.Logger.Level.INFO, "Listening on port " + connector.getLocalPort()
+                + " with " + host.snapshot().length + " contexts, "
+                + sinceJvmStart() + " ms after JVM start");
+
+        probe.awaitExit();
+        LOG.log(System.Logger.Level.INFO, "Served " + exitAfter + " requests, exiting");
+        System.exit(0);
+    }
+
+    private static String required(String option, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing value of " + option);
+        }
+        return value;
+    }
+
+    private static List<StandardContext> contexts(Path webapps)
+            throws IOException, ServletException {
+        if (!Files.isDirectory(webapps)) {
+            throw new IOException("No webapps directory " + webapps.toAbsolutePath());
+        }
+        List<Path> directories;
+        try (Stream<Path> children = Files.list(webapps)) {
+            directories = children.filter(Files::isDirectory).sorted().toList();
+        }
+        List<StandardContext> contexts = new ArrayList<>();
+        for (Path directory : directories) {
+            String name = directory.getFileName().toString();
+            StandardContext context = new StandardContext(
+                    name.equals(ROOT) ? "" : "/" + name.replace('#', '/'), directory);
+            ContextConfig.configure(context);
+            contexts.add(context);
+        }
+        return contexts;
+    }
+
+    /**
+     * Returns the milliseconds since the JVM started.
+     */
+    private static long sinceJvmStart() {
+        return System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    }
+
+    /**
+     * Passes requests on to the host, reporting the first one and counting them if the
+     * container is to exit after a number of requests.
+     */
+    private static final class StartupProbe implements Servlet {
+
+        private final StandardHost host;
+        private final long exitAfter;
+        private final AtomicLong served = new AtomicLong();
+        private final CountDownLatch exit = new CountDownLatch(1);
+        private final AtomicBoolean firstServed = new AtomicBoolean();
+
+        StartupProbe(StandardHost host, long exitAfter) {
+            this.host = host;
+            this.exitAfter = exitAfter;
+        }
+
+        @Override
+        public void init(ServletConfig config) {
+            // The host is initialized by the launcher
+        }
+
+        @Override
+        public ServletConfig getServletConfig() {
+            return host.getServletConfig();
+        }
+
+        @Override
+        public void service(ServletRequest request, ServletResponse response)
+                throws ServletException, IOException {
+            try {
+                host.service(request, response);
+            } finally {
+                if (!firstServed.get() && firstServed.compareAndSet(false, true)) {
+                    LOG.log(System.Logger.Level.INFO, "First request served "
+                            + sinceJvmStart() + " ms after JVM start");
+                }
+                if (exitAfter > 0 && served.incrementAndGet() == exitAfter) {
+                    exit.countDown();
+                }
+            }
+        }
+
+        @Override
+        public String getServletInfo() {
+            return host.getServletInfo();
+        }
+
+        @Override
+        public void destroy() {
+            // The host is destroyed by the launcher
+        }
+
+        /**
+         * Blocks until the requested number of requests has been served, or forever.
+         */
+        void awaitExit() throws InterruptedException {
+            if (exitAfter <= 0) {
+                new CountDownLatch(1).await();
+            }
+            exit.await();
+            // Let the last responses go out before the connector stops
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+    }
+}
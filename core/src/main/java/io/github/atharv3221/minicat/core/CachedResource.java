@@ -0,0 +1,202 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot of one resource path held by a {@link ResourceCache}: whether it exists,
+ * its type, size and modification time, and, once asked for, its bytes or directory
+ * listing.
+ *
+ * <p>The metadata is immutable. Content and listing are loaded on first use so that
+ * callers needing only metadata, such as the default servlet, do not pull every file
+ * they serve into the heap.</p>
+ */
+final class CachedResource {
+
+    private static final int ENTRY_OVERHEAD = 128;
+    private static final int LISTING_ENTRY_WEIGHT = 64;
+
+    private final ResourceCache cache;
+    private final Path file;
+    private final boolean exists;
+    private final boolean directory;
+    private final long size;
+    private final long lastModified;
+    private volatile long nextCheck;
+    private volatile long lastAccess;
+    private volatile byte[] content;
+    private volatile Set<String> listing;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param cache the owning cache
+     * @param file the file
+     * @param attributes the file's attributes, {@code null} if it does not exist
+     * @param now the current {@link System#nanoTime()}
+     */
+    CachedResource(ResourceCache cache, Path file, BasicFileAttributes attributes,
+            long now) {
+        this.cache = cache;
+        this.file = file;
+        this.exists = attributes != null;
+        this.directory = exists && attributes.isDirectory();
+        this.size = exists && !directory ? attributes.size() : 0;
+        this.lastModified = exists ? attributes.lastModifiedTime().toMillis() : -1;
+        this.lastAccess = now;
+    }
+
+    static BasicFileAttributes readAttributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Tests whether the file still matches this snapshot.
+     */
+    boolean isCurrent(BasicFileAttributes attributes) {
+        if (attributes == null) {
+            return !exists;
+        }
+        return exists && attributes.isDirectory() == directory
+                && (directory || attributes.size() == size)
+                && attributes.lastModifiedTime().toMillis() == lastModified;
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    boolean exists() {
+        return exists;
+    }
+
+    boolean isDirectory() {
+        return directory;
+    }
+
+    boolean isFile() {
+        return exists && !directory;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    long getLastModified() {
+        return lastModified;
+    }
+
+    long getNextCheck() {
+        return nextCheck;
+    }
+
+    void setNextCheck(long nextCheck) {
+        this.nextCheck = nextCheck;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void setLastAccess(long lastAccess) {
+        this.lastAccess = lastAccess;
+    }
+
+    /**
+     * Returns the number of bytes this entry counts against the cache size.
+     */
+    long getWeight() {
+        byte[] bytes = content;
+        Set<String> paths = listing;
+        return ENTRY_OVERHEAD + (bytes == null ? 0 : bytes.length)
+                + (paths == null ? 0 : (long) paths.size() * LISTING_ENTRY_WEIGHT);
+    }
+
+    /**
+     * Returns the file's bytes, reading them on first use. Files larger than the cache's
+     * object size limit are not retained and {@code null} is returned.
+     *
+     * @throws IOException if the file cannot be read
+     */
+    byte[] getContent() throws IOException {
+        byte[] bytes = content;
+        if (bytes != null || !isFile() || size > cache.getMaxObjectSize()) {
+            return bytes;
+        }
+        synchronized (this) {
+            if (content == null) {
+                bytes = Files.readAllBytes(file);
+                if (bytes.length != size) {
+                    // Changed since the snapshot; serve it but keep the cache consistent
+                    return bytes;
+                }
+                content = bytes;
+                cache.contentLoaded(bytes.length);
+            }
+            return content;
+        }
+    }
+
+    /**
+     * Returns the paths of the directory's children, directories with a trailing
+     * {@code /}, reading them on first use.
+     *
+     * @param prefix the context-relative path of this directory, ending in {@code /}
+     * @return an unmodifiable sorted set, or {@code null} if this is not a directory or
+     *     it cannot be listed
+     */
+    Set<String> getListing(String prefix) {
+        Set<String> paths = listing;
+        if (paths != null || !directory) {
+            return paths;
+        }
+        Set<String> children = new TreeSet<>();
+        try (Stream<Path> stream = Files.list(file)) {
+            stream.forEach(child -> {
+                String name = prefix + child.getFileName();
+                children.add(Files.isDirectory(child) ? name + "/" : name);
+            });
+        } catch (IOException e) {
+            return null;
+        }
+        paths = Collections.unmodifiableSet(children);
+        listing = paths;
+        cache.contentLoaded(children.size() * LISTING_ENTRY_WEIGHT);
+        return paths;
+    }
+}
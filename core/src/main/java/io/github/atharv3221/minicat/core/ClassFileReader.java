@@ -0,0 +1,228 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal class file parser that extracts a {@link ClassInfo}: the constant pool is
+ * indexed, the class header read, fields and methods skipped, and the class-level
+ * annotation attributes decoded.
+ */
+final class ClassFileReader {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    private final byte[] bytes;
+    private final int[] offsets;
+    private int position;
+
+    private ClassFileReader(byte[] bytes) {
+        this.bytes = bytes;
+        if (u4() != MAGIC) {
+            throw new IllegalArgumentException("Not a class file");
+        }
+        position += 4;
+        int count = u2();
+        offsets = new int[count];
+        for (int i = 1; i < count; i++) {
+            offsets[i] = position;
+            int tag = bytes[position++];
+            switch (tag) {
+                case CONSTANT_UTF8 -> position += 2 + u2At(position);
+                case CONSTANT_INTEGER, CONSTANT_FLOAT, CONSTANT_FIELDREF, CONSTANT_METHODREF,
+                        CONSTANT_INTERFACE_METHODREF, CONSTANT_NAME_AND_TYPE, CONSTANT_DYNAMIC,
+                        CONSTANT_INVOKE_DYNAMIC -> position += 4;
+                case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+                    position += 8;
+                    i++;
+                }
+                case CONSTANT_CLASS, CONSTANT_STRING, CONSTANT_METHOD_TYPE, CONSTANT_MODULE,
+                        CONSTANT_PACKAGE -> position += 2;
+                case CONSTANT_METHOD_HANDLE -> position += 3;
+                default -> throw new IllegalArgumentException("Bad constant pool tag " + tag);
+            }
+        }
+    }
+
+    /**
+     * Parses a class file.
+     *
+     * @param bytes the class file
+     * @return what the class declares
+     * @throws IllegalArgumentException if the bytes are not a well-formed class file
+     */
+    static ClassInfo read(byte[] bytes) {
+        try {
+            return new ClassFileReader(bytes).readClass();
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated class file", e);
+        }
+    }
+
+    private ClassInfo readClass() {
+        final int access = u2();
+        final String name = className(u2());
+        int superIndex = u2();
+        final String superName = superIndex == 0 ? null : className(superIndex);
+        int interfaceCount = u2();
+        List<String> interfaces = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(className(u2()));
+        }
+        skipMembers();
+        skipMembers();
+        List<String> annotations = new ArrayList<>();
+        int attributeCount = u2();
+        for (int i = 0; i < attributeCount; i++) {
+            String attribute = utf8(u2());
+            int length = u4();
+            int end = position + length;
+            if (attribute.equals("RuntimeVisibleAnnotations")
+                    || attribute.equals("RuntimeInvisibleAnnotations")) {
+                int count = u2();
+                for (int j = 0; j < count; j++) {
+                    annotations.add(descriptorToName(utf8(u2())));
+                    skipElementValuePairs();
+                }
+            }
+            position = end;
+        }
+        return new ClassInfo(name, access, superName, List.copyOf(interfaces),
+                List.copyOf(annotations));
+    }
+
+    private void skipMembers() {
+        int count = u2();
+        for (int i = 0; i < count; i++) {
+            position += 6;
+            int attributes = u2();
+            for (int j = 0; j < attributes; j++) {
+                position += 2;
+                int length = u4();
+                position += length;
+            }
+        }
+    }
+
+    private void skipElementValuePairs() {
+        int pairs = u2();
+        for (int i = 0; i < pairs; i++) {
+            position += 2;
+            skipElementValue();
+        }
+    }
+
+    private void skipElementValue() {
+        int tag = bytes[position++];
+        switch (tag) {
+            case 'e' -> position += 4;
+            case '@' -> {
+                position += 2;
+                skipElementValuePairs();
+            }
+            case '[' -> {
+                int count = u2();
+                for (int i = 0; i < count; i++) {
+                    skipElementValue();
+                }
+            }
+            default -> position += 2;
+        }
+    }
+
+    private String className(int index) {
+        return utf8(u2At(offsets[index] + 1)).replace('/', '.');
+    }
+
+    private String utf8(int index) {
+        int offset = offsets[index];
+        if (bytes[offset] != CONSTANT_UTF8) {
+            throw new IllegalArgumentException("Constant " + index + " is not UTF-8");
+        }
+        int length = u2At(offset + 1);
+        boolean ascii = true;
+        for (int i = offset + 3; i < offset + 3 + length && ascii; i++) {
+            ascii = bytes[i] > 0;
+        }
+        if (ascii) {
+            return new String(bytes, offset + 3, length, StandardCharsets.ISO_8859_1);
+        }
+        try {
+            return new DataInputStream(new ByteArrayInputStream(bytes, offset + 1, length + 2))
+                    .readUTF();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed UTF-8 constant", e);
+        }
+    }
+
+    private static String descriptorToName(String descriptor) {
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L'
+                && descriptor.charAt(descriptor.length() - 1) == ';') {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+    private int u2() {
+        int value = u2At(position);
+        position += 2;
+        return value;
+    }
+
+    private int u2At(int offset) {
+        return (bytes[offset] & 0xff) << 8 | bytes[offset + 1] & 0xff;
+    }
+
+    private int u4() {
+        int value = (bytes[position] & 0xff) << 24 | (bytes[position + 1] & 0xff) << 16
+                | (bytes[position + 2] & 0xff) << 8 | bytes[position + 3] & 0xff;
+        position += 4;
+        return value;
+    }
+}
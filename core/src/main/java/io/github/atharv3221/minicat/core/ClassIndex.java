@@ -0,0 +1,106 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classes found in the libraries of a web application, in library order.
+ */
+public final class ClassIndex {
+
+    private static final ClassIndex EMPTY = new ClassIndex(Map.of());
+
+    private final Map<String, List<ClassInfo>> libraries;
+
+    ClassIndex(Map<String, List<ClassInfo>> libraries) {
+        this.libraries = Collections.unmodifiableMap(new LinkedHashMap<>(libraries));
+    }
+
+    /**
+     * Returns an index without libraries.
+     */
+    public static ClassIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the classes of each library, keyed by JAR file name in scan order.
+     */
+    public Map<String, List<ClassInfo>> getLibraries() {
+        return libraries;
+    }
+
+    /**
+     * Returns the number of classes in all libraries.
+     */
+    public int size() {
+        int size = 0;
+        for (List<ClassInfo> classes : libraries.values()) {
+            size += classes.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the classes carrying an annotation.
+     *
+     * @param annotation the binary name of the annotation type
+     * @return the annotated classes, in library order
+     */
+    public List<ClassInfo> getAnnotatedWith(String annotation) {
+        List<ClassInfo> result = new ArrayList<>();
+        for (List<ClassInfo> classes : libraries.values()) {
+            for (ClassInfo info : classes) {
+                if (info.annotations().contains(annotation)) {
+                    result.add(info);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the classes that directly extend or implement a type.
+     *
+     * @param type the binary name of the class or interface
+     * @return the direct subtypes, in library order
+     */
+    public List<ClassInfo> getDirectSubtypes(String type) {
+        List<ClassInfo> result = new ArrayList<>();
+        for (List<ClassInfo> classes : libraries.values()) {
+            for (ClassInfo info : classes) {
+                if (type.equals(info.superName()) || info.interfaces().contains(type)) {
+                    result.add(info);
+                }
+            }
+        }
+        return result;
+    }
+}
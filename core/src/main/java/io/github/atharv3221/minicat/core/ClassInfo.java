@@ -0,0 +1,65 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.util.List;
+
+/**
+ * What a class file declares about its type, read from the class bytes without loading
+ * the class. Names are binary names such as {@code com.example.Outer$Inner}.
+ *
+ * @param name the name of the class
+ * @param access the access flags of the class file
+ * @param superName the name of the superclass, or {@code null} for
+ *     {@code java.lang.Object} and modules
+ * @param interfaces the names of the directly implemented interfaces
+ * @param annotations the names of the annotation types on the class, visible and
+ *     invisible at run time
+ */
+public record ClassInfo(String name, int access, String superName, List<String> interfaces,
+        List<String> annotations) {
+
+    /**
+     * Access flag marking an interface.
+     */
+    public static final int ACC_INTERFACE = 0x0200;
+
+    /**
+     * Access flag marking an abstract class or interface.
+     */
+    public static final int ACC_ABSTRACT = 0x0400;
+
+    /**
+     * Access flag marking an annotation type.
+     */
+    public static final int ACC_ANNOTATION = 0x2000;
+
+    /**
+     * Tests whether the class is concrete, that is neither an interface nor abstract.
+     */
+    public boolean isConcrete() {
+        return (access & (ACC_INTERFACE | ACC_ABSTRACT)) == 0;
+    }
+}
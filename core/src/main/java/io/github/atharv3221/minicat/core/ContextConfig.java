@@ -0,0 +1,130 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.ServletException;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Configures a context from the {@value #DESCRIPTOR} file of its web application, for
+ * applications deployed by {@link Bootstrap}.
+ *
+ * <p>The descriptor is a properties file:</p>
+ * <pre>
+ * param.minicat.compression=on
+ * servlet.hello.class=com.example.HelloServlet
+ * servlet.hello.mapping=/hello,/hi/*
+ * servlet.hello.loadOnStartup=1
+ * servlet.hello.param.greeting=Hi
+ * </pre>
+ *
+ * <p>{@code param.} keys become context init parameters. Each {@code servlet.<name>.class}
+ * key adds a servlet loaded by the context's class loader, with optional mappings,
+ * load-on-startup value and init parameters. Servlets are added in name order.</p>
+ */
+final class ContextConfig {
+
+    /**
+     * Location of the descriptor, relative to the document base.
+     */
+    static final String DESCRIPTOR = "WEB-INF/minicat.properties";
+
+    private static final String PARAM = "param.";
+    private static final String SERVLET = "servlet.";
+    private static final String CLASS = ".class";
+
+    private ContextConfig() {
+    }
+
+    /**
+     * Applies the descriptor of a context, if it has one.
+     *
+     * @param context the context, not yet started
+     * @throws ServletException if the descriptor cannot be read or a servlet cannot be
+     *     added
+     */
+    static void configure(StandardContext context) throws ServletException {
+        Path file = context.getDocBase().resolve(DESCRIPTOR);
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new ServletException("Failed to read " + file, e);
+        }
+        TreeSet<String> names = new TreeSet<>(properties.stringPropertyNames());
+        for (String key : names) {
+            if (key.startsWith(PARAM)) {
+                context.setInitParameter(key.substring(PARAM.length()),
+                        properties.getProperty(key).trim());
+            }
+        }
+        for (String key : names) {
+            if (key.startsWith(SERVLET) && key.endsWith(CLASS)
+                    && key.length() > SERVLET.length() + CLASS.length()) {
+                addServlet(context, properties,
+                        key.substring(SERVLET.length(), key.length() - CLASS.length()));
+            }
+        }
+    }
+
+    private static void addServlet(StandardContext context, Properties properties,
+            String name) throws ServletException {
+        String prefix = SERVLET + name;
+        StandardWrapper wrapper = context.addServlet(name,
+                properties.getProperty(prefix + CLASS).trim());
+        String loadOnStartup = properties.getProperty(prefix + ".loadOnStartup");
+        if (loadOnStartup != null) {
+            try {
+                wrapper.setLoadOnStartup(Integer.parseInt(loadOnStartup.trim()));
+            } catch (NumberFormatException e) {
+                throw new ServletException("Invalid loadOnStartup of servlet " + name, e);
+            }
+        }
+        String paramPrefix = prefix + "." + PARAM;
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(paramPrefix)) {
+                wrapper.getServletConfig().setInitParameter(key.substring(paramPrefix.length()),
+                        properties.getProperty(key).trim());
+            }
+        }
+        String mappings = properties.getProperty(prefix + ".mapping");
+        if (mappings != null) {
+            for (String pattern : mappings.split(",")) {
+                if (!pattern.isBlank()) {
+                    context.addServletMapping(pattern.trim(), name);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,583 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.Compression;
+import io.github.atharv3221.minicat.connector.HttpDates;
+import io.github.atharv3221.minicat.connector.Response;
+import io.github.atharv3221.minicat.servlet.RequestDispatcher;
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletConfig;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletOutputStream;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.http.HttpServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Serves the static resources of a web application.
+ *
+ * <p>Resources are looked up in the context's {@link ResourceCache}, or located
+ * through {@link ServletContext#getResource(String)} for other contexts. Files up
+ * to the map threshold are kept memory-mapped and written straight from the mapping;
+ * larger files are sent with {@link FileChannel#transferTo}, so their bytes never
+ * enter the JVM heap. Validators ({@code ETag}, {@code Last-Modified}) are derived from
+ * the file's size and modification time and drive the conditional request headers.
+ * A single byte range is served as {@code 206 Partial Content}; requests for several
+ * ranges are answered with the full resource.</p>
+ *
+ * <p>In a context that compresses responses, static files are never compressed on the
+ * fly. A compressible file requested without a range by a client that accepts
+ * {@code gzip} is served from a {@code gzip} copy kept by {@link PrecompressedFiles},
+ * with an entity tag of its own.</p>
+ *
+ * <p>A resource included with a {@link RequestDispatcher} is written into the
+ * including response as it is, straight from the mapping when the response comes
+ * from the connector; a missing resource fails the include with a
+ * {@link FileNotFoundException}.</p>
+ *
+ * <p>Init parameters:</p>
+ * <ul>
+ *   <li>{@value #MAP_THRESHOLD_PARAM}: largest file size, in bytes, that is
+ *   memory-mapped, default 65536</li>
+ *   <li>{@value #MAP_CACHE_SIZE_PARAM}: total bytes kept mapped, default 33554432</li>
+ *   <li>{@value #WELCOME_FILE_PARAM}: file served for directory requests, default
+ *   {@code index.html}</li>
+ * </ul>
+ */
+public class DefaultServlet implements Servlet {
+
+    /**
+     * Init parameter holding the largest file size that is memory-mapped.
+     */
+    public static final String MAP_THRESHOLD_PARAM = "minicat.static.mapThreshold";
+
+    /**
+     * Init parameter holding the total number of bytes kept memory-mapped.
+     */
+    public static final String MAP_CACHE_SIZE_PARAM = "minicat.static.mapCacheSize";
+
+    /**
+     * Init parameter holding the name of the file served for directory requests.
+     */
+    public static final String WELCOME_FILE_PARAM = "minicat.static.welcomeFile";
+
+    private static final long DEFAULT_MAP_THRESHOLD = 64 * 1024;
+    private static final long DEFAULT_MAP_CACHE_SIZE = 32 * 1024 * 1024;
+    private static final String DEFAULT_WELCOME_FILE = "index.html";
+    private static final int COPY_BUFFER_SIZE = 8192;
+    private static final long[] UNSATISFIABLE = new long[0];
+    private static final long INVALID = -2;
+
+    private ServletConfig config;
+    private ServletContext context;
+    private long mapThreshold;
+    private ResourceCache resources;
+    private MimeTypes mimeTypes;
+    private MappedFileCache mappedFiles;
+    private String welcomeFile;
+    private Compression compression;
+    private PrecompressedFiles precompressed;
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        this.config = config;
+        this.context = config.getServletContext();
+        if (context instanceof StandardContext standard) {
+            this.resources = standard.getResourceCache();
+            this.mimeTypes = standard.getMimeTypes();
+            this.compression = standard.getCompression();
+            if (compression != null) {
+                this.precompressed = new PrecompressedFiles(
+                        standard.getWorkDir().resolve("precompressed"), compression.getLevel());
+            }
+        } else {
+            this.resources = new ResourceCache(this::locate);
+        }
+        this.mapThreshold = longParam(MAP_THRESHOLD_PARAM, DEFAULT_MAP_THRESHOLD);
+        this.mappedFiles = new MappedFileCache(
+                longParam(MAP_CACHE_SIZE_PARAM, DEFAULT_MAP_CACHE_SIZE));
+        String welcome = config.getInitParameter(WELCOME_FILE_PARAM);
+        this.welcomeFile = welcome != null ? welcome : DEFAULT_WELCOME_FILE;
+    }
+
+    @Override
+    public ServletConfig getServletConfig() {
+        return config;
+    }
+
+    @Override
+    public void service(ServletRequest req, ServletResponse res) throws ServletException,
+            IOException {
+        if (req instanceof DispatchedRequest dispatched && dispatched.isInclude()
+                && res instanceof IncludedResponse included) {
+            include(dispatched.getDispatcher(), included.getResponse());
+            return;
+        }
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        Response direct = Response.unwrap(response);
+        if (direct != null) {
+            direct.setCompression(null);
+        }
+        String method = request.getMethod();
+        boolean head = "HEAD".equals(method);
+        if (!head && !"GET".equals(method)) {
+            response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            response.setHeader("Allow", "GET, HEAD");
+            response.setContentLength(0);
+            return;
+        }
+
+        String path = relativePath(request);
+        if (isProtected(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        CachedResource resource = resources.lookup(path);
+        if (resource != null && resource.isDirectory()) {
+            if (!path.endsWith("/")) {
+                redirectToDirectory(request, response, path);
+                return;
+            }
+            path = path + welcomeFile;
+            resource = resources.lookup(path);
+        }
+        if (resource == null || !resource.isFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = resource.getSize();
+        long lastModified = resource.getLastModified();
+        PrecompressedFiles.Variant variant = null;
+        if (isCompressible(path, length)) {
+            response.setHeader("Vary", "Accept-Encoding");
+            if (request.getHeader("Range") == null
+                    && "gzip".equals(Compression.negotiate(request.getHeader("Accept-Encoding")))) {
+                variant = precompressed.get(path, resource.getFile(), length, lastModified);
+            }
+        }
+        String etag = variant == null ? etag(length, lastModified)
+                : etag(length, lastModified, "-gzip");
+        if (!checkPreconditions(request, response, etag, lastModified)) {
+            return;
+        }
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+        if (variant != null) {
+            setContentType(path, response);
+            response.setHeader("Content-Encoding", "gzip");
+            response.setContentLengthLong(variant.size());
+            if (!head) {
+                sendBody(variant.file(), variant.size(), variant.lastModified(), 0,
+                        variant.size(), response);
+            }
+            return;
+        }
+
+        long start = 0;
+        long count = length;
+        String range = request.getHeader("Range");
+        if (range != null && rangeApplies(request, etag, lastModified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == UNSATISFIABLE) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.setContentLength(0);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                count = bounds[1] - bounds[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range",
+                        "bytes " + bounds[0] + "-" + bounds[1] + "/" + length);
+            }
+        }
+        setContentType(path, response);
+        response.setContentLengthLong(count);
+        if (!head && count > 0) {
+            sendBody(resource.getFile(), length, lastModified, start, count, response);
+        }
+    }
+
+    @Override
+    public String getServletInfo() {
+        return "minicat default servlet";
+    }
+
+    @Override
+    public void destroy() {
+        resources = null;
+        mappedFiles = null;
+    }
+
+    /**
+     * Sets the content type from the context's MIME mappings, handing the connector the
+     * cached header bytes when it can take them.
+     */
+    private void setContentType(String path, HttpServletResponse response) {
+        if (mimeTypes == null) {
+            String contentType = context.getMimeType(path);
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            return;
+        }
+        MimeTypes.Entry entry = mimeTypes.find(path);
+        if (entry == null) {
+            return;
+        }
+        Response connectorResponse = Response.unwrap(response);
+        if (connectorResponse != null) {
+            connectorResponse.setContentType(entry.type(), entry.header());
+        } else {
+            response.setContentType(entry.type());
+        }
+    }
+
+    private boolean isCompressible(String path, long length) {
+        return compression != null && length >= compression.getMinSize()
+                && compression.isCompressible(context.getMimeType(path));
+    }
+
+    private void sendBody(Path file, long length, long lastModified, long start, long count,
+            HttpServletResponse response) throws IOException {
+        try {
+            Response direct = Response.unwrap(response);
+            if (direct != null) {
+                ByteBuffer mapped = length <= mapThreshold
+                        ? mappedFiles.get(file, length, lastModified) : null;
+                if (mapped != null) {
+                    ByteBuffer content = mapped.duplicate();
+                    content.limit((int) (start + count)).position((int) start);
+                    direct.write(content);
+                } else {
+                    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                        direct.sendFile(channel, start, count);
+                    }
+                }
+                return;
+            }
+            copy(file, start, count, response.getOutputStream());
+        } catch (NoSuchFileException e) {
+            // Deleted after the attributes were read, nothing has been committed yet
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    /**
+     * Writes an included resource into the including response.
+     */
+    private void include(ApplicationDispatcher dispatcher, HttpServletResponse response)
+            throws IOException {
+        String path = relativePath(dispatcher.getServletPath(), dispatcher.getPathInfo());
+        CachedResource resource = isProtected(path) ? null : resources.lookup(path);
+        if (resource != null && resource.isDirectory() && path.endsWith("/")) {
+            path = path + welcomeFile;
+            resource = resources.lookup(path);
+        }
+        if (resource == null || !resource.isFile()) {
+            throw new FileNotFoundException("No resource to include at " + path);
+        }
+        long length = resource.getSize();
+        Response direct = Response.unwrap(response);
+        ByteBuffer mapped = direct != null && length <= mapThreshold
+                ? mappedFiles.get(resource.getFile(), length, resource.getLastModified()) : null;
+        if (mapped != null) {
+            direct.write(mapped.duplicate());
+            return;
+        }
+        ServletOutputStream out;
+        try {
+            out = response.getOutputStream();
+        } catch (IllegalStateException e) {
+            copy(resource.getFile(), response);
+            return;
+        }
+        copy(resource.getFile(), 0, length, out);
+    }
+
+    /**
+     * Copies a file into a response whose writer is in use, decoding it with the
+     * response's charset.
+     */
+    private static void copy(Path file, HttpServletResponse response) throws IOException {
+        try (Reader in = new InputStreamReader(Files.newInputStream(file),
+                response.getCharacterEncoding())) {
+            in.transferTo(response.getWriter());
+        }
+    }
+
+    /**
+     * Fallback for responses that do not come straight from the connector, for example
+     * wrapped responses.
+     */
+    private static void copy(Path file, long start, long count, ServletOutputStream out)
+            throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            in.skipNBytes(start);
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long remaining = count;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new IOException("File shrank while being sent");
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    private static String relativePath(HttpServletRequest request) {
+        return relativePath(request.getServletPath(), request.getPathInfo());
+    }
+
+    private static String relativePath(String servletPath, String pathInfo) {
+        String path = pathInfo == null ? servletPath : servletPath + pathInfo;
+        return path.isEmpty() ? "/" : path;
+    }
+
+    private static boolean isProtected(String path) {
+        String upper = path.toUpperCase(Locale.ROOT);
+        return upper.startsWith("/WEB-INF") || upper.startsWith("/META-INF");
+    }
+
+    private Path locate(String path) {
+        try {
+            URL url = context.getResource(path);
+            if (url == null || !"file".equals(url.getProtocol())) {
+                return null;
+            }
+            return Path.of(url.toURI());
+        } catch (MalformedURLException | URISyntaxException | IllegalArgumentException
+                | FileSystemNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static void redirectToDirectory(HttpServletRequest request,
+            HttpServletResponse response, String path) {
+        String location = request.getContextPath() + path + "/";
+        String query = request.getQueryString();
+        response.setStatus(HttpServletResponse.SC_FOUND);
+        response.setHeader("Location", query == null ? location : location + "?" + query);
+        response.setContentLength(0);
+    }
+
+    private static String etag(long length, long lastModified) {
+        return etag(length, lastModified, "");
+    }
+
+    private static String etag(long length, long lastModified, String suffix) {
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + suffix
+                + "\"";
+    }
+
+    /**
+     * Evaluates the conditional request headers in the order RFC 9110 section 13.2.2
+     * prescribes.
+     *
+     * @return {@code true} if the request should be served, {@code false} if a
+     *     {@code 304} or {@code 412} response has been produced
+     */
+    private static boolean checkPreconditions(HttpServletRequest request,
+            HttpServletResponse response, String etag, long lastModified) throws IOException {
+        String ifMatch = request.getHeader("If-Match");
+        if (ifMatch != null) {
+            if (!matches(ifMatch, etag, false)) {
+                response.sendError(HttpServletResponse.SC_PRECONDITION_FAILED);
+                return false;
+            }
+        } else {
+            long ifUnmodifiedSince = HttpDates.parse(request.getHeader("If-Unmodified-Since"));
+            if (ifUnmodifiedSince >= 0 && lastModified / 1000 > ifUnmodifiedSince / 1000) {
+                response.sendError(HttpServletResponse.SC_PRECONDITION_FAILED);
+                return false;
+            }
+        }
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        boolean notModified;
+        if (ifNoneMatch != null) {
+            notModified = matches(ifNoneMatch, etag, true);
+        } else {
+            long ifModifiedSince = HttpDates.parse(request.getHeader("If-Modified-Since"));
+            notModified = ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+        }
+        if (notModified) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader("ETag", etag);
+            response.setDateHeader("Last-Modified", lastModified);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Tests an {@code If-Range} header: the range is honoured only if the validator it
+     * carries still identifies the current representation.
+     */
+    private static boolean rangeApplies(HttpServletRequest request, String etag,
+            long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        long date = HttpDates.parse(ifRange);
+        return date >= 0 && lastModified / 1000 == date / 1000;
+    }
+
+    /**
+     * Tests whether an entity tag list such as {@code "a", W/"b"} matches the current
+     * entity tag. Weak tags only match under weak comparison.
+     */
+    private static boolean matches(String header, String etag, boolean weak) {
+        int start = 0;
+        int length = header.length();
+        while (start < length) {
+            int end = header.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            String candidate = header.substring(start, end).trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                if (weak && candidate.regionMatches(2, etag, 0, etag.length())
+                        && candidate.length() == etag.length() + 2) {
+                    return true;
+                }
+            } else if (candidate.equals(etag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Parses a {@code Range} header holding one byte range.
+     *
+     * @return the first and last byte position, {@link #UNSATISFIABLE} if the range does
+     *     not overlap the resource, or {@code null} if the header is malformed or asks for
+     *     several ranges and the full resource should be sent
+     */
+    private static long[] parseRange(String header, long length) {
+        String value = header.trim();
+        if (!value.regionMatches(true, 0, "bytes=", 0, 6) || value.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = value.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        long first = parsePosition(spec, 0, dash);
+        long last = parsePosition(spec, dash + 1, spec.length());
+        if (first == INVALID || last == INVALID || first == -1 && last == -1) {
+            return null;
+        }
+        if (first == -1) {
+            // Suffix range: the last N bytes
+            if (last == 0) {
+                return UNSATISFIABLE;
+            }
+            first = Math.max(0, length - last);
+            last = length - 1;
+        } else if (last == -1) {
+            last = length - 1;
+        } else if (last < first) {
+            return null;
+        }
+        if (first >= length) {
+            return UNSATISFIABLE;
+        }
+        return new long[] {first, Math.min(last, length - 1)};
+    }
+
+    /**
+     * Parses a run of decimal digits.
+     *
+     * @return the value, {@code -1} if the run is empty or {@link #INVALID}
+     */
+    private static long parsePosition(String spec, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+        if (end - start > 18) {
+            return INVALID;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = spec.charAt(i);
+            if (c < '0' || c > '9') {
+                return INVALID;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private long longParam(String name, long defaultValue) throws ServletException {
+        String value = config.getInitParameter(name);
+        if (value == null) {
+            value = context.getInitParameter(name);
+        }
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Invalid value for " + name + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.AsyncContext;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletInputStream;
+import io.github.atharv3221.minicat.servlet.http.HttpServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpSession;
+import io.github.atharv3221.minicat.servlet.http.Part;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * View of a request dispatched by path with an {@link ApplicationDispatcher}.
+ *
+ * <p>The view holds nothing but the request and the dispatcher. A forward reports the
+ * context, request URI, servlet path and path info of the dispatcher, and its query
+ * string if it has one; an include keeps those of the request. Parameters of the dispatcher's query
+ * string are looked up first and those of the request after them, without building a
+ * merged map. Everything else goes to the request.</p>
+ */
+final class DispatchedRequest implements HttpServletRequest {
+
+    private final HttpServletRequest request;
+    private final ApplicationDispatcher dispatcher;
+    private final boolean include;
+
+    DispatchedRequest(HttpServletRequest request, ApplicationDispatcher dispatcher,
+            boolean include) {
+        this.request = request;
+        this.dispatcher = dispatcher;
+        this.include = include;
+    }
+
+    /**
+     * Tests whether the view is for an include rather than a forward.
+     */
+    boolean isInclude() {
+        return include;
+    }
+
+    ApplicationDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    @Override
+    public String getMethod() {
+        return request.getMethod();
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+    public String getRequestURI() {
+        return include ? request.getRequestURI() : dispatcher.getRequestUri();
+    }
+
+    @Override
+    public String getQueryString() {
+        return include || dispatcher.getQueryString() == null
+                ? request.getQueryString() : dispatcher.getQueryString();
+    }
+
+    @Override
+    public String getProtocol() {
+        return request.getProtocol();
+    }
+
+    @Override
+    public boolean isSecure() {
+        return request.isSecure();
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return include ? request.getServletContext() : dispatcher.getContext();
+    }
+
+    @Override
+    public String getContextPath() {
+        return include ? request.getContextPath() : dispatcher.getContext().getContextPath();
+    }
+
+    @Override
+    public String getServletPath() {
+        return include ? request.getServletPath() : dispatcher.getServletPath();
+    }
+
+    @Override
+    public String getPathInfo() {
+        return include ? request.getPathInfo() : dispatcher.getPathInfo();
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return request.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return request.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return request.getHeaderNames();
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        return request.getIntHeader(name);
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return request.getCharacterEncoding();
+    }
+
+    @Override
+    public int getContentLength() {
+        return request.getContentLength();
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return request.getContentLengthLong();
+    }
+
+    @Override
+    public String getContentType() {
+        return request.getContentType();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        return request.getInputStream();
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = dispatcher.getParameters().get(name);
+        return values != null ? values[0] : request.getParameter(name);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        Map<String, String[]> parameters = dispatcher.getParameters();
+        if (parameters.isEmpty()) {
+            return request.getParameterNames();
+        }
+        Set<String> names = new LinkedHashSet<>(parameters.keySet());
+        names.addAll(Collections.list(request.getParameterNames()));
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        String[] values = dispatcher.getParameters().get(name);
+        String[] inherited = request.getParameterValues(name);
+        if (values == null) {
+            return inherited;
+        }
+        return inherited == null ? values.clone() : ApplicationDispatcher.concat(values, inherited);
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        return request.startAsync();
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return request.isAsyncStarted();
+    }
+
+    @Override
+    public AsyncContext getAsyncContext() {
+        return request.getAsyncContext();
+    }
+
+    @Override
+    public String getRequestedSessionId() {
+        return request.getRequestedSessionId();
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        return request.getSession(create);
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return request.getSession();
+    }
+
+    @Override
+    public boolean isRequestedSessionIdValid() {
+        return request.isRequestedSessionIdValid();
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        return request.getParts();
+    }
+
+    @Override
+    public Part getPart(String name) throws IOException, ServletException {
+        return request.getPart(name);
+    }
+}
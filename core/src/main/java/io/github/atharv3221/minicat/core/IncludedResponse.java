@@ -0,0 +1,175 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.ServletOutputStream;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * View of a response that a servlet is included into by an
+ * {@link ApplicationDispatcher}.
+ *
+ * <p>The included servlet writes through the stream or writer of the response itself,
+ * so its content lands in the connection's output buffers like that of the including
+ * servlet, without being captured first. Calls that would change the status, the
+ * headers or the buffer are ignored.</p>
+ */
+final class IncludedResponse implements HttpServletResponse {
+
+    private final HttpServletResponse response;
+
+    IncludedResponse(HttpServletResponse response) {
+        this.response = response;
+    }
+
+    /**
+     * Returns the response the content is included into.
+     */
+    HttpServletResponse getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getCharacterEncoding() {
+        return response.getCharacterEncoding();
+    }
+
+    @Override
+    public void setCharacterEncoding(String charset) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public String getContentType() {
+        return response.getContentType();
+    }
+
+    @Override
+    public void setContentType(String type) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        return response.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        return response.getWriter();
+    }
+
+    @Override
+    public void setBufferSize(int size) {
+        // The buffer belongs to the including servlet
+    }
+
+    @Override
+    public int getBufferSize() {
+        return response.getBufferSize();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        response.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        // The buffer belongs to the including servlet
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return response.isCommitted();
+    }
+
+    @Override
+    public void reset() {
+        // The buffer belongs to the including servlet
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        // Included servlets cannot change the status
+    }
+
+    @Override
+    public int getStatus() {
+        return response.getStatus();
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        // Included servlets cannot change headers
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return response.containsHeader(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return response.getHeader(name);
+    }
+
+    @Override
+    public void sendError(int sc) {
+        // Included servlets cannot change the status
+    }
+
+    @Override
+    public void sendError(int sc, String msg) {
+        // Included servlets cannot change the status
+    }
+}
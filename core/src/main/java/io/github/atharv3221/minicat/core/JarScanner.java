@@ -0,0 +1,359 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Scans the JAR files of a web application's {@code WEB-INF/lib} directory into a
+ * {@link ClassIndex}.
+ *
+ * <p>Class files are parsed directly by {@link ClassFileReader}; no class is loaded
+ * and no class loader is involved. JARs are scanned in parallel on a fork-join pool.
+ * The result is persisted to an index file together with a checksum of every JAR, so
+ * the next scan reuses the entries of unchanged JARs and parses only the new or
+ * changed ones.</p>
+ *
+ * <p>The checksum is a CRC32C of the JAR's central directory, which records the CRC32
+ * and size of every entry; reading a few kilobytes at the end of each JAR thus detects
+ * any change to its content. JARs without a readable central directory are checksummed
+ * in full.</p>
+ */
+public final class JarScanner {
+
+    private static final System.Logger LOG = System.getLogger(JarScanner.class.getName());
+
+    private static final int INDEX_MAGIC = 0x4D434958;
+    private static final int INDEX_VERSION = 1;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int END_RECORD_LENGTH = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xffff;
+    private static final int CHECKSUM_BUFFER_SIZE = 64 * 1024;
+
+    private final Path indexFile;
+    private final int parallelism;
+
+    /**
+     * Creates a scanner.
+     *
+     * @param indexFile where the index is persisted between scans
+     * @param parallelism how many JARs are scanned at once
+     */
+    public JarScanner(Path indexFile, int parallelism) {
+        this.indexFile = indexFile;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Scans the JARs of a library directory.
+     *
+     * @param libDir the directory holding the JARs
+     * @param orderedLibs the file names of the JARs to scan, in order, or {@code null}
+     *     to scan every JAR in file name order
+     * @return the classes of the scanned JARs
+     * @throws IOException if the directory cannot be listed
+     */
+    public ClassIndex scan(Path libDir, List<String> orderedLibs) throws IOException {
+        final long start = System.nanoTime();
+        List<Path> jars = listJars(libDir, orderedLibs);
+        Map<String, IndexedJar> previous = readIndex();
+        List<Callable<IndexedJar>> tasks = new ArrayList<>(jars.size());
+        for (Path jar : jars) {
+            tasks.add(() -> scanJar(jar, previous.get(jar.getFileName().toString())));
+        }
+
+        List<IndexedJar> results = new ArrayList<>(jars.size());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<IndexedJar> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scanning " + libDir, e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to scan " + libDir, e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        Map<String, List<ClassInfo>> libraries = new LinkedHashMap<>();
+        Map<String, IndexedJar> current = new LinkedHashMap<>();
+        int reused = 0;
+        for (int i = 0; i < jars.size(); i++) {
+            IndexedJar result = results.get(i);
+            if (result == null) {
+                continue;
+            }
+            String name = jars.get(i).getFileName().toString();
+            libraries.put(name, result.classes());
+            current.put(name, result);
+            if (result == previous.get(name)) {
+                reused++;
+            }
+        }
+        if (reused != current.size() || previous.size() != current.size()) {
+            writeIndex(current);
+        }
+        LOG.log(System.Logger.Level.INFO, "Scanned " + current.size() + " JARs in " + libDir
+                + " (" + reused + " unchanged) in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+        return new ClassIndex(libraries);
+    }
+
+    static List<Path> listJars(Path libDir, List<String> orderedLibs) throws IOException {
+        List<Path> jars = new ArrayList<>();
+        if (orderedLibs != null) {
+            for (String name : orderedLibs) {
+                Path jar = libDir.resolve(name);
+                if (Files.isRegularFile(jar)) {
+                    jars.add(jar);
+                }
+            }
+            return jars;
+        }
+        try (Stream<Path> children = Files.list(libDir)) {
+            children.filter(path -> path.getFileName().toString().endsWith(".jar"))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .forEach(jars::add);
+        }
+        return jars;
+    }
+
+    /**
+     * Returns the classes of one JAR, reusing the previous entry if the JAR is unchanged.
+     *
+     * @return the entry, or {@code null} if the JAR cannot be read
+     */
+    private static IndexedJar scanJar(Path jar, IndexedJar previous) {
+        try {
+            long size = Files.size(jar);
+            long checksum = checksum(jar, size);
+            if (previous != null && previous.size() == size && previous.checksum() == checksum) {
+                return previous;
+            }
+            List<ClassInfo> classes = new ArrayList<>();
+            try (ZipFile zip = new ZipFile(jar.toFile())) {
+                Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (!name.endsWith(".class") || name.endsWith("module-info.class")
+                            || name.startsWith("META-INF/")) {
+                        continue;
+                    }
+                    try (InputStream in = zip.getInputStream(entry)) {
+                        classes.add(ClassFileReader.read(in.readAllBytes()));
+                    } catch (IllegalArgumentException e) {
+                        LOG.log(System.Logger.Level.DEBUG, "Skipping " + name + " in " + jar, e);
+                    }
+                }
+            }
+            return new IndexedJar(size, checksum, List.copyOf(classes));
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Failed to scan " + jar, e);
+            return null;
+        }
+    }
+
+    /**
+     * Computes the CRC32C of a JAR's central directory, or of the whole file if the end
+     * of central directory record cannot be found or describes a ZIP64 archive.
+     */
+    static long checksum(Path jar, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            int tailLength = (int) Math.min(size, END_RECORD_LENGTH + MAX_COMMENT_LENGTH);
+            ByteBuffer tail = ByteBuffer.allocate(tailLength).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, tail, size - tailLength);
+            for (int i = tailLength - END_RECORD_LENGTH; i >= 0; i--) {
+                if (tail.getInt(i) != END_OF_CENTRAL_DIRECTORY) {
+                    continue;
+                }
+                long directorySize = tail.getInt(i + 12) & 0xffffffffL;
+                long directoryOffset = tail.getInt(i + 16) & 0xffffffffL;
+                if (directoryOffset + directorySize <= size && directoryOffset != 0xffffffffL) {
+                    return crc(channel, directoryOffset, directorySize);
+                }
+                break;
+            }
+            return crc(channel, 0, size);
+        }
+    }
+
+    private static long crc(FileChannel channel, long offset, long length) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(
+                (int) Math.min(CHECKSUM_BUFFER_SIZE, Math.max(1, length)));
+        long position = offset;
+        long end = offset + length;
+        while (position < end) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+            readFully(channel, buffer, position);
+            buffer.flip();
+            position += buffer.remaining();
+            crc.update(buffer);
+        }
+        return crc.getValue();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            offset += read;
+        }
+    }
+
+    private Map<String, IndexedJar> readIndex() {
+        Map<String, IndexedJar> index = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION) {
+                return Map.of();
+            }
+            int jars = in.readInt();
+            for (int i = 0; i < jars; i++) {
+                String name = in.readUTF();
+                long size = in.readLong();
+                long checksum = in.readLong();
+                int count = in.readInt();
+                List<ClassInfo> classes = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    classes.add(readClass(in));
+                }
+                index.put(name, new IndexedJar(size, checksum, List.copyOf(classes)));
+            }
+            return index;
+        } catch (NoSuchFileException e) {
+            return Map.of();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Ignoring unreadable scan index " + indexFile, e);
+            return Map.of();
+        }
+    }
+
+    private static ClassInfo readClass(DataInputStream in) throws IOException {
+        String name = in.readUTF();
+        int access = in.readInt();
+        String superName = in.readBoolean() ? in.readUTF() : null;
+        return new ClassInfo(name, access, superName, readNames(in), readNames(in));
+    }
+
+    private static List<String> readNames(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            names[i] = in.readUTF();
+        }
+        return List.of(names);
+    }
+
+    /**
+     * Writes the index to a temporary file and moves it into place, so a crash never
+     * leaves a partial index behind.
+     */
+    private void writeIndex(Map<String, IndexedJar> index) {
+        try {
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(indexFile.toAbsolutePath().getParent(),
+                    indexFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(INDEX_MAGIC);
+                out.writeInt(INDEX_VERSION);
+                out.writeInt(index.size());
+                for (Map.Entry<String, IndexedJar> entry : index.entrySet()) {
+                    IndexedJar jar = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(jar.size());
+                    out.writeLong(jar.checksum());
+                    out.writeInt(jar.classes().size());
+                    for (ClassInfo info : jar.classes()) {
+                        writeClass(out, info);
+                    }
+                }
+            }
+            Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Failed to write scan index " + indexFile, e);
+        }
+    }
+
+    private static void writeClass(DataOutputStream out, ClassInfo info) throws IOException {
+        out.writeUTF(info.name());
+        out.writeInt(info.access());
+        out.writeBoolean(info.superName() != null);
+        if (info.superName() != null) {
+            out.writeUTF(info.superName());
+        }
+        writeNames(out, info.interfaces());
+        writeNames(out, info.annotations());
+    }
+
+    private static void writeNames(DataOutputStream out, List<String> names)
+            throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    private record IndexedJar(long size, long checksum, List<ClassInfo> classes) {
+    }
+}
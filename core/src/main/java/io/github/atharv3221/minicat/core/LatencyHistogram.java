@@ -0,0 +1,199 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies with bounded relative error, in the style of an HDR
+ * histogram.
+ *
+ * <p>Values are recorded in microseconds into log-linear buckets: every power of two is
+ * split into {@value #SUB_BUCKETS} equal buckets, so a reported percentile is never off
+ * by more than about 1.6%. Values up to about 71 minutes are tracked exactly in that
+ * sense; longer ones are clamped into the last bucket but still count towards the
+ * maximum and the mean.</p>
+ *
+ * <p>Recording takes no lock. Bucket counts are kept in several stripes, each an
+ * {@link AtomicLongArray}, and a thread always records into the stripe picked by its id,
+ * so concurrent requests rarely update the same cache line. Readers merge the stripes
+ * into a {@link Snapshot}; a snapshot taken while requests complete may miss some of
+ * them but never reports a value that was not recorded.</p>
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 32;
+    private static final long MAX_TRACKED = (1L << MAX_EXPONENT) - 1;
+    private static final int BUCKETS = bucketIndex(MAX_TRACKED) + 1;
+    private static final int MAX_STRIPES = 8;
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates an empty histogram with one stripe per processor, up to eight.
+     */
+    public LatencyHistogram() {
+        int cpus = Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors());
+        int count = Integer.highestOneBit(cpus);
+        stripes = new AtomicLongArray[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+        stripeMask = count - 1;
+    }
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        long threadId = Thread.currentThread().threadId();
+        int stripe = (int) ((threadId * 0x9E3779B97F4A7C15L) >>> 32) & stripeMask;
+        stripes[stripe].getAndIncrement(bucketIndex(Math.min(MAX_TRACKED,
+                value / NANOS_PER_MICRO)));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Returns the recorded values merged from all stripes.
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                long n = stripe.get(i);
+                counts[i] += n;
+                count += n;
+            }
+        }
+        return new Snapshot(counts, count, totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * Maps a value in microseconds to its bucket. Values below {@code 2 * SUB_BUCKETS}
+     * get a bucket each; above that each power of two shares {@code SUB_BUCKETS}.
+     */
+    static int bucketIndex(long micros) {
+        if (micros < 2 * SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BITS;
+        return (shift << SUB_BITS) + (int) (micros >>> shift);
+    }
+
+    /**
+     * Returns the largest value, in microseconds, that falls into the given bucket.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BITS) - 1;
+        long mantissa = index - ((long) shift << SUB_BITS);
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Point-in-time copy of a histogram.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        Snapshot(long[] counts, long count, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the number of recorded values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of all recorded values in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Returns the largest recorded value in nanoseconds, or zero if there is none.
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean of the recorded values in nanoseconds, or zero if there is
+         * none.
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns the value below or at which the given fraction of recorded values lie.
+         *
+         * @param quantile the fraction, between 0 and 1, for example 0.99
+         * @return the upper bound of the bucket holding that value, in nanoseconds and
+         *     never above the maximum, or zero if nothing was recorded
+         */
+        public long getValueAtQuantile(double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    long upper = (bucketUpperBound(i) + 1) * NANOS_PER_MICRO - 1;
+                    return Math.min(upper, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+    }
+}
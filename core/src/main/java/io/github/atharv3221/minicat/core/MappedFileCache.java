@@ -0,0 +1,103 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps small static files memory-mapped so repeated requests are served from the page
+ * cache without opening the file or copying it through the heap.
+ *
+ * <p>The cache is bounded by the total number of mapped bytes. Mappings are released
+ * by the garbage collector once evicted and no response still references them.
+ * Entries are keyed by path and validated against the file's size and modification
+ * time, so a changed file is mapped again. Those come from cached metadata that may be
+ * stale, so the file's actual size is checked before it is mapped: a mapping past the
+ * end of a file truncated in place would fault when the response reads it.</p>
+ */
+final class MappedFileCache {
+
+    private final long maxBytes;
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong mappedBytes = new AtomicLong();
+
+    MappedFileCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns a read-only buffer holding the whole file. The returned buffer is shared;
+     * callers must {@link ByteBuffer#duplicate() duplicate} it before changing its
+     * position or limit.
+     *
+     * @param file the file
+     * @param size the file's current size
+     * @param lastModified the file's current modification time
+     * @return the mapped file content, or {@code null} if the file no longer has the
+     *     given size and must be sent from the file instead
+     * @throws IOException if the file cannot be mapped
+     */
+    ByteBuffer get(Path file, long size, long lastModified) throws IOException {
+        Entry entry = entries.get(file);
+        if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+            return entry.buffer;
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != size) {
+                if (entry != null && entries.remove(file, entry)) {
+                    mappedBytes.addAndGet(-entry.size);
+                }
+                return null;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        Entry replaced = entries.put(file, new Entry(buffer, size, lastModified));
+        mappedBytes.addAndGet(replaced == null ? size : size - replaced.size);
+        evict();
+        return buffer;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Path, Entry>> iterator = entries.entrySet().iterator();
+        while (mappedBytes.get() > maxBytes && iterator.hasNext()) {
+            Map.Entry<Path, Entry> candidate = iterator.next();
+            if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                mappedBytes.addAndGet(-candidate.getValue().size);
+            }
+        }
+    }
+
+    private record Entry(ByteBuffer buffer, long size, long lastModified) {
+    }
+}
@@ -0,0 +1,285 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable, compiled table of Servlet specification URL patterns.
+ *
+ * <p>Exact and path-prefix patterns are stored in a trie with one level per path
+ * segment; extension patterns in a sorted table. Children and extensions are found by
+ * binary search comparing the lookup path in place, so a lookup costs time proportional
+ * to the length of the path and allocates nothing. Changing the patterns means compiling
+ * a new mapper and publishing it in place of the old one.</p>
+ *
+ * <p>Patterns follow the Servlet specification: {@code ""} for the context root,
+ * {@code /} for the default mapping, {@code /prefix/*} for a path prefix, {@code *.ext}
+ * for an extension and anything else starting with {@code /} for an exact path.</p>
+ *
+ * @param <T> the type of the mapping targets
+ */
+public final class Mapper<T> {
+
+    private static final Mapper<?> EMPTY = compile(Map.of());
+
+    private final Node<T> root;
+    private final String[] extensions;
+    private final T[] extensionTargets;
+    private final T defaultTarget;
+    private final T contextRootTarget;
+    private final int size;
+
+    private Mapper(Node<T> root, String[] extensions, T[] extensionTargets,
+            T defaultTarget, T contextRootTarget, int size) {
+        this.root = root;
+        this.extensions = extensions;
+        this.extensionTargets = extensionTargets;
+        this.defaultTarget = defaultTarget;
+        this.contextRootTarget = contextRootTarget;
+        this.size = size;
+    }
+
+    /**
+     * Returns a mapper without patterns.
+     *
+     * @param <T> the type of the mapping targets
+     * @return the empty mapper
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Mapper<T> empty() {
+        return (Mapper<T>) EMPTY;
+    }
+
+    /**
+     * Compiles a set of patterns.
+     *
+     * @param patterns the targets keyed by URL pattern
+     * @param <T> the type of the mapping targets
+     * @return the compiled mapper
+     * @throws IllegalArgumentException if a pattern is not a valid URL pattern
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Mapper<T> compile(Map<String, ? extends T> patterns) {
+        BuildNode<T> root = new BuildNode<>();
+        TreeMap<String, T> extensionMap = new TreeMap<>();
+        T defaultTarget = null;
+        T contextRootTarget = null;
+        for (Map.Entry<String, ? extends T> entry : patterns.entrySet()) {
+            String pattern = entry.getKey();
+            T target = entry.getValue();
+            if (pattern.isEmpty()) {
+                contextRootTarget = target;
+            } else if (pattern.equals("/")) {
+                defaultTarget = target;
+            } else if (pattern.startsWith("*.")) {
+                String extension = pattern.substring(2);
+                if (extension.isEmpty() || extension.indexOf('/') >= 0) {
+                    throw new IllegalArgumentException("Invalid URL pattern: " + pattern);
+                }
+                extensionMap.put(extension, target);
+            } else if (pattern.charAt(0) == '/' && pattern.indexOf('*') < 0) {
+                root.descend(pattern, pattern.length()).exact = target;
+            } else if (pattern.charAt(0) == '/' && pattern.endsWith("/*")
+                    && pattern.indexOf('*') == pattern.length() - 1) {
+                root.descend(pattern, pattern.length() - 2).prefix = target;
+            } else {
+                throw new IllegalArgumentException("Invalid URL pattern: " + pattern);
+            }
+        }
+        String[] extensions = extensionMap.keySet().toArray(new String[0]);
+        T[] extensionTargets = (T[]) extensionMap.values().toArray();
+        return new Mapper<>(root.freeze(), extensions, extensionTargets, defaultTarget,
+                contextRootTarget, patterns.size());
+    }
+
+    /**
+     * Returns the number of patterns.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the target for a path.
+     *
+     * @param path a normalized path
+     * @param start the offset in {@code path} where the path to map begins; the path must
+     *     have a {@code /} at this offset
+     * @param data receives where the servlet path ends and which kind of pattern
+     *     matched
+     * @return the target, or {@code null} if no pattern matches
+     */
+    public T map(String path, int start, MappingData data) {
+        int end = path.length();
+        if (contextRootTarget != null && end - start == 1) {
+            data.set(start, MappingMatch.CONTEXT_ROOT);
+            return contextRootTarget;
+        }
+
+        Node<T> node = root;
+        T prefixTarget = root.prefix;
+        int prefixEnd = start;
+        int position = start + 1;
+        while (true) {
+            int slash = path.indexOf('/', position);
+            int segmentEnd = slash < 0 ? end : slash;
+            node = node.child(path, position, segmentEnd);
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                prefixTarget = node.prefix;
+                prefixEnd = segmentEnd;
+            }
+            if (segmentEnd == end) {
+                if (node.exact != null) {
+                    data.set(end, MappingMatch.EXACT);
+                    return node.exact;
+                }
+                break;
+            }
+            position = segmentEnd + 1;
+        }
+        if (prefixTarget != null) {
+            data.set(prefixEnd, MappingMatch.PATH);
+            return prefixTarget;
+        }
+
+        int lastSlash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (dot > lastSlash && dot >= start && extensions.length > 0) {
+            int index = search(extensions, path, dot + 1, end);
+            if (index >= 0) {
+                data.set(end, MappingMatch.EXTENSION);
+                return extensionTargets[index];
+            }
+        }
+        if (defaultTarget != null) {
+            data.set(end, MappingMatch.DEFAULT);
+            return defaultTarget;
+        }
+        data.set(start, null);
+        return null;
+    }
+
+    /**
+     * Binary search over sorted keys for the key equal to a region of {@code path}.
+     */
+    private static int search(String[] keys, String path, int start, int end) {
+        int low = 0;
+        int high = keys.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compare(keys[middle], path, start, end);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares a key with a region of {@code path} the way {@link String#compareTo}
+     * would compare it with the region as a string.
+     */
+    private static int compare(String key, String path, int start, int end) {
+        int length = end - start;
+        int common = Math.min(key.length(), length);
+        for (int i = 0; i < common; i++) {
+            int difference = key.charAt(i) - path.charAt(start + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return key.length() - length;
+    }
+
+    /**
+     * Trie node for one path segment.
+     */
+    private static final class Node<T> {
+
+        private final String[] keys;
+        private final Node<T>[] children;
+        private final T exact;
+        private final T prefix;
+
+        Node(String[] keys, Node<T>[] children, T exact, T prefix) {
+            this.keys = keys;
+            this.children = children;
+            this.exact = exact;
+            this.prefix = prefix;
+        }
+
+        Node<T> child(String path, int start, int end) {
+            int index = search(keys, path, start, end);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    /**
+     * Mutable node used while compiling.
+     */
+    private static final class BuildNode<T> {
+
+        private final TreeMap<String, BuildNode<T>> children = new TreeMap<>();
+        private T exact;
+        private T prefix;
+
+        /**
+         * Returns the node for the segments of {@code pattern} up to {@code end},
+         * creating missing nodes.
+         */
+        BuildNode<T> descend(String pattern, int end) {
+            BuildNode<T> node = this;
+            int position = 1;
+            while (position <= end) {
+                int slash = pattern.indexOf('/', position);
+                int segmentEnd = slash < 0 || slash > end ? end : slash;
+                node = node.children.computeIfAbsent(pattern.substring(position, segmentEnd),
+                        key -> new BuildNode<>());
+                position = segmentEnd + 1;
+            }
+            return node;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> freeze() {
+            String[] keys = children.keySet().toArray(new String[0]);
+            Node<T>[] frozen = (Node<T>[]) new Node<?>[keys.length];
+            int i = 0;
+            for (BuildNode<T> child : children.values()) {
+                frozen[i++] = child.freeze();
+            }
+            return new Node<>(keys, frozen, exact, prefix);
+        }
+    }
+}
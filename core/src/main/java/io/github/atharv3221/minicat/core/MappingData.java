@@ -0,0 +1,66 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+/**
+ * Mutable result of a {@link Mapper} lookup, reusable across lookups so that mapping a
+ * request allocates nothing.
+ *
+ * <p>Positions are offsets into the path that was looked up. The servlet path runs from
+ * the start offset of the lookup to {@link #getMatchEnd()}; whatever follows is the path
+ * info.</p>
+ */
+public final class MappingData {
+
+    private int matchEnd;
+    private MappingMatch matchType;
+
+    /**
+     * Returns the offset just past the part of the path the mapping consumed.
+     */
+    public int getMatchEnd() {
+        return matchEnd;
+    }
+
+    /**
+     * Returns the kind of mapping that matched, or {@code null} if none did.
+     */
+    public MappingMatch getMatchType() {
+        return matchType;
+    }
+
+    void set(int matchEnd, MappingMatch matchType) {
+        this.matchEnd = matchEnd;
+        this.matchType = matchType;
+    }
+
+    /**
+     * Clears the result.
+     */
+    public void recycle() {
+        matchEnd = 0;
+        matchType = null;
+    }
+}
@@ -0,0 +1,57 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+/**
+ * Kind of servlet mapping that matched a request, in the precedence order the Servlet
+ * specification applies them.
+ */
+public enum MappingMatch {
+
+    /**
+     * The empty-string mapping matched a request for the context root.
+     */
+    CONTEXT_ROOT,
+
+    /**
+     * A mapping without wildcards matched the whole path.
+     */
+    EXACT,
+
+    /**
+     * A {@code /prefix/*} mapping matched a leading run of path segments.
+     */
+    PATH,
+
+    /**
+     * A {@code *.ext} mapping matched the extension of the last path segment.
+     */
+    EXTENSION,
+
+    /**
+     * The {@code /} mapping matched because nothing else did.
+     */
+    DEFAULT
+}
@@ -0,0 +1,167 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletConfig;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.http.HttpServletRequest;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Serves the servlet metrics in the Prometheus text exposition format, for scraping by
+ * a monitoring system.
+ *
+ * <p>Mapped into a context that belongs to a {@link StandardHost}, the servlet reports
+ * every context of the host; otherwise it reports its own context. Latencies are
+ * exported as a summary in seconds with the 0.5, 0.9, 0.99 and 0.999 quantiles.</p>
+ */
+public class MetricsServlet implements Servlet {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private ServletConfig config;
+    private StandardContext context;
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        if (!(config.getServletContext() instanceof StandardContext standard)) {
+            throw new ServletException("MetricsServlet requires a StandardContext");
+        }
+        this.config = config;
+        this.context = standard;
+    }
+
+    @Override
+    public ServletConfig getServletConfig() {
+        return config;
+    }
+
+    @Override
+    public void service(ServletRequest req, ServletResponse res) throws ServletException,
+            IOException {
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            response.setStatus(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
+            response.setHeader("Allow", "GET, HEAD");
+            response.setContentLength(0);
+            return;
+        }
+        StandardHost host = context.getHost();
+        StandardContext[] contexts = host == null
+                ? new StandardContext[] {context}
+                : host.snapshot();
+        byte[] body = format(contexts).getBytes(StandardCharsets.UTF_8);
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    @Override
+    public String getServletInfo() {
+        return "minicat metrics";
+    }
+
+    @Override
+    public void destroy() {
+        config = null;
+        context = null;
+    }
+
+    static String format(StandardContext[] contexts) {
+        StringBuilder requests = header("minicat_servlet_requests_total", "counter",
+                "Requests completed by the servlet.");
+        StringBuilder errors = header("minicat_servlet_errors_total", "counter",
+                "Requests that threw or completed with a 5xx status.");
+        StringBuilder inFlight = header("minicat_servlet_in_flight", "gauge",
+                "Requests currently inside the servlet.");
+        StringBuilder latency = header("minicat_servlet_latency_seconds", "summary",
+                "Time spent in the servlet's service method.");
+        StringBuilder max = header("minicat_servlet_latency_max_seconds", "gauge",
+                "Highest time spent in the servlet's service method.");
+        for (StandardContext context : contexts) {
+            for (Map.Entry<String, ServletMetrics> entry
+                    : context.getServletMetrics().entrySet()) {
+                String labels = "context=\"" + escape(contextName(context))
+                        + "\",servlet=\"" + escape(entry.getKey()) + "\"";
+                ServletMetrics metrics = entry.getValue();
+                final LatencyHistogram.Snapshot snapshot = metrics.getLatency();
+                sample(requests, "minicat_servlet_requests_total", labels,
+                        Long.toString(metrics.getRequestCount()));
+                sample(errors, "minicat_servlet_errors_total", labels,
+                        Long.toString(metrics.getErrorCount()));
+                sample(inFlight, "minicat_servlet_in_flight", labels,
+                        Long.toString(metrics.getInFlight()));
+                for (double quantile : QUANTILES) {
+                    sample(latency, "minicat_servlet_latency_seconds",
+                            labels + ",quantile=\"" + quantile + "\"",
+                            seconds(snapshot.getValueAtQuantile(quantile)));
+                }
+                sample(latency, "minicat_servlet_latency_seconds_sum", labels,
+                        seconds(snapshot.getTotalNanos()));
+                sample(latency, "minicat_servlet_latency_seconds_count", labels,
+                        Long.toString(snapshot.getCount()));
+                sample(max, "minicat_servlet_latency_max_seconds", labels,
+                        seconds(snapshot.getMaxNanos()));
+            }
+        }
+        return requests.append(errors).append(inFlight).append(latency).append(max)
+                .toString();
+    }
+
+    private static StringBuilder header(String name, String type, String help) {
+        return new StringBuilder(256)
+                .append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels,
+            String value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String contextName(StandardContext context) {
+        String path = context.getContextPath();
+        return path.isEmpty() ? "/" : path;
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / NANOS_PER_SECOND);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,209 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.Response;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Maps file name extensions to MIME types for a context: built-in defaults plus the
+ * context's own mappings, which take precedence.
+ *
+ * <p>Both are compiled into an open-addressing hash table, recompiled and swapped in
+ * atomically whenever a mapping is added. A lookup hashes the extension in place,
+ * folding case as it goes, so it allocates nothing. Each entry also carries the encoded
+ * {@code Content-Type} header line, which the connector copies into the response head
+ * as is.</p>
+ */
+final class MimeTypes {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("html", "text/html"),
+            Map.entry("htm", "text/html"),
+            Map.entry("css", "text/css"),
+            Map.entry("js", "text/javascript"),
+            Map.entry("mjs", "text/javascript"),
+            Map.entry("json", "application/json"),
+            Map.entry("map", "application/json"),
+            Map.entry("xml", "application/xml"),
+            Map.entry("txt", "text/plain"),
+            Map.entry("csv", "text/csv"),
+            Map.entry("md", "text/markdown"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("avif", "image/avif"),
+            Map.entry("woff", "font/woff"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("ttf", "font/ttf"),
+            Map.entry("otf", "font/otf"),
+            Map.entry("pdf", "application/pdf"),
+            Map.entry("zip", "application/zip"),
+            Map.entry("gz", "application/gzip"),
+            Map.entry("tar", "application/x-tar"),
+            Map.entry("jar", "application/java-archive"),
+            Map.entry("war", "application/java-archive"),
+            Map.entry("wasm", "application/wasm"),
+            Map.entry("mp3", "audio/mpeg"),
+            Map.entry("ogg", "audio/ogg"),
+            Map.entry("wav", "audio/wav"),
+            Map.entry("mp4", "video/mp4"),
+            Map.entry("webm", "video/webm"),
+            Map.entry("jsp", "text/html"),
+            Map.entry("bin", "application/octet-stream"));
+
+    private static final Table DEFAULT_TABLE = Table.compile(DEFAULTS);
+
+    private final Map<String, String> mappings = new LinkedHashMap<>();
+    private volatile Table table = DEFAULT_TABLE;
+
+    synchronized void addMapping(String extension, String mimeType) {
+        mappings.put(lowerCase(extension), mimeType);
+        Map<String, String> merged = new LinkedHashMap<>(DEFAULTS);
+        merged.putAll(mappings);
+        table = Table.compile(merged);
+    }
+
+    String getMimeType(String file) {
+        Entry entry = find(file);
+        return entry == null ? null : entry.type();
+    }
+
+    /**
+     * Looks up the mapping for the extension of a file name.
+     *
+     * @param file the file name or path
+     * @return the mapping, or {@code null} if the last segment has no extension or the
+     *     extension is not mapped
+     */
+    Entry find(String file) {
+        if (file == null) {
+            return null;
+        }
+        int end = file.length();
+        int dot = end - 1;
+        while (dot >= 0) {
+            char c = file.charAt(dot);
+            if (c == '.') {
+                break;
+            }
+            if (c == '/') {
+                return null;
+            }
+            dot--;
+        }
+        if (dot < 0) {
+            return null;
+        }
+        return table.find(file, dot + 1, end);
+    }
+
+    private static String lowerCase(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = lowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static char lowerCase(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int hash(CharSequence value, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + lowerCase(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * One mapping, with its {@code Content-Type} header line pre-encoded.
+     *
+     * @param extension the extension in lower case
+     * @param type the MIME type
+     * @param header the header line for {@link Response#setContentType(String, byte[])}
+     */
+    record Entry(String extension, String type, byte[] header) {
+    }
+
+    /**
+     * Linear-probing table filled at most half full, so probe sequences stay short.
+     */
+    private static final class Table {
+
+        private final Entry[] entries;
+        private final int[] hashes;
+        private final int mask;
+
+        private Table(int capacity) {
+            this.entries = new Entry[capacity];
+            this.hashes = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        static Table compile(Map<String, String> mappings) {
+            int capacity = Integer.highestOneBit(Math.max(2, mappings.size()) * 2 - 1) << 1;
+            Table table = new Table(capacity);
+            for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+                String extension = lowerCase(mapping.getKey());
+                int hash = hash(extension, 0, extension.length());
+                int slot = hash & table.mask;
+                while (table.entries[slot] != null
+                        && !table.entries[slot].extension().equals(extension)) {
+                    slot = (slot + 1) & table.mask;
+                }
+                table.entries[slot] = new Entry(extension, mapping.getValue(),
+                        Response.encodeContentType(mapping.getValue()));
+                table.hashes[slot] = hash;
+            }
+            return table;
+        }
+
+        Entry find(String file, int start, int end) {
+            int hash = hash(file, start, end);
+            int length = end - start;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                Entry entry = entries[slot];
+                if (entry == null) {
+                    return null;
+                }
+                if (hashes[slot] == hash && entry.extension().length() == length
+                        && file.regionMatches(true, start, entry.extension(), 0, length)) {
+                    return entry;
+                }
+            }
+        }
+    }
+}
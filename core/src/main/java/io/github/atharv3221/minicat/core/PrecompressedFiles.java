@@ -0,0 +1,162 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps {@code gzip} copies of static files in the context's work directory, so a
+ * compressible file is compressed once rather than on every request and can still be
+ * sent with the zero-copy paths of the {@link DefaultServlet}.
+ *
+ * <p>A copy carries the modification time of its source file. It is reused, across
+ * restarts too, while that time and the source size are unchanged, and otherwise
+ * compressed again into a temporary file that atomically replaces the stale copy.
+ * Concurrent requests for a stale file may compress it more than once; the last copy
+ * wins and all are identical. Files that do not get smaller are remembered and served
+ * as they are.</p>
+ */
+final class PrecompressedFiles {
+
+    private static final System.Logger LOG =
+            System.getLogger(PrecompressedFiles.class.getName());
+
+    private static final String SUFFIX = ".gz";
+
+    private final Path directory;
+    private final int level;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the cache.
+     *
+     * @param directory the directory holding the compressed copies, created on demand
+     * @param level the deflate compression level
+     */
+    PrecompressedFiles(Path directory, int level) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.level = level;
+    }
+
+    /**
+     * Returns the compressed copy of a file, compressing it first if there is no
+     * current copy.
+     *
+     * @param path the context-relative path of the file, used to name the copy
+     * @param source the file
+     * @param size the file's current size
+     * @param lastModified the file's current modification time
+     * @return the copy, or {@code null} if compressing does not make the file smaller or
+     *     the copy cannot be written
+     */
+    Variant get(String path, Path source, long size, long lastModified) {
+        Entry entry = entries.get(path);
+        if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+            return entry.variant;
+        }
+        Path target = directory.resolve(path.substring(1) + SUFFIX).normalize();
+        if (!target.startsWith(directory)) {
+            return null;
+        }
+        Variant variant;
+        try {
+            variant = existing(target, lastModified);
+            if (variant == null) {
+                variant = compress(source, target, size, lastModified);
+            }
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Failed to precompress " + source, e);
+            return null;
+        }
+        entries.put(path, new Entry(variant, size, lastModified));
+        return variant;
+    }
+
+    private static Variant existing(Path target, long lastModified) throws IOException {
+        if (!Files.isRegularFile(target)
+                || Files.getLastModifiedTime(target).toMillis() != lastModified) {
+            return null;
+        }
+        return new Variant(target, Files.size(target), lastModified);
+    }
+
+    private Variant compress(Path source, Path target, long size, long lastModified)
+            throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(),
+                ".tmp");
+        try {
+            try (InputStream in = Files.newInputStream(source);
+                    OutputStream out = new LevelGzipOutputStream(Files.newOutputStream(temp),
+                            level)) {
+                in.transferTo(out);
+            }
+            long compressedSize = Files.size(temp);
+            if (compressedSize >= size) {
+                Files.deleteIfExists(target);
+                return null;
+            }
+            Files.setLastModifiedTime(temp, FileTime.fromMillis(lastModified));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            return new Variant(target, compressedSize, lastModified);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * A compressed copy.
+     *
+     * @param file the file holding it
+     * @param size its size in bytes
+     * @param lastModified its modification time, that of the source file
+     */
+    record Variant(Path file, long size, long lastModified) {
+    }
+
+    private record Entry(Variant variant, long size, long lastModified) {
+    }
+
+    /**
+     * {@link GZIPOutputStream} at a chosen compression level.
+     */
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+
+        LevelGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+/**
+ * Path helpers shared by request mapping and dispatching.
+ */
+final class RequestUtil {
+
+    private RequestUtil() {
+    }
+
+    /**
+     * Normalizes a decoded path: collapses repeated slashes and resolves {@code .} and
+     * {@code ..} segments. Paths that are already normal are returned as they are.
+     *
+     * @param path the decoded path
+     * @return the normalized path, or {@code null} if the path does not start with
+     *     {@code /}, contains a backslash or NUL, or climbs above the root
+     */
+    static String normalize(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        if (isNormal(path)) {
+            return path;
+        }
+        if (path.indexOf('\\') >= 0 || path.indexOf('\0') >= 0) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder(path.length());
+        int length = path.length();
+        int position = 1;
+        while (position <= length) {
+            int slash = path.indexOf('/', position);
+            int end = slash < 0 ? length : slash;
+            int segmentLength = end - position;
+            boolean last = slash < 0;
+            if (segmentLength == 0 && !last) {
+                // Repeated slash
+            } else if (segmentLength == 1 && path.charAt(position) == '.') {
+                if (last) {
+                    result.append('/');
+                }
+            } else if (segmentLength == 2 && path.charAt(position) == '.'
+                    && path.charAt(position + 1) == '.') {
+                int previous = result.lastIndexOf("/");
+                if (previous < 0) {
+                    return null;
+                }
+                result.setLength(previous);
+                if (last) {
+                    result.append('/');
+                }
+            } else {
+                result.append('/').append(path, position, end);
+            }
+            position = end + 1;
+        }
+        return result.isEmpty() ? "/" : result.toString();
+    }
+
+    private static boolean isNormal(String path) {
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            char c = path.charAt(i);
+            if (c == '\\' || c == 0) {
+                return false;
+            }
+            if (c == '/' && i + 1 < length) {
+                char next = path.charAt(i + 1);
+                if (next == '/') {
+                    return false;
+                }
+                if (next == '.' && (i + 2 == length || path.charAt(i + 2) == '/'
+                        || path.charAt(i + 2) == '.'
+                        && (i + 3 == length || path.charAt(i + 3) == '/'))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
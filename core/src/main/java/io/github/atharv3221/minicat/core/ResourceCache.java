@@ -0,0 +1,279 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache of resource lookups for one context.
+ *
+ * <p>Each entry records the outcome of resolving a resource path, including misses, so
+ * repeated lookups of the same path cost a hash map probe instead of a {@code stat}.
+ * Entries are trusted for the TTL and then revalidated against the file's size and
+ * modification time; an unchanged file keeps its cached bytes and listing.</p>
+ *
+ * <p>When the cached bytes exceed the maximum size, the least recently used entries are
+ * evicted down to {@value #EVICTION_TARGET_PERCENT}% of the maximum. Eviction runs on
+ * the thread that overflowed the cache, and only one thread evicts at a time.</p>
+ */
+public final class ResourceCache {
+
+    /**
+     * Default maximum size of the cache in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+
+    /**
+     * Default time, in milliseconds, an entry is trusted before it is revalidated.
+     */
+    public static final long DEFAULT_TTL = 5000;
+
+    private static final int EVICTION_TARGET_PERCENT = 95;
+    private static final int MAX_OBJECT_SIZE_DIVISOR = 20;
+
+    private final Function<String, Path> resolver;
+    private final Map<String, CachedResource> entries = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private volatile long maxSize = DEFAULT_MAX_SIZE;
+    private volatile long maxObjectSize = DEFAULT_MAX_SIZE / MAX_OBJECT_SIZE_DIVISOR;
+    private volatile long ttlNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TTL);
+
+    /**
+     * Creates a cache.
+     *
+     * @param resolver maps a resource path to a file, or to {@code null} if the path is
+     *     not valid
+     */
+    public ResourceCache(Function<String, Path> resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Returns the entry for a resource path, loading or revalidating it as needed.
+     *
+     * @param path the resource path, starting with {@code /}
+     * @return the entry, which may record a missing resource, or {@code null} if the
+     *     path is not valid
+     */
+    CachedResource lookup(String path) {
+        long now = System.nanoTime();
+        CachedResource entry = entries.get(path);
+        BasicFileAttributes attributes = null;
+        Path file;
+        if (entry != null) {
+            if (now - entry.getNextCheck() < 0) {
+                entry.setLastAccess(now);
+                hits.increment();
+                return entry;
+            }
+            file = entry.getFile();
+            attributes = CachedResource.readAttributes(file);
+            if (entry.isCurrent(attributes)) {
+                entry.setNextCheck(now + ttlNanos);
+                entry.setLastAccess(now);
+                hits.increment();
+                return entry;
+            }
+        } else {
+            file = resolver.apply(path);
+            if (file == null) {
+                return null;
+            }
+            attributes = CachedResource.readAttributes(file);
+        }
+        misses.increment();
+        CachedResource loaded = new CachedResource(this, file, attributes, now);
+        loaded.setNextCheck(now + ttlNanos);
+        if (ttlNanos <= 0) {
+            return loaded;
+        }
+        CachedResource previous = entries.put(path, loaded);
+        long added = loaded.getWeight() - (previous == null ? 0 : previous.getWeight());
+        if (size.addAndGet(added) > maxSize) {
+            evict();
+        }
+        return loaded;
+    }
+
+    /**
+     * Accounts for bytes an entry loaded after it was cached.
+     */
+    void contentLoaded(long bytes) {
+        if (size.addAndGet(bytes) > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+        size.set(0);
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to consult the file system.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within the maximum size.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     */
+    public int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the approximate number of bytes the cache holds.
+     */
+    public long getSize() {
+        return size.get();
+    }
+
+    /**
+     * Returns the maximum size of the cache in bytes.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum size of the cache in bytes. The largest file whose bytes are
+     * cached becomes one twentieth of this.
+     *
+     * @param maxSize the maximum size
+     */
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+        this.maxObjectSize = maxSize / MAX_OBJECT_SIZE_DIVISOR;
+    }
+
+    /**
+     * Returns the size of the largest file whose bytes are cached.
+     */
+    public long getMaxObjectSize() {
+        return maxObjectSize;
+    }
+
+    /**
+     * Sets the size of the largest file whose bytes are cached.
+     *
+     * @param maxObjectSize the size in bytes
+     */
+    public void setMaxObjectSize(long maxObjectSize) {
+        this.maxObjectSize = maxObjectSize;
+    }
+
+    /**
+     * Returns the time, in milliseconds, an entry is trusted before it is revalidated.
+     */
+    public long getTtl() {
+        return TimeUnit.NANOSECONDS.toMillis(ttlNanos);
+    }
+
+    /**
+     * Sets the time, in milliseconds, an entry is trusted before it is revalidated.
+     * Zero disables caching.
+     *
+     * @param ttl the TTL in milliseconds
+     */
+    public void setTtl(long ttl) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+    }
+
+    /**
+     * Evicts least recently used entries. The running total is recomputed from the
+     * entries themselves so that races between loading and eviction cannot make it
+     * drift. Access times are copied into the snapshot, since requests keep updating
+     * them and sorting on live values could break the comparator's contract.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Candidate> snapshot = new ArrayList<>(entries.size());
+            long total = 0;
+            for (Map.Entry<String, CachedResource> entry : entries.entrySet()) {
+                CachedResource resource = entry.getValue();
+                snapshot.add(new Candidate(entry.getKey(), resource, resource.getLastAccess()));
+                total += resource.getWeight();
+            }
+            if (total <= maxSize) {
+                size.set(total);
+                return;
+            }
+            snapshot.sort(Comparator.comparingLong(Candidate::lastAccess));
+            long target = maxSize / 100 * EVICTION_TARGET_PERCENT;
+            for (Candidate candidate : snapshot) {
+                if (total <= target) {
+                    break;
+                }
+                if (entries.remove(candidate.key(), candidate.resource())) {
+                    total -= candidate.resource().getWeight();
+                    evictions.increment();
+                }
+            }
+            size.set(total);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record Candidate(String key, CachedResource resource, long lastAccess) {
+    }
+}
@@ -0,0 +1,115 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counters and latency histogram of one servlet.
+ *
+ * <p>The wrapper calls {@link #requestStarted()} and {@link #requestCompleted} around
+ * every call to the servlet's {@code service}. Both only add to {@link LongAdder}s and
+ * the {@link LatencyHistogram}, so instrumentation never makes concurrent requests wait
+ * for each other.</p>
+ */
+public final class ServletMetrics implements ServletStatistics {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder inFlight = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    void requestStarted() {
+        inFlight.increment();
+    }
+
+    void requestCompleted(long nanos, boolean error) {
+        inFlight.decrement();
+        requests.increment();
+        if (error) {
+            errors.increment();
+        }
+        latency.record(nanos);
+    }
+
+    /**
+     * Returns a copy of the latency histogram, for computing several percentiles from
+     * the same data.
+     */
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        return latency.snapshot().getMeanNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latency.snapshot().getMaxNanos() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return quantileMillis(0.5);
+    }
+
+    @Override
+    public double getP90Millis() {
+        return quantileMillis(0.9);
+    }
+
+    @Override
+    public double getP99Millis() {
+        return quantileMillis(0.99);
+    }
+
+    @Override
+    public double getP999Millis() {
+        return quantileMillis(0.999);
+    }
+
+    private double quantileMillis(double quantile) {
+        return latency.snapshot().getValueAtQuantile(quantile) / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,84 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import javax.management.MXBean;
+
+/**
+ * Management view of the requests served by one servlet, registered with the platform
+ * MBean server under {@code io.github.atharv3221.minicat:type=Servlet,context=...,name=...}.
+ *
+ * <p>Latencies are measured from the moment the container hands the request to the
+ * servlet until {@code service} returns, and reported in milliseconds. Percentiles are
+ * computed over everything recorded since the context started.</p>
+ */
+@MXBean
+public interface ServletStatistics {
+
+    /**
+     * Returns the number of requests that completed, successfully or not.
+     */
+    long getRequestCount();
+
+    /**
+     * Returns the number of requests that threw or completed with a 5xx status.
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the number of requests currently inside the servlet.
+     */
+    long getInFlight();
+
+    /**
+     * Returns the mean latency in milliseconds.
+     */
+    double getMeanMillis();
+
+    /**
+     * Returns the highest latency in milliseconds.
+     */
+    double getMaxMillis();
+
+    /**
+     * Returns the median latency in milliseconds.
+     */
+    double getP50Millis();
+
+    /**
+     * Returns the 90th percentile latency in milliseconds.
+     */
+    double getP90Millis();
+
+    /**
+     * Returns the 99th percentile latency in milliseconds.
+     */
+    double getP99Millis();
+
+    /**
+     * Returns the 99.9th percentile latency in milliseconds.
+     */
+    double getP999Millis();
+}
@@ -0,0 +1,279 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocator of variable-sized blocks of bytes outside the Java heap, carved from slabs
+ * of {@value #SLAB_SIZE} bytes that are either direct buffers or regions of a
+ * memory-mapped file.
+ *
+ * <p>Block sizes are rounded up to a power of two, and freed blocks go onto a free list
+ * of their size to be reused as they are; blocks are never merged. A block is named by
+ * a {@code long} handle holding its slab index and offset, so the caller keeps no object
+ * per block and the garbage collector sees only the slabs, however many blocks there
+ * are.</p>
+ *
+ * <p>Allocation and freeing take a lock; reads and writes of distinct blocks use
+ * absolute bulk operations and run concurrently. Direct slabs are bounded by a byte
+ * limit; a file store grows its file one slab at a time, creating it on first use, and
+ * deletes it on {@link #close()}.</p>
+ */
+final class SlabStore implements Closeable {
+
+    /**
+     * Size of a slab, which is also the largest block.
+     */
+    static final int SLAB_SIZE = 1 << 22;
+
+    private static final int MIN_SHIFT = 6;
+    private static final int MAX_SHIFT = 22;
+
+    private final long maxBytes;
+    private final Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[][] freeBlocks = new long[MAX_SHIFT - MIN_SHIFT + 1][];
+    private final int[] freeCounts = new int[MAX_SHIFT - MIN_SHIFT + 1];
+    private volatile ByteBuffer[] slabs = new ByteBuffer[4];
+    private int slabCount;
+    private int carveOffset = SLAB_SIZE;
+    private long usedBytes;
+    private Path file;
+    private FileChannel channel;
+    private boolean closed;
+
+    private SlabStore(long maxBytes, Path directory) {
+        this.maxBytes = maxBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * Creates a store of direct buffers.
+     *
+     * @param maxBytes the most bytes of slabs to allocate
+     * @return the store
+     */
+    static SlabStore offHeap(long maxBytes) {
+        return new SlabStore(maxBytes, null);
+    }
+
+    /**
+     * Creates a store that maps a new file in the given directory.
+     *
+     * @param directory the directory the file is created in once the first slab is
+     *     needed
+     * @return the store
+     */
+    static SlabStore mapped(Path directory) {
+        return new SlabStore(Long.MAX_VALUE, directory);
+    }
+
+    /**
+     * Allocates a block.
+     *
+     * @param length the number of bytes the block must hold
+     * @return the handle of the block, or {@code -1} if it is larger than a slab or the
+     *     store is full or closed
+     * @throws IOException if a new slab of the file cannot be mapped
+     */
+    long allocate(int length) throws IOException {
+        int shift = shift(length);
+        if (shift > MAX_SHIFT) {
+            return -1;
+        }
+        int sizeClass = shift - MIN_SHIFT;
+        lock.lock();
+        try {
+            if (closed) {
+                return -1;
+            }
+            long handle;
+            if (freeCounts[sizeClass] > 0) {
+                handle = freeBlocks[sizeClass][--freeCounts[sizeClass]];
+            } else {
+                int size = 1 << shift;
+                if (carveOffset + size > SLAB_SIZE) {
+                    if (!addSlab()) {
+                        return -1;
+                    }
+                }
+                handle = handle(slabCount - 1, carveOffset);
+                carveOffset += size;
+            }
+            usedBytes += 1L << shift;
+            return handle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives a block back to the store.
+     *
+     * @param handle the handle of the block
+     * @param length the length the block was allocated with
+     */
+    void free(long handle, int length) {
+        int shift = shift(length);
+        lock.lock();
+        try {
+            if (!closed) {
+                push(handle, shift);
+                usedBytes -= 1L << shift;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Copies bytes into a block.
+     *
+     * @param handle the handle of the block
+     * @param src the bytes
+     * @param length the number of bytes, at most the length the block was allocated with
+     */
+    void write(long handle, byte[] src, int length) {
+        slabs[(int) (handle >>> 32)].put((int) handle, src, 0, length);
+    }
+
+    /**
+     * Copies bytes out of a block.
+     *
+     * @param handle the handle of the block
+     * @param dst the array to copy into
+     * @param length the number of bytes, at most the length the block was allocated with
+     */
+    void read(long handle, byte[] dst, int length) {
+        slabs[(int) (handle >>> 32)].get((int) handle, dst, 0, length);
+    }
+
+    /**
+     * Returns the number of bytes in allocated blocks, rounded up to their size class.
+     */
+    long getUsedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops all slabs and deletes the file of a file store. Memory of direct and mapped
+     * slabs is released by the garbage collector; blocks must not be read or written
+     * afterwards.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            slabs = new ByteBuffer[0];
+            usedBytes = 0;
+            if (channel != null) {
+                try {
+                    channel.close();
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a slab to carve from, after putting what is left of the current one on the
+     * free lists in the largest pieces that fit.
+     */
+    private boolean addSlab() throws IOException {
+        if ((long) (slabCount + 1) * SLAB_SIZE > maxBytes) {
+            return false;
+        }
+        ByteBuffer slab;
+        if (directory == null) {
+            slab = ByteBuffer.allocateDirect(SLAB_SIZE);
+        } else {
+            if (channel == null) {
+                file = Files.createTempFile(directory, "sessions-", ".bin");
+                channel = FileChannel.open(file, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+            }
+            slab = channel.map(FileChannel.MapMode.READ_WRITE, (long) slabCount * SLAB_SIZE,
+                    SLAB_SIZE);
+        }
+        if (slabCount > 0) {
+            int remaining = SLAB_SIZE - carveOffset;
+            while (remaining >= 1 << MIN_SHIFT) {
+                int piece = Integer.highestOneBit(remaining);
+                push(handle(slabCount - 1, carveOffset), Integer.numberOfTrailingZeros(piece));
+                carveOffset += piece;
+                remaining -= piece;
+            }
+        }
+        ByteBuffer[] current = slabs;
+        if (slabCount == current.length) {
+            current = Arrays.copyOf(current, slabCount * 2);
+        }
+        current[slabCount++] = slab;
+        slabs = current;
+        carveOffset = 0;
+        return true;
+    }
+
+    private void push(long handle, int shift) {
+        int sizeClass = shift - MIN_SHIFT;
+        long[] list = freeBlocks[sizeClass];
+        if (list == null) {
+            list = new long[16];
+        } else if (freeCounts[sizeClass] == list.length) {
+            list = Arrays.copyOf(list, list.length * 2);
+        }
+        freeBlocks[sizeClass] = list;
+        list[freeCounts[sizeClass]++] = handle;
+    }
+
+    private static long handle(int slab, int offset) {
+        return (long) slab << 32 | offset;
+    }
+
+    private static int shift(int length) {
+        return Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(1, length) - 1));
+    }
+}
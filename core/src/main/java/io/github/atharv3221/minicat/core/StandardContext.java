@@ -0,0 +1,1138 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.Compression;
+import io.github.atharv3221.minicat.connector.SessionManager;
+import io.github.atharv3221.minicat.servlet.MultipartConfigElement;
+import io.github.atharv3221.minicat.servlet.RequestDispatcher;
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.ServletContextAttributeEvent;
+import io.github.atharv3221.minicat.servlet.ServletContextAttributeListener;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.EventListener;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * {@link ServletContext} of one web application whose resources live in a directory on
+ * the local file system, the document base.
+ *
+ * <p>Resource paths are resolved against the document base and rejected if they would
+ * escape it, so {@code ..} segments and absolute paths in request URIs cannot reach
+ * other files. Lookups go through the context's {@link ResourceCache}.</p>
+ *
+ * <p>Servlets are added with {@link #addServlet} and mapped with
+ * {@link #addServletMapping}; every change compiles a new {@link Mapper} that replaces
+ * the previous one atomically. Servlets added by class name are loaded by the
+ * context's own {@link WebappClassLoader}, which is also the thread context class
+ * loader while they run.</p>
+ *
+ * <p>The context counts the requests it is serving, asynchronous ones until they
+ * complete, so that a redeployment can wait for them before destroying it. Once the
+ * count is closed, by draining or destroying the context, it admits no new
+ * requests.</p>
+ *
+ * <p>Attributes live in a {@link ConcurrentHashMap}, so reads never block and writers
+ * only contend when they touch the same bin. Attribute listeners are kept in a
+ * copy-on-write list and notified after the change, without any lock held.</p>
+ *
+ * <p>While the context runs, the {@link ServletMetrics} of each servlet are registered
+ * with the platform MBean server as {@link ServletStatistics}, unless the init parameter
+ * {@value #METRICS_JMX_PARAM} is {@code false}.</p>
+ *
+ * <p>If the init parameter {@value #LOG_FILE_PARAM} is set, {@code log} appends to that
+ * file through an {@link AsyncLogWriter}, so logging threads never wait for the disk.
+ * Otherwise messages go to {@link System.Logger}.</p>
+ *
+ * <p>Setting the init parameter {@value #COMPRESSION_PARAM} to {@code on} compresses
+ * responses of compressible types with {@code gzip} or {@code deflate}, whichever the
+ * client accepts; the {@link DefaultServlet} serves static files from precompressed
+ * copies instead.</p>
+ *
+ * <p>Sessions are kept by a {@link StandardSessionManager} configured from the
+ * {@code minicat.session.*} init parameters, unless another {@link SessionManager} was
+ * set with {@link #setSessionManager}.</p>
+ */
+public class StandardContext implements ServletContext {
+
+    /**
+     * Context init parameter holding how many load-on-startup servlets are initialized
+     * at once, and how many JARs are scanned at once. Defaults to the number of available
+     * processors, but at least four, since both often wait on I/O rather than using CPU.
+     */
+    public static final String STARTUP_PARALLELISM_PARAM = "minicat.startup.parallelism";
+
+    /**
+     * Context init parameter that disables the registration of servlet metrics with the
+     * platform MBean server when set to {@code false}.
+     */
+    public static final String METRICS_JMX_PARAM = "minicat.metrics.jmx";
+
+    /**
+     * Domain of the object names under which servlet metrics are registered.
+     */
+    public static final String JMX_DOMAIN = "io.github.atharv3221.minicat";
+
+    /**
+     * Context init parameter holding the file {@code log} writes to, resolved against the
+     * work directory if relative.
+     */
+    public static final String LOG_FILE_PARAM = "minicat.log.file";
+
+    /**
+     * Context init parameter holding how many log messages may wait to be written,
+     * default 8192.
+     */
+    public static final String LOG_BUFFER_SIZE_PARAM = "minicat.log.bufferSize";
+
+    /**
+     * Context init parameter holding the {@link AsyncLogWriter.OverflowPolicy} applied
+     * when the log buffer is full, default {@code DROP}.
+     */
+    public static final String LOG_OVERFLOW_PARAM = "minicat.log.overflow";
+
+    /**
+     * Context init parameter holding the sample rate of the {@code SAMPLE} overflow
+     * policy, default 10.
+     */
+    public static final String LOG_SAMPLE_RATE_PARAM = "minicat.log.sampleRate";
+
+    /**
+     * Context init parameter that enables response compression when set to {@code on}.
+     */
+    public static final String COMPRESSION_PARAM = "minicat.compression";
+
+    /**
+     * Context init parameter holding the smallest declared content length, in bytes, that
+     * is compressed, default {@value Compression#DEFAULT_MIN_SIZE}.
+     */
+    public static final String COMPRESSION_MIN_SIZE_PARAM = "minicat.compression.minSize";
+
+    /**
+     * Context init parameter holding the comma-separated compressible media types, such
+     * as {@code text/*,application/json}. Defaults to {@link Compression#DEFAULT_MIME_TYPES}.
+     */
+    public static final String COMPRESSION_MIME_TYPES_PARAM = "minicat.compression.mimeTypes";
+
+    /**
+     * Context init parameter holding the deflate compression level, from 1 to 9.
+     */
+    public static final String COMPRESSION_LEVEL_PARAM = "minicat.compression.level";
+
+    /**
+     * Context init parameter holding the time in seconds after which a session no
+     * request used expires, default
+     * {@value StandardSessionManager#DEFAULT_MAX_INACTIVE_INTERVAL}.
+     */
+    public static final String SESSION_TIMEOUT_PARAM = "minicat.session.timeout";
+
+    /**
+     * Context init parameter holding the time in seconds after which the attributes of a
+     * session no request used move to the session file, default
+     * {@value StandardSessionManager#DEFAULT_PASSIVATE_AFTER}; {@code -1} keeps them in
+     * memory.
+     */
+    public static final String SESSION_PASSIVATE_AFTER_PARAM = "minicat.session.passivateAfter";
+
+    /**
+     * Context init parameter holding the limit, in bytes, of the direct memory holding
+     * session attributes, default 64 MiB.
+     */
+    public static final String SESSION_MAX_MEMORY_PARAM = "minicat.session.maxMemory";
+
+    /**
+     * Context init parameter holding the directory for the temporary files of uploaded
+     * parts, relative to the work directory. Defaults to the work directory itself.
+     */
+    public static final String MULTIPART_LOCATION_PARAM = "minicat.multipart.location";
+
+    /**
+     * Context init parameter holding the size in bytes above which an uploaded part is
+     * written to a temporary file instead of kept in memory, default
+     * {@value #DEFAULT_FILE_SIZE_THRESHOLD}.
+     */
+    public static final String MULTIPART_FILE_SIZE_THRESHOLD_PARAM =
+            "minicat.multipart.fileSizeThreshold";
+
+    /**
+     * Context init parameter holding the largest uploaded part in bytes, default
+     * {@code -1} for no limit.
+     */
+    public static final String MULTIPART_MAX_FILE_SIZE_PARAM = "minicat.multipart.maxFileSize";
+
+    /**
+     * Context init parameter holding the largest multipart request body in bytes, or
+     * {@code -1} for no limit, default 100 MiB. Parts larger than the file size threshold
+     * are written to disk, which this limit bounds.
+     */
+    public static final String MULTIPART_MAX_REQUEST_SIZE_PARAM =
+            "minicat.multipart.maxRequestSize";
+
+    private static final System.Logger LOG = System.getLogger(StandardContext.class.getName());
+
+    private static final int MAJOR_VERSION = 6;
+    private static final int MINOR_VERSION = 0;
+    private static final String DEFAULT_SERVLET = "default";
+    private static final int MIN_STARTUP_PARALLELISM = 4;
+    private static final String SCAN_INDEX_FILE = "scan-index.bin";
+    private static final int DEFAULT_LOG_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_LOG_SAMPLE_RATE = 10;
+    private static final int MAX_CACHED_DISPATCHERS = 512;
+    private static final int DEFAULT_FILE_SIZE_THRESHOLD = 16384;
+    private static final long DEFAULT_MAX_REQUEST_SIZE = 100L * 1024 * 1024;
+
+    private final String contextPath;
+    private final Path docBase;
+    private final Map<String, String> initParameters = new ConcurrentHashMap<>();
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final List<ServletContextAttributeListener> attributeListeners =
+            new CopyOnWriteArrayList<>();
+    private final MimeTypes mimeTypes = new MimeTypes();
+    private final ResourceCache resourceCache = new ResourceCache(this::resolve);
+    private final Map<String, StandardWrapper> wrappers = new LinkedHashMap<>();
+    private final Map<String, String> servletMappings = new LinkedHashMap<>();
+    private volatile Mapper<StandardWrapper> mapper = Mapper.empty();
+    private volatile Map<String, ApplicationDispatcher> dispatchers = new ConcurrentHashMap<>();
+    private volatile StandardHost host;
+    private int effectiveMajorVersion = MAJOR_VERSION;
+    private int effectiveMinorVersion = MINOR_VERSION;
+    private Path workDir;
+    private List<String> orderedLibs;
+    private volatile ClassIndex classIndex = ClassIndex.empty();
+    private final Map<String, ObjectName> registeredMetrics = new LinkedHashMap<>();
+    private boolean started;
+    private volatile AsyncLogWriter logWriter;
+    private volatile Compression compression;
+    private volatile SessionManager sessionManager;
+    private volatile MultipartConfigElement multipartConfig;
+    private volatile WebappClassLoader classLoader;
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final Condition drained = drainLock.newCondition();
+    private volatile boolean destroyed;
+
+    /**
+     * Creates a context.
+     *
+     * @param contextPath the context path, {@code ""} for the root context
+     * @param docBase the directory holding the application's resources
+     */
+    public StandardContext(String contextPath, Path docBase) {
+        this.contextPath = contextPath;
+        this.docBase = docBase.toAbsolutePath().normalize();
+        this.workDir = Path.of(System.getProperty("java.io.tmpdir"), "minicat",
+                contextPath.isEmpty() ? "ROOT" : contextPath.substring(1).replace('/', '#'));
+    }
+
+    /**
+     * Returns the directory holding the application's resources.
+     */
+    public Path getDocBase() {
+        return docBase;
+    }
+
+    /**
+     * Returns the private temporary directory of this context, where the container keeps
+     * files such as the class scan index.
+     */
+    public Path getWorkDir() {
+        return workDir;
+    }
+
+    /**
+     * Sets the private temporary directory of this context.
+     *
+     * @param workDir the directory, created on demand
+     */
+    public void setWorkDir(Path workDir) {
+        this.workDir = workDir;
+    }
+
+    /**
+     * Returns the names of the JARs in {@code WEB-INF/lib} to scan, in order.
+     *
+     * @return the JAR file names, or {@code null} if every JAR is scanned in name order
+     */
+    public List<String> getOrderedLibs() {
+        return orderedLibs;
+    }
+
+    /**
+     * Restricts class scanning to the given JARs of {@code WEB-INF/lib}, in the given
+     * order, as absolute ordering in a deployment descriptor does.
+     *
+     * @param orderedLibs the JAR file names, or {@code null} to scan every JAR
+     */
+    public void setOrderedLibs(List<String> orderedLibs) {
+        this.orderedLibs = orderedLibs == null ? null : List.copyOf(orderedLibs);
+        setAttribute(ORDERED_LIBS, this.orderedLibs);
+    }
+
+    /**
+     * Returns the class loader of the application, creating it on first use. The JAR
+     * order must be set before that.
+     *
+     * @return the class loader
+     * @throws IllegalStateException if {@code WEB-INF/lib} cannot be listed
+     */
+    public ClassLoader getClassLoader() {
+        WebappClassLoader loader = classLoader;
+        if (loader != null) {
+            return loader;
+        }
+        synchronized (this) {
+            if (classLoader == null) {
+                try {
+                    classLoader = WebappClassLoader.create("minicat-context-"
+                            + (contextPath.isEmpty() ? "ROOT" : contextPath.substring(1)),
+                            docBase, orderedLibs, StandardContext.class.getClassLoader());
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to create class loader of context ["
+                            + contextPath + "]", e);
+                }
+            }
+            return classLoader;
+        }
+    }
+
+    /**
+     * Returns the number of requests the context is serving.
+     */
+    public int getActiveRequests() {
+        return activeRequests.get() & Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the classes found in {@code WEB-INF/lib} when the context started.
+     */
+    public ClassIndex getClassIndex() {
+        return classIndex;
+    }
+
+    /**
+     * Returns the writer behind {@code log}.
+     *
+     * @return the writer, or {@code null} if no log file is configured or the context
+     *     is not running
+     */
+    public AsyncLogWriter getLogWriter() {
+        return logWriter;
+    }
+
+    /**
+     * Returns the cache used for resource lookups, for tuning and statistics.
+     */
+    public ResourceCache getResourceCache() {
+        return resourceCache;
+    }
+
+    /**
+     * Adds or replaces a context init parameter.
+     *
+     * @param name the parameter name
+     * @param value the parameter value
+     */
+    public void setInitParameter(String name, String value) {
+        initParameters.put(name, value);
+    }
+
+    /**
+     * Maps a file name extension to a MIME type, overriding the built-in mapping.
+     *
+     * @param extension the extension without the leading dot
+     * @param mimeType the MIME type
+     */
+    public void addMimeMapping(String extension, String mimeType) {
+        mimeTypes.addMapping(extension, mimeType);
+    }
+
+    /**
+     * Sets the Servlet specification version the application declares.
+     *
+     * @param major the major version
+     * @param minor the minor version
+     */
+    public void setEffectiveVersion(int major, int minor) {
+        this.effectiveMajorVersion = major;
+        this.effectiveMinorVersion = minor;
+    }
+
+    /**
+     * Adds a servlet to this context.
+     *
+     * @param name the servlet name, unique within the context
+     * @param servlet the servlet instance
+     * @return the wrapper holding the servlet, for further configuration
+     * @throws IllegalArgumentException if a servlet with the same name exists
+     */
+    public synchronized StandardWrapper addServlet(String name, Servlet servlet) {
+        if (wrappers.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate servlet name: " + name);
+        }
+        StandardWrapper wrapper = new StandardWrapper(name, servlet, this);
+        wrappers.put(name, wrapper);
+        if (started) {
+            registerMetrics(wrapper);
+        }
+        return wrapper;
+    }
+
+    /**
+     * Adds a servlet of a class loaded by the context's class loader, instantiated with
+     * its public no-argument constructor.
+     *
+     * @param name the servlet name, unique within the context
+     * @param className the fully qualified name of the servlet class
+     * @return the wrapper holding the servlet, for further configuration
+     * @throws ServletException if the class cannot be loaded or instantiated
+     * @throws IllegalArgumentException if a servlet with the same name exists
+     */
+    public StandardWrapper addServlet(String name, String className) throws ServletException {
+        Servlet servlet;
+        try {
+            servlet = Class.forName(className, true, getClassLoader())
+                    .asSubclass(Servlet.class).getConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw new ServletException("Failed to instantiate servlet " + className, e);
+        }
+        return addServlet(name, servlet);
+    }
+
+    /**
+     * Maps a URL pattern onto a servlet, replacing any servlet the pattern was mapped to.
+     *
+     * @param pattern the URL pattern, as in a deployment descriptor
+     * @param servletName the name of a servlet added to this context
+     * @throws IllegalArgumentException if the pattern is invalid or no such servlet
+     *     exists
+     */
+    public synchronized void addServletMapping(String pattern, String servletName) {
+        if (!wrappers.containsKey(servletName)) {
+            throw new IllegalArgumentException("Unknown servlet: " + servletName);
+        }
+        String previous = servletMappings.put(pattern, servletName);
+        try {
+            remap();
+        } catch (IllegalArgumentException e) {
+            if (previous == null) {
+                servletMappings.remove(pattern);
+            } else {
+                servletMappings.put(pattern, previous);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the servlet with the given name.
+     *
+     * @param name the servlet name
+     * @return the wrapper, or {@code null} if there is none
+     */
+    public synchronized StandardWrapper findWrapper(String name) {
+        return wrappers.get(name);
+    }
+
+    /**
+     * Returns the compiled servlet mappings currently in effect.
+     */
+    public Mapper<StandardWrapper> getMapper() {
+        return mapper;
+    }
+
+    /**
+     * Returns how long each initialized servlet took to initialize.
+     *
+     * @return init durations keyed by servlet name, in the order servlets were added
+     */
+    public synchronized Map<String, Duration> getInitTimes() {
+        Map<String, Duration> times = new LinkedHashMap<>();
+        for (StandardWrapper wrapper : wrappers.values()) {
+            Duration time = wrapper.getInitTime();
+            if (time != null) {
+                times.put(wrapper.getName(), time);
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Returns the request metrics of every servlet.
+     *
+     * @return metrics keyed by servlet name, in the order servlets were added
+     */
+    public synchronized Map<String, ServletMetrics> getServletMetrics() {
+        Map<String, ServletMetrics> metrics = new LinkedHashMap<>();
+        for (StandardWrapper wrapper : wrappers.values()) {
+            metrics.put(wrapper.getName(), wrapper.getMetrics());
+        }
+        return metrics;
+    }
+
+    /**
+     * Starts the context: scans the JARs in {@code WEB-INF/lib}, adds a
+     * {@link DefaultServlet} for {@code /} unless another servlet is mapped there and
+     * initializes the load-on-startup servlets. Other servlets are initialized by their
+     * first request.
+     *
+     * @throws ServletException if the libraries cannot be scanned or a servlet fails to
+     *     initialize
+     */
+    public void start() throws ServletException {
+        try {
+            Files.createDirectories(workDir);
+        } catch (IOException e) {
+            throw new ServletException("Failed to create " + workDir, e);
+        }
+        setAttribute(TEMPDIR, workDir.toFile());
+        openLog();
+        compression = createCompression();
+        multipartConfig = createMultipartConfig();
+        startSessionManager();
+        int threads = startupParallelism();
+        Path libDir = docBase.resolve("WEB-INF").resolve("lib");
+        if (Files.isDirectory(libDir)) {
+            try {
+                classIndex = new JarScanner(workDir.resolve(SCAN_INDEX_FILE), threads)
+                        .scan(libDir, orderedLibs);
+            } catch (IOException e) {
+                throw new ServletException("Failed to scan " + libDir, e);
+            }
+        }
+        synchronized (this) {
+            if (!servletMappings.containsKey("/") && !wrappers.containsKey(DEFAULT_SERVLET)) {
+                addServlet(DEFAULT_SERVLET, new DefaultServlet()).setLoadOnStartup(1);
+                addServletMapping("/", DEFAULT_SERVLET);
+            }
+            started = true;
+            for (StandardWrapper wrapper : wrappers.values()) {
+                registerMetrics(wrapper);
+            }
+        }
+        StartupScheduler.initialize(this, wrappers(), threads);
+    }
+
+    /**
+     * Destroys all servlets, in the reverse order they were added, and unregisters their
+     * metrics.
+     */
+    public void destroy() {
+        activeRequests.getAndUpdate(count -> count | Integer.MIN_VALUE);
+        destroyed = true;
+        synchronized (this) {
+            started = false;
+            unregisterMetrics();
+        }
+        StandardWrapper[] all = wrappers();
+        for (int i = all.length - 1; i >= 0; i--) {
+            all[i].destroy();
+        }
+        if (sessionManager instanceof StandardSessionManager manager) {
+            manager.close();
+        }
+        WebappClassLoader loader = classLoader;
+        if (loader != null) {
+            try {
+                loader.close();
+            } catch (IOException e) {
+                LOG.log(System.Logger.Level.DEBUG, "Failed to close class loader of context ["
+                        + contextPath + "]", e);
+            }
+        }
+        AsyncLogWriter writer = logWriter;
+        if (writer != null) {
+            logWriter = null;
+            try {
+                writer.close();
+            } catch (IOException e) {
+                LOG.log(System.Logger.Level.WARNING, "Failed to close log of context ["
+                        + contextPath + "]", e);
+            }
+        }
+    }
+
+    void setHost(StandardHost host) {
+        this.host = host;
+    }
+
+    StandardHost getHost() {
+        return host;
+    }
+
+    MimeTypes getMimeTypes() {
+        return mimeTypes;
+    }
+
+    /**
+     * Counts a new request, unless the context no longer admits requests.
+     *
+     * @return {@code false} if the context is draining or destroyed
+     */
+    boolean enterRequest() {
+        int count;
+        do {
+            count = activeRequests.get();
+            if (count < 0) {
+                return false;
+            }
+        } while (!activeRequests.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Counts the asynchronous dispatch of a request the context is still serving, which
+     * keeps the context even while it drains.
+     *
+     * @return {@code false} if the context has been destroyed
+     */
+    boolean enterDispatch() {
+        if (destroyed) {
+            return false;
+        }
+        activeRequests.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Uncounts a request that {@link #enterRequest} or {@link #enterDispatch} counted.
+     */
+    void exitRequest() {
+        if (activeRequests.decrementAndGet() == Integer.MIN_VALUE) {
+            drainLock.lock();
+            try {
+                drained.signalAll();
+            } finally {
+                drainLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stops admitting new requests and waits for those in progress to end.
+     *
+     * @param timeout how long to wait at most
+     * @return {@code true} if no request is in progress any more
+     */
+    boolean drain(Duration timeout) {
+        activeRequests.getAndUpdate(count -> count | Integer.MIN_VALUE);
+        long remaining = timeout.toNanos();
+        drainLock.lock();
+        try {
+            while (activeRequests.get() != Integer.MIN_VALUE) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = drained.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return activeRequests.get() == Integer.MIN_VALUE;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Takes the servlet metrics off the MBean server, for a replacement deployment to
+     * register its own under the same names.
+     */
+    synchronized void unpublishMetrics() {
+        unregisterMetrics();
+    }
+
+    /**
+     * Registers the servlet metrics again after {@link #unpublishMetrics()}, if the
+     * context is running.
+     */
+    synchronized void republishMetrics() {
+        if (started) {
+            for (StandardWrapper wrapper : wrappers.values()) {
+                registerMetrics(wrapper);
+            }
+        }
+    }
+
+    /**
+     * Returns the response compression settings, or {@code null} if responses are not
+     * compressed.
+     */
+    Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Returns the limits for parsing multipart request bodies, or {@code null} before
+     * the context is started.
+     */
+    MultipartConfigElement getMultipartConfig() {
+        return multipartConfig;
+    }
+
+    /**
+     * Returns the manager of the sessions of this context.
+     *
+     * @return the manager, or {@code null} before the context is started if none was
+     *     set
+     */
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+
+    /**
+     * Sets the manager of the sessions of this context, replacing the
+     * {@link StandardSessionManager} the context would create when it starts. A
+     * {@code StandardSessionManager} is started and closed with the context; other
+     * managers are left to the caller.
+     *
+     * @param sessionManager the manager
+     */
+    public void setSessionManager(SessionManager sessionManager) {
+        this.sessionManager = sessionManager;
+    }
+
+    /**
+     * Maps a context-relative resource path to a file under the document base.
+     *
+     * @param path the resource path, starting with {@code /}
+     * @return the file, which may not exist, or {@code null} if the path is invalid or
+     *     would resolve outside the document base
+     */
+    public Path resolve(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/'
+                || path.indexOf('\0') >= 0 || path.indexOf('\\') >= 0) {
+            return null;
+        }
+        Path file = docBase.resolve(path.substring(1)).normalize();
+        return file.startsWith(docBase) ? file : null;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public ServletContext getContext(String uripath) {
+        String path = RequestUtil.normalize(uripath);
+        if (path == null) {
+            return null;
+        }
+        StandardHost current = host;
+        if (current == null) {
+            return path.equals(contextPath) || path.startsWith(contextPath + "/") ? this : null;
+        }
+        return current.mapContext(path);
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return MAJOR_VERSION;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return MINOR_VERSION;
+    }
+
+    @Override
+    public int getEffectiveMajorVersion() {
+        return effectiveMajorVersion;
+    }
+
+    @Override
+    public int getEffectiveMinorVersion() {
+        return effectiveMinorVersion;
+    }
+
+    @Override
+    public String getMimeType(String file) {
+        return mimeTypes.getMimeType(file);
+    }
+
+    @Override
+    public Set<String> getResourcePaths(String path) {
+        CachedResource resource = resourceCache.lookup(path);
+        if (resource == null || !resource.isDirectory()) {
+            return null;
+        }
+        return resource.getListing(path.endsWith("/") ? path : path + "/");
+    }
+
+    @Override
+    public URL getResource(String path) throws MalformedURLException {
+        CachedResource resource = resourceCache.lookup(path);
+        if (resource == null || !resource.exists()) {
+            return null;
+        }
+        return resource.getFile().toUri().toURL();
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String path) {
+        CachedResource resource = resourceCache.lookup(path);
+        if (resource == null || !resource.isFile()) {
+            return null;
+        }
+        try {
+            byte[] content = resource.getContent();
+            return content != null
+                    ? new ByteArrayInputStream(content)
+                    : Files.newInputStream(resource.getFile());
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.DEBUG, "Failed to read " + resource.getFile(), e);
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Dispatchers are cached by path until the servlet mappings change, so servlets
+     * that include the same paths on every request map each path only once.</p>
+     */
+    @Override
+    public RequestDispatcher getRequestDispatcher(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return null;
+        }
+        Map<String, ApplicationDispatcher> cache = dispatchers;
+        ApplicationDispatcher cached = cache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        int question = path.indexOf('?');
+        String queryString = question < 0 ? null : path.substring(question + 1);
+        String normalized = RequestUtil.normalize(
+                question < 0 ? path : path.substring(0, question));
+        if (normalized == null) {
+            return null;
+        }
+        MappingData data = new MappingData();
+        StandardWrapper wrapper = mapper.map(normalized, 0, data);
+        if (wrapper == null) {
+            return null;
+        }
+        int servletEnd = data.getMatchEnd();
+        ApplicationDispatcher dispatcher = new ApplicationDispatcher(this, wrapper,
+                contextPath + normalized, normalized.substring(0, servletEnd),
+                servletEnd < normalized.length() ? normalized.substring(servletEnd) : null,
+                queryString);
+        if (cache.size() < MAX_CACHED_DISPATCHERS) {
+            cache.put(path, dispatcher);
+        }
+        return dispatcher;
+    }
+
+    @Override
+    public RequestDispatcher getNamedDispatcher(String name) {
+        StandardWrapper wrapper = findWrapper(name);
+        return wrapper == null ? null : new ApplicationDispatcher(this, wrapper);
+    }
+
+    @Override
+    public String getInitParameter(String name) {
+        return initParameters.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getInitParameterNames() {
+        return Collections.enumeration(initParameters.keySet());
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object object) {
+        if (name == null) {
+            throw new NullPointerException("Attribute name is null");
+        }
+        if (object == null) {
+            removeAttribute(name);
+            return;
+        }
+        Object previous = attributes.put(name, object);
+        if (attributeListeners.isEmpty()) {
+            return;
+        }
+        if (previous == null) {
+            ServletContextAttributeEvent event =
+                    new ServletContextAttributeEvent(this, name, object);
+            for (ServletContextAttributeListener listener : attributeListeners) {
+                listener.attributeAdded(event);
+            }
+        } else {
+            ServletContextAttributeEvent event =
+                    new ServletContextAttributeEvent(this, name, previous);
+            for (ServletContextAttributeListener listener : attributeListeners) {
+                listener.attributeReplaced(event);
+            }
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        Object removed = name == null ? null : attributes.remove(name);
+        if (removed == null || attributeListeners.isEmpty()) {
+            return;
+        }
+        ServletContextAttributeEvent event = new ServletContextAttributeEvent(this, name, removed);
+        for (ServletContextAttributeListener listener : attributeListeners) {
+            listener.attributeRemoved(event);
+        }
+    }
+
+    @Override
+    public <T extends EventListener> void addListener(T listener) {
+        if (!(listener instanceof ServletContextAttributeListener attributeListener)) {
+            throw new IllegalArgumentException(
+                    "Unsupported listener type: " + listener.getClass().getName());
+        }
+        attributeListeners.add(attributeListener);
+    }
+
+    @Override
+    public void log(String msg) {
+        AsyncLogWriter writer = logWriter;
+        if (writer != null) {
+            writer.log(msg, null);
+            return;
+        }
+        LOG.log(System.Logger.Level.INFO, "[" + contextPath + "] " + msg);
+    }
+
+    @Override
+    public void log(String message, Throwable throwable) {
+        AsyncLogWriter writer = logWriter;
+        if (writer != null) {
+            writer.log(message, throwable);
+            return;
+        }
+        LOG.log(System.Logger.Level.ERROR, "[" + contextPath + "] " + message, throwable);
+    }
+
+    private synchronized StandardWrapper[] wrappers() {
+        return wrappers.values().toArray(new StandardWrapper[0]);
+    }
+
+    private int startupParallelism() throws ServletException {
+        String value = initParameters.get(STARTUP_PARALLELISM_PARAM);
+        if (value == null) {
+            return Math.max(MIN_STARTUP_PARALLELISM, Runtime.getRuntime().availableProcessors());
+        }
+        int threads;
+        try {
+            threads = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Invalid value for " + STARTUP_PARALLELISM_PARAM + ": "
+                    + value, e);
+        }
+        if (threads < 1) {
+            throw new ServletException(STARTUP_PARALLELISM_PARAM + " must be at least 1: "
+                    + value);
+        }
+        return threads;
+    }
+
+    private void openLog() throws ServletException {
+        String file = initParameters.get(LOG_FILE_PARAM);
+        if (file == null || logWriter != null) {
+            return;
+        }
+        Path path = workDir.resolve(file.trim());
+        int bufferSize = logParam(LOG_BUFFER_SIZE_PARAM, DEFAULT_LOG_BUFFER_SIZE, 2);
+        int sampleRate = logParam(LOG_SAMPLE_RATE_PARAM, DEFAULT_LOG_SAMPLE_RATE, 1);
+        String overflow = initParameters.get(LOG_OVERFLOW_PARAM);
+        AsyncLogWriter.OverflowPolicy policy;
+        try {
+            policy = overflow == null ? AsyncLogWriter.OverflowPolicy.DROP
+                    : AsyncLogWriter.OverflowPolicy.valueOf(
+                            overflow.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ServletException("Invalid value for " + LOG_OVERFLOW_PARAM + ": "
+                    + overflow, e);
+        }
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            logWriter = new AsyncLogWriter(path, bufferSize, policy, sampleRate);
+        } catch (IOException e) {
+            throw new ServletException("Failed to open log file " + path, e);
+        }
+    }
+
+    private int logParam(String name, int defaultValue, int min) throws ServletException {
+        String value = initParameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new ServletException("Invalid value for " + name + ": " + value, e);
+        }
+        if (parsed < min || parsed > 1 << 30) {
+            throw new ServletException(name + " must be between " + min + " and "
+                    + (1 << 30) + ": " + value);
+        }
+        return parsed;
+    }
+
+    private Compression createCompression() throws ServletException {
+        if (!"on".equalsIgnoreCase(initParameters.get(COMPRESSION_PARAM))) {
+            return null;
+        }
+        String minSize = initParameters.get(COMPRESSION_MIN_SIZE_PARAM);
+        String types = initParameters.get(COMPRESSION_MIME_TYPES_PARAM);
+        String level = initParameters.get(COMPRESSION_LEVEL_PARAM);
+        try {
+            return new Compression(
+                    minSize == null ? Compression.DEFAULT_MIN_SIZE : Long.parseLong(minSize.trim()),
+                    types == null ? Compression.DEFAULT_MIME_TYPES
+                            : Arrays.asList(types.split(",")),
+                    level == null ? Deflater.DEFAULT_COMPRESSION : Integer.parseInt(level.trim()),
+                    this::getMimeType);
+        } catch (IllegalArgumentException e) {
+            throw new ServletException("Invalid compression settings of context ["
+                    + contextPath + "]", e);
+        }
+    }
+
+    private MultipartConfigElement createMultipartConfig() throws ServletException {
+        String location = initParameters.get(MULTIPART_LOCATION_PARAM);
+        String threshold = initParameters.get(MULTIPART_FILE_SIZE_THRESHOLD_PARAM);
+        String maxFileSize = initParameters.get(MULTIPART_MAX_FILE_SIZE_PARAM);
+        String maxRequestSize = initParameters.get(MULTIPART_MAX_REQUEST_SIZE_PARAM);
+        try {
+            return new MultipartConfigElement(location == null ? "" : location.trim(),
+                    maxFileSize == null ? -1 : Long.parseLong(maxFileSize.trim()),
+                    maxRequestSize == null ? DEFAULT_MAX_REQUEST_SIZE
+                            : Long.parseLong(maxRequestSize.trim()),
+                    threshold == null ? DEFAULT_FILE_SIZE_THRESHOLD
+                            : Integer.parseInt(threshold.trim()));
+        } catch (NumberFormatException e) {
+            throw new ServletException("Invalid multipart settings of context ["
+                    + contextPath + "]", e);
+        }
+    }
+
+    private void startSessionManager() throws ServletException {
+        if (sessionManager == null) {
+            StandardSessionManager manager = new StandardSessionManager(this, getClassLoader());
+            String timeout = initParameters.get(SESSION_TIMEOUT_PARAM);
+            String passivateAfter = initParameters.get(SESSION_PASSIVATE_AFTER_PARAM);
+            String maxMemory = initParameters.get(SESSION_MAX_MEMORY_PARAM);
+            try {
+                if (timeout != null) {
+                    manager.setMaxInactiveInterval(Integer.parseInt(timeout.trim()));
+                }
+                if (passivateAfter != null) {
+                    manager.setPassivateAfter(Integer.parseInt(passivateAfter.trim()));
+                }
+                if (maxMemory != null) {
+                    manager.setMaxMemory(Long.parseLong(maxMemory.trim()));
+                }
+            } catch (NumberFormatException e) {
+                throw new ServletException("Invalid session settings of context ["
+                        + contextPath + "]", e);
+            }
+            sessionManager = manager;
+        }
+        if (sessionManager instanceof StandardSessionManager manager) {
+            manager.start();
+        }
+    }
+
+    private void registerMetrics(StandardWrapper wrapper) {
+        if ("false".equalsIgnoreCase(initParameters.get(METRICS_JMX_PARAM))) {
+            return;
+        }
+        try {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=Servlet,context="
+                    + ObjectName.quote(contextPath.isEmpty() ? "/" : contextPath)
+                    + ",name=" + ObjectName.quote(wrapper.getName()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(wrapper.getMetrics(), name);
+            registeredMetrics.put(wrapper.getName(), name);
+        } catch (JMException e) {
+            LOG.log(System.Logger.Level.WARNING, "Failed to register metrics of servlet "
+                    + wrapper.getName() + " in context [" + contextPath + "]", e);
+        }
+    }
+
+    private void unregisterMetrics() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredMetrics.values()) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                LOG.log(System.Logger.Level.DEBUG, "Failed to unregister " + name, e);
+            }
+        }
+        registeredMetrics.clear();
+    }
+
+    private void remap() {
+        Map<String, StandardWrapper> patterns = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : servletMappings.entrySet()) {
+            patterns.put(entry.getKey(), wrappers.get(entry.getValue()));
+        }
+        mapper = Mapper.compile(patterns);
+        dispatchers = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,422 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.Compression;
+import io.github.atharv3221.minicat.connector.Request;
+import io.github.atharv3221.minicat.connector.Response;
+import io.github.atharv3221.minicat.servlet.AsyncEvent;
+import io.github.atharv3221.minicat.servlet.AsyncListener;
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletConfig;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Root servlet of a connector that routes each request to the servlet of one of its
+ * contexts.
+ *
+ * <p>The request path is decoded and normalized, mapped onto a context by the longest
+ * matching context path, and then onto a servlet by the context's own {@link Mapper}.
+ * Requests for a context path without the trailing slash are redirected to the
+ * context root. Responses of contexts that compress get the context's
+ * {@link Compression} before the servlet runs.</p>
+ *
+ * <p>Adding or removing a context compiles a new context mapper and publishes it with a
+ * single volatile write, so requests in flight keep using the table they started
+ * with.</p>
+ *
+ * <p>Applications are replaced while the host runs with {@link #redeploy}: the new
+ * context is started beside the old one, routing switches to it with one mapper write,
+ * and the old context is destroyed once the requests it was serving have ended. A
+ * request that mapped to the old context just before the switch finds it closed and is
+ * mapped again, and an asynchronous request dispatched after the switch stays with the
+ * context that started it, so no request is lost or split between deployments.</p>
+ */
+public class StandardHost implements Servlet {
+
+    private static final System.Logger LOG = System.getLogger(StandardHost.class.getName());
+
+    private final Map<String, StandardContext> contexts = new LinkedHashMap<>();
+    private volatile Mapper<StandardContext> mapper = Mapper.empty();
+    private ServletConfig config;
+    private volatile boolean started;
+
+    /**
+     * Adds a context.
+     *
+     * @param context the context
+     * @throws IllegalArgumentException if a context with the same path exists
+     */
+    public synchronized void addContext(StandardContext context) {
+        String path = context.getContextPath();
+        if (contexts.containsKey(path)) {
+            throw new IllegalArgumentException("Duplicate context path: " + path);
+        }
+        context.setHost(this);
+        contexts.put(path, context);
+        remap();
+    }
+
+    /**
+     * Removes a context. The context itself is left running.
+     *
+     * @param contextPath the context path
+     * @return the removed context, or {@code null} if there was none
+     */
+    public synchronized StandardContext removeContext(String contextPath) {
+        StandardContext removed = contexts.remove(contextPath);
+        if (removed != null) {
+            remap();
+        }
+        return removed;
+    }
+
+    /**
+     * Adds a context to the running host, starting it first. Before the host is
+     * initialized this is the same as {@link #addContext}.
+     *
+     * @param context the context
+     * @throws ServletException if the context fails to start
+     * @throws IllegalArgumentException if a context with the same path exists
+     */
+    public void deploy(StandardContext context) throws ServletException {
+        if (findContext(context.getContextPath()) != null) {
+            throw new IllegalArgumentException("Duplicate context path: "
+                    + context.getContextPath());
+        }
+        start(context);
+        try {
+            addContext(context);
+        } catch (IllegalArgumentException e) {
+            context.destroy();
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the context with the same path by a new deployment, or deploys it if
+     * there is none.
+     *
+     * <p>The replacement is started while the current context keeps serving, so a
+     * failed start leaves everything as it was. Routing then switches to the
+     * replacement, and the current context is destroyed once its requests have ended,
+     * or the drain timeout has elapsed.</p>
+     *
+     * @param replacement the new context
+     * @param drainTimeout how long to wait for the requests of the replaced context
+     * @throws ServletException if the replacement fails to start
+     */
+    public void redeploy(StandardContext replacement, Duration drainTimeout)
+            throws ServletException {
+        String path = replacement.getContextPath();
+        StandardContext current = findContext(path);
+        if (current != null) {
+            current.unpublishMetrics();
+        }
+        try {
+            start(replacement);
+        } catch (ServletException | RuntimeException e) {
+            if (current != null) {
+                current.republishMetrics();
+            }
+            throw e;
+        }
+        StandardContext previous;
+        synchronized (this) {
+            replacement.setHost(this);
+            previous = contexts.put(path, replacement);
+            remap();
+        }
+        if (previous != null) {
+            retire(previous, drainTimeout);
+        }
+    }
+
+    /**
+     * Removes a context, waits for its requests to end and destroys it.
+     *
+     * @param contextPath the context path
+     * @param drainTimeout how long to wait for the context's requests
+     * @return the removed context, or {@code null} if there was none
+     */
+    public StandardContext undeploy(String contextPath, Duration drainTimeout) {
+        StandardContext removed = removeContext(contextPath);
+        if (removed != null) {
+            retire(removed, drainTimeout);
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the context with exactly the given context path.
+     *
+     * @param contextPath the context path, {@code ""} for the root context
+     * @return the context, or {@code null} if there is none
+     */
+    public synchronized StandardContext findContext(String contextPath) {
+        return contexts.get(contextPath);
+    }
+
+    /**
+     * Returns the context a normalized path belongs to.
+     *
+     * @param path the path, starting with {@code /}
+     * @return the context with the longest context path that prefixes {@code path} on a
+     *     segment boundary, or {@code null} if none does
+     */
+    public StandardContext mapContext(String path) {
+        return mapper.map(path, 0, new MappingData());
+    }
+
+    @Override
+    public void init(ServletConfig config) throws ServletException {
+        this.config = config;
+        for (StandardContext context : snapshot()) {
+            context.start();
+        }
+        started = true;
+    }
+
+    @Override
+    public ServletConfig getServletConfig() {
+        return config;
+    }
+
+    @Override
+    public void service(ServletRequest req, ServletResponse res) throws ServletException,
+            IOException {
+        Request request = Request.unwrap(req);
+        if (request == null) {
+            throw new ServletException("StandardHost only serves connector requests");
+        }
+        HttpServletResponse response = (HttpServletResponse) res;
+        String path = RequestUtil.normalize(request.getDecodedURI());
+        if (path == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        MappingData data = mappingData(request);
+        StandardContext context = dispatchedContext(request, path);
+        int contextEnd;
+        if (context != null) {
+            contextEnd = context.getContextPath().length();
+        } else {
+            context = enterContext(path, data, response);
+            if (context == null) {
+                return;
+            }
+            contextEnd = data.getMatchEnd();
+        }
+        boolean async = false;
+        try {
+            if (contextEnd == path.length()) {
+                redirectToContextRoot(request, response);
+                return;
+            }
+            StandardWrapper wrapper = context.getMapper().map(path, contextEnd, data);
+            if (wrapper == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            int servletEnd = data.getMatchEnd();
+            request.setMapping(context, path, contextEnd, servletEnd);
+            request.setSessionManager(context.getSessionManager());
+            request.setMultipartConfig(context.getMultipartConfig());
+            Compression compression = context.getCompression();
+            Response connectorResponse = Response.unwrap(res);
+            if (compression != null && connectorResponse != null) {
+                connectorResponse.setCompression(compression);
+            }
+            wrapper.service(req, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new RequestExit(context));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                context.exitRequest();
+            }
+        }
+    }
+
+    @Override
+    public String getServletInfo() {
+        return "minicat host";
+    }
+
+    @Override
+    public void destroy() {
+        started = false;
+        for (StandardContext context : snapshot()) {
+            context.destroy();
+        }
+    }
+
+    synchronized StandardContext[] snapshot() {
+        return contexts.values().toArray(new StandardContext[0]);
+    }
+
+    private void start(StandardContext context) throws ServletException {
+        if (!started) {
+            return;
+        }
+        context.setHost(this);
+        try {
+            context.start();
+        } catch (ServletException | RuntimeException e) {
+            context.destroy();
+            throw e;
+        }
+    }
+
+    private static void retire(StandardContext context, Duration drainTimeout) {
+        if (!context.drain(drainTimeout)) {
+            LOG.log(System.Logger.Level.WARNING, "Destroying context ["
+                    + context.getContextPath() + "] with " + context.getActiveRequests()
+                    + " requests still in progress");
+        }
+        context.destroy();
+    }
+
+    /**
+     * Returns the mapping result kept with the request's connection, so mapping the
+     * requests of a connection allocates nothing.
+     */
+    private static MappingData mappingData(Request request) {
+        if (request.getNote() instanceof MappingData data) {
+            data.recycle();
+            return data;
+        }
+        MappingData data = new MappingData();
+        request.setNote(data);
+        return data;
+    }
+
+    /**
+     * Returns the context an asynchronous request was dispatched back into, counted as
+     * serving the request again, or {@code null} for a new request.
+     */
+    private StandardContext dispatchedContext(Request request, String path) {
+        if (!(request.getServletContext() instanceof StandardContext context)
+                || context.getHost() != this) {
+            return null;
+        }
+        String contextPath = context.getContextPath();
+        boolean inside = path.startsWith(contextPath) && (path.length() == contextPath.length()
+                || path.charAt(contextPath.length()) == '/');
+        return inside && context.enterDispatch() ? context : null;
+    }
+
+    /**
+     * Maps a path onto a context and counts the request there. A context that closed
+     * between the mapping and the count was replaced or removed, and a redeployment
+     * closes a context only after publishing the mapper without it, so mapping again
+     * finds its successor.
+     *
+     * @return the counted context, or {@code null} if an error response was sent
+     */
+    private StandardContext enterContext(String path, MappingData data,
+            HttpServletResponse response) throws IOException {
+        while (true) {
+            Mapper<StandardContext> current = mapper;
+            StandardContext context = current.map(path, 0, data);
+            if (context == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return null;
+            }
+            if (context.enterRequest()) {
+                return context;
+            }
+            if (current == mapper) {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                return null;
+            }
+        }
+    }
+
+    private void remap() {
+        Map<String, StandardContext> patterns = new LinkedHashMap<>();
+        for (StandardContext context : contexts.values()) {
+            patterns.put(context.getContextPath() + "/*", context);
+        }
+        mapper = Mapper.compile(patterns);
+    }
+
+    /**
+     * Uncounts an asynchronous request from its context once its asynchronous cycle
+     * ends, whether it completes or is dispatched into a new cycle.
+     */
+    private static final class RequestExit implements AsyncListener {
+
+        private final StandardContext context;
+        private boolean exited;
+
+        RequestExit(StandardContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            exit();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // The request completes or is dispatched afterwards
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // The request completes or is dispatched afterwards
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            exit();
+        }
+
+        private void exit() {
+            if (!exited) {
+                exited = true;
+                context.exitRequest();
+            }
+        }
+    }
+
+    private static void redirectToContextRoot(Request request, HttpServletResponse response) {
+        String query = request.getQueryString();
+        String location = request.getRequestURI() + "/";
+        response.setStatus(HttpServletResponse.SC_FOUND);
+        response.setHeader("Location", query == null ? location : location + "?" + query);
+        response.setContentLength(0);
+    }
+}
@@ -0,0 +1,360 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.http.HttpSession;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Session of a {@link StandardSessionManager}, which is also the manager's record of it.
+ *
+ * <p>Between requests a session holds no attributes on the heap, only the handle of
+ * their serialized form in one of the manager's stores. The attributes are read back
+ * into a map when a request first touches them and written out again when the last
+ * request using the session ends. Using a session outside of a request, through a
+ * reference a servlet kept, reads the attributes for each call and writes them back
+ * after each change.</p>
+ *
+ * <p>All state is guarded by the manager's lock for the session.</p>
+ */
+final class StandardSession implements HttpSession {
+
+    private final StandardSessionManager manager;
+    private final String id;
+    private final long creationTime;
+    private long lastAccessedTime;
+    private long thisAccessedTime;
+    private int maxInactiveInterval;
+    private boolean fresh = true;
+    private volatile boolean valid = true;
+    private int accesses = 1;
+    private long due;
+    private long block = -1;
+    private int length;
+    private boolean passivated;
+    private Map<String, Object> attributes;
+
+    StandardSession(StandardSessionManager manager, String id, long now,
+            int maxInactiveInterval) {
+        this.manager = manager;
+        this.id = id;
+        this.creationTime = now;
+        this.lastAccessedTime = now;
+        this.thisAccessedTime = now;
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    @Override
+    public long getCreationTime() {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            checkValid();
+            return creationTime;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public long getLastAccessedTime() {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            checkValid();
+            return lastAccessedTime;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ServletContext getServletContext() {
+        return manager.getServletContext();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(int interval) {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            maxInactiveInterval = interval;
+            manager.reschedule(this);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxInactiveInterval() {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            return maxInactiveInterval;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            boolean loaded = attributes == null;
+            Object value = attributes().get(name);
+            if (loaded) {
+                unload();
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            boolean loaded = attributes == null;
+            Enumeration<String> names =
+                    Collections.enumeration(new ArrayList<>(attributes().keySet()));
+            if (loaded) {
+                unload();
+            }
+            return names;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        Objects.requireNonNull(name, "name");
+        if (value == null) {
+            removeAttribute(name);
+            return;
+        }
+        if (!(value instanceof Serializable)) {
+            throw new IllegalArgumentException("Session attribute [" + name
+                    + "] is not serializable");
+        }
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            attributes().put(name, value);
+            if (accesses == 0) {
+                manager.store(this);
+                manager.reschedule(this);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            boolean loaded = attributes == null;
+            if (attributes().remove(name) != null && accesses == 0) {
+                manager.store(this);
+                manager.reschedule(this);
+            } else if (loaded) {
+                unload();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            checkValid();
+            manager.remove(this);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isNew() {
+        ReentrantLock lock = manager.lock(this);
+        lock.lock();
+        try {
+            checkValid();
+            return fresh;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StandardSession[" + id + "]";
+    }
+
+    boolean isValid() {
+        return valid && !manager.isClosed();
+    }
+
+    void setValid(boolean valid) {
+        this.valid = valid;
+    }
+
+    /**
+     * Records the start of a request using this session by a client that sent its
+     * identifier.
+     */
+    void access(long now) {
+        fresh = false;
+        lastAccessedTime = thisAccessedTime;
+        thisAccessedTime = now;
+        accesses++;
+    }
+
+    /**
+     * Records the end of a request using this session.
+     *
+     * @return {@code true} if no other request uses the session
+     */
+    boolean endAccess() {
+        return --accesses == 0;
+    }
+
+    boolean isAccessed() {
+        return accesses > 0;
+    }
+
+    long getThisAccessedTime() {
+        return thisAccessedTime;
+    }
+
+    int maxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    boolean isExpired(long now) {
+        return maxInactiveInterval > 0
+                && now - thisAccessedTime >= maxInactiveInterval * 1000L;
+    }
+
+    /**
+     * Returns the time the manager's index holds this session until, at which point the
+     * session is passivated or expired. Only changes while the session is not indexed.
+     */
+    long getDue() {
+        return due;
+    }
+
+    void setDue(long due) {
+        this.due = due;
+    }
+
+    long getBlock() {
+        return block;
+    }
+
+    int getLength() {
+        return length;
+    }
+
+    boolean isPassivated() {
+        return passivated;
+    }
+
+    /**
+     * Records where the serialized attributes are stored.
+     *
+     * @param block the handle of the block, or {@code -1} if there are no attributes
+     * @param length the number of serialized bytes
+     * @param passivated {@code true} if the block belongs to the manager's file store
+     */
+    void setBlock(long block, int length, boolean passivated) {
+        this.block = block;
+        this.length = length;
+        this.passivated = passivated;
+    }
+
+    /**
+     * Returns the attributes if a request has read them, or {@code null} if they are
+     * only held in serialized form.
+     */
+    Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    void setAttributes(Map<String, Object> attributes) {
+        this.attributes = attributes;
+    }
+
+    private Map<String, Object> attributes() {
+        checkValid();
+        if (attributes == null) {
+            attributes = manager.load(this);
+        }
+        return attributes;
+    }
+
+    /**
+     * Drops attributes read only for one call made outside of a request.
+     */
+    private void unload() {
+        if (accesses == 0) {
+            attributes = null;
+        }
+    }
+
+    private void checkValid() {
+        if (!isValid()) {
+            throw new IllegalStateException("Session [" + id + "] has been invalidated");
+        }
+    }
+
+    /**
+     * Orders sessions by due time, then identifier, for the manager's index.
+     */
+    static int compareDue(StandardSession a, StandardSession b) {
+        int result = Long.compare(a.due, b.due);
+        return result != 0 ? result : a.id.compareTo(b.id);
+    }
+}
@@ -0,0 +1,558 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.connector.SessionManager;
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import io.github.atharv3221.minicat.servlet.http.HttpSession;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link SessionManager} that keeps the attributes of sessions no request is using
+ * outside the Java heap, so that a large number of sessions costs the garbage collector
+ * one small object each.
+ *
+ * <p>When the last request using a session ends, its attributes are serialized into a
+ * block of direct memory, and the map holding them becomes garbage while still young.
+ * Sessions idle for longer than the passivation delay move on to a memory-mapped file
+ * in the context's {@link ServletContext#TEMPDIR}, as do all sessions once the direct
+ * memory limit is reached. Attributes that cannot be serialized stay on the heap, and
+ * attempts to move them are repeated. Sessions do not outlive the manager: its file is
+ * deleted when it is closed.</p>
+ *
+ * <p>Idle sessions are kept in a concurrent skip list ordered by the time they are due
+ * to be passivated or to expire. A session leaves the index while requests use it and
+ * goes back in when they end, so a reaper that runs once a second only looks at the
+ * sessions that are due, rather than scanning all of them. Expired sessions are also
+ * noticed when a request asks for them.</p>
+ *
+ * <p>Sessions are guarded by a fixed set of locks, picked by the hash of the session
+ * identifier, instead of a lock per session.</p>
+ */
+public class StandardSessionManager implements SessionManager, Closeable {
+
+    /**
+     * Default time in seconds after which a session no request used expires, 30
+     * minutes.
+     */
+    public static final int DEFAULT_MAX_INACTIVE_INTERVAL = 1800;
+
+    /**
+     * Default time in seconds after which the attributes of a session no request used
+     * move from memory to the file.
+     */
+    public static final int DEFAULT_PASSIVATE_AFTER = 60;
+
+    /**
+     * Default limit of the direct memory holding attributes, 64 MiB.
+     */
+    public static final long DEFAULT_MAX_MEMORY = 64L << 20;
+
+    private static final System.Logger LOG =
+            System.getLogger(StandardSessionManager.class.getName());
+
+    private static final int LOCK_STRIPES = 256;
+    private static final long REAP_INTERVAL = 1000;
+    private static final int ID_BYTES = 18;
+    private static final ScheduledThreadPoolExecutor REAPER = reaper();
+
+    private final ServletContext context;
+    private final ClassLoader classLoader;
+    private final Map<String, StandardSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<StandardSession> index =
+            new ConcurrentSkipListSet<>(StandardSession::compareDue);
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final SecureRandom random = new SecureRandom();
+    private volatile int maxInactiveInterval = DEFAULT_MAX_INACTIVE_INTERVAL;
+    private volatile int passivateAfter = DEFAULT_PASSIVATE_AFTER;
+    private long maxMemory = DEFAULT_MAX_MEMORY;
+    private SlabStore memory;
+    private SlabStore disk;
+    private ScheduledFuture<?> reaper;
+    private volatile boolean started;
+    private volatile boolean closed;
+
+    /**
+     * Creates a manager.
+     *
+     * @param context the context the sessions belong to
+     * @param classLoader the loader of the classes of attribute values
+     */
+    public StandardSessionManager(ServletContext context, ClassLoader classLoader) {
+        this.context = context;
+        this.classLoader = classLoader;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Returns the time after which a new session no request used expires.
+     *
+     * @return the time in seconds; zero or less means never
+     */
+    public int getMaxInactiveInterval() {
+        return maxInactiveInterval;
+    }
+
+    /**
+     * Sets the time after which a new session no request used expires, see
+     * {@link #DEFAULT_MAX_INACTIVE_INTERVAL}.
+     *
+     * @param maxInactiveInterval the time in seconds; zero or less means never
+     */
+    public void setMaxInactiveInterval(int maxInactiveInterval) {
+        this.maxInactiveInterval = maxInactiveInterval;
+    }
+
+    /**
+     * Returns the time after which the attributes of a session no request used move to
+     * the file.
+     *
+     * @return the time in seconds; less than zero means never
+     */
+    public int getPassivateAfter() {
+        return passivateAfter;
+    }
+
+    /**
+     * Sets the time after which the attributes of a session no request used move to
+     * the file, see {@link #DEFAULT_PASSIVATE_AFTER}. Applies to sessions that requests
+     * use from then on.
+     *
+     * @param passivateAfter the time in seconds; less than zero means never
+     */
+    public void setPassivateAfter(int passivateAfter) {
+        this.passivateAfter = passivateAfter;
+    }
+
+    /**
+     * Returns the limit of the direct memory holding attributes.
+     *
+     * @return the limit in bytes
+     */
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Sets the limit of the direct memory holding attributes, see
+     * {@link #DEFAULT_MAX_MEMORY}. Memory is allocated in slabs of 4 MiB as needed.
+     *
+     * @param maxMemory the limit in bytes; zero sends all attributes to the file
+     * @throws IllegalStateException if the manager was already started
+     */
+    public void setMaxMemory(long maxMemory) {
+        if (started) {
+            throw new IllegalStateException("The session manager was already started");
+        }
+        this.maxMemory = maxMemory;
+    }
+
+    /**
+     * Returns the number of valid sessions.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the number of bytes of direct memory in use for attributes.
+     */
+    public long getMemoryBytes() {
+        SlabStore store = memory;
+        return store == null ? 0 : store.getUsedBytes();
+    }
+
+    /**
+     * Returns the number of bytes of the file in use for attributes of passivated
+     * sessions.
+     */
+    public long getPassivatedBytes() {
+        SlabStore store = disk;
+        return store == null ? 0 : store.getUsedBytes();
+    }
+
+    /**
+     * Starts the reaper. The file for passivated sessions is created in the context's
+     * {@link ServletContext#TEMPDIR} once it is needed.
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        Path directory = context.getAttribute(ServletContext.TEMPDIR) instanceof File dir
+                ? dir.toPath() : Path.of(System.getProperty("java.io.tmpdir"));
+        memory = SlabStore.offHeap(maxMemory);
+        disk = SlabStore.mapped(directory);
+        reaper = REAPER.scheduleWithFixedDelay(this::reap, REAP_INTERVAL, REAP_INTERVAL,
+                TimeUnit.MILLISECONDS);
+        started = true;
+    }
+
+    /**
+     * Invalidates all sessions and releases their memory and file.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed || !started) {
+            closed = true;
+            return;
+        }
+        closed = true;
+        reaper.cancel(false);
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+            lock.unlock();
+        }
+        sessions.clear();
+        index.clear();
+        try {
+            memory.close();
+            disk.close();
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Failed to delete the session file of context ["
+                    + context.getContextPath() + "]", e);
+        }
+    }
+
+    @Override
+    public HttpSession findSession(String id) {
+        StandardSession session = sessions.get(id);
+        if (session == null) {
+            return null;
+        }
+        ReentrantLock lock = lock(session);
+        lock.lock();
+        try {
+            if (!session.isValid()) {
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            if (!session.isAccessed()) {
+                if (session.isExpired(now)) {
+                    remove(session);
+                    return null;
+                }
+                index.remove(session);
+            }
+            session.access(now);
+            return session;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public HttpSession createSession() {
+        if (!started || closed) {
+            throw new IllegalStateException("The session manager is not running");
+        }
+        long now = System.currentTimeMillis();
+        byte[] bytes = new byte[ID_BYTES];
+        while (true) {
+            random.nextBytes(bytes);
+            String id = Base64.getUrlEncoder().encodeToString(bytes);
+            StandardSession session = new StandardSession(this, id, now, maxInactiveInterval);
+            if (sessions.putIfAbsent(id, session) == null) {
+                return session;
+            }
+        }
+    }
+
+    @Override
+    public boolean isValid(HttpSession session) {
+        return ((StandardSession) session).isValid();
+    }
+
+    @Override
+    public void endAccess(HttpSession httpSession) {
+        StandardSession session = (StandardSession) httpSession;
+        ReentrantLock lock = lock(session);
+        lock.lock();
+        try {
+            if (!session.endAccess() || !session.isValid()) {
+                return;
+            }
+            if (session.getAttributes() != null) {
+                store(session);
+            }
+            schedule(session, session.getThisAccessedTime());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    ServletContext getServletContext() {
+        return context;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    ReentrantLock lock(StandardSession session) {
+        return locks[session.getId().hashCode() & (LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Puts an idle session back into the index after its maximum inactive interval
+     * changed. The caller holds the session's lock.
+     */
+    void reschedule(StandardSession session) {
+        if (session.isValid() && !session.isAccessed() && index.remove(session)) {
+            schedule(session, session.getThisAccessedTime());
+        }
+    }
+
+    /**
+     * Invalidates a session and frees its attributes. The caller holds the session's
+     * lock.
+     */
+    void remove(StandardSession session) {
+        session.setValid(false);
+        sessions.remove(session.getId(), session);
+        index.remove(session);
+        free(session);
+        session.setBlock(-1, 0, false);
+        session.setAttributes(null);
+    }
+
+    /**
+     * Reads the attributes of a session from its block. The caller holds the session's
+     * lock.
+     *
+     * @return the attributes, empty if they cannot be read
+     */
+    Map<String, Object> load(StandardSession session) {
+        Map<String, Object> attributes = new HashMap<>();
+        if (session.getBlock() < 0) {
+            return attributes;
+        }
+        byte[] bytes = new byte[session.getLength()];
+        storeOf(session.isPassivated()).read(session.getBlock(), bytes, bytes.length);
+        try (ObjectInputStream in = new AttributeInputStream(
+                new ByteArrayInputStream(bytes), classLoader)) {
+            for (int count = in.readInt(); count > 0; count--) {
+                attributes.put(in.readUTF(), in.readObject());
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            LOG.log(System.Logger.Level.WARNING, "Dropping the attributes of session ["
+                    + session.getId() + "] of context [" + context.getContextPath()
+                    + "], which cannot be read", e);
+            attributes.clear();
+        }
+        return attributes;
+    }
+
+    /**
+     * Serializes the attributes of a session into a new block, in memory if there is
+     * room and otherwise in the file, and drops them from the heap. If they cannot be
+     * stored they stay where they are. The caller holds the session's lock.
+     */
+    void store(StandardSession session) {
+        Map<String, Object> attributes = session.getAttributes();
+        if (attributes.isEmpty()) {
+            free(session);
+            session.setBlock(-1, 0, false);
+            session.setAttributes(null);
+            return;
+        }
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeInt(attributes.size());
+                for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                    out.writeUTF(attribute.getKey());
+                    out.writeObject(attribute.getValue());
+                }
+            }
+            byte[] serialized = bytes.toByteArray();
+            boolean passivated = false;
+            long block = memory.allocate(serialized.length);
+            if (block < 0) {
+                passivated = true;
+                block = disk.allocate(serialized.length);
+                if (block < 0) {
+                    throw new IOException("Session attributes of " + serialized.length
+                            + " bytes exceed the largest block of "
+                            + SlabStore.SLAB_SIZE + " bytes");
+                }
+            }
+            storeOf(passivated).write(block, serialized, serialized.length);
+            free(session);
+            session.setBlock(block, serialized.length, passivated);
+            session.setAttributes(null);
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Keeping the attributes of session ["
+                    + session.getId() + "] of context [" + context.getContextPath()
+                    + "] on the heap", e);
+        }
+    }
+
+    /**
+     * Passivates or expires the idle sessions that are due.
+     */
+    private void reap() {
+        try {
+            long now = System.currentTimeMillis();
+            for (StandardSession session : index) {
+                if (closed || session.getDue() > now) {
+                    return;
+                }
+                ReentrantLock lock = lock(session);
+                lock.lock();
+                try {
+                    if (!closed && session.getDue() <= now && index.remove(session)) {
+                        reap(session, now);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.log(System.Logger.Level.ERROR, "Failed to reap the sessions of context ["
+                    + context.getContextPath() + "]", e);
+        }
+    }
+
+    private void reap(StandardSession session, long now) {
+        if (session.isExpired(now)) {
+            remove(session);
+            return;
+        }
+        if (session.getAttributes() != null) {
+            store(session);
+        }
+        if (session.getAttributes() == null && session.getBlock() >= 0
+                && !session.isPassivated()) {
+            passivate(session);
+        }
+        schedule(session, session.isPassivated() || session.getBlock() < 0
+                ? session.getThisAccessedTime() : now);
+    }
+
+    /**
+     * Moves the attributes of a session from memory to the file.
+     */
+    private void passivate(StandardSession session) {
+        int length = session.getLength();
+        try {
+            long block = disk.allocate(length);
+            if (block < 0) {
+                return;
+            }
+            byte[] bytes = new byte[length];
+            memory.read(session.getBlock(), bytes, length);
+            disk.write(block, bytes, length);
+            memory.free(session.getBlock(), length);
+            session.setBlock(block, length, true);
+        } catch (IOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Failed to passivate session ["
+                    + session.getId() + "] of context [" + context.getContextPath() + "]", e);
+        }
+    }
+
+    /**
+     * Indexes an idle session by the time it is due to be passivated, counted from the
+     * given time, or to expire, whichever comes first.
+     */
+    private void schedule(StandardSession session, long idleSince) {
+        int interval = session.maxInactiveInterval();
+        long due = interval > 0
+                ? session.getThisAccessedTime() + interval * 1000L : Long.MAX_VALUE;
+        int delay = passivateAfter;
+        if (delay >= 0 && (session.getAttributes() != null
+                || (session.getBlock() >= 0 && !session.isPassivated()))) {
+            due = Math.min(due, idleSince + delay * 1000L);
+        }
+        if (due != Long.MAX_VALUE) {
+            session.setDue(due);
+            index.add(session);
+        }
+    }
+
+    private void free(StandardSession session) {
+        if (session.getBlock() >= 0) {
+            storeOf(session.isPassivated()).free(session.getBlock(), session.getLength());
+        }
+    }
+
+    private SlabStore storeOf(boolean passivated) {
+        return passivated ? disk : memory;
+    }
+
+    private static ScheduledThreadPoolExecutor reaper() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "minicat-session-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Resolves the classes of attribute values with the context's class loader.
+     */
+    private static final class AttributeInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        AttributeInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc)
+                throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
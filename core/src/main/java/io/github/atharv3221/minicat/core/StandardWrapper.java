@@ -0,0 +1,287 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.AsyncEvent;
+import io.github.atharv3221.minicat.servlet.AsyncListener;
+import io.github.atharv3221.minicat.servlet.Servlet;
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import io.github.atharv3221.minicat.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds one servlet instance of a context together with its configuration and tracks
+ * its lifecycle.
+ *
+ * <p>A servlet with a non-negative load-on-startup value is initialized when its context
+ * starts; any other servlet is initialized by the first request that reaches it. Either
+ * way initialization runs at most once at a time: concurrent first requests wait for the
+ * one that got there first instead of calling {@code init} again. A lock rather than a
+ * monitor guards it so that waiting virtual threads do not pin their carriers.</p>
+ *
+ * <p>The servlet's {@code init}, {@code service} and {@code destroy} run with the
+ * context's class loader as the thread context class loader.</p>
+ *
+ * <p>Every request is counted and timed in the wrapper's {@link ServletMetrics}. A
+ * request that continues asynchronously is timed until its context completes.</p>
+ */
+public class StandardWrapper {
+
+    private final String name;
+    private final Servlet servlet;
+    private final StandardServletConfig config;
+    private final ClassLoader classLoader;
+    private final ServletMetrics metrics = new ServletMetrics();
+    private final ReentrantLock lifecycleLock = new ReentrantLock();
+    private volatile boolean initialized;
+    private volatile long initNanos = -1;
+    private int loadOnStartup = -1;
+
+    /**
+     * Creates a wrapper.
+     *
+     * @param name the servlet name, unique within the context
+     * @param servlet the servlet instance
+     * @param context the context the servlet belongs to
+     */
+    public StandardWrapper(String name, Servlet servlet, StandardContext context) {
+        this.name = name;
+        this.servlet = servlet;
+        this.config = new StandardServletConfig(name, context);
+        this.classLoader = context.getClassLoader();
+    }
+
+    /**
+     * Returns the servlet name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the servlet instance.
+     */
+    public Servlet getServlet() {
+        return servlet;
+    }
+
+    /**
+     * Returns the configuration passed to the servlet's {@code init}. Init parameters
+     * must be set before the servlet is initialized.
+     */
+    public StandardServletConfig getServletConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the load-on-startup value; negative means the servlet is initialized on
+     * first use.
+     */
+    public int getLoadOnStartup() {
+        return loadOnStartup;
+    }
+
+    /**
+     * Sets the load-on-startup value. Servlets with non-negative values are initialized
+     * when the context starts, in ascending order of the value; servlets sharing a value
+     * are initialized in parallel.
+     *
+     * @param loadOnStartup the value, negative for lazy initialization
+     */
+    public void setLoadOnStartup(int loadOnStartup) {
+        this.loadOnStartup = loadOnStartup;
+    }
+
+    /**
+     * Returns how long the servlet's {@code init} took.
+     *
+     * @return the duration, or {@code null} if the servlet has not been initialized
+     */
+    public Duration getInitTime() {
+        long nanos = initNanos;
+        return nanos < 0 ? null : Duration.ofNanos(nanos);
+    }
+
+    /**
+     * Returns the request counters and latency histogram of the servlet.
+     */
+    public ServletMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Tests whether the servlet has been initialized and not yet destroyed.
+     */
+    public boolean isInitialized() {
+        return initialized;
+    }
+
+    /**
+     * Initializes the servlet unless that already happened.
+     *
+     * @throws ServletException if the servlet's {@code init} fails
+     */
+    public void init() throws ServletException {
+        if (initialized) {
+            return;
+        }
+        lifecycleLock.lock();
+        try {
+            if (!initialized) {
+                ClassLoader previous = bindClassLoader();
+                try {
+                    long start = System.nanoTime();
+                    servlet.init(config);
+                    initNanos = System.nanoTime() - start;
+                    initialized = true;
+                } finally {
+                    Thread.currentThread().setContextClassLoader(previous);
+                }
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Passes a request to the servlet, initializing it first if needed. The request
+     * counts as an error if the servlet throws or sets a 5xx status, or if its
+     * asynchronous processing fails or times out.
+     *
+     * @param request the request
+     * @param response the response
+     * @throws ServletException if the servlet fails
+     * @throws IOException if an I/O error occurs
+     */
+    public void service(ServletRequest request, ServletResponse response)
+            throws ServletException, IOException {
+        metrics.requestStarted();
+        final long start = System.nanoTime();
+        ClassLoader previous = bindClassLoader();
+        boolean error = true;
+        boolean async = false;
+        try {
+            if (!initialized) {
+                init();
+            }
+            servlet.service(request, response);
+            error = isError(response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncCompletion(start, response));
+                async = true;
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+            if (!async) {
+                metrics.requestCompleted(System.nanoTime() - start, error);
+            }
+        }
+    }
+
+    /**
+     * Destroys the servlet if it was initialized.
+     */
+    public void destroy() {
+        lifecycleLock.lock();
+        try {
+            if (initialized) {
+                initialized = false;
+                ClassLoader previous = bindClassLoader();
+                try {
+                    servlet.destroy();
+                } finally {
+                    Thread.currentThread().setContextClassLoader(previous);
+                }
+            }
+        } finally {
+            lifecycleLock.unlock();
+        }
+    }
+
+    /**
+     * Makes the context's class loader the current thread's context class loader.
+     *
+     * @return the previous context class loader, to restore afterwards
+     */
+    private ClassLoader bindClassLoader() {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        return previous;
+    }
+
+    private static boolean isError(ServletResponse response) {
+        return response instanceof HttpServletResponse http
+                && http.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * Records an asynchronous request once its asynchronous cycle ends, whether it
+     * completes, times out, fails, or is dispatched into a new cycle.
+     */
+    private final class AsyncCompletion implements AsyncListener {
+
+        private final long start;
+        private final ServletResponse response;
+        private boolean failed;
+        private boolean recorded;
+
+        AsyncCompletion(long start, ServletResponse response) {
+            this.start = start;
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            record();
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                metrics.requestCompleted(System.nanoTime() - start, failed || isError(response));
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import io.github.atharv3221.minicat.servlet.ServletException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initializes the load-on-startup servlets of a context.
+ *
+ * <p>Servlets are grouped by load-on-startup value. Groups run in ascending order, each
+ * one only after the previous group has finished, while the servlets within a group are
+ * initialized in parallel on a fork-join pool created for the purpose. Every servlet of
+ * a group is attempted even if another fails; the first failure is then thrown with the
+ * others attached as suppressed exceptions.</p>
+ */
+final class StartupScheduler {
+
+    private static final System.Logger LOG = System.getLogger(StartupScheduler.class.getName());
+
+    private StartupScheduler() {
+    }
+
+    /**
+     * Initializes the servlets whose load-on-startup value is not negative.
+     *
+     * @param context the context the servlets belong to, used for logging
+     * @param wrappers the servlets of the context
+     * @param parallelism the number of servlets initialized at once; {@code 1} runs
+     *     everything on the calling thread
+     * @throws ServletException if a servlet fails to initialize
+     */
+    static void initialize(StandardContext context, StandardWrapper[] wrappers,
+            int parallelism) throws ServletException {
+        Map<Integer, List<StandardWrapper>> groups = new TreeMap<>();
+        for (StandardWrapper wrapper : wrappers) {
+            if (wrapper.getLoadOnStartup() >= 0) {
+                groups.computeIfAbsent(wrapper.getLoadOnStartup(), key -> new ArrayList<>())
+                        .add(wrapper);
+            }
+        }
+        if (groups.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+        try {
+            for (List<StandardWrapper> group : groups.values()) {
+                if (pool == null || group.size() == 1) {
+                    initializeSerially(group);
+                } else {
+                    initializeInParallel(group, pool);
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        report(context, groups, System.nanoTime() - start);
+    }
+
+    private static void initializeSerially(List<StandardWrapper> group)
+            throws ServletException {
+        ServletException failure = null;
+        for (StandardWrapper wrapper : group) {
+            try {
+                wrapper.init();
+            } catch (ServletException | RuntimeException e) {
+                failure = addFailure(failure, wrapper, e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void initializeInParallel(List<StandardWrapper> group, ForkJoinPool pool)
+            throws ServletException {
+        List<Callable<Void>> tasks = new ArrayList<>(group.size());
+        for (StandardWrapper wrapper : group) {
+            tasks.add(() -> {
+                wrapper.init();
+                return null;
+            });
+        }
+        List<Future<Void>> results = pool.invokeAll(tasks);
+        ServletException failure = null;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                results.get(i).get();
+            } catch (ExecutionException e) {
+                failure = addFailure(failure, group.get(i), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while initializing servlets", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static ServletException addFailure(ServletException failure,
+            StandardWrapper wrapper, Throwable cause) {
+        ServletException exception = new ServletException(
+                "Servlet " + wrapper.getName() + " failed to initialize", cause);
+        if (failure == null) {
+            return exception;
+        }
+        failure.addSuppressed(exception);
+        return failure;
+    }
+
+    private static void report(StandardContext context,
+            Map<Integer, List<StandardWrapper>> groups, long elapsed) {
+        StandardWrapper slowest = null;
+        int count = 0;
+        for (List<StandardWrapper> group : groups.values()) {
+            for (StandardWrapper wrapper : group) {
+                count++;
+                LOG.log(System.Logger.Level.DEBUG, "[" + context.getContextPath() + "] Servlet "
+                        + wrapper.getName() + " initialized in "
+                        + wrapper.getInitTime().toMillis() + " ms");
+                if (slowest == null
+                        || wrapper.getInitTime().compareTo(slowest.getInitTime()) > 0) {
+                    slowest = wrapper;
+                }
+            }
+        }
+        LOG.log(System.Logger.Level.INFO, "[" + context.getContextPath() + "] Initialized "
+                + count + " servlets in " + TimeUnit.NANOSECONDS.toMillis(elapsed)
+                + " ms, slowest " + slowest.getName() + " ("
+                + slowest.getInitTime().toMillis() + " ms)");
+    }
+}
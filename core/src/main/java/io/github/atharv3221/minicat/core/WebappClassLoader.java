@@ -0,0 +1,117 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.core;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the classes of one web application from {@code WEB-INF/classes} and the JARs in
+ * {@code WEB-INF/lib}.
+ *
+ * <p>Application classes are looked up locally before the parent is asked, so an
+ * application may bundle libraries in other versions than the container's, and a
+ * redeployed application gets fresh copies of all its classes. Classes of the platform
+ * and of minicat itself always come from the parent, so servlets implement the very
+ * {@code Servlet} interface the container calls. Resources are looked up parent
+ * first.</p>
+ */
+public final class WebappClassLoader extends URLClassLoader {
+
+    private static final String[] PARENT_FIRST = {
+        "java.", "javax.", "jdk.", "sun.", "com.sun.", "io.github.atharv3221.minicat."
+    };
+
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    private WebappClassLoader(String name, URL[] urls, ClassLoader parent) {
+        super(name, urls, parent);
+    }
+
+    /**
+     * Creates the class loader of a web application.
+     *
+     * @param name the name of the class loader, shown in stack traces
+     * @param docBase the document base of the application
+     * @param orderedLibs the file names of the JARs to load from, in order, or
+     *     {@code null} for every JAR in name order
+     * @param parent the class loader holding the container
+     * @return the class loader
+     * @throws IOException if {@code WEB-INF/lib} cannot be listed
+     */
+    static WebappClassLoader create(String name, Path docBase, List<String> orderedLibs,
+            ClassLoader parent) throws IOException {
+        List<URL> urls = new ArrayList<>();
+        Path webInf = docBase.resolve("WEB-INF");
+        Path classes = webInf.resolve("classes");
+        if (Files.isDirectory(classes)) {
+            urls.add(classes.toUri().toURL());
+        }
+        Path lib = webInf.resolve("lib");
+        if (Files.isDirectory(lib)) {
+            for (Path jar : JarScanner.listJars(lib, orderedLibs)) {
+                urls.add(jar.toUri().toURL());
+            }
+        }
+        return new WebappClassLoader(name, urls.toArray(new URL[0]), parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (isParentFirst(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> type = findLoadedClass(name);
+            if (type == null) {
+                try {
+                    type = findClass(name);
+                } catch (ClassNotFoundException e) {
+                    return super.loadClass(name, resolve);
+                }
+            }
+            if (resolve) {
+                resolveClass(type);
+            }
+            return type;
+        }
+    }
+
+    private static boolean isParentFirst(String name) {
+        for (String prefix : PARENT_FIRST) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,105 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+/**
+ * Execution context of a request whose processing was started asynchronously with
+ * {@link ServletRequest#startAsync()}.
+ *
+ * <p>Once the servlet's {@code service} method returns, the container releases the
+ * thread that called it but keeps the connection and the response open. Any thread
+ * may then write the response and end the cycle with {@link #complete()}, or hand the
+ * request back to the container with {@link #dispatch()}. If neither happens within
+ * the timeout, the container notifies the listeners and, if they do not end the cycle
+ * either, completes the response with status 500 unless it is already committed.</p>
+ *
+ * <p>Only one thread at a time may write to the response.</p>
+ *
+ * @see AsyncListener
+ */
+public interface AsyncContext {
+
+    /**
+     * Returns the request that was used to start this context.
+     *
+     * @return the request
+     */
+    ServletRequest getRequest();
+
+    /**
+     * Returns the response that belongs to the request of this context.
+     *
+     * @return the response
+     */
+    ServletResponse getResponse();
+
+    /**
+     * Completes the asynchronous operation: the container finishes and flushes the
+     * response and notifies the listeners. If called before the {@code service} method
+     * that started this context returns, completion happens when it returns. Calling
+     * this method again has no effect.
+     */
+    void complete();
+
+    /**
+     * Dispatches the request back to the container, which passes it to the servlet
+     * that would serve its URI, on a container thread. If called before the
+     * {@code service} method that started this context returns, the dispatch happens
+     * when it returns. The dispatched servlet may start asynchronous processing again.
+     *
+     * @throws IllegalStateException if the context was already completed or dispatched
+     */
+    void dispatch();
+
+    /**
+     * Runs a task on a container thread.
+     *
+     * @param run the task
+     */
+    void start(Runnable run);
+
+    /**
+     * Registers a listener for the completion, timeout and error notifications of this
+     * context. Listeners are invoked in the order they were added.
+     *
+     * @param listener the listener
+     */
+    void addListener(AsyncListener listener);
+
+    /**
+     * Sets the timeout of this context, counted from the moment the {@code service}
+     * method that started it returns. The default is 30 seconds.
+     *
+     * @param timeout the timeout in milliseconds; zero or less means none
+     */
+    void setTimeout(long timeout);
+
+    /**
+     * Returns the timeout of this context.
+     *
+     * @return the timeout in milliseconds; zero or less means none
+     */
+    long getTimeout();
+}
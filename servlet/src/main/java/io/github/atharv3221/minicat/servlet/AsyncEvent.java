@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+/**
+ * Event delivered to an {@link AsyncListener}.
+ *
+ * @see AsyncContext
+ */
+public class AsyncEvent {
+
+    private final AsyncContext context;
+    private final Throwable throwable;
+
+    /**
+     * Constructs an {@code AsyncEvent} for the given context.
+     *
+     * @param context the {@code AsyncContext} the event is about
+     */
+    public AsyncEvent(AsyncContext context) {
+        this(context, null);
+    }
+
+    /**
+     * Constructs an {@code AsyncEvent} for the given context and cause.
+     *
+     * @param context the {@code AsyncContext} the event is about
+     * @param throwable the cause of a failure, or {@code null}
+     */
+    public AsyncEvent(AsyncContext context, Throwable throwable) {
+        this.context = context;
+        this.throwable = throwable;
+    }
+
+    /**
+     * Returns the {@code AsyncContext} the event is about.
+     *
+     * @return the context
+     */
+    public AsyncContext getAsyncContext() {
+        return context;
+    }
+
+    /**
+     * Returns the cause of the failure this event reports.
+     *
+     * @return the cause, or {@code null} if the event does not report a failure
+     */
+    public Throwable getThrowable() {
+        return throwable;
+    }
+}
@@ -0,0 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.io.IOException;
+import java.util.EventListener;
+
+/**
+ * Interface for receiving notifications about the asynchronous operation started on a
+ * request.
+ *
+ * <p>Implementations are registered with {@link AsyncContext#addListener}. Notifications
+ * are delivered on a container thread, in the order the listeners were added.</p>
+ *
+ * @see AsyncEvent
+ */
+public interface AsyncListener extends EventListener {
+
+    /**
+     * Receives notification that an asynchronous operation has completed and its
+     * response has been written.
+     *
+     * @param event the {@code AsyncEvent} of the completed operation
+     * @throws IOException if an I/O related error occurs
+     */
+    default void onComplete(AsyncEvent event) throws IOException {
+    }
+
+    /**
+     * Receives notification that an asynchronous operation has timed out. The listener
+     * may complete or dispatch the operation.
+     *
+     * @param event the {@code AsyncEvent} of the operation that timed out
+     * @throws IOException if an I/O related error occurs
+     */
+    default void onTimeout(AsyncEvent event) throws IOException {
+    }
+
+    /**
+     * Receives notification that an asynchronous operation failed, for example because
+     * a dispatched servlet threw.
+     *
+     * @param event the {@code AsyncEvent} of the failed operation, carrying the cause
+     * @throws IOException if an I/O related error occurs
+     */
+    default void onError(AsyncEvent event) throws IOException {
+    }
+
+    /**
+     * Receives notification that asynchronous processing was started again on the
+     * same request, after a dispatch. Listeners are removed when this happens; one that
+     * wants further notifications must add itself to the event's context again.
+     *
+     * @param event the {@code AsyncEvent} carrying the new context
+     * @throws IOException if an I/O related error occurs
+     */
+    default void onStartAsync(AsyncEvent event) throws IOException {
+    }
+}
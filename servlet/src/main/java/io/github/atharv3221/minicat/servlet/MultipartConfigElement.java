@@ -0,0 +1,104 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+/**
+ * Limits applied to the parsing of {@code multipart/form-data} requests.
+ *
+ * <p>Parts up to the file size threshold are kept in memory; larger parts are written
+ * to temporary files in the location as they arrive. A limit of {@code -1} means
+ * unlimited.</p>
+ */
+public class MultipartConfigElement {
+
+    private final String location;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+    private final int fileSizeThreshold;
+
+    /**
+     * Constructs an instance with defaults for all but the location: no size limits
+     * and a threshold of zero, so every part is written to disk.
+     *
+     * @param location the directory for temporary files, or {@code ""} for the
+     *     context's {@link ServletContext#TEMPDIR}
+     */
+    public MultipartConfigElement(String location) {
+        this(location, -1, -1, 0);
+    }
+
+    /**
+     * Constructs an instance with all values specified.
+     *
+     * @param location the directory for temporary files, or {@code ""} for the
+     *     context's {@link ServletContext#TEMPDIR}
+     * @param maxFileSize the maximum size in bytes of a single part
+     * @param maxRequestSize the maximum size in bytes of a whole multipart request
+     * @param fileSizeThreshold the size in bytes above which a part is written to disk
+     */
+    public MultipartConfigElement(String location, long maxFileSize, long maxRequestSize,
+            int fileSizeThreshold) {
+        this.location = location == null ? "" : location;
+        this.maxFileSize = maxFileSize;
+        this.maxRequestSize = maxRequestSize;
+        this.fileSizeThreshold = Math.max(0, fileSizeThreshold);
+    }
+
+    /**
+     * Gets the directory where temporary files are stored.
+     *
+     * @return the directory, or {@code ""} for the context's temporary directory
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Gets the maximum size allowed for a single part.
+     *
+     * @return the maximum size in bytes, or {@code -1} for unlimited
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * Gets the maximum size allowed for a multipart request.
+     *
+     * @return the maximum size in bytes, or {@code -1} for unlimited
+     */
+    public long getMaxRequestSize() {
+        return maxRequestSize;
+    }
+
+    /**
+     * Gets the size above which a part is written to disk.
+     *
+     * @return the threshold in bytes
+     */
+    public int getFileSizeThreshold() {
+        return fileSizeThreshold;
+    }
+}
@@ -0,0 +1,63 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.io.IOException;
+import java.util.EventListener;
+
+/**
+ * Receives events when the body of a request can be read without blocking.
+ *
+ * <p>A {@code ReadListener} is registered with {@link ServletInputStream#setReadListener},
+ * which switches the stream to non-blocking mode. The container calls the listener on
+ * one of its threads, never concurrently with another read or write listener of the
+ * same request.</p>
+ */
+public interface ReadListener extends EventListener {
+
+    /**
+     * Invoked when data is available to read. The container calls this method the first
+     * time data can be read, and again only after {@link ServletInputStream#isReady()}
+     * has returned {@code false} and data became available since.
+     *
+     * @throws IOException if an I/O related error occurs
+     */
+    void onDataAvailable() throws IOException;
+
+    /**
+     * Invoked once the whole request body has been read.
+     *
+     * @throws IOException if an I/O related error occurs
+     */
+    void onAllDataRead() throws IOException;
+
+    /**
+     * Invoked when reading the request body failed, or a callback of this listener
+     * threw.
+     *
+     * @param t the failure
+     */
+    void onError(Throwable t);
+}
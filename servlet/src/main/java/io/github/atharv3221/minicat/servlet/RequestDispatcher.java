@@ -1,7 +1,81 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
 package io.github.atharv3221.minicat.servlet;
 
+import java.io.IOException;
+
 /**
- * Request Dispatcher.
+ * Receives requests from the client and sends them to a servlet of the same
+ * application, identified by path or by name.
+ *
+ * <p>The servlet container creates the {@code RequestDispatcher} objects returned by
+ * {@link ServletContext#getRequestDispatcher} and
+ * {@link ServletContext#getNamedDispatcher}. The target servlet runs on the calling
+ * thread, with the same request and response seen through views: the request reports
+ * the paths of the target, and the response of an include only accepts body
+ * content.</p>
  */
 public interface RequestDispatcher {
+
+    /**
+     * Forwards a request from a servlet to another servlet. The target servlet
+     * generates the whole response.
+     *
+     * <p>The buffered content of the response is cleared before the target runs. Unless
+     * the target starts asynchronous processing, the response is sent and closed before
+     * this method returns, and content the caller writes afterwards is discarded.</p>
+     *
+     * <p>For a dispatcher obtained by path, the target sees the request URI, servlet path
+     * and path info of that path, and parameters from its query string take precedence
+     * over those of the request. A named dispatcher leaves the request as it is.</p>
+     *
+     * @param request a {@link ServletRequest} object that represents the request the
+     *     client makes of the servlet
+     * @param response a {@link ServletResponse} object that represents the response the
+     *     servlet returns to the client
+     * @throws ServletException if the target resource throws this exception
+     * @throws IOException if the target resource throws this exception
+     * @throws IllegalStateException if the response was already committed
+     */
+    void forward(ServletRequest request, ServletResponse response)
+            throws ServletException, IOException;
+
+    /**
+     * Includes the content of a servlet in the response. The content goes straight into
+     * the response, at its current position.
+     *
+     * <p>The included servlet cannot change the status or the headers of the response;
+     * such calls are ignored. It sees the paths of the original request, and parameters
+     * from the query string of the dispatcher's path ahead of those of the request.</p>
+     *
+     * @param request a {@link ServletRequest} object that contains the client's request
+     * @param response a {@link ServletResponse} object that contains the servlet's
+     *     response
+     * @throws ServletException if the included resource throws this exception
+     * @throws IOException if the included resource throws this exception
+     */
+    void include(ServletRequest request, ServletResponse response)
+            throws ServletException, IOException;
 }
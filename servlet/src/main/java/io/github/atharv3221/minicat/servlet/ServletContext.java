@@ -27,6 +27,8 @@ package io.github.atharv3221.minicat.servlet;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Enumeration;
+import java.util.EventListener;
 import java.util.Set;
 
 /**
@@ -387,6 +389,114 @@ public interface ServletContext {
      */
     RequestDispatcher getNamedDispatcher(String name);
 
+    /**
+     * Returns the value of the named context-wide initialization parameter, or
+     * {@code null} if the parameter does not exist.
+     *
+     * <p>Context initialization parameters apply to the whole web application and are
+     * typically declared with {@code <context-param>} in the deployment descriptor.
+     * Servlet containers also read them for container settings that can be tuned per
+     * application.</p>
+     *
+     * @param name the name of the parameter whose value is requested
+     * @return a {@code String} containing the value of the parameter, or {@code null}
+     *     if the parameter does not exist
+     *
+     * @see ServletConfig#getInitParameter(String)
+     */
+    String getInitParameter(String name);
+
+    /**
+     * Returns the names of the context's initialization parameters as an
+     * {@code Enumeration} of {@code String} objects, or an empty {@code Enumeration}
+     * if the context has no initialization parameters.
+     *
+     * @return an {@code Enumeration} of {@code String} objects containing the names of
+     *     the context's initialization parameters
+     */
+    Enumeration<String> getInitParameterNames();
+
+    /**
+     * Returns the servlet container attribute with the given name, or {@code null} if
+     * there is no attribute by that name.
+     *
+     * <p>Attributes share objects between the components of a web application. Besides
+     * the attributes set by the application itself, the container provides some of its
+     * own, such as {@link #TEMPDIR} and {@link #ORDERED_LIBS}. Attribute names should
+     * follow the same convention as package names; names starting with {@code java.},
+     * {@code javax.} and {@code jakarta.} are reserved.</p>
+     *
+     * <p>Every request thread may read shared attributes, so containers must make this
+     * method safe to call concurrently with {@link #setAttribute} and should not make
+     * readers wait for each other.</p>
+     *
+     * @param name a {@code String} specifying the name of the attribute
+     * @return an {@code Object} containing the value of the attribute, or {@code null}
+     *     if no attribute exists matching the given name
+     *
+     * @see ServletContext#getAttributeNames
+     */
+    Object getAttribute(String name);
+
+    /**
+     * Returns an {@code Enumeration} containing the attribute names available within
+     * this {@code ServletContext}.
+     *
+     * <p>The enumeration is a snapshot in the sense that it stays valid while attributes
+     * are added or removed, but it may or may not reflect changes made after it was
+     * obtained.</p>
+     *
+     * @return an {@code Enumeration} of attribute names
+     *
+     * @see #getAttribute
+     */
+    Enumeration<String> getAttributeNames();
+
+    /**
+     * Binds an object to a given attribute name in this {@code ServletContext}. If the
+     * name specified is already used for an attribute, this method replaces the
+     * attribute with the new value.
+     *
+     * <p>If listeners are configured on the {@code ServletContext}, the container
+     * notifies them accordingly: {@link ServletContextAttributeListener#attributeAdded}
+     * for a new name, {@link ServletContextAttributeListener#attributeReplaced} for an
+     * existing one.</p>
+     *
+     * <p>If a {@code null} value is passed, the effect is the same as calling
+     * {@link #removeAttribute}.</p>
+     *
+     * @param name a {@code String} specifying the name of the attribute
+     * @param object an {@code Object} representing the attribute to be bound
+     * @throws NullPointerException if the name is {@code null}
+     */
+    void setAttribute(String name, Object object);
+
+    /**
+     * Removes the attribute with the given name from this {@code ServletContext}. After
+     * removal, subsequent calls to {@link #getAttribute} to retrieve the attribute's
+     * value will return {@code null}.
+     *
+     * <p>If listeners are configured on the {@code ServletContext}, the container
+     * notifies them with {@link ServletContextAttributeListener#attributeRemoved}.</p>
+     *
+     * @param name a {@code String} specifying the name of the attribute to be removed
+     */
+    void removeAttribute(String name);
+
+    /**
+     * Adds a listener to this {@code ServletContext}.
+     *
+     * <p>The listener must implement one or more of the listener interfaces the
+     * container supports, such as {@link ServletContextAttributeListener}. Listeners are
+     * invoked in the order they were added.</p>
+     *
+     * @param listener the listener to be added
+     * @param <T> the class of the listener
+     * @throws IllegalArgumentException if the listener does not implement any supported
+     *     listener interface
+     */
+    <T extends EventListener> void addListener(T listener);
+
     /**
      * Writes the specified message to a servlet log file, usually an event log.
      * The name and type of the servlet log file is specific to the servlet container.
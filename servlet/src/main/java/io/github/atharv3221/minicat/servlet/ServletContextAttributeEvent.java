@@ -0,0 +1,75 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+/**
+ * Event class for notifications about changes to the attributes of the
+ * {@link ServletContext} of a web application.
+ *
+ * @see ServletContextAttributeListener
+ */
+public class ServletContextAttributeEvent extends ServletContextEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final transient Object value;
+
+    /**
+     * Constructs a {@code ServletContextAttributeEvent} from the given
+     * {@code ServletContext}, attribute name, and attribute value.
+     *
+     * @param source the {@code ServletContext} whose attribute changed
+     * @param name the name of the {@code ServletContext} attribute that changed
+     * @param value the value of the {@code ServletContext} attribute that changed
+     */
+    public ServletContextAttributeEvent(ServletContext source, String name, Object value) {
+        super(source);
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * Gets the name of the {@code ServletContext} attribute that changed.
+     *
+     * @return the name of the {@code ServletContext} attribute that changed
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the value of the {@code ServletContext} attribute that changed.
+     *
+     * <p>If the attribute was added, this is the value of the attribute. If the
+     * attribute was removed, this is the value of the removed attribute. If the
+     * attribute was replaced, this is the old value of the attribute.</p>
+     *
+     * @return the value of the {@code ServletContext} attribute that changed
+     */
+    public Object getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,74 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.util.EventListener;
+
+/**
+ * Interface for receiving notification events about {@link ServletContext} attribute
+ * changes.
+ *
+ * <p>Implementations are registered with {@link ServletContext#addListener}. The
+ * container invokes them on the thread that changed the attribute, after the change
+ * has become visible to other threads, and in the order the listeners were
+ * added.</p>
+ *
+ * @see ServletContextAttributeEvent
+ */
+public interface ServletContextAttributeListener extends EventListener {
+
+    /**
+     * Receives notification that an attribute has been added to the
+     * {@code ServletContext}.
+     *
+     * @param event the {@code ServletContextAttributeEvent} containing the
+     *     {@code ServletContext} to which the attribute was added, along with the
+     *     attribute name and value
+     */
+    default void attributeAdded(ServletContextAttributeEvent event) {
+    }
+
+    /**
+     * Receives notification that an attribute has been removed from the
+     * {@code ServletContext}.
+     *
+     * @param event the {@code ServletContextAttributeEvent} containing the
+     *     {@code ServletContext} from which the attribute was removed, along with the
+     *     attribute name and value
+     */
+    default void attributeRemoved(ServletContextAttributeEvent event) {
+    }
+
+    /**
+     * Receives notification that an attribute has been replaced in the
+     * {@code ServletContext}.
+     *
+     * @param event the {@code ServletContextAttributeEvent} containing the
+     *     {@code ServletContext} in which the attribute was replaced, along with the
+     *     attribute name and its old value
+     */
+    default void attributeReplaced(ServletContextAttributeEvent event) {
+    }
+}
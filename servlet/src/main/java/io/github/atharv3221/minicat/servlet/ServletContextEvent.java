@@ -0,0 +1,56 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.util.EventObject;
+
+/**
+ * Event class for notifications about changes to the {@link ServletContext} of a web
+ * application.
+ *
+ * @see ServletContextAttributeEvent
+ */
+public class ServletContextEvent extends EventObject {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a {@code ServletContextEvent} from the given context.
+     *
+     * @param source the {@code ServletContext} that is sending the event
+     */
+    public ServletContextEvent(ServletContext source) {
+        super(source);
+    }
+
+    /**
+     * Returns the {@code ServletContext} that changed.
+     *
+     * @return the {@code ServletContext} that sent the event
+     */
+    public ServletContext getServletContext() {
+        return (ServletContext) super.getSource();
+    }
+}
@@ -4,4 +4,39 @@ package io.github.atharv3221.minicat.servlet;
  * Servlet Exception.
  */
 public class ServletException extends Exception {
+
+    /**
+     * Constructs a new servlet exception without a message.
+     */
+    public ServletException() {
+        super();
+    }
+
+    /**
+     * Constructs a new servlet exception with the specified message.
+     *
+     * @param message the detail message
+     */
+    public ServletException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new servlet exception with the specified message and root cause.
+     *
+     * @param message the detail message
+     * @param rootCause the exception that prevented the servlet from operating normally
+     */
+    public ServletException(String message, Throwable rootCause) {
+        super(message, rootCause);
+    }
+
+    /**
+     * Returns the exception that caused this servlet exception.
+     *
+     * @return the root cause, or {@code null} if none was given
+     */
+    public Throwable getRootCause() {
+        return getCause();
+    }
 }
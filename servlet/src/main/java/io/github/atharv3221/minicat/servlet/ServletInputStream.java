@@ -0,0 +1,78 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.io.InputStream;
+
+/**
+ * Provides an input stream for reading binary data from a client request. A
+ * {@code ServletInputStream} object is normally retrieved via the
+ * {@link ServletRequest#getInputStream} method.
+ *
+ * <p>The stream starts in blocking mode, where reads wait for the client. Registering a
+ * {@link ReadListener} switches it to non-blocking mode: the servlet then reads only
+ * while {@link #isReady()} returns {@code true} and is called back once more data
+ * arrives.</p>
+ *
+ * <p>This is an abstract class that the servlet container implements.</p>
+ *
+ * @see ServletRequest
+ */
+public abstract class ServletInputStream extends InputStream {
+
+    /**
+     * Does nothing, because this is an abstract class.
+     */
+    protected ServletInputStream() {
+    }
+
+    /**
+     * Returns {@code true} when all the data from the stream has been read.
+     *
+     * @return {@code true} if the whole request body has been read
+     */
+    public abstract boolean isFinished();
+
+    /**
+     * Returns {@code true} if data can be read without blocking. In non-blocking mode,
+     * a {@code false} result schedules a call to {@link ReadListener#onDataAvailable()}
+     * for when data arrives.
+     *
+     * @return {@code true} if data can be read without blocking
+     */
+    public abstract boolean isReady();
+
+    /**
+     * Switches the stream to non-blocking mode and registers the listener to notify when
+     * data can be read. Allowed only once, and only while asynchronous processing is
+     * in progress.
+     *
+     * @param listener the listener to notify
+     * @throws IllegalStateException if asynchronous processing was not started, or a
+     *     listener was already set
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public abstract void setReadListener(ReadListener listener);
+}
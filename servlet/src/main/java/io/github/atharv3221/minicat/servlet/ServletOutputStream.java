@@ -0,0 +1,98 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Provides an output stream for sending binary data to the client. A
+ * {@code ServletOutputStream} object is normally retrieved via the
+ * {@link ServletResponse#getOutputStream} method.
+ *
+ * <p>The stream starts in blocking mode, where writes wait for the client to accept
+ * the data. Registering a {@link WriteListener} switches it to non-blocking mode: the
+ * servlet then writes only while {@link #isReady()} returns {@code true} and is called
+ * back once the client has caught up.</p>
+ *
+ * <p>This is an abstract class that the servlet container implements. Subclasses
+ * must implement the {@link OutputStream#write(int)} method.</p>
+ *
+ * @see ServletResponse
+ */
+public abstract class ServletOutputStream extends OutputStream {
+
+    /**
+     * Does nothing, because this is an abstract class.
+     */
+    protected ServletOutputStream() {
+    }
+
+    /**
+     * Returns {@code true} if data can be written without blocking. In non-blocking
+     * mode, a {@code false} result schedules a call to
+     * {@link WriteListener#onWritePossible()} for when the stream becomes writable.
+     *
+     * @return {@code true} if a write will not block
+     */
+    public abstract boolean isReady();
+
+    /**
+     * Switches the stream to non-blocking mode and registers the listener to notify when
+     * data can be written. Allowed only once, and only while asynchronous processing is
+     * in progress.
+     *
+     * @param listener the listener to notify
+     * @throws IllegalStateException if asynchronous processing was not started, or a
+     *     listener was already set
+     * @throws NullPointerException if {@code listener} is {@code null}
+     */
+    public abstract void setWriteListener(WriteListener listener);
+
+    /**
+     * Writes a {@code String} to the client, without a carriage return-line feed
+     * (CRLF) character at the end. Characters are encoded as ISO-8859-1.
+     *
+     * @param s the {@code String} to send to the client
+     * @throws IOException if an input or output exception occurred
+     */
+    public void print(String s) throws IOException {
+        String value = s == null ? "null" : s;
+        write(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Writes a {@code String} to the client, followed by a carriage return-line feed
+     * (CRLF).
+     *
+     * @param s the {@code String} to write to the client
+     * @throws IOException if an input or output exception occurred
+     */
+    public void println(String s) throws IOException {
+        print(s);
+        print("\r\n");
+    }
+}
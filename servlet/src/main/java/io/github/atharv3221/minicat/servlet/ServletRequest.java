@@ -1,7 +1,176 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
 package io.github.atharv3221.minicat.servlet;
 
+import java.io.IOException;
+import java.util.Enumeration;
+
 /**
- * Request opbject.
+ * Defines an object to provide client request information to a servlet. The servlet
+ * container creates a {@code ServletRequest} object and passes it as an argument to
+ * the servlet's {@link Servlet#service} method.
+ *
+ * <p>A {@code ServletRequest} object provides data including the protocol, parameter
+ * names and values, and the content metadata of the request body. Protocol specific
+ * data is available through sub-interfaces such as
+ * {@link io.github.atharv3221.minicat.servlet.http.HttpServletRequest}.</p>
+ *
+ * <p>Request objects are only valid within the scope of the {@code service} call they
+ * were passed to, or, if asynchronous processing was started, until its
+ * {@link AsyncContext} completes. Containers may reuse them for later requests, so
+ * servlets must not keep references to them beyond that.</p>
  */
 public interface ServletRequest {
+
+    /**
+     * Returns the name and version of the protocol the request uses, in the form
+     * <i>protocol/majorVersion.minorVersion</i>, for example {@code HTTP/1.1}.
+     *
+     * @return a {@code String} containing the protocol name and version number
+     */
+    String getProtocol();
+
+    /**
+     * Tests whether the request was made over a secure channel, such as HTTPS.
+     *
+     * @return {@code true} if the connection is encrypted
+     */
+    boolean isSecure();
+
+    /**
+     * Returns the name of the character encoding used in the body of this request, as
+     * given by the {@code charset} parameter of the content type.
+     *
+     * @return a {@code String} containing the name of the character encoding, or
+     *     {@code null} if the request does not specify a character encoding
+     */
+    String getCharacterEncoding();
+
+    /**
+     * Returns the length, in bytes, of the request body, or {@code -1} if the length is
+     * not known or is greater than {@link Integer#MAX_VALUE}.
+     *
+     * @return an integer containing the length of the request body or {@code -1}
+     */
+    int getContentLength();
+
+    /**
+     * Returns the length, in bytes, of the request body, or {@code -1} if the length is
+     * not known.
+     *
+     * @return a long containing the length of the request body or {@code -1}
+     */
+    long getContentLengthLong();
+
+    /**
+     * Returns the MIME type of the body of the request, or {@code null} if the type is
+     * not known.
+     *
+     * @return a {@code String} containing the name of the MIME type of the request, or
+     *     {@code null} if the type is not known
+     */
+    String getContentType();
+
+    /**
+     * Retrieves the body of the request as binary data using a
+     * {@link ServletInputStream}.
+     *
+     * @return a {@link ServletInputStream} object containing the body of the request
+     * @throws IOException if an input or output exception occurred
+     */
+    ServletInputStream getInputStream() throws IOException;
+
+    /**
+     * Returns the value of a request parameter as a {@code String}, or {@code null} if
+     * the parameter does not exist.
+     *
+     * <p>Parameters are contained in the query string or posted form data. If the
+     * parameter has more than one value, this method returns the first one; use
+     * {@link #getParameterValues(String)} to read all of them.</p>
+     *
+     * @param name a {@code String} specifying the name of the parameter
+     * @return a {@code String} representing the single value of the parameter
+     */
+    String getParameter(String name);
+
+    /**
+     * Returns an {@code Enumeration} of {@code String} objects containing the names of
+     * the parameters contained in this request. If the request has no parameters, the
+     * method returns an empty {@code Enumeration}.
+     *
+     * @return an {@code Enumeration} of {@code String} objects, each {@code String}
+     *     containing the name of a request parameter
+     */
+    Enumeration<String> getParameterNames();
+
+    /**
+     * Returns an array of {@code String} objects containing all of the values the given
+     * request parameter has, or {@code null} if the parameter does not exist.
+     *
+     * @param name a {@code String} containing the name of the parameter whose value is
+     *     requested
+     * @return an array of {@code String} objects containing the parameter's values
+     */
+    String[] getParameterValues(String name);
+
+    /**
+     * Returns the servlet context of the web application this request was last
+     * dispatched to.
+     *
+     * @return the {@code ServletContext}, or {@code null} if the request has not been
+     *     mapped to a web application yet
+     */
+    ServletContext getServletContext();
+
+    /**
+     * Puts this request into asynchronous mode. When the current {@code service} call
+     * returns, the container releases its thread without completing the response;
+     * the response is completed through the returned {@link AsyncContext}, from any
+     * thread.
+     *
+     * @return the {@code AsyncContext} of the request
+     * @throws IllegalStateException if the request does not support asynchronous
+     *     processing, or asynchronous processing was already started in the current
+     *     dispatch
+     */
+    AsyncContext startAsync();
+
+    /**
+     * Tests whether asynchronous processing was started on this request and has not yet
+     * been completed or dispatched.
+     *
+     * @return {@code true} if asynchronous processing is in progress
+     */
+    boolean isAsyncStarted();
+
+    /**
+     * Returns the {@code AsyncContext} created by the most recent {@link #startAsync()}
+     * call on this request.
+     *
+     * @return the {@code AsyncContext} of the request
+     * @throws IllegalStateException if asynchronous processing was not started
+     */
+    AsyncContext getAsyncContext();
 }
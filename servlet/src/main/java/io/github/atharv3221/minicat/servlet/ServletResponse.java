@@ -1,7 +1,165 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
 package io.github.atharv3221.minicat.servlet;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+
 /**
- * Response object.
+ * Defines an object to assist a servlet in sending a response to the client. The
+ * servlet container creates a {@code ServletResponse} object and passes it as an
+ * argument to the servlet's {@link Servlet#service} method.
+ *
+ * <p>To send binary data in a MIME body response, use the {@link ServletOutputStream}
+ * returned by {@link #getOutputStream}. To send character data, use the
+ * {@link PrintWriter} object returned by {@link #getWriter}. Only one of the two may be
+ * used for a given response.</p>
+ *
+ * <p>Output is buffered by the container. The response is committed, meaning its
+ * status and headers are sent, when the buffer fills, when it is flushed explicitly,
+ * or when {@code service} returns.</p>
  */
 public interface ServletResponse {
+
+    /**
+     * Returns the name of the character encoding used for the body sent in this
+     * response. If no encoding has been specified, {@code ISO-8859-1} is returned.
+     *
+     * @return a {@code String} specifying the name of the character encoding
+     */
+    String getCharacterEncoding();
+
+    /**
+     * Sets the character encoding of the response being sent to the client. Has no
+     * effect once {@link #getWriter} has been called or the response is committed.
+     *
+     * @param charset a {@code String} specifying the name of the character encoding
+     */
+    void setCharacterEncoding(String charset);
+
+    /**
+     * Returns the content type used for the MIME body sent in this response, or
+     * {@code null} if none has been set.
+     *
+     * @return a {@code String} specifying the content type, for example
+     *     {@code text/html; charset=UTF-8}, or {@code null}
+     */
+    String getContentType();
+
+    /**
+     * Sets the content type of the response being sent to the client. The content type
+     * may include a character encoding, for example {@code text/html;charset=UTF-8}.
+     * Has no effect once the response is committed.
+     *
+     * @param type a {@code String} specifying the MIME type of the content
+     */
+    void setContentType(String type);
+
+    /**
+     * Sets the length of the content body in the response.
+     *
+     * @param len an integer specifying the length of the content being returned to the
+     *     client
+     */
+    void setContentLength(int len);
+
+    /**
+     * Sets the length of the content body in the response.
+     *
+     * @param len a long specifying the length of the content being returned to the
+     *     client
+     */
+    void setContentLengthLong(long len);
+
+    /**
+     * Returns a {@link ServletOutputStream} suitable for writing binary data in the
+     * response.
+     *
+     * @return a {@link ServletOutputStream} for writing binary data
+     * @throws IllegalStateException if {@link #getWriter} has already been called for
+     *     this response
+     * @throws IOException if an input or output exception occurred
+     */
+    ServletOutputStream getOutputStream() throws IOException;
+
+    /**
+     * Returns a {@code PrintWriter} object that can send character text to the client,
+     * encoded with the charset returned by {@link #getCharacterEncoding}.
+     *
+     * @return a {@code PrintWriter} object that can return character data to the client
+     * @throws IllegalStateException if {@link #getOutputStream} has already been called
+     *     for this response
+     * @throws IOException if an input or output exception occurred
+     */
+    PrintWriter getWriter() throws IOException;
+
+    /**
+     * Sets the preferred buffer size for the body of the response. The container uses
+     * a buffer at least as large as the size requested, up to its own limits.
+     *
+     * @param size the preferred buffer size
+     * @throws IllegalStateException if content has been written to the response
+     */
+    void setBufferSize(int size);
+
+    /**
+     * Returns the actual buffer size used for the response.
+     *
+     * @return the actual buffer size used
+     */
+    int getBufferSize();
+
+    /**
+     * Forces any content in the buffer to be written to the client. A call to this
+     * method automatically commits the response, meaning the status code and headers
+     * will be written.
+     *
+     * @throws IOException if the act of flushing the buffer cannot be completed
+     */
+    void flushBuffer() throws IOException;
+
+    /**
+     * Clears the content of the underlying buffer in the response without clearing
+     * headers or status code.
+     *
+     * @throws IllegalStateException if the response has been committed
+     */
+    void resetBuffer();
+
+    /**
+     * Returns a boolean indicating if the response has been committed. A committed
+     * response has already had its status code and headers written.
+     *
+     * @return a boolean indicating if the response has been committed
+     */
+    boolean isCommitted();
+
+    /**
+     * Clears any data that exists in the buffer as well as the status code and headers.
+     *
+     * @throws IllegalStateException if the response has already been committed
+     */
+    void reset();
 }
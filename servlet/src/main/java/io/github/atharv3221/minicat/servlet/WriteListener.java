@@ -0,0 +1,55 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet;
+
+import java.io.IOException;
+import java.util.EventListener;
+
+/**
+ * Receives events when the response can be written without blocking.
+ *
+ * <p>A {@code WriteListener} is registered with
+ * {@link ServletOutputStream#setWriteListener}, which switches the stream to
+ * non-blocking mode. The container calls the listener on one of its threads, never
+ * concurrently with another read or write listener of the same request.</p>
+ */
+public interface WriteListener extends EventListener {
+
+    /**
+     * Invoked when data can be written. The container calls this method once when the
+     * listener is registered, and again only after {@link ServletOutputStream#isReady()}
+     * has returned {@code false} and the stream has become writable since.
+     *
+     * @throws IOException if an I/O related error occurs
+     */
+    void onWritePossible() throws IOException;
+
+    /**
+     * Invoked when writing the response failed, or a callback of this listener threw.
+     *
+     * @param t the failure
+     */
+    void onError(Throwable t);
+}
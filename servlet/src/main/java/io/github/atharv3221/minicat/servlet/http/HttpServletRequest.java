@@ -1,7 +1,232 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
 package io.github.atharv3221.minicat.servlet.http;
 
+import io.github.atharv3221.minicat.servlet.ServletException;
+import io.github.atharv3221.minicat.servlet.ServletRequest;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Enumeration;
+
 /**
- * Represent httpRequest.
+ * Extends the {@link ServletRequest} interface to provide request information for
+ * HTTP servlets.
+ *
+ * <p>The servlet container creates an {@code HttpServletRequest} object and passes it
+ * as an argument to the servlet's {@code service} method.</p>
  */
-public interface HttpServletRequest {
+public interface HttpServletRequest extends ServletRequest {
+
+    /**
+     * Returns the name of the HTTP method with which this request was made, for
+     * example, {@code GET}, {@code POST}, or {@code PUT}.
+     *
+     * @return a {@code String} specifying the name of the method with which this
+     *     request was made
+     */
+    String getMethod();
+
+    /**
+     * Returns the part of this request's URL from the protocol name up to the query
+     * string in the first line of the HTTP request. The container does not decode
+     * this string.
+     *
+     * <p>For example, {@code GET /some/path.html?a=b HTTP/1.1} yields
+     * {@code /some/path.html}.</p>
+     *
+     * @return a {@code String} containing the part of the URL from the protocol name
+     *     up to the query string
+     */
+    @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+    String getRequestURI();
+
+    /**
+     * Returns the query string that is contained in the request URL after the path.
+     *
+     * @return a {@code String} containing the query string or {@code null} if the URL
+     *     contains no query string
+     */
+    String getQueryString();
+
+    /**
+     * Returns the portion of the request URI that indicates the context of the
+     * request. The context path always comes first in a request URI. The path starts
+     * with a {@code /} character but does not end with a {@code /} character. For
+     * servlets in the default (root) context, this method returns {@code ""}.
+     *
+     * @return a {@code String} specifying the portion of the request URI that
+     *     indicates the context of the request
+     *
+     * @see io.github.atharv3221.minicat.servlet.ServletContext#getContextPath()
+     */
+    String getContextPath();
+
+    /**
+     * Returns the part of this request's URL that calls the servlet. This path starts
+     * with a {@code /} character and includes either the servlet name or a path to the
+     * servlet, but does not include any extra path information or a query string.
+     *
+     * <p>This method returns an empty string if the servlet used to process this
+     * request was matched using the {@code /*} pattern.</p>
+     *
+     * @return a {@code String} containing the decoded name or path of the servlet
+     *     being called
+     */
+    String getServletPath();
+
+    /**
+     * Returns any extra path information associated with the URL the client sent when
+     * it made this request. The extra path information follows the servlet path but
+     * precedes the query string and will start with a {@code /} character.
+     *
+     * @return a {@code String}, decoded by the container, specifying extra path
+     *     information that comes after the servlet path but before the query string,
+     *     or {@code null} if the URL does not have any extra path information
+     */
+    String getPathInfo();
+
+    /**
+     * Returns the value of the specified request header as a {@code String}. If the
+     * request did not include a header of the specified name, this method returns
+     * {@code null}. If there are multiple headers with the same name, this method
+     * returns the first one. The header name is case insensitive.
+     *
+     * @param name a {@code String} specifying the header name
+     * @return a {@code String} containing the value of the requested header, or
+     *     {@code null} if the request does not have a header of that name
+     */
+    String getHeader(String name);
+
+    /**
+     * Returns all the values of the specified request header as an {@code Enumeration}
+     * of {@code String} objects. The header name is case insensitive.
+     *
+     * @param name a {@code String} specifying the header name
+     * @return an {@code Enumeration} containing the values of the requested header. If
+     *     the request does not have any headers of that name, an empty enumeration
+     */
+    Enumeration<String> getHeaders(String name);
+
+    /**
+     * Returns an enumeration of all the header names this request contains. If the
+     * request has no headers, this method returns an empty enumeration.
+     *
+     * @return an enumeration of all the header names sent with this request
+     */
+    Enumeration<String> getHeaderNames();
+
+    /**
+     * Returns the value of the specified request header as an {@code int}. If the
+     * request does not have a header of the specified name, this method returns
+     * {@code -1}.
+     *
+     * @param name a {@code String} specifying the name of a request header
+     * @return an integer expressing the value of the request header or {@code -1} if
+     *     the request doesn't have a header of this name
+     * @throws NumberFormatException if the header value can't be converted to an
+     *     {@code int}
+     */
+    int getIntHeader(String name);
+
+    /**
+     * Returns the session identifier specified by the client. This may not be the same
+     * as the identifier of the current valid session for this request.
+     *
+     * @return a {@code String} specifying the session identifier, or {@code null} if
+     *     the request did not specify one
+     *
+     * @see #isRequestedSessionIdValid
+     */
+    String getRequestedSessionId();
+
+    /**
+     * Returns the current {@link HttpSession} associated with this request or, if there
+     * is no current session and {@code create} is {@code true}, returns a new session.
+     *
+     * <p>To make sure the session is properly maintained, call this method before the
+     * response is committed.</p>
+     *
+     * @param create {@code true} to create a new session for this request if necessary;
+     *     {@code false} to return {@code null} if there's no current session
+     * @return the {@code HttpSession} associated with this request, or {@code null} if
+     *     {@code create} is {@code false} and the request has no valid session
+     * @throws IllegalStateException if a new session is needed but the response is
+     *     already committed, or the request was not mapped to a context
+     */
+    HttpSession getSession(boolean create);
+
+    /**
+     * Returns the current session associated with this request, or if the request does
+     * not have a session, creates one.
+     *
+     * @return the {@code HttpSession} associated with this request
+     * @throws IllegalStateException if a new session is needed but the response is
+     *     already committed, or the request was not mapped to a context
+     *
+     * @see #getSession(boolean)
+     */
+    HttpSession getSession();
+
+    /**
+     * Checks whether the requested session identifier is still valid.
+     *
+     * @return {@code true} if this request has an identifier for a valid session in the
+     *     current session context; {@code false} otherwise
+     *
+     * @see #getRequestedSessionId
+     */
+    boolean isRequestedSessionIdValid();
+
+    /**
+     * Gets all the {@link Part} components of this request, provided that it is of
+     * type {@code multipart/form-data}. The body is parsed the first time this method,
+     * {@link #getPart(String)} or a parameter method is called, unless the servlet read
+     * it through {@link #getInputStream()} first.
+     *
+     * @return a possibly empty {@code Collection} of the parts of this request
+     * @throws IOException if an I/O error occurred while reading the parts
+     * @throws ServletException if this request is not of type
+     *     {@code multipart/form-data}
+     * @throws IllegalStateException if the request body is larger than the maximum
+     *     request size, a part is larger than the maximum file size, or the request has
+     *     no multipart configuration
+     */
+    Collection<Part> getParts() throws IOException, ServletException;
+
+    /**
+     * Gets the {@link Part} with the given name.
+     *
+     * @param name the name of the requested part
+     * @return the first part with the given name, or {@code null} if this request has no
+     *     part of that name
+     * @throws IOException if an I/O error occurred while reading the parts
+     * @throws ServletException if this request is not of type
+     *     {@code multipart/form-data}
+     * @throws IllegalStateException if the request body is larger than the maximum
+     *     request size, a part is larger than the maximum file size, or the request has
+     *     no multipart configuration
+     */
+    Part getPart(String name) throws IOException, ServletException;
 }
@@ -0,0 +1,217 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet.http;
+
+import io.github.atharv3221.minicat.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * Extends the {@link ServletResponse} interface to provide HTTP-specific functionality
+ * in sending a response, such as access to HTTP headers and status codes.
+ *
+ * <p>The servlet container creates an {@code HttpServletResponse} object and passes it
+ * as an argument to the servlet's {@code service} method.</p>
+ */
+public interface HttpServletResponse extends ServletResponse {
+
+    /**
+     * Status code (200) indicating the request succeeded normally.
+     */
+    int SC_OK = 200;
+
+    /**
+     * Status code (204) indicating that the request succeeded but that there was no new
+     * information to return.
+     */
+    int SC_NO_CONTENT = 204;
+
+    /**
+     * Status code (206) indicating that the server has fulfilled the partial GET
+     * request for the resource.
+     */
+    int SC_PARTIAL_CONTENT = 206;
+
+    /**
+     * Status code (301) indicating that the resource has permanently moved to a new
+     * location.
+     */
+    int SC_MOVED_PERMANENTLY = 301;
+
+    /**
+     * Status code (302) indicating that the resource reside temporarily under a
+     * different URI.
+     */
+    int SC_FOUND = 302;
+
+    /**
+     * Status code (304) indicating that a conditional GET operation found that the
+     * resource was available and not modified.
+     */
+    int SC_NOT_MODIFIED = 304;
+
+    /**
+     * Status code (400) indicating the request sent by the client was syntactically
+     * incorrect.
+     */
+    int SC_BAD_REQUEST = 400;
+
+    /**
+     * Status code (403) indicating the server understood the request but refused to
+     * fulfill it.
+     */
+    int SC_FORBIDDEN = 403;
+
+    /**
+     * Status code (404) indicating that the requested resource is not available.
+     */
+    int SC_NOT_FOUND = 404;
+
+    /**
+     * Status code (405) indicating that the method specified in the request line is not
+     * allowed for the resource identified by the request URI.
+     */
+    int SC_METHOD_NOT_ALLOWED = 405;
+
+    /**
+     * Status code (412) indicating that the precondition given in one or more of the
+     * request-header fields evaluated to false when it was tested on the server.
+     */
+    int SC_PRECONDITION_FAILED = 412;
+
+    /**
+     * Status code (413) indicating the server is refusing to process the request
+     * because the request entity is larger than the server is willing or able to
+     * process.
+     */
+    int SC_REQUEST_ENTITY_TOO_LARGE = 413;
+
+    /**
+     * Status code (416) indicating that the server cannot serve the requested byte
+     * range.
+     */
+    int SC_REQUESTED_RANGE_NOT_SATISFIABLE = 416;
+
+    /**
+     * Status code (500) indicating an error inside the HTTP server which prevented it
+     * from fulfilling the request.
+     */
+    int SC_INTERNAL_SERVER_ERROR = 500;
+
+    /**
+     * Status code (503) indicating that the HTTP server is temporarily overloaded, and
+     * unable to handle the request.
+     */
+    int SC_SERVICE_UNAVAILABLE = 503;
+
+    /**
+     * Sets the status code for this response. Has no effect once the response is
+     * committed.
+     *
+     * @param sc the status code
+     */
+    void setStatus(int sc);
+
+    /**
+     * Gets the current status code of this response.
+     *
+     * @return the current status code of this response
+     */
+    int getStatus();
+
+    /**
+     * Sets a response header with the given name and value. If the header had already
+     * been set, the new value overwrites all previous ones.
+     *
+     * @param name the name of the header
+     * @param value the header value, or {@code null} to remove the header
+     */
+    void setHeader(String name, String value);
+
+    /**
+     * Adds a response header with the given name and value. This method allows
+     * response headers to have multiple values.
+     *
+     * @param name the name of the header
+     * @param value the additional header value
+     */
+    void addHeader(String name, String value);
+
+    /**
+     * Sets a response header with the given name and integer value.
+     *
+     * @param name the name of the header
+     * @param value the assigned integer value
+     */
+    void setIntHeader(String name, int value);
+
+    /**
+     * Sets a response header with the given name and date value. The date is specified
+     * in terms of milliseconds since the epoch and sent in the IMF-fixdate format.
+     *
+     * @param name the name of the header to set
+     * @param date the assigned date value
+     */
+    void setDateHeader(String name, long date);
+
+    /**
+     * Returns a boolean indicating whether the named response header has already been
+     * set. The name is case insensitive.
+     *
+     * @param name the header name
+     * @return {@code true} if the named response header has already been set
+     */
+    boolean containsHeader(String name);
+
+    /**
+     * Gets the value of the response header with the given name. If several values
+     * were added, the first one is returned.
+     *
+     * @param name the name of the response header whose value to return
+     * @return the value of the response header, or {@code null} if none was set
+     */
+    String getHeader(String name);
+
+    /**
+     * Sends an error response to the client using the specified status and clears the
+     * buffer. After using this method, the response should be considered committed and
+     * should not be written to.
+     *
+     * @param sc the error status code
+     * @throws IOException if an input or output exception occurs
+     * @throws IllegalStateException if the response was committed
+     */
+    void sendError(int sc) throws IOException;
+
+    /**
+     * Sends an error response to the client using the specified status and a short
+     * plain text message.
+     *
+     * @param sc the error status code
+     * @param msg the descriptive message
+     * @throws IOException if an input or output exception occurs
+     * @throws IllegalStateException if the response was committed
+     */
+    void sendError(int sc, String msg) throws IOException;
+}
@@ -0,0 +1,160 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet.http;
+
+import io.github.atharv3221.minicat.servlet.ServletContext;
+import java.util.Enumeration;
+
+/**
+ * Identifies a user across more than one request and stores information about that
+ * user.
+ *
+ * <p>The container creates a session when a servlet calls
+ * {@link HttpServletRequest#getSession()} and hands its identifier to the client in a
+ * cookie. A session lasts until it is invalidated or the client sends no request with
+ * it for longer than its maximum inactive interval.</p>
+ *
+ * <p>Attribute values must be serializable: the container may move them out of the
+ * Java heap, or to disk, between requests. A session may be used by several requests
+ * at once, so its methods are safe to call concurrently.</p>
+ */
+public interface HttpSession {
+
+    /**
+     * Returns the time when this session was created, measured in milliseconds since
+     * midnight January 1, 1970 GMT.
+     *
+     * @return a {@code long} specifying when this session was created
+     * @throws IllegalStateException if this method is called on an invalidated session
+     */
+    long getCreationTime();
+
+    /**
+     * Returns the unique identifier assigned to this session.
+     *
+     * @return a {@code String} specifying the identifier assigned to this session
+     */
+    String getId();
+
+    /**
+     * Returns the last time the client sent a request associated with this session,
+     * as the number of milliseconds since midnight January 1, 1970 GMT, marked by the
+     * time the container received the request. Requests still in progress do not
+     * count.
+     *
+     * @return a {@code long} representing the last time the client sent a request
+     *     associated with this session
+     * @throws IllegalStateException if this method is called on an invalidated session
+     */
+    long getLastAccessedTime();
+
+    /**
+     * Returns the {@link ServletContext} to which this session belongs.
+     *
+     * @return the context of the web application this session belongs to
+     */
+    ServletContext getServletContext();
+
+    /**
+     * Specifies the time, in seconds, between client requests before the container
+     * invalidates this session.
+     *
+     * @param interval an integer specifying the number of seconds; zero or less means
+     *     the session never times out
+     */
+    void setMaxInactiveInterval(int interval);
+
+    /**
+     * Returns the maximum time interval, in seconds, that the container keeps this
+     * session open between client accesses.
+     *
+     * @return an integer specifying the number of seconds this session remains open
+     *     between client requests; zero or less means it never times out
+     */
+    int getMaxInactiveInterval();
+
+    /**
+     * Returns the object bound with the specified name in this session, or {@code null}
+     * if no object is bound under the name.
+     *
+     * @param name a string specifying the name of the object
+     * @return the object with the specified name
+     * @throws IllegalStateException if this method is called on an invalidated session
+     */
+    Object getAttribute(String name);
+
+    /**
+     * Returns an {@code Enumeration} of {@code String} objects containing the names of
+     * all the objects bound to this session.
+     *
+     * @return an {@code Enumeration} of {@code String} objects specifying the names of
+     *     all the objects bound to this session
+     * @throws IllegalStateException if this method is called on an invalidated session
+     */
+    Enumeration<String> getAttributeNames();
+
+    /**
+     * Binds an object to this session, using the name specified. If an object of the
+     * same name is already bound to the session, the object is replaced.
+     *
+     * <p>If the value passed in is {@code null}, this has the same effect as calling
+     * {@link #removeAttribute}.</p>
+     *
+     * @param name the name to which the object is bound; cannot be {@code null}
+     * @param value the object to be bound
+     * @throws IllegalArgumentException if the value is not serializable
+     * @throws IllegalStateException if this method is called on an invalidated session
+     */
+    void setAttribute(String name, Object value);
+
+    /**
+     * Removes the object bound with the specified name from this session. If the
+     * session does not have an object bound with the specified name, this method does
+     * nothing.
+     *
+     * @param name the name of the object to remove from this session
+     * @throws IllegalStateException if this method is called on an invalidated session
+     */
+    void removeAttribute(String name);
+
+    /**
+     * Invalidates this session then unbinds any objects bound to it.
+     *
+     * @throws IllegalStateException if this method is called on an already invalidated
+     *     session
+     */
+    void invalidate();
+
+    /**
+     * Returns {@code true} if the client does not yet know about the session or if the
+     * client chooses not to join the session.
+     *
+     * @return {@code true} if the server has created a session, but the client has not
+     *     yet joined
+     * @throws IllegalStateException if this method is called on an already invalidated
+     *     session
+     */
+    boolean isNew();
+}
@@ -0,0 +1,122 @@
+///////////////////////////////////////////////////////////////////////////////////////////////
+// MIT License
+//
+// Copyright (c) 2026 Atharv Chavan
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+///////////////////////////////////////////////////////////////////////////////////////////////
+
+package io.github.atharv3221.minicat.servlet.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+
+/**
+ * A part or form item received within a {@code multipart/form-data} POST request.
+ *
+ * <p>The container keeps small parts in memory and writes larger ones to a temporary
+ * file as they are read, so a part of any size can be received without holding it in
+ * the Java heap. Temporary files are deleted when the request completes, unless the
+ * part was moved elsewhere with {@link #write(String)}.</p>
+ */
+public interface Part {
+
+    /**
+     * Gets the content of this part as an {@code InputStream}.
+     *
+     * @return the content of this part
+     * @throws IOException if an error occurs in retrieving the content
+     */
+    InputStream getInputStream() throws IOException;
+
+    /**
+     * Gets the content type of this part.
+     *
+     * @return the content type of this part, or {@code null} if the part has no
+     *     {@code Content-Type} header
+     */
+    String getContentType();
+
+    /**
+     * Gets the name of this part, the {@code name} parameter of its
+     * {@code Content-Disposition} header.
+     *
+     * @return the name of this part
+     */
+    String getName();
+
+    /**
+     * Gets the file name specified by the client, the {@code filename} parameter of the
+     * part's {@code Content-Disposition} header.
+     *
+     * @return the submitted file name, or {@code null} if the part is not a file
+     */
+    String getSubmittedFileName();
+
+    /**
+     * Returns the size of this part.
+     *
+     * @return a {@code long} specifying the size of this part, in bytes
+     */
+    long getSize();
+
+    /**
+     * Writes this part to disk. A relative file name is resolved against the location
+     * of the multipart configuration. The temporary file of a part on disk is moved
+     * rather than copied when possible, and this method may only be called once.
+     *
+     * @param fileName the name of the file to which the part is written
+     * @throws IOException if an error occurs
+     */
+    void write(String fileName) throws IOException;
+
+    /**
+     * Deletes the underlying storage for this part, including its temporary file.
+     *
+     * @throws IOException if an error occurs
+     */
+    void delete() throws IOException;
+
+    /**
+     * Returns the value of the given part header as a {@code String}. If the part has
+     * more than one header of that name, the first one is returned. The name is case
+     * insensitive.
+     *
+     * @param name a {@code String} specifying the header name
+     * @return the value of the header, or {@code null} if the part has no header of
+     *     that name
+     */
+    String getHeader(String name);
+
+    /**
+     * Gets the values of the part header with the given name.
+     *
+     * @param name the header name whose values to return
+     * @return a possibly empty {@code Collection} of the values of the header
+     */
+    Collection<String> getHeaders(String name);
+
+    /**
+     * Gets the header names of this part.
+     *
+     * @return a possibly empty {@code Collection} of the header names of this part
+     */
+    Collection<String> getHeaderNames();
+}
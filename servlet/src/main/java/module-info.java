@@ -24,4 +24,5 @@
 
 module servlet {
     exports io.github.atharv3221.minicat.servlet;
+    exports io.github.atharv3221.minicat.servlet.http;
 }
\ No newline at end of file